@@ -31,6 +31,51 @@ data:
   {{- if .domainNamespaceRegExp }}
   domainNamespaceRegExp: {{ .domainNamespaceRegExp | quote }}
   {{- end }}
+  {{- if (hasKey . "clusterWideWatches") }}
+  clusterWideWatches: {{ .clusterWideWatches | quote }}
+  {{- end }}
+  {{- if (hasKey . "batchServerHealthReads") }}
+  batchServerHealthReads: {{ .batchServerHealthReads | quote }}
+  {{- end }}
+  {{- if .makeRightCoalescingWindowMillis }}
+  makeRightCoalescingWindowMillis: {{ .makeRightCoalescingWindowMillis | quote }}
+  {{- end }}
+  {{- if .statusWriteCoalescingWindowMillis }}
+  statusWriteCoalescingWindowMillis: {{ .statusWriteCoalescingWindowMillis | quote }}
+  {{- end }}
+  {{- if .statusPollingFastSeconds }}
+  statusPollingFastSeconds: {{ .statusPollingFastSeconds | quote }}
+  {{- end }}
+  {{- if .statusPollingNormalSeconds }}
+  statusPollingNormalSeconds: {{ .statusPollingNormalSeconds | quote }}
+  {{- end }}
+  {{- if .statusPollingSlowSeconds }}
+  statusPollingSlowSeconds: {{ .statusPollingSlowSeconds | quote }}
+  {{- end }}
+  {{- if .statusWriteRateLimit }}
+  statusWriteRateLimit: {{ .statusWriteRateLimit | quote }}
+  {{- end }}
+  {{- if .writeRateLimit }}
+  writeRateLimit: {{ .writeRateLimit | quote }}
+  {{- end }}
+  {{- if .readRateLimit }}
+  readRateLimit: {{ .readRateLimit | quote }}
+  {{- end }}
+  {{- if .eventRateLimit }}
+  eventRateLimit: {{ .eventRateLimit | quote }}
+  {{- end }}
+  {{- if .introspectorConfigMapBinaryArchives }}
+  introspectorConfigMapBinaryArchives: {{ .introspectorConfigMapBinaryArchives | quote }}
+  {{- end }}
+  {{- if .introspectionCacheMaxEntries }}
+  introspectionCacheMaxEntries: {{ .introspectionCacheMaxEntries | quote }}
+  {{- end }}
+  {{- if .introspectorJobMaxConcurrent }}
+  introspectorJobMaxConcurrent: {{ .introspectorJobMaxConcurrent | quote }}
+  {{- end }}
+  {{- if .introspectorJobMaxConcurrentPerNamespace }}
+  introspectorJobMaxConcurrentPerNamespace: {{ .introspectorJobMaxConcurrentPerNamespace | quote }}
+  {{- end }}
   {{- if .dns1123Fields }}
   dns1123Fields: {{ .dns1123Fields | quote }}
   {{- end }}
@@ -46,9 +91,48 @@ data:
   {{- if .clusterSizePaddingValidationEnabled }}
   clusterSizePaddingValidationEnabled: {{ .clusterSizePaddingValidationEnabled | quote }}
   {{- end }}
+  {{- if .engineThreadMode }}
+  engineThreadMode: {{ .engineThreadMode | quote }}
+  {{- end }}
   {{- if .tokenReviewAuthentication }}
   tokenReviewAuthentication: {{ .tokenReviewAuthentication | quote }}
   {{- end }}
+  {{- if .restAuthCacheTtlSeconds }}
+  restAuthCacheTtlSeconds: {{ .restAuthCacheTtlSeconds | quote }}
+  {{- end }}
+  {{- if .restAuthCacheNegativeTtlSeconds }}
+  restAuthCacheNegativeTtlSeconds: {{ .restAuthCacheNegativeTtlSeconds | quote }}
+  {{- end }}
+  {{- if .restAuthCacheMaxEntries }}
+  restAuthCacheMaxEntries: {{ .restAuthCacheMaxEntries | quote }}
+  {{- end }}
+  {{- if .restWorkerThreads }}
+  restWorkerThreads: {{ .restWorkerThreads | quote }}
+  {{- end }}
+  {{- if .restMaxWorkerThreads }}
+  restMaxWorkerThreads: {{ .restMaxWorkerThreads | quote }}
+  {{- end }}
+  {{- if .restVirtualThreadWorkers }}
+  restVirtualThreadWorkers: {{ .restVirtualThreadWorkers | quote }}
+  {{- end }}
+  {{- if .restSelectorThreads }}
+  restSelectorThreads: {{ .restSelectorThreads | quote }}
+  {{- end }}
+  {{- if .restKeepAliveTimeoutSeconds }}
+  restKeepAliveTimeoutSeconds: {{ .restKeepAliveTimeoutSeconds | quote }}
+  {{- end }}
+  {{- if .restKeepAliveMaxRequests }}
+  restKeepAliveMaxRequests: {{ .restKeepAliveMaxRequests | quote }}
+  {{- end }}
+  {{- if .restTlsSessionCacheSize }}
+  restTlsSessionCacheSize: {{ .restTlsSessionCacheSize | quote }}
+  {{- end }}
+  {{- if .restTlsSessionTimeoutSeconds }}
+  restTlsSessionTimeoutSeconds: {{ .restTlsSessionTimeoutSeconds | quote }}
+  {{- end }}
+  {{- if .restHttp2Enabled }}
+  restHttp2Enabled: {{ .restHttp2Enabled | quote }}
+  {{- end }}
 kind: "ConfigMap"
 metadata:
   labels:
@@ -3,6 +3,9 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -12,6 +15,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.CoreV1Event;
@@ -26,9 +30,15 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
+import oracle.kubernetes.operator.Namespaces.SelectionStrategy;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
@@ -43,27 +53,33 @@ import static oracle.kubernetes.operator.helpers.KubernetesUtils.getResourceVers
  */
 @SuppressWarnings("SameParameterValue")
 public class DomainNamespaces {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final WatchListener<V1Job> NULL_LISTENER = w -> { };
+  private static final Set<SelectionStrategy> CLUSTER_WIDE_WATCH_STRATEGIES
+        = EnumSet.of(SelectionStrategy.LabelSelector, SelectionStrategy.RegExp);
 
   private final Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
   private final Map<String, AtomicBoolean> namespaceStoppingMap = new ConcurrentHashMap<>();
 
+  private final AtomicBoolean sharedWatchersStopping = new AtomicBoolean(false);
+
   private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapWatchers
-        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
+        = new WatcherControl<>(Resource.CONFIGMAPS, ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
   private final WatcherControl<Domain, DomainWatcher> domainWatchers
-        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch);
+        = new WatcherControl<>(Resource.DOMAINS, DomainWatcher::create, d -> d::dispatchDomainWatch);
   private final WatcherControl<CoreV1Event, EventWatcher> eventWatchers
-        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch);
+        = new WatcherControl<>(Resource.EVENTS, EventWatcher::create, d -> d::dispatchEventWatch);
   private final WatcherControl<CoreV1Event, OperatorEventWatcher> operatorEventWatchers
-      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch);
+      = new WatcherControl<>(Resource.EVENTS, OperatorEventWatcher::create, d -> d::dispatchEventWatch);
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
-        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER);
+        = new WatcherControl<>(Resource.JOBS, JobWatcher::create, d -> NULL_LISTENER);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(Resource.PODS, PodWatcher::create, d -> d::dispatchPodWatch);
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
-        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
+        = new WatcherControl<>(Resource.SERVICES, ServiceWatcher::create, d -> d::dispatchServiceWatch);
   private final WatcherControl<V1beta1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
-          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
+          = new WatcherControl<>(Resource.PDBS, PodDisruptionBudgetWatcher::create,
+                                 d -> d::dispatchPodDisruptionBudgetWatch);
 
   private final SemanticVersion productVersion;
 
@@ -100,6 +116,39 @@ public class DomainNamespaces {
    */
   void stopAllWatchers() {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
+    sharedWatchersStopping.set(true);
+  }
+
+  /**
+   * When the operator selects its domain namespaces by label or regular expression, the set of namespaces may grow
+   * large. In that case, use a single cluster-wide watch for each type of resource which the operator is permitted
+   * to watch in all namespaces, rather than a watch per namespace. Other types continue to be watched per namespace.
+   *
+   * @param isPermitted a test of whether the operator may watch a resource in all namespaces
+   */
+  void configureClusterWideWatches(Predicate<Resource> isPermitted) {
+    if (!isClusterWideWatchCandidate()) {
+      return;
+    }
+
+    for (WatcherControl<?, ?> control : getWatcherControls()) {
+      if (isPermitted.test(control.resource)) {
+        control.enableClusterWideWatch();
+        LOGGER.info(MessageKeys.CLUSTER_WIDE_WATCH_ENABLED, control.resource.getResource());
+      } else {
+        LOGGER.info(MessageKeys.CLUSTER_WIDE_WATCH_NOT_PERMITTED, control.resource.getResource());
+      }
+    }
+  }
+
+  private boolean isClusterWideWatchCandidate() {
+    return CLUSTER_WIDE_WATCH_STRATEGIES.contains(Namespaces.getSelectionStrategy())
+          && !"false".equalsIgnoreCase(TuningParameters.getInstance().get("clusterWideWatches"));
+  }
+
+  private List<WatcherControl<?, ?>> getWatcherControls() {
+    return Arrays.asList(configMapWatchers, domainWatchers, eventWatchers, operatorEventWatchers,
+          jobWatchers, podWatchers, serviceWatchers, podDisruptionBudgetWatchers);
   }
 
   /**
@@ -120,6 +169,7 @@ public class DomainNamespaces {
     jobWatchers.removeWatcher(ns);
 
     DomainProcessorImpl.cleanupNamespace(ns);
+    ResourceCache.getInstance().removeNamespace(ns);
   }
 
   ConfigMapWatcher getConfigMapWatcher(String namespace) {
@@ -150,6 +200,11 @@ public class DomainNamespaces {
     return serviceWatchers.getWatcher(namespace);
   }
 
+  // for test
+  WatcherControl<V1Pod, PodWatcher> getPodWatcherControl() {
+    return podWatchers;
+  }
+
   PodDisruptionBudgetWatcher getPodDisruptionBudgetWatcher(String namespace) {
     return podDisruptionBudgetWatchers.getWatcher(namespace);
   }
@@ -207,28 +262,57 @@ public class DomainNamespaces {
 
   class WatcherControl<T, W extends Watcher<T>> {
     private final Map<String, W> watchers = new ConcurrentHashMap<>();
+    private final Resource resource;
     private final WatcherFactory<T,W> factory;
     private final ListenerSelector<T> selector;
+    private boolean clusterWide;
+    private SharedWatcher<T> sharedWatcher;
 
-    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+    private WatcherControl(Resource resource, WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+      this.resource = resource;
       this.factory = factory;
       this.selector = selector;
     }
 
+    void enableClusterWideWatch() {
+      clusterWide = true;
+    }
+
     void startWatcher(String namespace, String resourceVersion, DomainProcessor domainProcessor) {
       watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, selector.apply(domainProcessor)));
     }
 
     W createWatcher(String ns, String resourceVersion, WatchListener<T> listener) {
-      return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+      return factory.create(
+            getWatcherThreadFactory(resourceVersion), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+    }
+
+    // The shared watcher starts from the resource version of the first namespace to be listed. Namespaces listed
+    // later see their changes from that point on, as it is already watching.
+    private ThreadFactory getWatcherThreadFactory(String resourceVersion) {
+      return clusterWide ? getOrCreateSharedWatcher(resourceVersion).createRegistration() : getThreadFactory();
+    }
+
+    private synchronized SharedWatcher<T> getOrCreateSharedWatcher(String resourceVersion) {
+      if (sharedWatcher == null) {
+        sharedWatcher = new SharedWatcher<>(getThreadFactory(), resourceVersion, getWatchTuning(),
+              sharedWatchersStopping);
+      }
+      return sharedWatcher;
     }
 
     W getWatcher(String ns) {
       return watchers.get(ns);
     }
 
+    // for test
+    SharedWatcher<T> getSharedWatcher() {
+      return sharedWatcher;
+    }
+
     void removeWatcher(String ns) {
       watchers.remove(ns);
+      Optional.ofNullable(sharedWatcher).ifPresent(w -> w.removeDelegate(ns));
     }
   }
 
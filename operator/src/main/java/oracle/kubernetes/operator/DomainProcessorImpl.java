@@ -7,17 +7,19 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import io.kubernetes.client.openapi.models.CoreV1Event;
@@ -43,6 +45,7 @@ import oracle.kubernetes.operator.helpers.DomainValidationSteps;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.EventHelper.EventItem;
+import oracle.kubernetes.operator.helpers.IntrospectionAdmissionQueue;
 import oracle.kubernetes.operator.helpers.JobHelper;
 import oracle.kubernetes.operator.helpers.KubernetesEventObjects;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
@@ -57,6 +60,7 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.OncePerMessageLoggingFilter;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
 import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
@@ -97,7 +101,7 @@ public class DomainProcessorImpl implements DomainProcessor {
   // Map namespace to map of domainUID to Domain; tests may replace this value.
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS = new ConcurrentHashMap<>();
-  private static final Map<String, Map<String, ScheduledFuture<?>>> statusUpdaters = new ConcurrentHashMap<>();
+  private static final StatusPollingWheel statusPollingWheel = new StatusPollingWheel();
   private final DomainProcessorDelegate delegate;
   private final SemanticVersion productVersion;
 
@@ -122,11 +126,35 @@ public class DomainProcessorImpl implements DomainProcessor {
     return DOMAINS.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).get(domainUid);
   }
 
+  /**
+   * Returns the presence info of the specified domain, if the operator has processed it and it is not being deleted.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public static Optional<DomainPresenceInfo> findDomainPresenceInfo(String namespace, String domainUid) {
+    return Optional.ofNullable(DOMAINS.get(namespace)).map(m -> m.get(domainUid)).filter(DomainProcessorImpl::isLive);
+  }
+
+  /**
+   * Returns the presence infos of the domains in the specified namespace which the operator has processed,
+   * and which are not being deleted.
+   * @param namespace the namespace
+   */
+  public static Stream<DomainPresenceInfo> getDomainPresenceInfos(String namespace) {
+    return Optional.ofNullable(DOMAINS.get(namespace)).map(Map::values).orElse(Collections.emptyList())
+          .stream().filter(DomainProcessorImpl::isLive);
+  }
+
+  private static boolean isLive(DomainPresenceInfo info) {
+    return info.getDomain() != null && info.isNotDeleting();
+  }
+
   static void cleanupNamespace(String namespace) {
+    OperatorMetrics.MAKE_RIGHT_DURATION.remove(namespace);
     DOMAINS.remove(namespace);
     domainEventK8SObjects.remove(namespace);
     namespaceEventK8SObjects.remove(namespace);
-    statusUpdaters.remove((namespace));
+    statusPollingWheel.cancelNamespace(namespace);
   }
 
   static void registerDomainPresenceInfo(DomainPresenceInfo info) {
@@ -148,23 +176,8 @@ public class DomainProcessorImpl implements DomainProcessor {
     unregisterEventK8SObject(ns, domainUid);
   }
 
-  private static void registerStatusUpdater(
-        String ns, String domainUid, ScheduledFuture<?> future) {
-    ScheduledFuture<?> existing =
-          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, future);
-    if (existing != null) {
-      existing.cancel(false);
-    }
-  }
-
   private static void unregisterStatusUpdater(String ns, String domainUid) {
-    Map<String, ScheduledFuture<?>> map = statusUpdaters.get(ns);
-    if (map != null) {
-      ScheduledFuture<?> existing = map.remove(domainUid);
-      if (existing != null) {
-        existing.cancel(true);
-      }
-    }
+    statusPollingWheel.cancel(ns, domainUid);
   }
 
   public static void updateEventK8SObjects(CoreV1Event event) {
@@ -342,7 +355,55 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private FiberGate getMakeRightFiberGate(String ns) {
-    return makeRightFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
+    return makeRightFiberGates.computeIfAbsent(ns,
+          k -> delegate.createFiberGate().withCoalescingWindow(getMakeRightCoalescingWindowMillis()));
+  }
+
+  private static long getMakeRightCoalescingWindowMillis() {
+    return TuningParameters.getLong("makeRightCoalescingWindowMillis", 0L);
+  }
+
+  /**
+   * Returns the number of requests received to run make-right for the specified domain.
+   * @param ns the domain namespace
+   * @param domainUid the domain UID
+   */
+  long getMakeRightRequestCount(String ns, String domainUid) {
+    return getMakeRightFiberGate(ns).getRequestCount(domainUid);
+  }
+
+  /**
+   * Returns the number of make-right fibers actually started for the specified domain.
+   * @param ns the domain namespace
+   * @param domainUid the domain UID
+   */
+  long getMakeRightFiberCount(String ns, String domainUid) {
+    return getMakeRightFiberGate(ns).getStartedCount(domainUid);
+  }
+
+  /**
+   * Returns the number of requests received to run make-right, keyed by namespace and domain UID, for the domains
+   * which the operator is currently managing.
+   */
+  public static Map<List<String>, Long> getMakeRightRequestCounts() {
+    return getMakeRightCounts(FiberGate::getRequestCounts);
+  }
+
+  /**
+   * Returns the number of make-right fibers actually started, keyed by namespace and domain UID, for the domains
+   * which the operator is currently managing.
+   */
+  public static Map<List<String>, Long> getMakeRightFiberCounts() {
+    return getMakeRightCounts(FiberGate::getStartedCounts);
+  }
+
+  private static Map<List<String>, Long> getMakeRightCounts(Function<FiberGate, Map<String, Long>> gateCounts) {
+    final Map<List<String>, Long> counts = new LinkedHashMap<>();
+    new TreeMap<>(makeRightFiberGates).forEach((namespace, gate) ->
+          new TreeMap<>(gateCounts.apply(gate)).entrySet().stream()
+                .filter(e -> getExistingDomainPresenceInfo(namespace, e.getKey()) != null)
+                .forEach(e -> counts.put(List.of(namespace, e.getKey()), e.getValue())));
+    return counts;
   }
 
   private FiberGate getStatusFiberGate(String ns) {
@@ -368,6 +429,19 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  /**
+   * Returns the number of domain fibers which are currently suspended in each namespace.
+   */
+  public static Map<String, Integer> getSuspendedFiberCounts() {
+    final Map<String, Integer> counts = new TreeMap<>();
+    final BiConsumer<String, FiberGate> consumer = (namespace, gate) -> counts.merge(namespace,
+          (int) gate.getCurrentFibers().values().stream().filter(f -> f.getSuspendedStep() != null).count(),
+          Integer::sum);
+    makeRightFiberGates.forEach(consumer);
+    statusFiberGates.forEach(consumer);
+    return counts;
+  }
+
   @Override
   public Stream<DomainPresenceInfo> findStrandedDomainPresenceInfos(String namespace, Set<String> domainUids) {
     return Optional.ofNullable(DOMAINS.get(namespace)).orElse(Collections.emptyMap())
@@ -629,58 +703,68 @@ public class DomainProcessorImpl implements DomainProcessor {
     final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
 
     MainTuning main = TuningParameters.getInstance().getMainTuning();
-    registerStatusUpdater(
+    statusPollingWheel.startTicking(delegate);
+    statusPollingWheel.register(
         info.getNamespace(),
         info.getDomainUid(),
-        delegate.scheduleWithFixedDelay(
-            () -> {
-              try {
-                Packet packet = new Packet();
-                packet
-                    .getComponents()
-                    .put(
-                        ProcessingConstants.DOMAIN_COMPONENT_NAME,
-                        Component.createFor(
-                            info, delegate.getKubernetesVersion()));
-                packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
-                Step strategy =
-                    ServerStatusReader.createStatusStep(main.statusUpdateTimeoutSeconds, null);
-
-                getStatusFiberGate(info.getNamespace())
-                    .startFiberIfNoCurrentFiber(
-                        info.getDomainUid(),
-                        strategy,
-                        packet,
-                        new CompletionCallback() {
-                          @Override
-                          public void onCompletion(Packet packet) {
-                            AtomicInteger serverHealthRead =
-                                packet.getValue(
-                                    ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-                            if (serverHealthRead == null || serverHealthRead.get() == 0) {
-                              loggingFilter.setFiltering(false).resetLogHistory();
-                            } else {
-                              loggingFilter.setFiltering(true);
-                            }
-                          }
+        () -> readDomainStatus(info, loggingFilter, main),
+        main.initialShortDelay,
+        TimeUnit.SECONDS);
+  }
 
-                          @Override
-                          public void onThrowable(Packet packet, Throwable throwable) {
-                            logThrowable(throwable);
-                            loggingFilter.setFiltering(true);
-                          }
-                        });
-              } catch (Throwable t) {
-                try (LoggingContext ignored
-                         = LoggingContext.setThreadContext()
-                    .namespace(info.getNamespace()).domainUid(info.getDomainUid())) {
-                  LOGGER.severe(MessageKeys.EXCEPTION, t);
+  // Reads the status of the domain's servers, and schedules the next read according to their polling tiers.
+  private void readDomainStatus(DomainPresenceInfo info, OncePerMessageLoggingFilter loggingFilter, MainTuning main) {
+    try {
+      rescheduleDomainStatusReading(info, StatusPollingTier.NORMAL.getIntervalSeconds());
+
+      Packet packet = new Packet();
+      packet
+          .getComponents()
+          .put(
+              ProcessingConstants.DOMAIN_COMPONENT_NAME,
+              Component.createFor(
+                  info, delegate.getKubernetesVersion()));
+      packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
+      Step strategy =
+          ServerStatusReader.createStatusStep(main.statusUpdateTimeoutSeconds, null);
+
+      getStatusFiberGate(info.getNamespace())
+          .startFiberIfNoCurrentFiber(
+              info.getDomainUid(),
+              strategy,
+              packet,
+              new CompletionCallback() {
+                @Override
+                public void onCompletion(Packet packet) {
+                  AtomicInteger serverHealthRead =
+                      packet.getValue(
+                          ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+                  if (serverHealthRead == null || serverHealthRead.get() == 0) {
+                    loggingFilter.setFiltering(false).resetLogHistory();
+                  } else {
+                    loggingFilter.setFiltering(true);
+                  }
+                  rescheduleDomainStatusReading(info, ServerStatusReader.getSecondsUntilNextPoll(info));
                 }
-              }
-            },
-            main.initialShortDelay,
-            main.initialShortDelay,
-            TimeUnit.SECONDS));
+
+                @Override
+                public void onThrowable(Packet packet, Throwable throwable) {
+                  logThrowable(throwable);
+                  loggingFilter.setFiltering(true);
+                  rescheduleDomainStatusReading(info, ServerStatusReader.getSecondsUntilNextPoll(info));
+                }
+              });
+    } catch (Throwable t) {
+      try (LoggingContext ignored
+               = LoggingContext.setThreadContext()
+          .namespace(info.getNamespace()).domainUid(info.getDomainUid())) {
+        LOGGER.severe(MessageKeys.EXCEPTION, t);
+      }
+    }
+  }
+
+  private static void rescheduleDomainStatusReading(DomainPresenceInfo info, long delaySeconds) {
+    statusPollingWheel.reschedule(info.getNamespace(), info.getDomainUid(), delaySeconds, TimeUnit.SECONDS);
   }
 
   private void logThrowable(Throwable throwable) {
@@ -716,8 +800,7 @@ public class DomainProcessorImpl implements DomainProcessor {
       Map<String, ServerHealth> serverHealth = new ConcurrentHashMap<>();
       Map<String, String> serverState = new ConcurrentHashMap<>();
       Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class))
-          .map(DomainPresenceInfo::getDomain)
-          .map(Domain::getStatus)
+          .map(DomainPresenceInfo::getLatestStatus)
           .map(DomainStatus::getServers)
           .ifPresent(servers -> servers.forEach(item -> addServerToMaps(serverHealth, serverState, item)));
       if (!serverState.isEmpty()) {
@@ -920,8 +1003,7 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     private void resetIntrospectorJobFailureCount() {
       Optional.ofNullable(liveInfo)
-          .map(DomainPresenceInfo::getDomain)
-          .map(Domain::getStatus)
+          .map(DomainPresenceInfo::getLatestStatus)
           .map(DomainStatus::resetIntrospectJobFailureCount);
     }
 
@@ -932,8 +1014,7 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     private Integer getCurrentIntrospectFailureRetryCount() {
       return Optional.ofNullable(liveInfo)
-          .map(DomainPresenceInfo::getDomain)
-          .map(Domain::getStatus)
+          .map(DomainPresenceInfo::getLatestStatus)
           .map(DomainStatus::getIntrospectJobFailureCount)
           .orElse(0);
     }
@@ -950,8 +1031,7 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     private boolean isFatalIntrospectorError() {
       String existingError = Optional.ofNullable(liveInfo)
-          .map(DomainPresenceInfo::getDomain)
-          .map(Domain::getStatus)
+          .map(DomainPresenceInfo::getLatestStatus)
           .map(DomainStatus::getMessage)
           .orElse(null);
       return existingError != null && existingError.contains(FATAL_INTROSPECTOR_ERROR);
@@ -983,7 +1063,17 @@ public class DomainProcessorImpl implements DomainProcessor {
             getNamespace(),
             createDomainPlanSteps(packet),
             deleting,
-            willInterrupt);
+            willInterrupt,
+            mayCoalesce());
+    }
+
+    // Only requests which re-check an unchanged domain may wait for the running make-right to complete.
+    private boolean mayCoalesce() {
+      DomainPresenceInfo cachedInfo = getExistingDomainPresenceInfo(getNamespace(), getDomainUid());
+      return !deleting
+          && !isNewDomain(cachedInfo)
+          && !isAfter(getCreationTimestamp(liveInfo), getCreationTimestamp(cachedInfo))
+          && !isGenerationChanged(liveInfo, cachedInfo);
     }
 
     private StepAndPacket createDomainPlanSteps(Packet packet) {
@@ -1081,17 +1171,22 @@ public class DomainProcessorImpl implements DomainProcessor {
       String ns,
       Step.StepAndPacket plan,
       boolean isDeleting,
-      boolean isWillInterrupt) {
+      boolean isWillInterrupt,
+      boolean mayCoalesce) {
     FiberGate gate = getMakeRightFiberGate(ns);
+    final long startNanos = System.nanoTime();
     CompletionCallback cc =
         new CompletionCallback() {
           @Override
           public void onCompletion(Packet packet) {
-            // no-op
+            IntrospectionAdmissionQueue.getInstance().release(ns, domainUid);
+            recordMakeRightDuration(OperatorMetrics.SUCCESS);
           }
 
           @Override
           public void onThrowable(Packet packet, Throwable throwable) {
+            IntrospectionAdmissionQueue.getInstance().release(ns, domainUid);
+            recordMakeRightDuration(OperatorMetrics.FAILURE);
             logThrowable(throwable);
 
             gate.startFiberIfLastFiberMatches(
@@ -1154,10 +1249,23 @@ public class DomainProcessorImpl implements DomainProcessor {
                     DomainPresence.getDomainPresenceFailureRetrySeconds(),
                     TimeUnit.SECONDS);
           }
+
+          // The samples for a deleted domain are discarded, so that those of domains which no longer exist
+          // are not exported indefinitely.
+          private void recordMakeRightDuration(String outcome) {
+            if (isDeleting) {
+              OperatorMetrics.MAKE_RIGHT_DURATION.remove(ns, domainUid);
+            } else {
+              OperatorMetrics.MAKE_RIGHT_DURATION.labels(ns, domainUid, outcome)
+                  .observeNanos(System.nanoTime() - startNanos);
+            }
+          }
         };
 
     LOGGER.fine("Starting fiber for domainUid -> " + domainUid + ", isWillInterrupt -> " + isWillInterrupt);
-    if (isWillInterrupt) {
+    if (isWillInterrupt && mayCoalesce) {
+      gate.startFiberCoalesced(domainUid, plan.step, plan.packet, cc);
+    } else if (isWillInterrupt) {
       gate.startFiber(domainUid, plan.step, plan.packet, cc);
     } else {
       gate.startFiberIfNoCurrentFiber(domainUid, plan.step, plan.packet, cc);
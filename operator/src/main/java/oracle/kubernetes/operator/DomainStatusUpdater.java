@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator;
 
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -12,12 +14,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
@@ -42,9 +48,12 @@ import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
 import oracle.kubernetes.weblogic.domain.model.Configuration;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -56,6 +65,7 @@ import oracle.kubernetes.weblogic.domain.model.OnlineUpdate;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.MIINonDynamicChangesMethod.CommitUpdateOnly;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
@@ -94,10 +104,37 @@ public class DomainStatusUpdater {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String TRUE = "True";
   private static final String FALSE = "False";
+  private static final String STATUS_REPLACE_REQUIRED = "statusReplaceRequired";
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+
+  private static final AtomicLong statusPatchCount = new AtomicLong();
+  private static final AtomicLong statusReplaceCount = new AtomicLong();
+  private static final AtomicLong statusBytesSent = new AtomicLong();
 
   private DomainStatusUpdater() {
   }
 
+  /**
+   * Returns the number of domain status updates sent as patches.
+   */
+  public static long getStatusPatchCount() {
+    return statusPatchCount.get();
+  }
+
+  /**
+   * Returns the number of domain status updates sent as complete replacements.
+   */
+  public static long getStatusReplaceCount() {
+    return statusReplaceCount.get();
+  }
+
+  /**
+   * Returns the total size, in bytes, of the domain status updates sent.
+   */
+  public static long getStatusBytesSent() {
+    return statusBytesSent.get();
+  }
+
   /**
    * Creates an asynchronous step to update domain status from the topology in the current packet.
    * @param next the next step
@@ -182,6 +219,17 @@ public class DomainStatusUpdater {
     return new AvailableStep(reason, next);
   }
 
+  /**
+   * Asynchronous step to record whether the introspection of a domain reused a cached result.
+   *
+   * @param cacheResult 'Hit' if a cached result was reused, 'Miss' if the introspector job is to be run
+   * @param next Next step
+   * @return Step
+   */
+  public static Step createIntrospectionCacheResultStep(String cacheResult, Step next) {
+    return new IntrospectionCacheResultStep(cacheResult, next);
+  }
+
   /**
    * Asynchronous steps to set Domain condition to Failed after an asynchronous call failure
    * and to generate DOMAIN_PROCESSING_FAILED event.
@@ -277,16 +325,51 @@ public class DomainStatusUpdater {
               ProcessingConstants.DOMAIN_COMPONENT_NAME,
               Component.createFor(info));
       }
+      boolean replaceRequired = packet.remove(STATUS_REPLACE_REQUIRED) != null;
       DomainStatusUpdaterContext context = createContext(packet);
       DomainStatus newStatus = context.getNewStatus();
 
-      return context.isStatusUnchanged(newStatus)
+      if (mayDeferWrite(context, newStatus)) {
+        return context.isStatusUnchanged(newStatus) ? doNext(packet) : deferWrite(context, newStatus, packet);
+      }
+
+      context.clearPendingStatus();
+      return context.isWrittenStatus(newStatus)
           ? doNext(packet)
           : doNext(createAbortedEventStepIfNeeded(
-              newStatus, context.getStatus(), createDomainStatusReplaceStep(context, newStatus)),
+              newStatus, context.getWrittenStatus(), createDomainStatusUpdateStep(context, newStatus, replaceRequired)),
           packet);
     }
 
+    // Status changes are accumulated and written together when so configured, unless they report a failure.
+    boolean mayDeferWrite(DomainStatusUpdaterContext context, DomainStatus newStatus) {
+      return getStatusWriteCoalescingWindowMillis() > 0
+          && context.getInfo() != null
+          && context.getWrittenStatus() != null
+          && !reportsFailure(newStatus, context.getWrittenStatus())
+          && !context.isPendingStatusOverdue();
+    }
+
+    private boolean reportsFailure(DomainStatus newStatus, DomainStatus writtenStatus) {
+      return newStatus.hasConditionWith(c -> c.getType() == Failed)
+          || !Objects.equals(newStatus.getIntrospectJobFailureCount(), writtenStatus.getIntrospectJobFailureCount());
+    }
+
+    // Records the new status as pending. A change deferred while no writer is running starts one, which writes
+    // the pending status once the coalescing window has passed; later changes simply replace the pending status.
+    // The writer does not run as a child of the current fiber, so that the status is written even if the make-right
+    // which deferred it is cancelled.
+    private NextAction deferWrite(DomainStatusUpdaterContext context, DomainStatus newStatus, Packet packet) {
+      if (!context.getInfo().setPendingStatus(newStatus)) {
+        return doNext(packet);
+      }
+
+      return doSuspend(fiber -> {
+        startPendingStatusWriter(fiber.createIndependentFiber(), context.getInfo(), packet.copy());
+        fiber.resume(packet);
+      });
+    }
+
     private Step createAbortedEventStepIfNeeded(DomainStatus newStatus, DomainStatus oldStatus, Step next) {
       if (hasJustExceededMaxRetryCount(newStatus, oldStatus)) {
         return Step.chain(EventHelper.createEventStep(
@@ -312,8 +395,31 @@ public class DomainStatusUpdater {
           && (oldStatus.getMessage() == null || !oldStatus.getMessage().contains(FATAL_INTROSPECTOR_ERROR));
     }
 
-    private Step createDomainStatusReplaceStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
+    // Sends only the changes from the last status read or written, unless there is no such status,
+    // or a previous patch failed because that status was out of date.
+    private Step createDomainStatusUpdateStep(
+        DomainStatusUpdaterContext context, DomainStatus newStatus, boolean replaceRequired) {
       LOGGER.fine(MessageKeys.DOMAIN_STATUS, context.getDomainUid(), newStatus);
+      if (replaceRequired || context.getWrittenStatus() == null) {
+        return createDomainStatusReplaceStep(context, newStatus);
+      } else {
+        return createDomainStatusPatchStep(context, newStatus);
+      }
+    }
+
+    private Step createDomainStatusPatchStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
+      String patch = createPatchString(context, newStatus);
+      LOGGER.finer("status change: " + patch);
+      recordStatusUpdate(statusPatchCount, patch);
+
+      return new CallBuilder().patchDomainStatusAsync(
+            context.getDomainName(),
+            context.getNamespace(),
+            new V1Patch(patch),
+            new StatusPatchResponseStep(this, context, getNext()));
+    }
+
+    private Step createDomainStatusReplaceStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
       if (LOGGER.isFinerEnabled()) {
         LOGGER.finer("status change: " + createPatchString(context, newStatus));
       }
@@ -324,6 +430,7 @@ public class DomainStatusUpdater {
           .withMetadata(oldDomain.getMetadata())
           .withSpec(null)
           .withStatus(newStatus);
+      recordStatusUpdate(statusReplaceCount, new JSON().serialize(newDomain));
 
       return new CallBuilder().replaceDomainStatusAsync(
             context.getDomainName(),
@@ -332,17 +439,103 @@ public class DomainStatusUpdater {
             createResponseStep(context, getNext()));
     }
 
+    // The patch is rejected if the domain has changed since its status was last read or written,
+    // as its changes would then be computed against the wrong status.
     private String createPatchString(DomainStatusUpdaterContext context, DomainStatus newStatus) {
       JsonPatchBuilder builder = Json.createPatchBuilder();
-      newStatus.createPatchFrom(builder, context.getStatus());
+      Optional.ofNullable(context.getResourceVersion())
+            .ifPresent(version -> builder.test("/metadata/resourceVersion", version));
+      newStatus.createPatchFrom(builder, context.getWrittenStatus());
       return builder.build().toString();
     }
 
+    private void recordStatusUpdate(AtomicLong updateCount, String body) {
+      updateCount.incrementAndGet();
+      statusBytesSent.addAndGet(body.getBytes(StandardCharsets.UTF_8).length);
+    }
+
     private ResponseStep<Domain> createResponseStep(DomainStatusUpdaterContext context, Step next) {
       return new StatusReplaceResponseStep(this, context, next);
     }
   }
 
+  static long getStatusWriteCoalescingWindowMillis() {
+    return TuningParameters.getLong("statusWriteCoalescingWindowMillis", 0L);
+  }
+
+  // When the writer stops, another is started if a status was deferred after the writer wrote the previous one.
+  // A status which can no longer be written, because the domain is gone or the writer failed with an error which
+  // retrying would not fix, is discarded instead.
+  private static void startPendingStatusWriter(Fiber writer, DomainPresenceInfo info, Packet packet) {
+    writer.start(
+          new PendingStatusDelayStep(getStatusWriteCoalescingWindowMillis(), new PendingStatusWriteStep()),
+          packet,
+          new CompletionCallback() {
+            @Override
+            public void onCompletion(Packet packet) {
+              if (isManaged(info)) {
+                restartIfStillPending();
+              } else {
+                info.abandonPendingStatus();
+              }
+            }
+
+            @Override
+            public void onThrowable(Packet packet, Throwable throwable) {
+              info.abandonPendingStatus();
+            }
+
+            private void restartIfStillPending() {
+              if (info.pendingStatusWriterStopped()) {
+                startPendingStatusWriter(writer.createIndependentFiber(), info, packet.copy());
+              }
+            }
+          });
+  }
+
+  private static boolean isManaged(DomainPresenceInfo info) {
+    return info.getDomain() != null && info.isNotDeleting()
+          && DomainProcessorImpl.findDomainPresenceInfo(info.getNamespace(), info.getDomainUid()).isPresent();
+  }
+
+  private static class PendingStatusDelayStep extends Step {
+    private final long delayMillis;
+
+    PendingStatusDelayStep(long delayMillis, Step next) {
+      super(next);
+      this.delayMillis = delayMillis;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(getNext(), packet, delayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * A step which writes any pending status to the domain.
+   */
+  private static class PendingStatusWriteStep extends DomainStatusUpdaterStep {
+    PendingStatusWriteStep() {
+      super(null);
+    }
+
+    @Override
+    void modifyStatus(DomainStatus domainStatus) { // no-op; the pending status already includes all changes
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      return isManaged(info) ? super.apply(packet) : doNext(packet);
+    }
+
+    @Override
+    boolean mayDeferWrite(DomainStatusUpdaterContext context, DomainStatus newStatus) {
+      return false;
+    }
+  }
+
   static class StatusReplaceResponseStep extends DefaultResponseStep<Domain> {
     private final DomainStatusUpdaterStep updaterStep;
     private final DomainStatusUpdaterContext context;
@@ -375,11 +568,59 @@ public class DomainStatusUpdater {
       return Step.chain(createDomainRefreshStep(context), updaterStep);
     }
 
-    private Step createDomainRefreshStep(DomainStatusUpdaterContext context) {
+    DomainStatusUpdaterStep getUpdaterStep() {
+      return updaterStep;
+    }
+
+    DomainStatusUpdaterContext getContext() {
+      return context;
+    }
+
+    Step createDomainRefreshStep(DomainStatusUpdaterContext context) {
       return new CallBuilder().readDomainAsync(context.getDomainName(), context.getNamespace(), new DomainUpdateStep());
     }
   }
 
+  static class StatusPatchResponseStep extends StatusReplaceResponseStep {
+
+    StatusPatchResponseStep(DomainStatusUpdaterStep updaterStep, DomainStatusUpdaterContext context, Step nextStep) {
+      super(updaterStep, context, nextStep);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      if (isStaleBaseVersion(callResponse)) {
+        return doNext(createRetry(getContext()), packet);
+      } else {
+        return super.onFailure(packet, callResponse);
+      }
+    }
+
+    private boolean isStaleBaseVersion(CallResponse<Domain> callResponse) {
+      return callResponse.getStatusCode() == HTTP_CONFLICT
+          || callResponse.getStatusCode() == HTTP_UNPROCESSABLE_ENTITY;
+    }
+
+    // Once a patch has failed, the status is re-read and then sent in full.
+    @Override
+    public Step createRetry(DomainStatusUpdaterContext context) {
+      return Step.chain(createDomainRefreshStep(context), new StatusReplaceRequiredStep(getUpdaterStep()));
+    }
+  }
+
+  static class StatusReplaceRequiredStep extends Step {
+
+    StatusReplaceRequiredStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(STATUS_REPLACE_REQUIRED, Boolean.TRUE);
+      return doNext(packet);
+    }
+  }
+
   static class DomainUpdateStep extends ResponseStep<Domain> {
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
@@ -414,16 +655,14 @@ public class DomainStatusUpdater {
 
     private String getExistingStatusMessage() {
       return Optional.ofNullable(info)
-              .map(DomainPresenceInfo::getDomain)
-              .map(Domain::getStatus)
+              .map(i -> getStatus())
               .map(DomainStatus::getMessage)
               .orElse(null);
     }
 
     private DomainCondition getProgressingCondition() {
       return Optional.ofNullable(info)
-          .map(DomainPresenceInfo::getDomain)
-          .map(Domain::getStatus)
+          .map(i -> getStatus())
           .map(this::getProgressingCondition).orElse(null);
     }
 
@@ -471,14 +710,39 @@ public class DomainStatusUpdater {
       return getDomain().getMetadata();
     }
 
+    private String getResourceVersion() {
+      return getMetadata().getResourceVersion();
+    }
+
     DomainPresenceInfo getInfo() {
       return info;
     }
 
+    // Returns the latest status computed for the domain, which may not yet have been written to it.
     DomainStatus getStatus() {
+      return info.getLatestStatus();
+    }
+
+    DomainStatus getWrittenStatus() {
       return getDomain().getStatus();
     }
 
+    boolean isWrittenStatus(DomainStatus newStatus) {
+      return newStatus.equals(getWrittenStatus());
+    }
+
+    void clearPendingStatus() {
+      Optional.ofNullable(info).ifPresent(DomainPresenceInfo::clearPendingStatus);
+    }
+
+    // A pending status is overdue if the fiber which was to write it has been canceled.
+    boolean isPendingStatusOverdue() {
+      return Optional.ofNullable(info.getPendingStatusTime())
+            .map(time -> time.plus(2 * getStatusWriteCoalescingWindowMillis(), ChronoUnit.MILLIS))
+            .map(deadline -> deadline.isBefore(SystemClock.now()))
+            .orElse(false);
+    }
+
     Domain getDomain() {
       return info.getDomain();
     }
@@ -850,6 +1114,20 @@ public class DomainStatusUpdater {
     }
   }
 
+  private static class IntrospectionCacheResultStep extends DomainStatusUpdaterStep {
+    private final String cacheResult;
+
+    private IntrospectionCacheResultStep(String cacheResult, Step next) {
+      super(next);
+      this.cacheResult = cacheResult;
+    }
+
+    @Override
+    void modifyStatus(DomainStatus status) {
+      status.withIntrospectionCacheResult(cacheResult);
+    }
+  }
+
   private static class FailedStep extends DomainStatusUpdaterStep {
     private final String reason;
     private final String message;
@@ -12,8 +12,11 @@ import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
 
 /**
  * This class handles Domain watching. It receives domain events and sends them into the operator
@@ -69,4 +72,15 @@ public class DomainWatcher extends Watcher<Domain> {
   public String getDomainUid(Response<Domain> item) {
     return Optional.ofNullable(item.object).map(Domain::getDomainUid).orElse(null);
   }
+
+  @Override
+  Listing<Domain> listResources() throws ApiException {
+    DomainList list = new CallBuilder().listDomain(ns);
+    return new Listing<>(list.getMetadata(), list.getItems());
+  }
+
+  @Override
+  ResourceCache.Store<Domain> getResourceStore() {
+    return ResourceCache.getInstance().getDomains();
+  }
 }
@@ -28,6 +28,12 @@ public interface IntrospectorConfigMapConstants {
   /** A hash of the Model-in-Image inputs. */
   String DOMAIN_INPUTS_HASH = "weblogic.domainInputsHash";
 
+  /** The base64-encoded archive of the Model-in-Image domain configuration. */
+  String DOMAINZIP = "domainzip.secure";
+
+  /** The base64-encoded archive of the Model-in-Image primordial domain. */
+  String PRIMORDIAL_DOMAINZIP = "primordial_domainzip.secure";
+
   /** The number of config maps required to hold the encoded domains. */
   String NUM_CONFIG_MAPS = "numConfigMaps";
 
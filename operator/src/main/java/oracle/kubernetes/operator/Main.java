@@ -34,6 +34,7 @@ import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.CrdHelper;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
+import oracle.kubernetes.operator.helpers.IntrospectionResultCache;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
@@ -43,6 +44,7 @@ import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.rest.RestConfigImpl;
 import oracle.kubernetes.operator.rest.RestServer;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
@@ -79,6 +81,7 @@ public class Main {
       new AtomicReference<>(SystemClock.now());
   private static final Semaphore shutdownSignal = new Semaphore(0);
   private static final int DEFAULT_STUCK_POD_RECHECK_SECONDS = 30;
+  private static final int VIRTUAL_THREAD_MODE_SCHEDULER_THREADS = 2;
 
   private final MainDelegate delegate;
   private final StuckPodProcessing stuckPodProcessing;
@@ -148,14 +151,31 @@ public class Main {
       productVersion = new SemanticVersion(buildVersion);
       kubernetesVersion = HealthCheckHelper.performK8sVersionCheck();
 
-      engine = new Engine(scheduledExecutorService);
+      engine = createEngine(scheduledExecutorService);
+      OperatorMetrics.registerComponentMetrics(engine);
       domainProcessor = new DomainProcessorImpl(this, productVersion);
 
       domainNamespaces = new DomainNamespaces(productVersion);
+      domainNamespaces.configureClusterWideWatches(HealthCheckHelper::isClusterWideWatchPermitted);
 
       PodHelper.setProductVersion(productVersion.toString());
     }
 
+    // In virtual thread mode, fibers run on virtual threads so that blocking steps do not starve the engine,
+    // while delayed and periodic work uses a small separate platform thread pool.
+    private static Engine createEngine(ScheduledExecutorService scheduledExecutorService) {
+      if (useVirtualThreads()) {
+        return new Engine(
+              Engine.wrappedExecutorService("scheduler", container, VIRTUAL_THREAD_MODE_SCHEDULER_THREADS),
+              Engine.wrappedVirtualThreadExecutor("operator", container));
+      }
+      return new Engine(scheduledExecutorService);
+    }
+
+    private static boolean useVirtualThreads() {
+      return "virtual".equalsIgnoreCase(TuningParameters.getInstance().get("engineThreadMode"));
+    }
+
     private static String getBuildVersion(Properties buildProps) {
       return Optional.ofNullable(buildProps.getProperty(GIT_BUILD_VERSION_KEY)).orElse("1.0");
     }
@@ -314,7 +334,8 @@ public class Main {
 
   private Step createStartupSteps() {
 
-    return NEXT_STEP_FACTORY.createInternalInitializationStep(Namespaces.getSelection(new StartupStepsVisitor()));
+    return NEXT_STEP_FACTORY.createInternalInitializationStep(
+          IntrospectionResultCache.createLoadStep(Namespaces.getSelection(new StartupStepsVisitor())));
   }
 
   private static Step createInitializeInternalIdentityStep(Step next) {
@@ -16,17 +16,22 @@ import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.ResourceCache;
+import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 
+import static oracle.kubernetes.utils.OperatorUtils.isNullOrEmpty;
+
 /**
  * A Class to manage listing Kubernetes resources associated with a namespace and doing processing on them.
  */
@@ -164,8 +169,11 @@ class NamespacedResources {
   }
 
   private Step createPodDisruptionBudgetListStep(List<Consumer<V1beta1PodDisruptionBudgetList>> processing) {
-    return new CallBuilder()
-            .listPodDisruptionBudgetAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListStep<>(getCache().getPodDisruptionBudgets(),
+          V1beta1PodDisruptionBudgetList::getItems,
+          items -> new V1beta1PodDisruptionBudgetList().metadata(new V1ListMeta()).items(items),
+          processing,
+          r -> new CallBuilder().listPodDisruptionBudgetAsync(namespace, r));
   }
 
   private Step getJobListSteps() {
@@ -181,7 +189,11 @@ class NamespacedResources {
   }
 
   private Step createPodListStep(List<Consumer<V1PodList>> processing) {
-    return createSubResourceCallBuilder().listPodAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListStep<>(getCache().getPods(),
+          V1PodList::getItems,
+          items -> new V1PodList().metadata(new V1ListMeta()).items(items),
+          processing,
+          r -> createSubResourceCallBuilder().listPodAsync(namespace, r));
   }
 
   private CallBuilder createSubResourceCallBuilder() {
@@ -197,7 +209,11 @@ class NamespacedResources {
   }
 
   private Step createServiceListStep(List<Consumer<V1ServiceList>> processing) {
-    return createSubResourceCallBuilder().listServiceAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListStep<>(getCache().getServices(),
+          V1ServiceList::getItems,
+          items -> new V1ServiceList().metadata(new V1ListMeta()).items(items),
+          processing,
+          r -> createSubResourceCallBuilder().listServiceAsync(namespace, r));
   }
 
   private Step getDomainListSteps() {
@@ -205,7 +221,15 @@ class NamespacedResources {
   }
 
   private Step createDomainListSteps(List<Consumer<DomainList>> processing) {
-    return new CallBuilder().listDomainAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListStep<>(getCache().getDomains(),
+          DomainList::getItems,
+          items -> new DomainList().withMetadata(new V1ListMeta()).withItems(items),
+          processing,
+          r -> new CallBuilder().listDomainAsync(namespace, r));
+  }
+
+  private ResourceCache getCache() {
+    return ResourceCache.getInstance();
   }
 
   private <L extends KubernetesListObject>
@@ -233,10 +257,77 @@ class NamespacedResources {
       this.processors = processors;
     }
 
+    ListResponseStep(List<Consumer<L>> processors, Step next) {
+      super(next);
+      this.processors = processors;
+    }
+
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<L> callResponse) {
       processors.forEach(p -> p.accept(callResponse.getResult()));
       return doContinueListOrNext(callResponse, packet);
     }
   }
+
+  /**
+   * Supplies the processors with the contents of the resource cache, if it is synced and no resync is due;
+   * otherwise lists the resources from Kubernetes. A namespace-wide list also refreshes the cache.
+   */
+  private class CachedOrListStep<T, L extends KubernetesListObject> extends Step {
+    private final ResourceCache.Store<T> store;
+    private final Function<L, List<T>> itemsFunction;
+    private final Function<List<T>, L> listFunction;
+    private final List<Consumer<L>> processing;
+    private final Function<ResponseStep<L>, Step> listStepFactory;
+
+    CachedOrListStep(ResourceCache.Store<T> store,
+                     Function<L, List<T>> itemsFunction,
+                     Function<List<T>, L> listFunction,
+                     List<Consumer<L>> processing,
+                     Function<ResponseStep<L>, Step> listStepFactory) {
+      this.store = store;
+      this.itemsFunction = itemsFunction;
+      this.listFunction = listFunction;
+      this.processing = processing;
+      this.listStepFactory = listStepFactory;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (isCacheUsable()) {
+        final L list = listFunction.apply(getCachedItems());
+        processing.forEach(p -> p.accept(list));
+        return doNext(packet);
+      } else {
+        return doNext(listStepFactory.apply(createResponseStep()), packet);
+      }
+    }
+
+    private boolean isCacheUsable() {
+      return store.isSynced(namespace) && !store.isResyncDue(namespace);
+    }
+
+    private List<T> getCachedItems() {
+      return domainUid == null ? store.list(namespace) : store.listForDomain(namespace, domainUid);
+    }
+
+    private ResponseStep<L> createResponseStep() {
+      if (domainUid != null) {
+        return new ListResponseStep<>(processing, getNext());
+      }
+
+      final List<T> found = new ArrayList<>();
+      final List<Consumer<L>> processingWithCache = new ArrayList<>(processing);
+      processingWithCache.add(l -> found.addAll(itemsFunction.apply(l)));
+      processingWithCache.add(l -> recordIfComplete(l, found));
+      return new ListResponseStep<>(processingWithCache, getNext());
+    }
+
+    private void recordIfComplete(L list, List<T> found) {
+      Optional<V1ListMeta> metadata = Optional.ofNullable(list.getMetadata());
+      if (isNullOrEmpty(metadata.map(V1ListMeta::getContinue).orElse(null))) {
+        store.replaceAll(namespace, found, metadata.map(V1ListMeta::getResourceVersion).orElse(null));
+      }
+    }
+  }
 }
@@ -24,6 +24,7 @@ import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
@@ -35,6 +36,7 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -159,6 +161,19 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
         Optional.ofNullable(item.object).map(V1Pod::getMetadata).orElse(null));
   }
 
+  @Override
+  Listing<V1Pod> listResources() throws ApiException {
+    V1PodList list = new CallBuilder()
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .listPod(namespace);
+    return new Listing<>(list.getMetadata(), list.getItems());
+  }
+
+  @Override
+  ResourceCache.Store<V1Pod> getResourceStore() {
+    return ResourceCache.getInstance().getPods();
+  }
+
   /**
    * Receive response.
    * @param item item
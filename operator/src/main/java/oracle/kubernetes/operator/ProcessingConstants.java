@@ -27,9 +27,11 @@ public interface ProcessingConstants {
 
   String DOMAIN_TOPOLOGY = "domainTopology";
   String JOB_POD_NAME = "jobPodName";
+  String JOB_POD = "jobPod";
   String DOMAIN_INTROSPECTOR_JOB = "domainIntrospectorJob";
   String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
   String DOMAIN_INTROSPECT_REQUESTED = "domainIntrospectRequested";
+  String INTROSPECTION_INPUTS = "introspectionInputs";
   String REMAINING_SERVERS_HEALTH_TO_READ = "serverHealthRead";
   String MII_DYNAMIC_UPDATE = "miiDynamicUpdate";
   String MII_DYNAMIC_UPDATE_WDTROLLBACKFILE = "miiDynamicUpdateRollbackFile";
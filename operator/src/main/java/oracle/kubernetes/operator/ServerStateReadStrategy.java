@@ -0,0 +1,10 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+public enum ServerStateReadStrategy {
+  EXEC, POD_STATUS;
+
+  public static final ServerStateReadStrategy DEFAULT = EXEC;
+}
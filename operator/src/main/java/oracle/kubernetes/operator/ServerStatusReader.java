@@ -6,12 +6,15 @@ package oracle.kubernetes.operator;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -38,6 +41,7 @@ import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.OperatorUtils;
 import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 
 import static oracle.kubernetes.operator.KubernetesConstants.WLS_CONTAINER_NAME;
@@ -49,10 +53,20 @@ public class ServerStatusReader {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static final Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
+  private static final Function<Step, Step> DOMAIN_HEALTH_STEP_FACTORY = ReadHealthStep::createReadDomainHealthStep;
+
+  private static final AtomicLong execCount = new AtomicLong();
 
   private ServerStatusReader() {
   }
 
+  /**
+   * Returns the number of times that the operator has run a command in a server pod to read the server state.
+   */
+  public static long getExecCount() {
+    return execCount.get();
+  }
+
   static Step createDomainStatusReaderStep(
       DomainPresenceInfo info, long timeoutSeconds, Step next) {
     return new DomainStatusReaderStep(info, timeoutSeconds, next);
@@ -85,6 +99,42 @@ public class ServerStatusReader {
     return new StatusUpdateHookStep(timeoutSeconds, next);
   }
 
+  /**
+   * Returns the number of seconds until the state of some server in the domain should next be read.
+   * Servers which are starting or stopping are read at the fast rate; others, once their interval has passed
+   * since their state was last read.
+   *
+   * @param info the domain presence
+   * @return a positive number of seconds
+   */
+  static long getSecondsUntilNextPoll(DomainPresenceInfo info) {
+    return info.getServerPods()
+          .map(pod -> getSecondsUntilNextPoll(info, pod))
+          .min(Long::compare)
+          .orElse(StatusPollingTier.NORMAL.getIntervalSeconds());
+  }
+
+  private static long getSecondsUntilNextPoll(DomainPresenceInfo info, V1Pod pod) {
+    LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(PodHelper.getPodServerName(pod));
+    StatusPollingTier tier = StatusPollingTier.forServer(pod, lastKnownStatus, getServerStateReadStrategy(info));
+    if (tier == StatusPollingTier.FAST) {
+      return tier.getIntervalSeconds();
+    }
+
+    long elapsed = Duration.between(lastKnownStatus.getTime(), SystemClock.now()).getSeconds();
+    return Math.max(1, tier.getIntervalSeconds() - elapsed);
+  }
+
+  private static ServerStateReadStrategy getServerStateReadStrategy(DomainPresenceInfo info) {
+    return Optional.ofNullable(info.getDomain())
+          .map(Domain::getServerStateReadStrategy)
+          .orElse(ServerStateReadStrategy.DEFAULT);
+  }
+
+  private static boolean isPollDue(LastKnownStatus lastKnownStatus, StatusPollingTier tier) {
+    return !SystemClock.now().isBefore(lastKnownStatus.getTime().plusSeconds(tier.getIntervalSeconds()));
+  }
+
   private static class DomainStatusReaderStep extends Step {
     private final DomainPresenceInfo info;
     private final long timeoutSeconds;
@@ -103,15 +153,49 @@ public class ServerStatusReader {
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
       packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
 
+      int numServerPods = (int) info.getServerPods().count();
+      if (numServerPods == 0) {
+        return doNext(packet);
+      }
+
+      remainingServerHealthToRead.set(numServerPods);
+      Step readServers = new ServerStatusesReaderStep(info, timeoutSeconds, getNext());
+      return doNext(isBatchedHealthReadEnabled() ? DOMAIN_HEALTH_STEP_FACTORY.apply(readServers) : readServers,
+          packet);
+    }
+
+    private boolean isBatchedHealthReadEnabled() {
+      return !"false".equalsIgnoreCase(TuningParameters.getInstance().get("batchServerHealthReads"));
+    }
+  }
+
+  /**
+   * Reads the state and health of each server with a pod, other than those already reported by the admin server.
+   */
+  private static class ServerStatusesReaderStep extends Step {
+    private final DomainPresenceInfo info;
+    private final long timeoutSeconds;
+
+    ServerStatusesReaderStep(DomainPresenceInfo info, long timeoutSeconds, Step next) {
+      super(next);
+      this.info = info;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      Map<String, ServerHealth> serverHealthMap = (Map<String, ServerHealth>) packet.get(SERVER_HEALTH_MAP);
+
       Collection<StepAndPacket> startDetails =
           info.getServerPods()
+              .filter(pod -> !serverHealthMap.containsKey(PodHelper.getPodServerName(pod)))
               .map(pod -> createStatusReaderStep(packet, pod))
               .collect(Collectors.toList());
 
       if (startDetails.isEmpty()) {
         return doNext(packet);
       } else {
-        remainingServerHealthToRead.set(startDetails.size());
         return doForkJoin(getNext(), packet, startDetails);
       }
     }
@@ -144,25 +228,26 @@ public class ServerStatusReader {
       ConcurrentMap<String, String> serverStateMap =
           (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
 
-      TuningParameters.MainTuning main = TuningParameters.getInstance().getMainTuning();
       LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
-      if (lastKnownStatus != null
-          && !WebLogicConstants.UNKNOWN_STATE.equals(lastKnownStatus.getStatus())
-          && lastKnownStatus.getUnchangedCount() >= main.unchangedCountToDelayStatusRecheck) {
-        if (SystemClock.now()
-            .isBefore(lastKnownStatus.getTime().plusSeconds((int) main.eventualLongDelay))) {
-          String state = lastKnownStatus.getStatus();
-          serverStateMap.put(serverName, state);
-          return doNext(packet);
-        }
+      StatusPollingTier tier = StatusPollingTier.forServer(pod, lastKnownStatus, getServerStateReadStrategy(info));
+      if (tier != StatusPollingTier.FAST && !isPollDue(lastKnownStatus, tier)) {
+        serverStateMap.put(serverName, lastKnownStatus.getStatus());
+        return doNext(packet);
       }
 
+      tier.recordPoll();
+
       if (PodHelper.getReadyStatus(pod)) {
         // set default to UNKNOWN; will be corrected in ReadHealthStep
         serverStateMap.put(serverName, WebLogicConstants.UNKNOWN_STATE);
         return doNext(packet);
       }
 
+      if (getServerStateReadStrategy(info) == ServerStateReadStrategy.POD_STATUS) {
+        serverStateMap.put(serverName, getStateFromPodStatus(lastKnownStatus));
+        return doNext(packet);
+      }
+
       final boolean stdin = false;
       final boolean tty = false;
 
@@ -177,6 +262,7 @@ public class ServerStatusReader {
               try (LoggingContext stack =
                        LoggingContext.setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
 
+                execCount.incrementAndGet();
                 KubernetesExec kubernetesExec = EXEC_FACTORY.create(client, pod, WLS_CONTAINER_NAME);
                 kubernetesExec.setStdin(stdin);
                 kubernetesExec.setTty(tty);
@@ -223,6 +309,19 @@ public class ServerStatusReader {
           });
     }
 
+    // Returns the state of a server whose pod is not ready, without running a command in the pod. The operator
+    // records the state reported by a failing readiness probe as the last known status of the server.
+    private String getStateFromPodStatus(LastKnownStatus lastKnownStatus) {
+      if (PodHelper.isDeleting(pod)) {
+        return WebLogicConstants.SHUTTING_DOWN_STATE;
+      } else if (lastKnownStatus != null) {
+        return lastKnownStatus.getStatus();
+      } else {
+        info.updateLastKnownServerStatus(serverName, WebLogicConstants.STARTING_STATE);
+        return WebLogicConstants.STARTING_STATE;
+      }
+    }
+
     private String getNamespace(@Nonnull V1Pod pod) {
       return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getNamespace).orElse(null);
     }
@@ -9,11 +9,14 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
 /**
@@ -73,4 +76,17 @@ public class ServiceWatcher extends Watcher<V1Service> {
     return KubernetesUtils.getDomainUidLabel(
         Optional.ofNullable(item.object).map(V1Service::getMetadata).orElse(null));
   }
+
+  @Override
+  Listing<V1Service> listResources() throws ApiException {
+    V1ServiceList list = new CallBuilder()
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .listService(ns);
+    return new Listing<>(list.getMetadata(), list.getItems());
+  }
+
+  @Override
+  ResourceCache.Store<V1Service> getResourceStore() {
+    return ResourceCache.getInstance().getServices();
+  }
 }
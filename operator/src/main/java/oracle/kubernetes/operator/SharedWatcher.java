@@ -0,0 +1,198 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
+/**
+ * A watcher which runs a single watch across all namespaces for one type of resource, and dispatches the events
+ * it receives to the per-namespace watchers registered with it. Those watchers do not run threads of their own.
+ *
+ * <p>A namespace may register after the shared watch has passed the resource version at which the namespace was
+ * listed, in which case its events since then have already been received and ignored. The shared watch is therefore
+ * restarted from the older of the two versions whenever a namespace registers while it is running. Each namespace's
+ * watcher ignores replayed events no newer than those it has already seen, or than its initial list.
+ *
+ * @param <T> The type of the object to be watched.
+ */
+class SharedWatcher<T> extends Watcher<T> {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final Map<String, Watcher<T>> delegates = new ConcurrentHashMap<>();
+  private final AtomicBoolean started = new AtomicBoolean(false);
+  private final ThreadFactory threadFactory;
+  private final AtomicReference<String> restartVersion = new AtomicReference<>();
+  private volatile boolean watching;
+  private volatile Watchable<T> currentWatch;
+
+  /**
+   * Constructs a shared watcher.
+   *
+   * @param threadFactory the factory for the thread which will run the cluster-wide watch
+   * @param initialResourceVersion the oldest version to return for this watch
+   * @param tuning Watch tuning parameters
+   * @param stopping an atomic boolean to watch to determine when to stop the watcher
+   */
+  SharedWatcher(ThreadFactory threadFactory, String initialResourceVersion,
+                WatchTuning tuning, AtomicBoolean stopping) {
+    super(initialResourceVersion, tuning, stopping);
+    this.threadFactory = threadFactory;
+    setListener(this::dispatch);
+  }
+
+  /**
+   * Returns a thread factory which, when passed to a watcher factory, causes the created watcher to receive
+   * its events from this shared watcher rather than starting its own watch.
+   */
+  Registration<T> createRegistration() {
+    return new Registration<>(this);
+  }
+
+  private void addDelegate(Watcher<T> watcher) {
+    watcher.recordDispatchedVersion(watcher.getResourceVersion());
+    delegates.put(watcher.getNamespace(), watcher);
+    if (watching) {
+      watcher.setCacheWatched(true);
+    }
+    if (started.compareAndSet(false, true)) {
+      start(threadFactory);
+    } else {
+      restartFrom(watcher.getResourceVersion());
+    }
+  }
+
+  // Ends the current watch, if any, so that the next one starts no later than the specified version.
+  private void restartFrom(String version) {
+    if (isValidVersion(version)) {
+      restartVersion.accumulateAndGet(version, SharedWatcher::getOlderVersion);
+      Optional.ofNullable(currentWatch).ifPresent(this::closeWatch);
+    }
+  }
+
+  private void closeWatch(Watchable<T> watch) {
+    try {
+      watch.close();
+    } catch (IOException e) {
+      LOGGER.fine("Failed to close shared watch: " + e);
+    }
+  }
+
+  private static boolean isValidVersion(String version) {
+    return KubernetesUtils.getResourceVersion(version).compareTo(BigInteger.ZERO) > 0;
+  }
+
+  private static String getOlderVersion(String first, String second) {
+    if (!isValidVersion(first)) {
+      return second;
+    } else if (!isValidVersion(second)) {
+      return first;
+    } else {
+      return KubernetesUtils.getResourceVersion(first).compareTo(KubernetesUtils.getResourceVersion(second)) <= 0
+            ? first : second;
+    }
+  }
+
+  /**
+   * Stops dispatching events to the watcher for the specified namespace.
+   *
+   * @param namespace a namespace name
+   */
+  void removeDelegate(String namespace) {
+    delegates.remove(namespace);
+  }
+
+  // for test
+  Watcher<T> getDelegate(String namespace) {
+    return delegates.get(namespace);
+  }
+
+  private void dispatch(Watch.Response<T> item) {
+    findDelegate(item).ifPresent(w -> w.receiveSharedEvent(item));
+  }
+
+  private Optional<Watcher<T>> findDelegate(Watch.Response<T> item) {
+    return Optional.ofNullable(item.object)
+          .map(Watcher::getMetadata)
+          .map(V1ObjectMeta::getNamespace)
+          .map(delegates::get);
+  }
+
+  @Override
+  public Watchable<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    Optional.ofNullable(restartVersion.getAndSet(null))
+          .map(version -> getOlderVersion(version, getResourceVersion()))
+          .ifPresent(version -> rewindTo(watchBuilder, version));
+
+    Watcher<T> template = delegates.values().stream().findFirst().orElse(null);
+    currentWatch = template == null ? null : template.initiateWatch(watchBuilder.inAllNamespaces());
+    return currentWatch;
+  }
+
+  private void rewindTo(WatchBuilder watchBuilder, String version) {
+    rewindResourceVersion(version);
+    watchBuilder.withResourceVersion(version);
+  }
+
+  @Override
+  public String getNamespace() {
+    return null;
+  }
+
+  @Override
+  public String getDomainUid(Watch.Response<T> item) {
+    return findDelegate(item).map(w -> w.getDomainUid(item)).orElse(null);
+  }
+
+  @Override
+  void setCacheWatched(boolean watched) {
+    watching = watched;
+    delegates.values().forEach(w -> w.setCacheWatched(watched));
+  }
+
+  @Override
+  void invalidateCache() {
+    delegates.values().forEach(Watcher::invalidateCache);
+  }
+
+  /**
+   * A thread factory used to indicate that a newly-created watcher should register with a shared watcher.
+   * Should a thread actually be requested, it is created by the shared watcher's own thread factory.
+   *
+   * @param <T> The type of the object to be watched.
+   */
+  static class Registration<T> implements ThreadFactory {
+    private final SharedWatcher<T> sharedWatcher;
+
+    private Registration(SharedWatcher<T> sharedWatcher) {
+      this.sharedWatcher = sharedWatcher;
+    }
+
+    void register(Watcher<T> watcher) {
+      sharedWatcher.addDelegate(watcher);
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      return sharedWatcher.threadFactory.newThread(runnable);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.helpers.LastKnownStatus;
+import oracle.kubernetes.operator.helpers.PodHelper;
+
+/**
+ * The rates at which the operator reads the state of a WebLogic server. A server is polled rapidly while it is
+ * starting, stopping or being rolled; at the normal rate once it is running; and slowly once it has been running
+ * without change for a while.
+ *
+ * <p>When the state of a server whose pod is not ready is read by running a script in its container, the server is
+ * polled at the normal rate even while it is starting, stopping or being rolled, so that the number of exec
+ * requests made to the Kubernetes API server is not multiplied.
+ */
+public enum StatusPollingTier {
+  FAST("statusPollingFastSeconds") {
+    @Override
+    long getDefaultIntervalSeconds(MainTuning main) {
+      return DEFAULT_FAST_INTERVAL_SECONDS;
+    }
+  },
+  NORMAL("statusPollingNormalSeconds") {
+    @Override
+    long getDefaultIntervalSeconds(MainTuning main) {
+      return main.initialShortDelay;
+    }
+  },
+  SLOW("statusPollingSlowSeconds") {
+    @Override
+    long getDefaultIntervalSeconds(MainTuning main) {
+      return main.eventualLongDelay;
+    }
+  };
+
+  private static final long DEFAULT_FAST_INTERVAL_SECONDS = 2;
+
+  private final String tuningKey;
+  private final AtomicLong pollCount = new AtomicLong();
+
+  StatusPollingTier(String tuningKey) {
+    this.tuningKey = tuningKey;
+  }
+
+  abstract long getDefaultIntervalSeconds(MainTuning main);
+
+  /**
+   * Returns the tier in which a server belongs.
+   * @param pod the server's pod
+   * @param lastKnownStatus the state most recently read for the server, or null if none
+   * @param readStrategy the way in which the state of a server whose pod is not ready is read
+   */
+  static StatusPollingTier forServer(V1Pod pod, LastKnownStatus lastKnownStatus, ServerStateReadStrategy readStrategy) {
+    if (lastKnownStatus == null) {
+      return FAST;
+    } else if (readStrategy == ServerStateReadStrategy.EXEC && !PodHelper.getReadyStatus(pod)) {
+      return NORMAL;
+    } else if (!WebLogicConstants.RUNNING_STATE.equals(lastKnownStatus.getStatus())
+          || PodHelper.isDeleting(pod)
+          || !PodHelper.getReadyStatus(pod)) {
+      return FAST;
+    } else if (lastKnownStatus.getUnchangedCount() >= getMainTuning().unchangedCountToDelayStatusRecheck) {
+      return SLOW;
+    } else {
+      return NORMAL;
+    }
+  }
+
+  private static MainTuning getMainTuning() {
+    return TuningParameters.getInstance().getMainTuning();
+  }
+
+  /**
+   * Returns the number of seconds between reads of the state of a server in this tier.
+   */
+  public long getIntervalSeconds() {
+    long seconds = TuningParameters.getLong(tuningKey, 0);
+    return seconds > 0 ? seconds : getDefaultIntervalSeconds(getMainTuning());
+  }
+
+  void recordPoll() {
+    pollCount.incrementAndGet();
+  }
+
+  /**
+   * Returns the number of times the state of a server in this tier has been read.
+   */
+  public long getPollCount() {
+    return pollCount.get();
+  }
+}
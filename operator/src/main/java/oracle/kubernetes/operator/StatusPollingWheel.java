@@ -0,0 +1,186 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * Schedules the periodic reading of domain status for all domains on a single hashed timing wheel, rather than
+ * with a scheduled task per domain. Each domain is registered with a task to run; after each run, the task may
+ * reschedule its domain, so that the interval between runs can vary with the state of the domain's servers.
+ */
+class StatusPollingWheel {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final long TICK_MILLIS = 1000;
+  private static final int NUM_SLOTS = 64;
+
+  private final List<Set<Registration>> slots = new ArrayList<>();
+  private final Map<String, Registration> registrations = new HashMap<>();
+  private int cursor;
+  private Object tickOwner;
+  private ScheduledFuture<?> tickFuture;
+
+  StatusPollingWheel() {
+    for (int i = 0; i < NUM_SLOTS; i++) {
+      slots.add(new HashSet<>());
+    }
+  }
+
+  /**
+   * Ensures that the wheel is advanced by the specified delegate. Only one delegate may advance the wheel at a time;
+   * a new one replaces any earlier.
+   * @param delegate the delegate used to schedule the ticks of the wheel
+   */
+  synchronized void startTicking(DomainProcessorDelegate delegate) {
+    if (tickOwner == delegate) {
+      return;
+    }
+
+    if (tickFuture != null) {
+      tickFuture.cancel(false);
+    }
+    tickOwner = delegate;
+    tickFuture = delegate.scheduleWithFixedDelay(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Registers a task to be run for a domain, replacing any task already registered for it.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   * @param task the task to run
+   * @param delay the delay before the task is first run
+   * @param unit the unit of the delay
+   */
+  synchronized void register(String namespace, String domainUid, Runnable task, long delay, TimeUnit unit) {
+    cancel(namespace, domainUid);
+
+    Registration registration = new Registration(namespace, task);
+    registrations.put(getKey(namespace, domainUid), registration);
+    schedule(registration, unit.toMillis(delay));
+  }
+
+  /**
+   * Changes the time at which the task registered for a domain will next run. Does nothing if no task is registered.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   * @param delay the delay before the task is next run
+   * @param unit the unit of the delay
+   */
+  synchronized void reschedule(String namespace, String domainUid, long delay, TimeUnit unit) {
+    Registration registration = registrations.get(getKey(namespace, domainUid));
+    if (registration != null) {
+      unschedule(registration);
+      schedule(registration, unit.toMillis(delay));
+    }
+  }
+
+  /**
+   * Removes the task registered for a domain, if any.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  synchronized void cancel(String namespace, String domainUid) {
+    Registration registration = registrations.remove(getKey(namespace, domainUid));
+    if (registration != null) {
+      unschedule(registration);
+    }
+  }
+
+  /**
+   * Removes the tasks registered for all domains in a namespace.
+   * @param namespace the namespace
+   */
+  synchronized void cancelNamespace(String namespace) {
+    registrations.values().removeIf(registration -> cancelIfInNamespace(registration, namespace));
+  }
+
+  private boolean cancelIfInNamespace(Registration registration, String namespace) {
+    if (!registration.namespace.equals(namespace)) {
+      return false;
+    }
+
+    unschedule(registration);
+    return true;
+  }
+
+  /**
+   * Returns the number of domains with registered tasks.
+   */
+  synchronized int getNumRegistrations() {
+    return registrations.size();
+  }
+
+  private String getKey(String namespace, String domainUid) {
+    return namespace + '/' + domainUid;
+  }
+
+  private void schedule(Registration registration, long delayMillis) {
+    long ticks = Math.max(1, (delayMillis + TICK_MILLIS - 1) / TICK_MILLIS);
+    registration.slot = (int) ((cursor + ticks) % NUM_SLOTS);
+    registration.remainingRounds = (ticks - 1) / NUM_SLOTS;
+    slots.get(registration.slot).add(registration);
+  }
+
+  private void unschedule(Registration registration) {
+    if (registration.slot >= 0) {
+      slots.get(registration.slot).remove(registration);
+      registration.slot = -1;
+    }
+  }
+
+  /**
+   * Advances the wheel by one slot, and runs the tasks which have become due. A task is not rescheduled
+   * automatically; it is expected to reschedule its domain when it runs.
+   */
+  void tick() {
+    for (Registration registration : advance()) {
+      try {
+        registration.task.run();
+      } catch (Throwable t) {
+        LOGGER.severe(MessageKeys.EXCEPTION, t);
+      }
+    }
+  }
+
+  private synchronized List<Registration> advance() {
+    cursor = (cursor + 1) % NUM_SLOTS;
+
+    List<Registration> due = new ArrayList<>();
+    for (Registration registration : slots.get(cursor)) {
+      if (registration.remainingRounds == 0) {
+        due.add(registration);
+        registration.slot = -1;
+      } else {
+        registration.remainingRounds--;
+      }
+    }
+    slots.get(cursor).removeAll(due);
+    return due;
+  }
+
+  private static class Registration {
+    private final String namespace;
+    private final Runnable task;
+    private int slot = -1;
+    private long remainingRounds;
+
+    Registration(String namespace, Runnable task) {
+      this.namespace = namespace;
+      this.task = task;
+    }
+  }
+}
@@ -17,6 +17,7 @@ import io.kubernetes.client.openapi.models.V1PodList;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -43,10 +44,21 @@ public class StuckPodProcessing {
   }
 
   void checkStuckPods(String namespace) {
-    Step step = new CallBuilder()
-          .withLabelSelectors(LabelConstants.getCreatedByOperatorSelector())
-          .listPodAsync(namespace, new PodListProcessing(namespace, SystemClock.now()));
-    mainDelegate.runSteps(Main.createPacketWithLoggingContext(namespace), step, null);
+    mainDelegate.runSteps(Main.createPacketWithLoggingContext(namespace), createCheckStuckPodsStep(namespace), null);
+  }
+
+  private Step createCheckStuckPodsStep(String namespace) {
+    if (getPodCache().isSynced(namespace)) {
+      return new CachedPodProcessing(namespace, SystemClock.now());
+    } else {
+      return new CallBuilder()
+            .withLabelSelectors(LabelConstants.getCreatedByOperatorSelector())
+            .listPodAsync(namespace, new PodListProcessing(namespace, SystemClock.now()));
+    }
+  }
+
+  private static ResourceCache.Store<V1Pod> getPodCache() {
+    return ResourceCache.getInstance().getPods();
   }
 
   @SuppressWarnings("unchecked")
@@ -54,6 +66,28 @@ public class StuckPodProcessing {
     return (List<V1Pod>) packet.computeIfAbsent("STUCK_PODS", k -> new ArrayList<>());
   }
 
+  private void addStuckPods(Packet packet, List<V1Pod> pods, OffsetDateTime now) {
+    pods.stream()
+          .filter(pod -> isStuck(pod, now))
+          .forEach(pod -> getStuckPodList(packet).add(pod));
+  }
+
+  private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
+    return getExpectedDeleteTime(pod).isBefore(now);
+  }
+
+  private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
+    return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+  }
+
+  private long getDeletionGracePeriodSeconds(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+  }
+
+  private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+  }
+
   class PodListProcessing extends DefaultResponseStep<V1PodList> {
 
     private final OffsetDateTime now;
@@ -65,31 +99,28 @@ public class StuckPodProcessing {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
-      callResponse.getResult().getItems().stream()
-            .filter(pod -> isStuck(pod, now))
-            .forEach(pod -> addStuckPodToPacket(packet, pod));
+      addStuckPods(packet, callResponse.getResult().getItems(), now);
       
       return doContinueListOrNext(callResponse, packet);
     }
+  }
 
-    private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
-      return getExpectedDeleteTime(pod).isBefore(now);
-    }
+  class CachedPodProcessing extends Step {
 
-    private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
-      return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
-    }
+    private final String namespace;
+    private final OffsetDateTime now;
 
-    private long getDeletionGracePeriodSeconds(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+    CachedPodProcessing(String namespace, OffsetDateTime dateTime) {
+      super(new PodActionsStep(namespace));
+      this.namespace = namespace;
+      now = dateTime;
     }
 
-    private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
-    }
+    @Override
+    public NextAction apply(Packet packet) {
+      addStuckPods(packet, getPodCache().list(namespace), now);
 
-    private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
-      getStuckPodList(packet).add(stuckPod);
+      return doNext(packet);
     }
   }
 
@@ -160,6 +191,7 @@ public class StuckPodProcessing {
                setThreadContext().namespace(namespace).domainUid(domainUID)) {
         LOGGER.info(POD_FORCE_DELETED, name, namespace);
       }
+      getPodCache().get(namespace, name).ifPresent(pod -> getPodCache().update("DELETED", pod));
       return super.onSuccess(packet, callResponse);
     }
   }
@@ -6,7 +6,9 @@ package oracle.kubernetes.operator;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -23,6 +25,43 @@ public interface TuningParameters extends Map<String, String> {
     return TuningParametersImpl.getInstance();
   }
 
+  /**
+   * Returns the value of the specified integer parameter, if it is set to a valid integer.
+   * @param name the name of the parameter
+   * @return the parameter value, or an empty optional
+   */
+  static Optional<Integer> getInteger(String name) {
+    return parseParameter(name, Integer::parseInt);
+  }
+
+  /**
+   * Returns the value of the specified integer parameter.
+   * @param name the name of the parameter
+   * @param defaultValue the value to return if the parameter is not set to a valid integer
+   * @return the parameter value
+   */
+  static int getInteger(String name, int defaultValue) {
+    return getInteger(name).orElse(defaultValue);
+  }
+
+  /**
+   * Returns the value of the specified long parameter.
+   * @param name the name of the parameter
+   * @param defaultValue the value to return if the parameter is not set to a valid long
+   * @return the parameter value
+   */
+  static long getLong(String name, long defaultValue) {
+    return parseParameter(name, Long::parseLong).orElse(defaultValue);
+  }
+
+  private static <T> Optional<T> parseParameter(String name, Function<String, T> parser) {
+    try {
+      return Optional.ofNullable(getInstance()).map(t -> t.get(name)).map(String::trim).map(parser);
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
   MainTuning getMainTuning();
 
   CallBuilderTuning getCallBuilderTuning();
@@ -142,17 +181,40 @@ public interface TuningParameters extends Map<String, String> {
     public final int callRequestLimit;
     public final int callMaxRetryCount;
     public final int callTimeoutSeconds;
+    public final int statusWriteRateLimit;
+    public final int writeRateLimit;
+    public final int readRateLimit;
+    public final int eventRateLimit;
 
     /**
-     * Create call builder tuning.
+     * Create call builder tuning without request rate limits.
      * @param callRequestLimit call request limit
      * @param callMaxRetryCount call max retry count
      * @param callTimeoutSeconds call timeout
      */
     public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds) {
+      this(callRequestLimit, callMaxRetryCount, callTimeoutSeconds, 0, 0, 0, 0);
+    }
+
+    /**
+     * Create call builder tuning.
+     * @param callRequestLimit call request limit
+     * @param callMaxRetryCount call max retry count
+     * @param callTimeoutSeconds call timeout
+     * @param statusWriteRateLimit maximum domain status writes per second, or zero for no limit
+     * @param writeRateLimit maximum other resource writes per second, or zero for no limit
+     * @param readRateLimit maximum reads and lists per second, or zero for no limit
+     * @param eventRateLimit maximum event writes per second, or zero for no limit
+     */
+    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds,
+                             int statusWriteRateLimit, int writeRateLimit, int readRateLimit, int eventRateLimit) {
       this.callRequestLimit = callRequestLimit;
       this.callMaxRetryCount = callMaxRetryCount;
       this.callTimeoutSeconds = callTimeoutSeconds;
+      this.statusWriteRateLimit = statusWriteRateLimit;
+      this.writeRateLimit = writeRateLimit;
+      this.readRateLimit = readRateLimit;
+      this.eventRateLimit = eventRateLimit;
     }
 
     @Override
@@ -161,6 +223,10 @@ public interface TuningParameters extends Map<String, String> {
           .append("callRequestLimit", callRequestLimit)
           .append("callMaxRetryCount", callMaxRetryCount)
           .append("callTimeoutSeconds", callTimeoutSeconds)
+          .append("statusWriteRateLimit", statusWriteRateLimit)
+          .append("writeRateLimit", writeRateLimit)
+          .append("readRateLimit", readRateLimit)
+          .append("eventRateLimit", eventRateLimit)
           .toString();
     }
 
@@ -170,6 +236,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit)
           .append(callMaxRetryCount)
           .append(callTimeoutSeconds)
+          .append(statusWriteRateLimit)
+          .append(writeRateLimit)
+          .append(readRateLimit)
+          .append(eventRateLimit)
           .toHashCode();
     }
 
@@ -186,6 +256,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit, cbt.callRequestLimit)
           .append(callMaxRetryCount, cbt.callMaxRetryCount)
           .append(callTimeoutSeconds, cbt.callTimeoutSeconds)
+          .append(statusWriteRateLimit, cbt.statusWriteRateLimit)
+          .append(writeRateLimit, cbt.writeRateLimit)
+          .append(readRateLimit, cbt.readRateLimit)
+          .append(eventRateLimit, cbt.eventRateLimit)
           .isEquals();
     }
   }
@@ -195,19 +269,23 @@ public interface TuningParameters extends Map<String, String> {
     public final int watchMinimumDelay;
     public final int watchBackstopRecheckDelay;
     public final int watchBackstopRecheckCount;
+    public final int watchCacheResyncSeconds;
 
     /**
      * Create watch tuning.
      * @param watchLifetime Watch lifetime
      * @param watchMinimumDelay Minimum delay before accepting new events to prevent hot loops
      * @param watchBackstopRecheckDelay Recheck delay for get while waiting for a status to backstop missed watch events
+     * @param watchBackstopRecheckCount Number of rechecks while waiting for a status
+     * @param watchCacheResyncSeconds Interval at which the watch-fed resource cache is refreshed by a list
      */
     public WatchTuning(int watchLifetime, int watchMinimumDelay, int watchBackstopRecheckDelay,
-                       int watchBackstopRecheckCount) {
+                       int watchBackstopRecheckCount, int watchCacheResyncSeconds) {
       this.watchLifetime = watchLifetime;
       this.watchMinimumDelay = watchMinimumDelay;
       this.watchBackstopRecheckDelay = watchBackstopRecheckDelay;
       this.watchBackstopRecheckCount = watchBackstopRecheckCount;
+      this.watchCacheResyncSeconds = watchCacheResyncSeconds;
     }
 
     @Override
@@ -216,13 +294,15 @@ public interface TuningParameters extends Map<String, String> {
           .append("watchLifetime", watchLifetime)
           .append("watchMinimumDelay", watchMinimumDelay)
           .append("watchBackstopRecheckDelay", watchBackstopRecheckDelay)
+          .append("watchCacheResyncSeconds", watchCacheResyncSeconds)
           .toString();
     }
 
     @Override
     public int hashCode() {
       return new HashCodeBuilder()
-              .append(watchLifetime).append(watchMinimumDelay).append(watchBackstopRecheckDelay).toHashCode();
+              .append(watchLifetime).append(watchMinimumDelay).append(watchBackstopRecheckDelay)
+              .append(watchCacheResyncSeconds).toHashCode();
     }
 
     @Override
@@ -238,6 +318,7 @@ public interface TuningParameters extends Map<String, String> {
           .append(watchLifetime, wt.watchLifetime)
           .append(watchMinimumDelay, wt.watchMinimumDelay)
           .append(watchBackstopRecheckDelay, wt.watchBackstopRecheckDelay)
+          .append(watchCacheResyncSeconds, wt.watchCacheResyncSeconds)
           .isEquals();
     }
   }
@@ -69,14 +69,19 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
         new CallBuilderTuning(
             (int) readTuningParameter("callRequestLimit", DEFAULT_CALL_LIMIT),
             (int) readTuningParameter("callMaxRetryCount", 5),
-            (int) readTuningParameter("callTimeoutSeconds", 10));
+            (int) readTuningParameter("callTimeoutSeconds", 10),
+            (int) readTuningParameter("statusWriteRateLimit", 0),
+            (int) readTuningParameter("writeRateLimit", 0),
+            (int) readTuningParameter("readRateLimit", 0),
+            (int) readTuningParameter("eventRateLimit", 0));
 
     WatchTuning watch =
         new WatchTuning(
             (int) readTuningParameter("watchLifetime", 300),
             (int) readTuningParameter("watchMinimumDelay", 5),
             (int) readTuningParameter("watchBackstopRecheckDelaySeconds", 5),
-            (int) readTuningParameter("watchBackstopRecheckCount", 60));
+            (int) readTuningParameter("watchBackstopRecheckCount", 60),
+            (int) readTuningParameter("watchCacheResyncSeconds", 600));
 
     PodTuning pod =
         new PodTuning(
@@ -38,7 +38,7 @@ abstract class WaitForReadyStep<T> extends Step {
   static NextStepFactory NEXT_STEP_FACTORY =
           (callback, info, next) -> createMakeDomainRightStep(callback, info, next);
 
-  protected static Step createMakeDomainRightStep(WaitForReadyStep.Callback callback,
+  protected static Step createMakeDomainRightStep(WaitForReadyStep<?>.Callback callback,
                                            DomainPresenceInfo info, Step next) {
     return new CallBuilder().readDomainAsync(info.getDomainUid(),
             info.getNamespace(), new MakeRightDomainStep(callback, null));
@@ -248,9 +248,9 @@ abstract class WaitForReadyStep<T> extends Step {
 
   static class MakeRightDomainStep extends DefaultResponseStep {
     public static final String WAIT_TIMEOUT_EXCEEDED = "Wait timeout exceeded";
-    private final WaitForReadyStep.Callback callback;
+    private final WaitForReadyStep<?>.Callback callback;
 
-    MakeRightDomainStep(WaitForReadyStep.Callback callback, Step next) {
+    MakeRightDomainStep(WaitForReadyStep<?>.Callback callback, Step next) {
       super(next);
       this.callback = callback;
     }
@@ -326,7 +326,7 @@ abstract class WaitForReadyStep<T> extends Step {
 
   // an interface to provide a hook for unit testing.
   interface NextStepFactory {
-    Step createMakeDomainRightStep(WaitForReadyStep.Callback callback,
+    Step createMakeDomainRightStep(WaitForReadyStep<?>.Callback callback,
                                                    DomainPresenceInfo info, Step next);
   }
 
@@ -5,13 +5,20 @@ package oracle.kubernetes.operator;
 
 import java.lang.reflect.Method;
 import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.util.Watch;
@@ -19,10 +26,12 @@ import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
 import static java.net.HttpURLConnection.HTTP_GONE;
@@ -42,6 +51,9 @@ abstract class Watcher<T> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED = "0";
   private static final Pattern RESOURCE_VERSION_PATTERN = Pattern.compile("\\((\\d+)\\)");
+  private static final String BOOKMARK = "BOOKMARK";
+  private static final AtomicLong relistCount = new AtomicLong();
+  private static final AtomicLong suppressedEventCount = new AtomicLong();
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
   private final WatchTuning tuning;
@@ -50,6 +62,8 @@ abstract class Watcher<T> {
   private WatchListener<T> listener;
   private Thread thread = null;
   private long lastInitialize = 0;
+  private final AtomicReference<BigInteger> lastDispatchedVersion = new AtomicReference<>(BigInteger.ZERO);
+  private final String kind = getClass().getSimpleName().replace("Watcher", "");
 
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
@@ -93,11 +107,37 @@ abstract class Watcher<T> {
     }
   }
 
-  // for test
   String getResourceVersion() {
     return resourceVersion;
   }
 
+  /**
+   * Moves the resource version from which the next watch will start back to an earlier one, so that the events
+   * since then are dispatched again. Must only be called by the watch thread.
+   *
+   * @param resourceVersion the oldest version to return for the next watch
+   */
+  void rewindResourceVersion(String resourceVersion) {
+    this.resourceVersion = resourceVersion;
+    this.lastDispatchedVersion.set(KubernetesUtils.getResourceVersion(resourceVersion));
+  }
+
+  /**
+   * Returns the number of times that a watcher has resumed from a list of its resources, rather than
+   * replaying them all, after its resource version expired.
+   */
+  static long getRelistCount() {
+    return relistCount.get();
+  }
+
+  /**
+   * Returns the number of watch events which were not dispatched because they reported resources which
+   * the listener had already seen.
+   */
+  static long getSuppressedEventCount() {
+    return suppressedEventCount.get();
+  }
+
   /**
    * Sets the listener for watch events.
    *
@@ -107,9 +147,17 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Kick off the watcher processing that runs in a separate thread. */
+  /**
+   * Kick off the watcher processing that runs in a separate thread. If the factory is a shared watch registration,
+   * this watcher instead receives its events from the corresponding cluster-wide watch.
+   */
+  @SuppressWarnings("unchecked")
   void start(ThreadFactory factory) {
-    thread = STARTER.startWatcher(factory, this::doWatch);
+    if (factory instanceof SharedWatcher.Registration) {
+      ((SharedWatcher.Registration<T>) factory).register(this);
+    } else {
+      thread = STARTER.startWatcher(factory, this::doWatch);
+    }
   }
 
   public static Thread startAsynchronousWatch(ThreadFactory factory, Runnable doWatch) {
@@ -120,6 +168,7 @@ abstract class Watcher<T> {
 
   private void doWatch() {
     setIsDraining(false);
+    setCacheWatched(true);
 
     while (!isDraining()) {
       if (isStopping()) {
@@ -128,6 +177,11 @@ abstract class Watcher<T> {
         watchForEvents();
       }
     }
+    setCacheWatched(false);
+  }
+
+  void setCacheWatched(boolean watched) {
+    Optional.ofNullable(getResourceStore()).ifPresent(s -> s.setWatched(getNamespace(), watched));
   }
 
   // Are we draining?
@@ -172,6 +226,7 @@ abstract class Watcher<T> {
         if (isDraining()) {
           continue;
         }
+        recordEvent(item);
 
         try (LoggingContext ignored =
                  LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
@@ -228,26 +283,169 @@ abstract class Watcher<T> {
    */
   public abstract String getDomainUid(Watch.Response<T> item);
 
+  /**
+   * Lists the watched resources, so that the watch may be resumed after its resource version expires
+   * without replaying every resource to the listener. Only watchers which keep a resource store current can
+   * make use of this.
+   *
+   * @return the current resources, or null if this watcher cannot list them
+   * @throws ApiException if there is an API error.
+   */
+  Listing<T> listResources() throws ApiException {
+    return null;
+  }
+
+  /**
+   * Returns the cache store which this watcher keeps current.
+   *
+   * @return the store, or null if the watched resources are not cached
+   */
+  ResourceCache.Store<T> getResourceStore() {
+    return null;
+  }
+
   private boolean isError(Watch.Response<T> item) {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  /**
+   * Handles an event received by a shared cluster-wide watch for this watcher's namespace.
+   *
+   * @param item the watch event
+   */
+  void receiveSharedEvent(Watch.Response<T> item) {
+    if (!isStopping()) {
+      recordEvent(item);
+      handleRegularUpdate(item);
+    }
+  }
+
+  private void recordEvent(Watch.Response<T> item) {
+    OperatorMetrics.WATCH_EVENTS.labels(kind, getNamespace(), item.type).inc();
+  }
+
+  private void recordSuppressedEvents(int numEvents) {
+    suppressedEventCount.addAndGet(numEvents);
+    OperatorMetrics.WATCH_EVENTS_SUPPRESSED.labels(kind).inc(numEvents);
+  }
+
+  private void recordRelist(int numUnchanged) {
+    relistCount.incrementAndGet();
+    OperatorMetrics.WATCH_RELISTS.labels(kind).inc();
+    recordSuppressedEvents(numUnchanged);
+  }
+
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.finer(MessageKeys.WATCH_EVENT, item.type, item.object);
+    if (isBookmark(item)) {
+      trackResourceVersion(item.type, item.object);
+    } else if (isAlreadyDispatched(item)) {
+      recordSuppressedEvents(1);
+    } else {
+      dispatch(item);
+    }
+  }
+
+  private boolean isBookmark(Watch.Response<T> item) {
+    return BOOKMARK.equalsIgnoreCase(item.type);
+  }
+
+  // A watch restarted without a usable resource version reports every existing resource as added.
+  // Resource versions increase across a watch, so any event no newer than one already dispatched is a replay.
+  private boolean isAlreadyDispatched(Watch.Response<T> item) {
+    BigInteger version = KubernetesUtils.getResourceVersion(getResourceVersionFromMetadata(item.object));
+    return version.compareTo(BigInteger.ZERO) > 0 && version.compareTo(lastDispatchedVersion.get()) <= 0;
+  }
+
+  private void dispatch(Watch.Response<T> item) {
     trackResourceVersion(item.type, item.object);
+    recordDispatchedVersion(getResourceVersionFromMetadata(item.object));
+    Optional.ofNullable(getResourceStore()).ifPresent(s -> s.update(item.type, item.object));
     if (listener != null) {
       listener.receivedResponse(item);
     }
   }
 
+  // May be called both by the watch thread and by a shared watcher adding a delegate.
+  void recordDispatchedVersion(String version) {
+    lastDispatchedVersion.accumulateAndGet(KubernetesUtils.getResourceVersion(version), BigInteger::max);
+  }
+
   private void handleErrorResponse(Watch.Response<T> item) {
-    if (Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) != HTTP_GONE) {
+    if (isResourceVersionExpired(item) && resumeFromList()) {
+      return;
+    }
+
+    invalidateCache();
+    if (!isResourceVersionExpired(item)) {
       resourceVersion = IGNORED;
     } else {
       resourceVersion = Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED);
     }
   }
 
+  private boolean isResourceVersionExpired(Watch.Response<T> item) {
+    return Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) == HTTP_GONE;
+  }
+
+  // Lists the watched resources and dispatches only those which differ from the resource store, so that the
+  // listener does not see a relist storm. Returns false if this watcher cannot resume this way.
+  private boolean resumeFromList() {
+    ResourceCache.Store<T> store = getResourceStore();
+    if (store == null || !store.isPopulated(getNamespace())) {
+      return false;
+    }
+
+    try {
+      return Optional.ofNullable(listResources())
+            .filter(Listing::isComplete)
+            .map(listing -> resumeFromList(store, listing))
+            .orElse(false);
+    } catch (ApiException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      return false;
+    }
+  }
+
+  private boolean resumeFromList(ResourceCache.Store<T> store, Listing<T> listing) {
+    Map<String, T> cached = new HashMap<>();
+    store.list(getNamespace()).forEach(r -> cached.put(getName(r), r));
+
+    int numDispatched = 0;
+    int numUnchanged = 0;
+    for (T resource : listing.getItems()) {
+      T previous = cached.remove(getName(resource));
+      if (previous == null) {
+        dispatch(new Watch.Response<>("ADDED", resource));
+        numDispatched++;
+      } else if (!Objects.equals(getResourceVersionFromMetadata(previous), getResourceVersionFromMetadata(resource))) {
+        dispatch(new Watch.Response<>("MODIFIED", resource));
+        numDispatched++;
+      } else {
+        numUnchanged++;
+      }
+    }
+    for (T removed : cached.values()) {
+      dispatch(new Watch.Response<>("DELETED", removed));
+      numDispatched++;
+    }
+
+    store.replaceAll(getNamespace(), listing.getItems(), listing.getResourceVersion());
+    resourceVersion = listing.getResourceVersion();
+    recordDispatchedVersion(resourceVersion);
+    recordRelist(numUnchanged);
+    LOGGER.fine(MessageKeys.WATCH_RELISTED, getNamespace(), numDispatched, numUnchanged);
+    return true;
+  }
+
+  private String getName(T resource) {
+    return Optional.ofNullable(getMetadata(resource)).map(V1ObjectMeta::getName).orElse(null);
+  }
+
+  void invalidateCache() {
+    Optional.ofNullable(getResourceStore()).ifPresent(s -> s.invalidate(getNamespace()));
+  }
+
   private String resourceVersion(String message) {
     final Matcher matcher = RESOURCE_VERSION_PATTERN.matcher(message);
     return matcher.find() ? matcher.group(1) : null;
@@ -277,13 +475,16 @@ abstract class Watcher<T> {
   }
 
   private String getResourceVersionFromMetadata(Object object) {
+    return Optional.ofNullable(getMetadata(object)).map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
+  }
+
+  static V1ObjectMeta getMetadata(Object object) {
     try {
       Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
+      return (V1ObjectMeta) getMetadata.invoke(object);
     } catch (Exception e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED;
+      return null;
     }
   }
 
@@ -298,4 +499,32 @@ abstract class Watcher<T> {
       }
     }
   }
+
+  /**
+   * The result of listing the resources watched by a watcher.
+   *
+   * @param <T> The type of the resources listed.
+   */
+  static class Listing<T> {
+    private final V1ListMeta metadata;
+    private final List<T> items;
+
+    Listing(V1ListMeta metadata, List<T> items) {
+      this.metadata = metadata;
+      this.items = items;
+    }
+
+    String getResourceVersion() {
+      return Optional.ofNullable(metadata).map(V1ListMeta::getResourceVersion).orElse(IGNORED);
+    }
+
+    List<T> getItems() {
+      return Optional.ofNullable(items).orElse(List.of());
+    }
+
+    // A list which was truncated by a limit does not show which resources have been deleted.
+    boolean isComplete() {
+      return isNullOrEmpty(Optional.ofNullable(metadata).map(V1ListMeta::getContinue).orElse(null));
+    }
+  }
 }
@@ -40,6 +40,7 @@ public class WatchBuilder {
   private static WatchFactory FACTORY = new WatchFactoryImpl();
 
   private final CallParamsImpl callParams = new CallParamsImpl();
+  private boolean allNamespaces;
 
   public WatchBuilder() {
   }
@@ -52,7 +53,8 @@ public class WatchBuilder {
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Service> createServiceWatch(String namespace) throws ApiException {
-    return FACTORY.createWatch(callParams, V1Service.class, new ListNamespacedServiceCall(namespace));
+    return FACTORY.createWatch(
+        callParams, V1Service.class, new ListNamespacedServiceCall(getWatchNamespace(namespace)));
   }
 
   /**
@@ -64,7 +66,7 @@ public class WatchBuilder {
    */
   public Watchable<V1beta1PodDisruptionBudget> createPodDisruptionBudgetWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(callParams, V1beta1PodDisruptionBudget.class,
-        new ListPodDisruptionBudgetCall(namespace));
+        new ListPodDisruptionBudgetCall(getWatchNamespace(namespace)));
   }
 
   /**
@@ -76,7 +78,7 @@ public class WatchBuilder {
    */
   public Watchable<V1Pod> createPodWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, V1Pod.class, new ListPodCall(namespace));
+        callParams, V1Pod.class, new ListPodCall(getWatchNamespace(namespace)));
   }
 
   /**
@@ -88,7 +90,7 @@ public class WatchBuilder {
    */
   public Watchable<V1Job> createJobWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, V1Job.class, new ListJobCall(namespace));
+        callParams, V1Job.class, new ListJobCall(getWatchNamespace(namespace)));
   }
 
   /**
@@ -100,7 +102,7 @@ public class WatchBuilder {
    */
   public Watchable<CoreV1Event> createEventWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, CoreV1Event.class, new ListEventCall(namespace));
+        callParams, CoreV1Event.class, new ListEventCall(getWatchNamespace(namespace)));
   }
 
   /**
@@ -112,7 +114,7 @@ public class WatchBuilder {
    */
   public Watchable<Domain> createDomainWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, Domain.class, new ListDomainsCall(namespace));
+        callParams, Domain.class, new ListDomainsCall(getWatchNamespace(namespace)));
   }
 
   /**
@@ -126,7 +128,7 @@ public class WatchBuilder {
     return FACTORY.createWatch(
         callParams,
         V1ConfigMap.class,
-        new ListNamespacedConfigMapCall(namespace));
+        new ListNamespacedConfigMapCall(getWatchNamespace(namespace)));
   }
 
   /**
@@ -142,6 +144,21 @@ public class WatchBuilder {
         new ListNamespaceCall());
   }
 
+  /**
+   * Causes the watch to report matching resources in all namespaces, ignoring the namespace
+   * specified when creating it.
+   *
+   * @return the updated builder
+   */
+  public WatchBuilder inAllNamespaces() {
+    allNamespaces = true;
+    return this;
+  }
+
+  private String getWatchNamespace(String namespace) {
+    return allNamespaces ? null : namespace;
+  }
+
   /**
    * Sets a value for the fieldSelector parameter for the call that will set up this watch. Defaults
    * to null.
@@ -215,6 +232,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listServiceForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedServiceCall(
                 namespace,
@@ -252,6 +284,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listPodForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedPodCall(
                 namespace,
@@ -284,6 +331,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new BatchV1Api(client)
+              .listJobForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new BatchV1Api(client)
             .listNamespacedJobCall(
                 namespace,
@@ -316,6 +378,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listEventForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedEventCall(
                 namespace,
@@ -348,6 +425,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new PolicyV1beta1Api(client)
+              .listPodDisruptionBudgetForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new PolicyV1beta1Api(client)
             .listNamespacedPodDisruptionBudgetCall(
                 namespace,
@@ -410,6 +502,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listConfigMapForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedConfigMapCall(
                 namespace,
@@ -0,0 +1,83 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Pauses asynchronous requests to the Kubernetes API server while it is shedding load. The breaker opens when
+ * the server rejects several requests in a row as too many, and stays open for the longest delay that the server
+ * asked for; while it is open, fibers park rather than each retrying on its own schedule.
+ */
+public class ApiServerCircuitBreaker {
+
+  static final int THROTTLED_RESPONSES_TO_OPEN = 3;
+
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit tests
+  private static ApiServerCircuitBreaker instance = new ApiServerCircuitBreaker(System::nanoTime);
+
+  private final LongSupplier nanoTime;
+  private int consecutiveThrottledResponses;
+  private long longestRequestedDelayNanos;
+  private long openUntilNanos;
+  private boolean open;
+  private long openCount;
+
+  ApiServerCircuitBreaker(LongSupplier nanoTime) {
+    this.nanoTime = nanoTime;
+  }
+
+  public static ApiServerCircuitBreaker getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records that the API server rejected a request because it is overloaded.
+   * @param requestedDelayMillis the time the server asked clients to wait, or the client's own backoff
+   */
+  public synchronized void recordThrottled(long requestedDelayMillis) {
+    long requestedDelayNanos = TimeUnit.MILLISECONDS.toNanos(requestedDelayMillis);
+    longestRequestedDelayNanos = Math.max(longestRequestedDelayNanos, requestedDelayNanos);
+    if (++consecutiveThrottledResponses >= THROTTLED_RESPONSES_TO_OPEN) {
+      if (!isOpen()) {
+        openCount++;
+      }
+      open = true;
+      openUntilNanos = Math.max(openUntilNanos, nanoTime.getAsLong() + longestRequestedDelayNanos);
+    }
+  }
+
+  /**
+   * Records that the API server accepted a request, which resets the count of throttled responses.
+   */
+  public synchronized void recordSuccess() {
+    consecutiveThrottledResponses = 0;
+    longestRequestedDelayNanos = 0;
+  }
+
+  /**
+   * Returns the time in nanoseconds until the breaker closes, or zero if it is closed.
+   */
+  public synchronized long getRemainingOpenNanos() {
+    return isOpen() ? openUntilNanos - nanoTime.getAsLong() : 0;
+  }
+
+  /**
+   * Returns true if requests are currently being held back.
+   */
+  public synchronized boolean isOpen() {
+    if (open && nanoTime.getAsLong() >= openUntilNanos) {
+      open = false;
+    }
+    return open;
+  }
+
+  /**
+   * Returns the number of times that the breaker has opened.
+   */
+  public synchronized long getOpenCount() {
+    return openCount;
+  }
+}
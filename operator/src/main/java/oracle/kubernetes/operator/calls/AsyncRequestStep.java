@@ -3,12 +3,16 @@
 
 package oracle.kubernetes.operator.calls;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import io.kubernetes.client.common.KubernetesListObject;
@@ -16,6 +20,7 @@ import io.kubernetes.client.openapi.ApiCallback;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ListMeta;
+import oracle.kubernetes.operator.calls.RequestRateLimiter.RequestClass;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -24,6 +29,7 @@ import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.AsyncFiber;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
@@ -48,6 +54,12 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   private static final int LOW = 10;
   private static final int SCALE = 100;
   private static final int MAX = 10000;
+  private static final long MAX_SERVER_REQUESTED_DELAY = TimeUnit.MINUTES.toMillis(1);
+  private static final String RETRY_AFTER_HEADER = "Retry-After";
+  private static final String PRIORITY_LEVEL_HEADER = "X-Kubernetes-PF-PriorityLevel-UID";
+  private static final String FLOW_SCHEMA_HEADER = "X-Kubernetes-PF-FlowSchema-UID";
+  private static final Map<String, AtomicLong> retryCounts = new ConcurrentHashMap<>();
+  private static final Map<String, AtomicLong> backoffMillis = new ConcurrentHashMap<>();
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final ClientPool helper;
@@ -150,6 +162,63 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     return requestParams.call;
   }
 
+  /**
+   * Returns the number of times that requests with the specified verb have been retried.
+   * @param verb the verb with which a call name begins, such as "read" or "patch"
+   */
+  public static long getRetryCount(String verb) {
+    return sumForVerb(retryCounts, verb);
+  }
+
+  /**
+   * Returns the total time in milliseconds that requests with the specified verb have waited before being retried.
+   * @param verb the verb with which a call name begins, such as "read" or "patch"
+   */
+  public static long getTotalBackoffMillis(String verb) {
+    return sumForVerb(backoffMillis, verb);
+  }
+
+  /**
+   * Returns the number of times that requests have been retried, keyed by call name and verb.
+   */
+  public static Map<List<String>, Long> getRetryCounts() {
+    return byCallAndVerb(retryCounts);
+  }
+
+  /**
+   * Returns the total time in milliseconds that requests have waited before being retried, keyed by call name
+   * and verb.
+   */
+  public static Map<List<String>, Long> getBackoffMillis() {
+    return byCallAndVerb(backoffMillis);
+  }
+
+  private static long sumForVerb(Map<String, AtomicLong> counts, String verb) {
+    return counts.entrySet().stream()
+          .filter(e -> getVerb(e.getKey()).equals(verb))
+          .mapToLong(e -> e.getValue().get())
+          .sum();
+  }
+
+  private static Map<List<String>, Long> byCallAndVerb(Map<String, AtomicLong> counts) {
+    final Map<List<String>, Long> result = new LinkedHashMap<>();
+    new TreeMap<>(counts).forEach((call, count) -> result.put(List.of(call, getVerb(call)), count.get()));
+    return result;
+  }
+
+  static String getVerb(String call) {
+    int i = 0;
+    while (i < call.length() && Character.isLowerCase(call.charAt(i))) {
+      i++;
+    }
+    return call.substring(0, i);
+  }
+
+  private void recordRetry(long waitTime) {
+    retryCounts.computeIfAbsent(requestParams.call, c -> new AtomicLong()).incrementAndGet();
+    backoffMillis.computeIfAbsent(requestParams.call, c -> new AtomicLong()).addAndGet(waitTime);
+  }
+
   @Override
   public void listenTimeoutDoubled() {
     timeoutSeconds *= 2;
@@ -162,6 +231,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     final String cont;
     final AtomicBoolean didResume = new AtomicBoolean(false);
     final ApiClient client;
+    volatile long sentNanos;
 
     public AsyncRequestStepProcessing(Packet packet, RetryStrategy retry, String cont) {
       this.packet = packet;
@@ -179,6 +249,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // The Kubernetes request succeeded. Recycle the client, add the response to the packet, and proceed.
     void onSuccess(AsyncFiber fiber, T result, int statusCode, Map<String, List<String>> responseHeaders) {
       if (firstTimeResumed()) {
+        recordDuration(OperatorMetrics.SUCCESS);
+        ApiServerCircuitBreaker.getInstance().recordSuccess();
         if (LOGGER.isFinerEnabled()) {
           logSuccess(result, statusCode, responseHeaders);
         }
@@ -194,6 +266,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // add the failure into the packet and prepare to try again.
     void onFailure(AsyncFiber fiber, ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
       if (firstTimeResumed()) {
+        recordDuration(OperatorMetrics.FAILURE);
         if (statusCode != CallBuilder.NOT_FOUND && LOGGER.isFineEnabled()) {
           logFailure(ae, statusCode, responseHeaders);
         }
@@ -215,6 +288,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // a callback within the timeout. So cancel the call and prepare to try again.
     private void handleTimeout(AsyncFiber fiber, CancellableCall cc) {
       if (firstTimeResumed()) {
+        recordDuration(OperatorMetrics.TIMEOUT);
         try {
           cc.cancel();
         } finally {
@@ -235,6 +309,11 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       }
     }
 
+    private void recordDuration(String outcome) {
+      OperatorMetrics.API_CALL_DURATION.labels(requestParams.call, requestParams.namespace, outcome)
+            .observeNanos(System.nanoTime() - sentNanos);
+    }
+
     private void addResponseComponent(Component component) {
       packet.getComponents().put(RESPONSE_COMPONENT_NAME, component);
     }
@@ -282,21 +361,38 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     }
 
     AsyncRequestStepProcessing processing = new AsyncRequestStepProcessing(packet, retry, cont);
+    RequestClass requestClass = RequestClass.forCall(requestParams.call);
+    long rateLimitDelayNanos = RequestRateLimiter.getInstance().reserve(requestClass);
+    long delayNanos = Math.max(rateLimitDelayNanos, ApiServerCircuitBreaker.getInstance().getRemainingOpenNanos());
     return doSuspend(
         (fiber) -> {
-          try {
-            CancellableCall cc = processing.createCall(fiber);
-            scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(fiber, cc));
-          } catch (ApiException t) {
-            logAsyncFailure(t, t.getResponseBody());
-            processing.resumeAfterThrowable(fiber);
-          } catch (Throwable t) {
-            logAsyncFailure(t, "");
-            processing.resumeAfterThrowable(fiber);
+          if (delayNanos <= 0) {
+            sendRequest(fiber, processing);
+          } else {
+            fiber.scheduleOnce(delayNanos, TimeUnit.NANOSECONDS, () -> {
+              if (rateLimitDelayNanos > 0) {
+                RequestRateLimiter.getInstance().onDelayedRequestSent(requestClass);
+              }
+              sendRequest(fiber, processing);
+            });
           }
         });
   }
 
+  private void sendRequest(AsyncFiber fiber, AsyncRequestStepProcessing processing) {
+    try {
+      processing.sentNanos = System.nanoTime();
+      CancellableCall cc = processing.createCall(fiber);
+      scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(fiber, cc));
+    } catch (ApiException t) {
+      logAsyncFailure(t, t.getResponseBody());
+      processing.resumeAfterThrowable(fiber);
+    } catch (Throwable t) {
+      logAsyncFailure(t, "");
+      processing.resumeAfterThrowable(fiber);
+    }
+  }
+
   // Schedule the timeout check to happen on the fiber at some number of seconds in the future.
   private void scheduleTimeoutCheck(AsyncFiber fiber, int timeoutSeconds, Runnable timeoutCheck) {
     fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, timeoutCheck);
@@ -427,12 +523,16 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
           || statusCode == 503 /* StatusServiceUnavailable */
           || statusCode == 504 /* StatusServerTimeout */) {
 
-        // exponential back-off
-        long waitTime = Math.min((2 << ++retryCount) * SCALE, MAX) + (R.nextInt(HIGH - LOW) + LOW);
+        // use the delay requested by the server, if any; otherwise, exponential back-off
+        long backoff = Math.min((2 << ++retryCount) * SCALE, MAX);
+        long waitTime = getServerRequestedDelay(packet).orElse(backoff) + (R.nextInt(HIGH - LOW) + LOW);
 
         if (statusCode == 0 || statusCode == 504 /* StatusServerTimeout */) {
           listener.listenTimeoutDoubled();
         }
+        if (isLoadShedding(packet, statusCode)) {
+          ApiServerCircuitBreaker.getInstance().recordThrottled(waitTime);
+        }
 
         NextAction na = new NextAction();
         if (!retriesLeft()) {
@@ -440,6 +540,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         } else {
           LOGGER.finer(MessageKeys.ASYNC_RETRY, identityHash(), String.valueOf(waitTime),
               requestParams.call, requestParams.namespace, requestParams.name);
+          recordRetry(waitTime);
           na.delay(retryStep, packet, waitTime, TimeUnit.MILLISECONDS);
         }
         return na;
@@ -459,6 +560,35 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       return null;
     }
 
+    // Returns the delay in milliseconds requested by the Retry-After header of the failed response, if any.
+    // Only the delay-seconds form of the header is honored; a date is treated as if no delay was requested.
+    private Optional<Long> getServerRequestedDelay(Packet packet) {
+      try {
+        return Optional.ofNullable(getHeader(packet, RETRY_AFTER_HEADER))
+              .map(String::trim)
+              .map(Long::parseLong)
+              .filter(seconds -> seconds >= 0)
+              .map(TimeUnit.SECONDS::toMillis)
+              .map(delay -> Math.min(delay, MAX_SERVER_REQUESTED_DELAY));
+      } catch (NumberFormatException e) {
+        return Optional.empty();
+      }
+    }
+
+    // The API server is shedding load if it rejects a request as too many, or if API Priority and Fairness
+    // reports that the request's priority level is unavailable.
+    private boolean isLoadShedding(Packet packet, int statusCode) {
+      return statusCode == 429 /* StatusTooManyRequests */
+          || (statusCode == 503 && (getHeader(packet, PRIORITY_LEVEL_HEADER) != null
+                                    || getHeader(packet, FLOW_SCHEMA_HEADER) != null));
+    }
+
+    private String getHeader(Packet packet, String name) {
+      return Optional.ofNullable(packet.getSpi(CallResponse.class))
+            .map(response -> response.getHeader(name))
+            .orElse(null);
+    }
+
     // Conflict is an optimistic locking failure.  Therefore, we can't
     // simply retry the request.  Instead, application code needs to rebuild
     // the request based on latest contents.  If provided, a conflict step will do that.
@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.calls;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -75,5 +76,20 @@ public final class CallResponse<T> {
   public String getHeadersString() {
     return Optional.ofNullable(responseHeaders).map(Object::toString).orElse("");
   }
+
+  /**
+   * Returns the first value of the specified response header, ignoring the case of its name.
+   * @param name the name of the header
+   * @return the header value, or null if the response did not include the header
+   */
+  public String getHeader(String name) {
+    return Optional.ofNullable(responseHeaders).orElse(Collections.emptyMap()).entrySet().stream()
+          .filter(e -> name.equalsIgnoreCase(e.getKey()))
+          .map(Map.Entry::getValue)
+          .filter(values -> values != null && !values.isEmpty())
+          .map(values -> values.get(0))
+          .findFirst()
+          .orElse(null);
+  }
   
 }
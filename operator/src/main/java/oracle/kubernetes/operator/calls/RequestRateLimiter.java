@@ -0,0 +1,198 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
+
+/**
+ * Limits the rate at which asynchronous requests are sent to the Kubernetes API server. Requests are divided
+ * into classes, each of which has its own token bucket, so that a burst of reads cannot delay status writes.
+ * A bucket holds up to one second's worth of tokens; a request which finds its bucket empty reserves the next
+ * token and is delayed until that token is due, so that waiting requests never block a thread.
+ *
+ * <p>The rate of each class is set by a tuning parameter; a class whose rate is not set is not limited.
+ */
+public class RequestRateLimiter {
+
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit tests
+  private static RequestRateLimiter instance = new RequestRateLimiter(System::nanoTime,
+        RequestRateLimiter::getCallBuilderTuning);
+
+  private final LongSupplier nanoTime;
+  private final Supplier<CallBuilderTuning> tuningSupplier;
+  private final Map<RequestClass, TokenBucket> buckets = new EnumMap<>(RequestClass.class);
+
+  RequestRateLimiter(LongSupplier nanoTime, Supplier<CallBuilderTuning> tuningSupplier) {
+    this.nanoTime = nanoTime;
+    this.tuningSupplier = tuningSupplier;
+    for (RequestClass requestClass : RequestClass.values()) {
+      buckets.put(requestClass, new TokenBucket());
+    }
+  }
+
+  public static RequestRateLimiter getInstance() {
+    return instance;
+  }
+
+  private static CallBuilderTuning getCallBuilderTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getCallBuilderTuning)
+          .orElse(null);
+  }
+
+  /**
+   * Reserves permission to send a request of the specified class.
+   * @param requestClass the class of the request
+   * @return the time in nanoseconds that the request must wait before it is sent. If greater than zero,
+   *     the caller must invoke {@link #onDelayedRequestSent(RequestClass)} when it sends the request.
+   */
+  public long reserve(RequestClass requestClass) {
+    int rateLimit = Optional.ofNullable(tuningSupplier.get()).map(requestClass::getRateLimit).orElse(0);
+    return buckets.get(requestClass).reserve(nanoTime.getAsLong(), rateLimit);
+  }
+
+  /**
+   * Records that a request which had to wait for a token has now been sent.
+   * @param requestClass the class of the request
+   */
+  public void onDelayedRequestSent(RequestClass requestClass) {
+    buckets.get(requestClass).queueDepth.decrementAndGet();
+  }
+
+  /**
+   * Returns the number of requests of the specified class currently waiting to be sent.
+   * @param requestClass the class of the request
+   */
+  public int getQueueDepth(RequestClass requestClass) {
+    return buckets.get(requestClass).queueDepth.get();
+  }
+
+  /**
+   * Returns the total number of requests of the specified class which were sent or reserved.
+   * @param requestClass the class of the request
+   */
+  public long getRequestCount(RequestClass requestClass) {
+    return buckets.get(requestClass).requestCount.get();
+  }
+
+  /**
+   * Returns the total number of requests of the specified class which had to wait before being sent.
+   * @param requestClass the class of the request
+   */
+  public long getDelayedRequestCount(RequestClass requestClass) {
+    return buckets.get(requestClass).delayedRequestCount.get();
+  }
+
+  /**
+   * Returns the total time in milliseconds that requests of the specified class have waited before being sent.
+   * @param requestClass the class of the request
+   */
+  public long getTotalWaitMillis(RequestClass requestClass) {
+    return TimeUnit.NANOSECONDS.toMillis(buckets.get(requestClass).totalWaitNanos.get());
+  }
+
+  public enum RequestClass {
+    STATUS_WRITE {
+      @Override
+      int getRateLimit(CallBuilderTuning tuning) {
+        return tuning.statusWriteRateLimit;
+      }
+    },
+    EVENT {
+      @Override
+      int getRateLimit(CallBuilderTuning tuning) {
+        return tuning.eventRateLimit;
+      }
+    },
+    WRITE {
+      @Override
+      int getRateLimit(CallBuilderTuning tuning) {
+        return tuning.writeRateLimit;
+      }
+    },
+    READ {
+      @Override
+      int getRateLimit(CallBuilderTuning tuning) {
+        return tuning.readRateLimit;
+      }
+    };
+
+    abstract int getRateLimit(CallBuilderTuning tuning);
+
+    /**
+     * Returns the class of a request, given the name of its call.
+     * @param call the call name, as recorded in the request parameters
+     */
+    public static RequestClass forCall(String call) {
+      if (call == null || isRead(call)) {
+        return READ;
+      } else if (call.endsWith("Status")) {
+        return STATUS_WRITE;
+      } else if (call.contains("Event")) {
+        return EVENT;
+      } else {
+        return WRITE;
+      }
+    }
+
+    private static boolean isRead(String call) {
+      return call.startsWith("read") || call.startsWith("list") || call.startsWith("get");
+    }
+  }
+
+  private static class TokenBucket {
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong delayedRequestCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private int rateLimit;
+    private double tokens;
+    private long lastRefillNanos;
+
+    synchronized long reserve(long now, int rateLimit) {
+      requestCount.incrementAndGet();
+      if (rateLimit <= 0) {
+        this.rateLimit = 0;
+        return 0;
+      }
+
+      refill(now, rateLimit);
+      tokens -= 1;
+      if (tokens >= 0) {
+        return 0;
+      }
+
+      long waitNanos = (long) Math.ceil(-tokens * TimeUnit.SECONDS.toNanos(1) / rateLimit);
+      queueDepth.incrementAndGet();
+      delayedRequestCount.incrementAndGet();
+      totalWaitNanos.addAndGet(waitNanos);
+      return waitNanos;
+    }
+
+    // Adds the tokens earned since the last refill, up to one second's worth. A newly enabled bucket starts full.
+    private void refill(long now, int rateLimit) {
+      if (this.rateLimit == 0) {
+        tokens = rateLimit;
+      } else {
+        tokens = Math.min(rateLimit, tokens + getElapsedSeconds(now) * rateLimit);
+      }
+      this.rateLimit = rateLimit;
+      lastRefillNanos = now;
+    }
+
+    private double getElapsedSeconds(long now) {
+      return (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+  }
+}
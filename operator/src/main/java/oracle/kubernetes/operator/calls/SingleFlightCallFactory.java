@@ -0,0 +1,197 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
+
+import static oracle.kubernetes.utils.OperatorUtils.isNullOrEmpty;
+
+/**
+ * A call factory for idempotent reads which allows concurrent identical requests to share a single call
+ * to the Kubernetes API server. Requests are identical if they have the same call name, namespace and resource
+ * name. The first request issues the call; any identical request made before that call completes is attached
+ * to it and receives its own copy of the response, so that callers may safely modify what they receive.
+ *
+ * @param <T> the type of the resource being read
+ */
+public class SingleFlightCallFactory<T> implements CallFactory<T> {
+
+  private static final Map<String, Flight<?>> flights = new ConcurrentHashMap<>();
+  private static final AtomicLong hitCount = new AtomicLong();
+  private static final AtomicLong missCount = new AtomicLong();
+
+  private final CallFactory<T> delegate;
+
+  public SingleFlightCallFactory(CallFactory<T> delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Returns the number of requests which were satisfied by a call already in progress.
+   */
+  public static long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Returns the number of requests which required a new call to the API server.
+   */
+  public static long getMissCount() {
+    return missCount.get();
+  }
+
+  @Override
+  public CancellableCall generate(RequestParams requestParams, ApiClient client, String cont, ApiCallback<T> callback)
+        throws ApiException {
+    if (!isNullOrEmpty(cont)) {
+      return delegate.generate(requestParams, client, cont, callback);
+    }
+
+    final String key = getKey(requestParams);
+    final Subscriber<T> subscriber = new Subscriber<>(client, callback);
+    final Flight<T> newFlight = new Flight<>(key);
+    final Flight<T> flight = joinOrStart(key, subscriber, newFlight);
+    if (flight != newFlight) {
+      hitCount.incrementAndGet();
+      return () -> flight.unsubscribe(subscriber);
+    }
+
+    missCount.incrementAndGet();
+    try {
+      newFlight.setCall(delegate.generate(requestParams, client, cont, newFlight));
+    } catch (ApiException e) {
+      newFlight.abort(subscriber, e);
+      throw e;
+    }
+    return () -> newFlight.unsubscribe(subscriber);
+  }
+
+  private String getKey(RequestParams requestParams) {
+    return requestParams.call + '/' + requestParams.namespace + '/' + requestParams.name;
+  }
+
+  // Attaches the subscriber to a call in progress for the key, if any; otherwise, registers the new flight.
+  @SuppressWarnings("unchecked")
+  private Flight<T> joinOrStart(String key, Subscriber<T> subscriber, Flight<T> newFlight) {
+    return (Flight<T>) flights.compute(key, (k, existing) -> {
+      if (existing != null && ((Flight<T>) existing).subscribe(subscriber)) {
+        return existing;
+      }
+
+      newFlight.subscribe(subscriber);
+      return newFlight;
+    });
+  }
+
+  private static class Subscriber<T> {
+    private final JSON json;
+    private final ApiCallback<T> callback;
+
+    Subscriber(ApiClient client, ApiCallback<T> callback) {
+      this.json = client.getJSON();
+      this.callback = callback;
+    }
+
+    @SuppressWarnings("unchecked")
+    T copy(T result) {
+      return result == null ? null : json.deserialize(json.serialize(result), result.getClass());
+    }
+  }
+
+  // A call in progress, along with the requests waiting for its response.
+  private static class Flight<T> implements ApiCallback<T> {
+    private final String key;
+    private final List<Subscriber<T>> subscribers = new ArrayList<>();
+    private CancellableCall call;
+    private boolean complete;
+
+    Flight(String key) {
+      this.key = key;
+    }
+
+    synchronized boolean subscribe(Subscriber<T> subscriber) {
+      if (complete) {
+        return false;
+      }
+      subscribers.add(subscriber);
+      return true;
+    }
+
+    // Detaches a canceled request. The underlying call is canceled only when no request still needs its response.
+    void unsubscribe(Subscriber<T> subscriber) {
+      CancellableCall toCancel;
+      synchronized (this) {
+        if (complete || !subscribers.remove(subscriber) || !subscribers.isEmpty()) {
+          return;
+        }
+        complete = true;
+        toCancel = call;
+      }
+
+      flights.remove(key, this);
+      if (toCancel != null) {
+        toCancel.cancel();
+      }
+    }
+
+    synchronized void setCall(CancellableCall call) {
+      this.call = call;
+    }
+
+    // The call could not be started; the request which tried to start it will see the exception,
+    // and any requests which joined in the meantime receive it as a failure.
+    void abort(Subscriber<T> starter, ApiException e) {
+      for (Subscriber<T> subscriber : complete()) {
+        if (subscriber != starter) {
+          subscriber.callback.onFailure(e, e.getCode(), e.getResponseHeaders());
+        }
+      }
+    }
+
+    private List<Subscriber<T>> complete() {
+      final List<Subscriber<T>> result;
+      synchronized (this) {
+        complete = true;
+        result = new ArrayList<>(subscribers);
+      }
+      flights.remove(key, this);
+      return result;
+    }
+
+    @Override
+    public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+      for (Subscriber<T> subscriber : complete()) {
+        subscriber.callback.onFailure(e, statusCode, responseHeaders);
+      }
+    }
+
+    @Override
+    public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+      List<Subscriber<T>> completed = complete();
+      for (int i = 0; i < completed.size(); i++) {
+        Subscriber<T> subscriber = completed.get(i);
+        subscriber.callback.onSuccess(i == 0 ? result : subscriber.copy(result), statusCode, responseHeaders);
+      }
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+      // no-op
+    }
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+      // no-op
+    }
+  }
+}
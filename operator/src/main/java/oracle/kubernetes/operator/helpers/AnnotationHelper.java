@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -14,13 +15,18 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.util.Yaml;
 import org.apache.commons.codec.digest.DigestUtils;
 
+import static oracle.kubernetes.utils.OperatorUtils.isNullOrEmpty;
+
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
 public class AnnotationHelper {
   static final String SHA256_ANNOTATION = "weblogic.sha256";
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
-  private static Function<Object, String> HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> HASH_FUNCTION = CanonicalHash::sha256Hex;
+  // The hash function used by earlier operator versions, needed to recognize the hashes of resources they created.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Function<Object, String> LEGACY_HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -69,6 +75,33 @@ public class AnnotationHelper {
     return HASH_FUNCTION.apply(objectToHash);
   }
 
+  /**
+   * Computes the hash of an object using the same hash function that produced an existing hash.
+   * @param existingHash a hash read from a resource
+   * @param objectToHash the object to hash
+   */
+  static String createHashLike(String existingHash, Object objectToHash) {
+    return isLegacyHash(existingHash) ? LEGACY_HASH_FUNCTION.apply(objectToHash) : createHash(objectToHash);
+  }
+
+  /**
+   * Returns true if the current resource was created from the same recipe as the model. A resource created by
+   * an earlier operator version carries a legacy hash; in that case, the recipe is hashed again with the legacy
+   * function, so that an upgrade does not replace resources whose recipes have not changed.
+   * @param model the desired resource, annotated with its hash
+   * @param current the existing resource
+   * @param recipe a supplier of the object which was hashed to annotate the model
+   */
+  static boolean hasMatchingHash(KubernetesObject model, KubernetesObject current, Supplier<Object> recipe) {
+    String currentHash = getHash(current);
+    return getHash(model).equals(currentHash)
+        || (isLegacyHash(currentHash) && currentHash.equals(LEGACY_HASH_FUNCTION.apply(recipe.get())));
+  }
+
+  private static boolean isLegacyHash(String hash) {
+    return !isNullOrEmpty(hash) && !CanonicalHash.isCanonical(hash);
+  }
+
   static String getHash(KubernetesObject kubernetesObject) {
     return getAnnotation(kubernetesObject.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.List;
+import java.util.Optional;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -86,11 +87,34 @@ public class AuthorizationProxy {
     return result;
   }
 
+  /**
+   * Check if the operator's own service account is allowed to perform the specified operation on the specified
+   * resource in the specified scope.
+   *
+   * @param operation The operation to be authorized.
+   * @param resource The kind of resource on which the operation is to be authorized.
+   * @param resourceName The name of the resource instance on which the operation is to be
+   *     authorized.
+   * @param scope The scope of the operation (cluster or namespace).
+   * @param namespaceName name of the namespace if scope is namespace else null.
+   * @return true if the operation is allowed, or false if not.
+   */
+  public boolean check(
+      Operation operation,
+      Resource resource,
+      String resourceName,
+      Scope scope,
+      String namespaceName) {
+    return createSelfSubjectAccessReview(
+        prepareSelfSubjectAccessReview(operation, resource, resourceName, scope, namespaceName));
+  }
+
   private Boolean createSelfSubjectAccessReview(V1SelfSubjectAccessReview subjectAccessReview) {
     try {
       subjectAccessReview = new CallBuilder().createSelfSubjectAccessReview(subjectAccessReview);
-      V1SubjectAccessReviewStatus subjectAccessReviewStatus = subjectAccessReview.getStatus();
-      return subjectAccessReviewStatus.getAllowed();
+      return Optional.ofNullable(subjectAccessReview.getStatus())
+          .map(V1SubjectAccessReviewStatus::getAllowed)
+          .orElse(false);
     } catch (ApiException e) {
       LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW, e);
       return false;
@@ -228,6 +252,7 @@ public class AuthorizationProxy {
     SERVICES("services", ""),
     NAMESPACES("namespaces", ""),
     JOBS("jobs", "batch"),
+    PDBS("poddisruptionbudgets", "policy"),
     CRDS("customresourcedefinitions", "apiextensions.k8s.io"),
     DOMAINS("domains", "weblogic.oracle"),
     DOMAINSTATUSES("domains", "status", "weblogic.oracle"),
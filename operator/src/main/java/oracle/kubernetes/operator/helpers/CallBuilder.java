@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -54,6 +55,8 @@ import io.kubernetes.client.openapi.models.VersionInfo;
 import io.kubernetes.client.util.ClientBuilder;
 import io.kubernetes.client.util.credentials.AccessTokenAuthentication;
 import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
 import oracle.kubernetes.operator.builders.CallParamsImpl;
@@ -63,6 +66,7 @@ import oracle.kubernetes.operator.calls.CallWrapper;
 import oracle.kubernetes.operator.calls.CancellableCall;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.calls.RetryStrategy;
+import oracle.kubernetes.operator.calls.SingleFlightCallFactory;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -136,6 +140,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (Domain) requestParams.body,
                   callback));
+  private final CallFactory<Domain> patchDomainStatus =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchDomainStatusAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<V1CustomResourceDefinition> createCrd =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -221,6 +234,15 @@ public class CallBuilder {
           wrap(
               createServiceAsync(
                   usage, requestParams.namespace, (V1Service) requestParams.body, callback));
+  private final CallFactory<V1Service> patchService =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchServiceAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<V1SubjectAccessReview> createSubjectaccessreview =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -232,8 +254,8 @@ public class CallBuilder {
               createSelfSubjectRulesReviewAsync(
                   usage, (V1SelfSubjectRulesReview) requestParams.body, callback));
   private final CallFactory<CoreV1Event> readEvent =
-      (requestParams, usage, cont, callback) ->
-          wrap(readEventAsync(usage, requestParams.name, requestParams.namespace, callback));
+      new SingleFlightCallFactory<>((requestParams, usage, cont, callback) ->
+          wrap(readEventAsync(usage, requestParams.name, requestParams.namespace, callback)));
   private final CallFactory<CoreV1Event> createEvent =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -248,29 +270,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (CoreV1Event) requestParams.body,
                   callback));
-  private final CallFactory<String> readPodLog =
+  private final CallFactory<Reader> readPodLog =
       (requestParams, usage, cont, callback) ->
-          wrap(
-              readPodLogAsync(
-                  usage,
-                  requestParams.name,
-                  requestParams.namespace,
-                  container,
-                  null,
-                  null,
-                  null,
-                  pretty,
-                  null,
-                  null,
-                  null,
-                  null,
-                  callback));
+          wrap(readPodLogAsync(usage, requestParams.name, requestParams.namespace, container, pretty, callback));
   private final CallFactory<V1beta1PodDisruptionBudgetList> listPodDisruptionBudget =
       (requestParams, usage, cont, callback) ->
           wrap(listPodDisruptionBudgetAsync(usage, requestParams.namespace, cont, callback));
   private final CallFactory<V1beta1PodDisruptionBudget> readPodDisruptionBudget =
-      (requestParams, usage, cont, callback) ->
-          wrap(readPodDisruptionBudgetAsync(usage, requestParams.name, requestParams.namespace, callback));
+      new SingleFlightCallFactory<>((requestParams, usage, cont, callback) ->
+          wrap(readPodDisruptionBudgetAsync(usage, requestParams.name, requestParams.namespace, callback)));
   private final CallFactory<V1beta1PodDisruptionBudget> createPodDisruptionBudget =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -338,29 +346,29 @@ public class CallBuilder {
   private final Boolean exact = Boolean.FALSE;
   private final Boolean export = Boolean.FALSE;
   private final CallFactory<Domain> readDomain =
-      (requestParams, usage, cont, callback) ->
-          wrap(readDomainAsync(usage, requestParams.name, requestParams.namespace, callback));
+      new SingleFlightCallFactory<>((requestParams, usage, cont, callback) ->
+          wrap(readDomainAsync(usage, requestParams.name, requestParams.namespace, callback)));
   private final CallFactory<V1CustomResourceDefinition> readCrd =
-      (requestParams, usage, cont, callback) ->
-          wrap(readCustomResourceDefinitionAsync(usage, requestParams.name, callback));
+      new SingleFlightCallFactory<>((requestParams, usage, cont, callback) ->
+          wrap(readCustomResourceDefinitionAsync(usage, requestParams.name, callback)));
   private final CallFactory<V1beta1CustomResourceDefinition> readBetaCrd =
-      (requestParams, usage, cont, callback) ->
-          wrap(readBetaCustomResourceDefinitionAsync(usage, requestParams.name, callback));
+      new SingleFlightCallFactory<>((requestParams, usage, cont, callback) ->
+          wrap(readBetaCustomResourceDefinitionAsync(usage, requestParams.name, callback)));
   private final CallFactory<V1ConfigMap> readConfigmap =
-      (requestParams, usage, cont, callback) ->
-          wrap(readConfigMapAsync(usage, requestParams.name, requestParams.namespace, callback));
+      new SingleFlightCallFactory<>((requestParams, usage, cont, callback) ->
+          wrap(readConfigMapAsync(usage, requestParams.name, requestParams.namespace, callback)));
   private final CallFactory<V1Pod> readPod =
-      (requestParams, usage, cont, callback) ->
-          wrap(readPodAsync(usage, requestParams.name, requestParams.namespace, callback));
+      new SingleFlightCallFactory<>((requestParams, usage, cont, callback) ->
+          wrap(readPodAsync(usage, requestParams.name, requestParams.namespace, callback)));
   private final CallFactory<V1Job> readJob =
-      (requestParams, usage, cont, callback) ->
-          wrap(readJobAsync(usage, requestParams.name, requestParams.namespace, callback));
+      new SingleFlightCallFactory<>((requestParams, usage, cont, callback) ->
+          wrap(readJobAsync(usage, requestParams.name, requestParams.namespace, callback)));
   private final CallFactory<V1Service> readService =
-      (requestParams, usage, cont, callback) ->
-          wrap(readServiceAsync(usage, requestParams.name, requestParams.namespace, callback));
+      new SingleFlightCallFactory<>((requestParams, usage, cont, callback) ->
+          wrap(readServiceAsync(usage, requestParams.name, requestParams.namespace, callback)));
   private final CallFactory<V1Secret> readSecret =
-      (requestParams, usage, cont, callback) ->
-          wrap(readSecretAsync(usage, requestParams.name, requestParams.namespace, callback));
+      new SingleFlightCallFactory<>((requestParams, usage, cont, callback) ->
+          wrap(readSecretAsync(usage, requestParams.name, requestParams.namespace, callback)));
   private Integer gracePeriodSeconds = null;
   private final Boolean orphanDependents = null;
   private final String propagationPolicy = null;
@@ -416,6 +424,9 @@ public class CallBuilder {
                   resourceVersion,
                   timeoutSeconds,
                   watch);
+  private final SynchronousCallFactory<Domain> readDomainCall =
+      (client, requestParams) ->
+          new WeblogicApi(client).getNamespacedDomain(requestParams.name, requestParams.namespace);
   private final SynchronousCallFactory<Domain> replaceDomainCall =
       (client, requestParams) ->
           new WeblogicApi(client)
@@ -436,6 +447,52 @@ public class CallBuilder {
               .patchNamespacedDomain(
                   requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
 
+  private final SynchronousCallFactory<V1PodList> listPodCall =
+      (client, requestParams) ->
+          new CoreV1Api(client)
+              .listNamespacedPod(
+                  requestParams.namespace,
+                  pretty,
+                  allowWatchBookmarks,
+                  null,
+                  fieldSelector,
+                  labelSelector,
+                  null,
+                  resourceVersion,
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  timeoutSeconds,
+                  watch);
+  private final SynchronousCallFactory<V1ServiceList> listServiceCall =
+      (client, requestParams) ->
+          new CoreV1Api(client)
+              .listNamespacedService(
+                  requestParams.namespace,
+                  pretty,
+                  allowWatchBookmarks,
+                  null,
+                  fieldSelector,
+                  labelSelector,
+                  null,
+                  resourceVersion,
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  timeoutSeconds,
+                  watch);
+  private final SynchronousCallFactory<V1beta1PodDisruptionBudgetList> listPodDisruptionBudgetCall =
+      (client, requestParams) ->
+          new PolicyV1beta1Api(client)
+              .listNamespacedPodDisruptionBudget(
+                  requestParams.namespace,
+                  pretty,
+                  allowWatchBookmarks,
+                  null,
+                  fieldSelector,
+                  labelSelector,
+                  null,
+                  resourceVersion,
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  timeoutSeconds,
+                  watch);
+
   private final SynchronousCallFactory<V1SubjectAccessReview> createSubjectaccessreviewCall =
       ((client, requestParams) ->
           new AuthorizationV1Api(client)
@@ -654,6 +711,19 @@ public class CallBuilder {
         responseStep, new RequestParams("listDomain", namespace, null, null, callParams), listDomain);
   }
 
+  /**
+   * Read domain.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @return Domain
+   * @throws ApiException API exception
+   */
+  public Domain readDomain(String name, String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("readDomain", namespace, name, null, callParams);
+    return executeSynchronousCall(requestParams, readDomainCall);
+  }
+
   private Call readDomainAsync(
       ApiClient client, String name, String namespace, ApiCallback<Domain> callback)
       throws ApiException {
@@ -787,6 +857,30 @@ public class CallBuilder {
         replaceDomainStatus);
   }
 
+  private Call patchDomainStatusAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<Domain> callback)
+      throws ApiException {
+    return new WeblogicApi(client)
+        .patchNamespacedDomainStatusAsync(name, namespace, patch, callback);
+  }
+
+  /**
+   * Asynchronous step for patching domain status.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchDomainStatusAsync(
+      String name, String namespace, V1Patch patchBody, ResponseStep<Domain> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchDomainStatus", namespace, name, patchBody, name),
+        patchDomainStatus);
+  }
+
   /* CRD's */
 
   private Call readCustomResourceDefinitionAsync(
@@ -1181,6 +1275,18 @@ public class CallBuilder {
         responseStep, new RequestParams("listPod", namespace, null, null, callParams), listPod);
   }
 
+  /**
+   * List all pods in a namespace, without paging.
+   *
+   * @param namespace Namespace
+   * @return Pod list
+   * @throws ApiException API exception
+   */
+  public @Nonnull V1PodList listPod(String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("listPod", namespace, null, null, callParams);
+    return executeSynchronousCall(requestParams, listPodCall);
+  }
+
   private Call readPodAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1Pod> callback)
       throws ApiException {
@@ -1555,6 +1661,18 @@ public class CallBuilder {
         responseStep, new RequestParams("listService", namespace, null, null, callParams), listService);
   }
 
+  /**
+   * List all services in a namespace, without paging.
+   *
+   * @param namespace Namespace
+   * @return Service list
+   * @throws ApiException API exception
+   */
+  public @Nonnull V1ServiceList listService(String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("listService", namespace, null, null, callParams);
+    return executeSynchronousCall(requestParams, listServiceCall);
+  }
+
   private Call readServiceAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1Service> callback)
       throws ApiException {
@@ -1601,6 +1719,31 @@ public class CallBuilder {
         createService);
   }
 
+  private Call patchServiceAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<V1Service> callback)
+      throws ApiException {
+    return new CoreV1Api(client)
+        .patchNamespacedServiceAsync(name, namespace, patch, pretty, null, null, null, callback);
+  }
+
+  /**
+   * Asynchronous step for patching a service.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param domainUid Identifier of the domain that the service is associated with
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchServiceAsync(
+      String name, String namespace, String domainUid, V1Patch patchBody, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchService", namespace, name, patchBody, domainUid),
+        patchService);
+  }
+
   private Call deleteServiceAsync(
       ApiClient client,
       String name,
@@ -1675,6 +1818,18 @@ public class CallBuilder {
         listPodDisruptionBudget);
   }
 
+  /**
+   * List all pod disruption budgets in a namespace, without paging.
+   *
+   * @param namespace Namespace
+   * @return Pod disruption budget list
+   * @throws ApiException API exception
+   */
+  public @Nonnull V1beta1PodDisruptionBudgetList listPodDisruptionBudget(String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("listPodDisruptionBudget", namespace, null, null, callParams);
+    return executeSynchronousCall(requestParams, listPodDisruptionBudgetCall);
+  }
+
   private Call readPodDisruptionBudgetAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1beta1PodDisruptionBudget> callback)
       throws ApiException {
@@ -2056,40 +2211,69 @@ public class CallBuilder {
     return executeSynchronousCall(requestParams, createTokenReviewCall);
   }
 
-  public Step readPodLogAsync(String name, String namespace, String domainUid, ResponseStep<String> responseStep) {
+  /**
+   * Asynchronous step for reading a pod log. The log is not read into memory by the call; instead, the response
+   * step receives a reader over the body of the response, which it must close.
+   *
+   * @param name Name of the pod
+   * @param namespace Namespace
+   * @param domainUid Identifier of the domain that the pod is associated with
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step readPodLogAsync(String name, String namespace, String domainUid, ResponseStep<Reader> responseStep) {
     return createRequestAsync(
         responseStep, new RequestParams("readPodLog", namespace, name, null, domainUid), readPodLog);
   }
 
   private Call readPodLogAsync(
-      ApiClient client,
-      String name,
-      String namespace,
-      String container,
-      Boolean follow,
-      Boolean insecureSkipTLSVerifyBackend,
-      Integer limitBytes,
-      String pretty,
-      Boolean previous,
-      Integer sinceSeconds,
-      Integer tailLines,
-      Boolean timestamps,
-      ApiCallback<String> callback)
+      ApiClient client, String name, String namespace, String container, String pretty, ApiCallback<Reader> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .readNamespacedPodLogAsync(
-            name,
-            namespace,
-            container,
-            follow,
-            insecureSkipTLSVerifyBackend,
-            limitBytes,
-            pretty,
-            previous,
-            sinceSeconds,
-            tailLines,
-            timestamps,
-            callback);
+    Call localVarCall = new CoreV1Api(client).readNamespacedPodLogCall(
+        name, namespace, container, null, null, null, pretty, null, null, null, null, callback);
+    localVarCall.enqueue(new StreamingCallback(callback));
+    return localVarCall;
+  }
+
+  // Passes a successful response to the API callback as a reader over its body, rather than reading it into a string.
+  private static class StreamingCallback implements Callback {
+    private final ApiCallback<Reader> callback;
+
+    StreamingCallback(ApiCallback<Reader> callback) {
+      this.callback = callback;
+    }
+
+    @Override
+    public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+      callback.onFailure(new ApiException(e), 0, null);
+    }
+
+    @Override
+    public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+      if (call.isCanceled()) {
+        response.close();
+        return;
+      }
+
+      Map<String, List<String>> headers = response.headers().toMultimap();
+      if (response.isSuccessful() && response.body() != null) {
+        callback.onSuccess(response.body().charStream(), response.code(), headers);
+      } else {
+        try (response) {
+          callback.onFailure(
+                new ApiException(response.message(), response.code(), headers, getErrorBody(response)),
+                response.code(), headers);
+        }
+      }
+    }
+
+    private String getErrorBody(Response response) {
+      try {
+        return response.body() == null ? null : response.body().string();
+      } catch (IOException e) {
+        return null;
+      }
+    }
   }
 
   private <T> Step createRequestAsync(
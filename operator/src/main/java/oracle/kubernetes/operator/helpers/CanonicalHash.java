@@ -0,0 +1,102 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.JSON;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Computes a SHA-256 hash of a Kubernetes model object by streaming its canonical JSON form directly into
+ * a message digest, without building an intermediate string. Map entries are written in key order, so that
+ * equal objects hash equally however their maps were populated. The result carries a version prefix,
+ * which distinguishes it from hashes computed by earlier versions of the operator.
+ */
+class CanonicalHash {
+
+  static final String VERSION_PREFIX = "v2-";
+
+  private static final Gson GSON = new JSON().getGson().newBuilder()
+        .registerTypeAdapterFactory(new SortedMapTypeAdapterFactory())
+        .create();
+
+  private CanonicalHash() {
+  }
+
+  /**
+   * Returns true if the specified hash was computed by this class.
+   * @param hash a hash value read from a resource
+   */
+  static boolean isCanonical(String hash) {
+    return hash != null && hash.startsWith(VERSION_PREFIX);
+  }
+
+  /**
+   * Computes the versioned hash of the specified object.
+   * @param object a Kubernetes model object, or a map
+   */
+  static String sha256Hex(Object object) {
+    MessageDigest digest = DigestUtils.getSha256Digest();
+    try (JsonWriter writer = new JsonWriter(createDigestWriter(digest))) {
+      GSON.toJson(object, object.getClass(), writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return VERSION_PREFIX + Hex.encodeHexString(digest.digest());
+  }
+
+  /**
+   * Returns the canonical JSON form of the specified object, with map entries in key order.
+   * @param object a Kubernetes model object, or a map
+   */
+  static JsonElement toJsonTree(Object object) {
+    return GSON.toJsonTree(object, object.getClass());
+  }
+
+  private static OutputStreamWriter createDigestWriter(MessageDigest digest) {
+    return new OutputStreamWriter(new DigestOutputStream(OutputStream.nullOutputStream(), digest),
+          StandardCharsets.UTF_8);
+  }
+
+  private static class SortedMapTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+      if (!Map.class.isAssignableFrom(type.getRawType())) {
+        return null;
+      }
+
+      final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+      return new TypeAdapter<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public void write(JsonWriter out, T value) throws IOException {
+          delegate.write(out, value == null ? null : (T) new TreeMap<>((Map<?, ?>) value));
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+          return delegate.read(in);
+        }
+      };
+    }
+  }
+}
@@ -3,19 +3,19 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.StringReader;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
@@ -33,6 +33,7 @@ import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.IntrospectorConfigMapConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -52,10 +53,12 @@ import org.yaml.snakeyaml.Yaml;
 import static java.lang.System.lineSeparator;
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static oracle.kubernetes.operator.DomainStatusUpdater.BAD_TOPOLOGY;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_INPUTS_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_RESTART_VERSION;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.NUM_CONFIG_MAPS;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.PRIMORDIAL_DOMAINZIP;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SECRETS_MD_5;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SIT_CONFIG_FILE_PREFIX;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
@@ -70,7 +73,7 @@ public class ConfigMapHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private static final String SCRIPT_LOCATION = "/scripts";
-  private static final String UPDATEDOMAINRESULT = "UPDATEDOMAINRESULT";
+  static final String UPDATEDOMAINRESULT = "UPDATEDOMAINRESULT";
   private static final ConfigMapComparator COMPARATOR = new ConfigMapComparator();
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
@@ -88,56 +91,6 @@ public class ConfigMapHelper {
     return new ScriptConfigMapStep(domainNamespace, productVersion);
   }
 
-  static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
-    Map<String, String> map = new HashMap<>();
-    String updateResultToken = ">>>  updatedomainResult=";
-
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.contains(updateResultToken)) {
-          int index = line.indexOf(updateResultToken);
-          int beg = index + 1 + updateResultToken.length();
-          map.put(UPDATEDOMAINRESULT, line.substring(beg - 1));
-        }
-        if (line.startsWith(">>>") && !line.endsWith("EOF")) {
-          String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUid);
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException exc) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
-    }
-
-    return map;
-  }
-
-  static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUid) {
-    StringBuilder stringBuilder = new StringBuilder();
-    try {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString().trim());
-          return;
-        } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException ioe) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUid, ioe);
-    }
-  }
-
-  static String extractFilename(String line) {
-    int lastSlash = line.lastIndexOf('/');
-    return line.substring(lastSlash + 1);
-  }
 
   /**
    * getModelInImageSpecHash returns the hash for the fields that should be compared for changes.
@@ -214,6 +167,7 @@ public class ConfigMapHelper {
     private final String namespace;
     private V1ConfigMap model;
     private final Map<String, String> labels = new HashMap<>();
+    private Set<String> transientKeys = Collections.emptySet();
     protected final SemanticVersion productVersion;
 
     ConfigMapContext(Step conflictStep, String name, String namespace, Map<String, String> contents,
@@ -259,7 +213,18 @@ public class ConfigMapHelper {
 
     protected final V1ConfigMap createModel(Map<String, String> data) {
       return AnnotationHelper.withSha256Hash(
-          new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()).data(data), data);
+          withContents(new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()), data), data);
+    }
+
+    /**
+     * Adds the specified contents to a config map model. Subclasses may override this to store some entries
+     * as binary data.
+     * @param configMap the config map model
+     * @param data the contents of the map
+     * @return the updated model
+     */
+    V1ConfigMap withContents(V1ConfigMap configMap, Map<String, String> data) {
+      return configMap.data(data);
     }
 
     private V1ObjectMeta createMetadata() {
@@ -300,21 +265,43 @@ public class ConfigMapHelper {
     }
 
     V1ConfigMap withoutTransientData(V1ConfigMap originalMap) {
-      if (originalMap != null && originalMap.getData() != null) {
-        originalMap.setData(withoutTransientEntries(originalMap.getData()));
+      if (originalMap == null || originalMap.getData() == null) {
+        return originalMap;
       }
-      return originalMap;
+
+      return new V1ConfigMap().apiVersion(originalMap.getApiVersion()).kind(originalMap.getKind())
+            .metadata(originalMap.getMetadata())
+            .data(withoutTransientEntries(originalMap.getData()))
+            .binaryData(originalMap.getBinaryData());
     }
 
     private Map<String, String> withoutTransientEntries(Map<String, String> data) {
-      data.entrySet().removeIf(this::shouldRemove);
-      return data;
+      transientKeys = data.entrySet().stream().filter(this::shouldRemove).map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+      Map<String, String> result = new HashMap<>(data);
+      result.keySet().removeAll(transientKeys);
+      return result;
     }
 
     boolean shouldRemove(Map.Entry<String, String> entry) {
       return false;
     }
 
+    /**
+     * Returns true if the labels which record the state of introspection should be added to this config map.
+     */
+    boolean recordsIntrospectionState() {
+      return true;
+    }
+
+    /**
+     * Returns true if an outdated config map should be updated by patching only its changed entries,
+     * rather than by replacing it.
+     */
+    boolean patchesChangedEntries() {
+      return false;
+    }
+
     class ReadResponseStep extends DefaultResponseStep<V1ConfigMap> {
       ReadResponseStep(Step next) {
         super(next);
@@ -322,19 +309,19 @@ public class ConfigMapHelper {
 
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
-        Domain domain = DomainPresenceInfo.fromPacket(packet).map(DomainPresenceInfo::getDomain).orElse(null);
-        Optional.ofNullable(domain).map(Domain::getIntrospectVersion)
-              .ifPresent(value -> addLabel(INTROSPECTION_STATE_LABEL, value));
-        Optional.ofNullable(domain).map(Domain::getMetadata).map(V1ObjectMeta::getGeneration)
-                .ifPresent(value -> addLabel(INTROSPECTION_DOMAIN_SPEC_GENERATION, value.toString()));
+        if (recordsIntrospectionState()) {
+          addIntrospectionStateLabels(packet);
+        }
         V1ConfigMap existingMap = withoutTransientData(callResponse.getResult());
         if (existingMap == null) {
           return doNext(createConfigMap(getNext()), packet);
+        } else if (isOutdated(existingMap) && patchesChangedEntries()) {
+          return doNext(patchChangedEntries(existingMap, getNext()), packet);
         } else if (isOutdated(existingMap)) {
           return doNext(replaceConfigMap(getNext()), packet);
         } else if (mustPatchCurrentMap(existingMap)) {
           return doNext(patchCurrentMap(existingMap, getNext()), packet);
-        } else if (mustPatchImageHashInMap(existingMap, packet)) {
+        } else if (recordsIntrospectionState() && mustPatchImageHashInMap(existingMap, packet)) {
           return doNext(patchImageHashInCurrentMap(existingMap, packet, getNext()), packet);
         } else {
           logConfigMapExists();
@@ -343,6 +330,14 @@ public class ConfigMapHelper {
         }
       }
 
+      private void addIntrospectionStateLabels(Packet packet) {
+        Domain domain = DomainPresenceInfo.fromPacket(packet).map(DomainPresenceInfo::getDomain).orElse(null);
+        Optional.ofNullable(domain).map(Domain::getIntrospectVersion)
+              .ifPresent(value -> addLabel(INTROSPECTION_STATE_LABEL, value));
+        Optional.ofNullable(domain).map(Domain::getMetadata).map(V1ObjectMeta::getGeneration)
+                .ifPresent(value -> addLabel(INTROSPECTION_DOMAIN_SPEC_GENERATION, value.toString()));
+      }
+
       private Step createConfigMap(Step next) {
         return new CallBuilder()
             .createConfigMapAsync(namespace, getModel(), createCreateResponseStep(next));
@@ -401,6 +396,75 @@ public class ConfigMapHelper {
       private boolean labelsNotDefined(V1ConfigMap currentMap) {
         return Objects.requireNonNull(currentMap.getMetadata()).getLabels() == null;
       }
+
+      // Patches only the entries whose values differ from those in the model, along with the labels and hash.
+      private Step patchChangedEntries(V1ConfigMap currentMap, Step next) {
+        JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+        V1ObjectMeta currentMetadata = Objects.requireNonNull(currentMap.getMetadata());
+
+        addEntryPatches(patchBuilder, "/data", currentMap.getData(), getModel().getData(), transientKeys);
+        addEntryPatches(patchBuilder, "/binaryData",
+              toEncodedValues(currentMap.getBinaryData()), toEncodedValues(getModel().getBinaryData()),
+              Collections.emptySet());
+        addEntryPatches(patchBuilder, "/metadata/labels", currentMetadata.getLabels(), getLabels(), null);
+        addEntryPatches(patchBuilder, "/metadata/annotations",
+              currentMetadata.getAnnotations(), Objects.requireNonNull(getModel().getMetadata()).getAnnotations(),
+              null);
+
+        return new CallBuilder()
+            .patchConfigMapAsync(name, namespace, getDomainUidLabel(currentMetadata),
+                new V1Patch(patchBuilder.build().toString()), createPatchResponseStep(next));
+      }
+
+      /**
+       * Adds patches to make the specified map section match the required entries.
+       * @param patchBuilder the builder for the patch
+       * @param path the path to the map section
+       * @param current the current entries, or null if the section is absent
+       * @param required the required entries
+       * @param removableKeys keys which may be present although not listed in the current entries,
+       *                      or null if entries not required are to be kept
+       */
+      private void addEntryPatches(JsonPatchBuilder patchBuilder, String path,
+            Map<String, String> current, Map<String, String> required, Set<String> removableKeys) {
+        Map<String, String> currentEntries = Optional.ofNullable(current).orElseGet(Collections::emptyMap);
+        Map<String, String> requiredEntries = Optional.ofNullable(required).orElseGet(Collections::emptyMap);
+
+        if (current == null && !requiredEntries.isEmpty()) {
+          patchBuilder.add(path, JsonValue.EMPTY_JSON_OBJECT);
+        }
+        if (removableKeys != null) {
+          Set<String> removedKeys = new HashSet<>(currentEntries.keySet());
+          removedKeys.addAll(removableKeys);
+          removedKeys.removeAll(requiredEntries.keySet());
+          for (String key : removedKeys) {
+            patchBuilder.remove(path + "/" + encodePathToken(key));
+          }
+        }
+        KubernetesUtils.addPatches(patchBuilder, path + "/", currentEntries,
+              getChangedEntries(currentEntries, requiredEntries));
+      }
+
+      private Map<String, String> getChangedEntries(Map<String, String> current, Map<String, String> required) {
+        return required.entrySet().stream()
+              .filter(e -> !e.getValue().equals(current.get(e.getKey())))
+              .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+      }
+
+      private String encodePathToken(String key) {
+        return key.replace("~","~0").replace("/","~1");
+      }
+
+      private Map<String, String> toEncodedValues(Map<String, byte[]> binaryData) {
+        return Optional.ofNullable(binaryData)
+              .map(m -> m.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> encode(e.getValue()))))
+              .orElse(null);
+      }
+
+      private String encode(byte[] value) {
+        return Base64.getEncoder().encodeToString(value);
+      }
     }
 
     private ResponseStep<V1ConfigMap> createCreateResponseStep(Step next) {
@@ -470,7 +534,7 @@ public class ConfigMapHelper {
   /**
    * Factory for a step that creates or updates the generated domain config map from introspection results.
    * Reads the following packet fields:
-   *   DOMAIN_INTROSPECTOR_LOG_RESULT     the introspection result
+   *   DOMAIN_INTROSPECTOR_LOG_RESULT     the files parsed from the introspector log
    * and updates:
    *   DOMAIN_TOPOLOGY                    the parsed topology
    *   DOMAIN_HASH                        a hash of the topology
@@ -530,15 +594,19 @@ public class ConfigMapHelper {
       parseIntrospectorResult();
     }
 
+    @SuppressWarnings("unchecked")
     private void parseIntrospectorResult() {
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      data = ConfigMapHelper.parseIntrospectorResult(result, info.getDomainUid());
+      data = Optional.ofNullable(packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT))
+            .map(result -> (Map<String, String>) result)
+            .orElseGet(HashMap::new);
       Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
               .map(t -> data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, convertToJson(t)));
 
-      LOGGER.fine("================");
-      LOGGER.fine(data.toString());
-      LOGGER.fine("================");
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("================");
+        LOGGER.fine(data.toString());
+        LOGGER.fine("================");
+      }
 
       wlsDomainConfig = Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
             .map(this::getDomainTopology)
@@ -599,8 +667,11 @@ public class ConfigMapHelper {
 
       IntrospectionConfigMapStep(Map<String, String> data, Step next) {
         super(next);
-        this.splitter = new ConfigMapSplitter<>(IntrospectionLoader.this::createIntrospectorConfigMapContext);
-        this.data = data;
+        this.splitter = useBinaryArchives()
+              ? new ConfigMapSplitter<>(IntrospectionLoader.this::createIntrospectorConfigMapContext,
+                                        ConfigMapHelper::isArchiveKey)
+              : new ConfigMapSplitter<>(IntrospectionLoader.this::createIntrospectorConfigMapContext);
+        this.data = useBinaryArchives() ? withUnwrappedArchives(data) : data;
       }
 
       @Override
@@ -620,7 +691,19 @@ public class ConfigMapHelper {
 
     private IntrospectorConfigMapContext createIntrospectorConfigMapContext(
         Map<String, String> data, int index) {
-      return new IntrospectorConfigMapContext(conflictStep, info, data, index);
+      return new IntrospectorConfigMapContext(conflictStep, info, data, index, useBinaryArchives());
+    }
+
+    // The introspector writes archives as base64 with line breaks. Re-encode them without line breaks,
+    // so that the splitter can cut them into separately decodable parts.
+    private Map<String, String> withUnwrappedArchives(Map<String, String> data) {
+      Map<String, String> result = new HashMap<>(data);
+      result.replaceAll((key, value) -> isArchiveKey(key) ? unwrap(value) : value);
+      return result;
+    }
+
+    private String unwrap(String base64) {
+      return Base64.getEncoder().encodeToString(Base64.getMimeDecoder().decode(base64));
     }
 
     private String getModelInImageSpecHash() {
@@ -659,6 +742,19 @@ public class ConfigMapHelper {
     }
   }
 
+  /**
+   * Returns true if introspector archives are to be stored in config maps as binary data, rather than
+   * as base64-encoded text. Binary data is stored by Kubernetes in its decoded form, so that large domains
+   * need fewer config maps.
+   */
+  static boolean useBinaryArchives() {
+    return "true".equalsIgnoreCase(TuningParameters.getInstance().get("introspectorConfigMapBinaryArchives"));
+  }
+
+  static boolean isArchiveKey(String key) {
+    return DOMAINZIP.equals(key) || PRIMORDIAL_DOMAINZIP.equals(key);
+  }
+
   public static Step reportTopologyErrorsAndStop() {
     return new TopologyErrorsReportStep();
   }
@@ -686,10 +782,19 @@ public class ConfigMapHelper {
   public static class IntrospectorConfigMapContext extends ConfigMapContext implements SplitterTarget {
 
     private boolean patchOnly;
+    private final int index;
+    private final boolean binaryArchives;
 
     IntrospectorConfigMapContext(Step conflictStep, DomainPresenceInfo info,
                                  Map<String, String> data, int index) {
+      this(conflictStep, info, data, index, false);
+    }
+
+    IntrospectorConfigMapContext(Step conflictStep, DomainPresenceInfo info,
+                                 Map<String, String> data, int index, boolean binaryArchives) {
       super(conflictStep, getConfigMapName(info, index), info.getNamespace(), data, info);
+      this.index = index;
+      this.binaryArchives = binaryArchives;
 
       addLabel(LabelConstants.DOMAINUID_LABEL, info.getDomainUid());
     }
@@ -698,6 +803,26 @@ public class ConfigMapHelper {
       return IntrospectorConfigMapConstants.getIntrospectorConfigMapName(info.getDomainUid(), index);
     }
 
+    @Override
+    V1ConfigMap withContents(V1ConfigMap configMap, Map<String, String> data) {
+      if (!binaryArchives) {
+        return super.withContents(configMap, data);
+      }
+
+      Map<String, String> textData = new HashMap<>();
+      Map<String, byte[]> binaryData = new HashMap<>();
+      data.forEach((key, value) -> addContent(key, value, textData, binaryData));
+      return configMap.data(textData).binaryData(binaryData.isEmpty() ? null : binaryData);
+    }
+
+    private void addContent(String key, String value, Map<String, String> textData, Map<String, byte[]> binaryData) {
+      if (isArchiveKey(key)) {
+        binaryData.put(key, Base64.getDecoder().decode(value));
+      } else {
+        textData.put(key, value);
+      }
+    }
+
     @Override
     public void recordNumTargets(int numTargets) {
       setContentValue(NUM_CONFIG_MAPS, Integer.toString(numTargets));
@@ -713,6 +838,16 @@ public class ConfigMapHelper {
       return !patchOnly && super.isOutdated(existingMap);
     }
 
+    @Override
+    boolean recordsIntrospectionState() {
+      return index == 0;
+    }
+
+    @Override
+    boolean patchesChangedEntries() {
+      return true;
+    }
+
     @Override
     boolean shouldRemove(Map.Entry<String, String> entry) {
       return !patchOnly && isRemovableKey(entry.getKey());
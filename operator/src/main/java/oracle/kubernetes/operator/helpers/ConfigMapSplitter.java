@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
@@ -27,11 +28,15 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal", "FieldCanBeLocal"})
   private static int DATA_LIMIT = 900_000;
 
+  // The granularity of the offsets at which an entry that must be split begins.
+  // not private or local so that unit tests can set it.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal", "FieldCanBeLocal"})
+  private static int PARTITION_ALIGNMENT = 4096;
+
   private final BiFunction<Map<String, String>, Integer, T> factory;
+  private final Predicate<String> isBinaryKey;
 
   private final List<T> result = new ArrayList<>();
-  private Map<String, String> current;
-  private int remainingRoom;
 
   /**
    * Constructs a splitter object.
@@ -39,7 +44,20 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
    * @param factory a function that the splitter should use to create its target objects.
    */
   public ConfigMapSplitter(BiFunction<Map<String, String>, Integer, T> factory) {
+    this(factory, key -> false);
+  }
+
+  /**
+   * Constructs a splitter object for targets which store some entries as binary data. The values of such entries
+   * must be base64-encoded without line breaks; they are split only at four-character boundaries, so that each part
+   * may be decoded separately, and are counted against the limit by their decoded size.
+   *
+   * @param factory a function that the splitter should use to create its target objects.
+   * @param isBinaryKey a test for the keys whose values will be stored as binary data.
+   */
+  public ConfigMapSplitter(BiFunction<Map<String, String>, Integer, T> factory, Predicate<String> isBinaryKey) {
     this.factory = factory;
+    this.isBinaryKey = isBinaryKey;
   }
 
   /**
@@ -48,46 +66,78 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
    * items. If the target type implements CountRecorder, the 'recordCount' method of the first target will be invoked
    * with the number of targets created.
    *
+   * <p>Where it needs no more maps than packing the data as tightly as possible, an entry which must be split
+   * starts at an aligned offset. Small changes to the entries before it then leave its parts unchanged, so that
+   * updating the config maps rewrites only those whose contents actually changed.
+   *
    * @param data the map to split.
    */
   public List<T> split(Map<String, String> data) {
-    startSplitResult();
-    for (DataEntry dataEntry : getSortedEntrySizes(data)) {
-      addToSplitResult(dataEntry);
+    final List<Map<String, String>> packed = new Partitioning(data, false).partitions;
+    final List<Map<String, String>> aligned = new Partitioning(data, true).partitions;
+    for (Map<String, String> partition : aligned.size() <= packed.size() ? aligned : packed) {
+      result.add(factory.apply(partition, result.size()));
     }
-    recordSplitResult();
 
     recordTargetInfo(result.get(0), result.size());
     return result;
   }
 
-  @Nonnull
-  private List<DataEntry> getSortedEntrySizes(Map<String, String> data) {
-    return data.entrySet().stream().map(DataEntry::new).sorted().collect(Collectors.toList());
-  }
+  private class Partitioning {
+    private final boolean aligned;
+    private final List<Map<String, String>> partitions = new ArrayList<>();
+    private Map<String, String> current;
+    private int remainingRoom;
+
+    Partitioning(Map<String, String> data, boolean aligned) {
+      this.aligned = aligned;
+      startPartition();
+      for (DataEntry dataEntry : getSortedEntrySizes(data)) {
+        addToPartitions(dataEntry);
+      }
+      partitions.add(current);
+    }
 
-  private void startSplitResult() {
-    current = new HashMap<>();
-    remainingRoom = DATA_LIMIT;
-  }
+    private void startPartition() {
+      current = new HashMap<>();
+      remainingRoom = DATA_LIMIT;
+    }
 
-  /**
-   * Adds the specified data entry to one or more split results, recording its location if it is not wholly
-   * in the first split result.
-   * @param entry a data entry
-   */
-  private void addToSplitResult(DataEntry entry) {
-    while (entry.getRemainingLength() > 0) {
-      remainingRoom -= entry.addToMap(current, remainingRoom);
+    /**
+     * Adds the specified data entry to one or more partitions.
+     * @param entry a data entry
+     */
+    private void addToPartitions(DataEntry entry) {
+      if (aligned && entry.getRemainingSize() > remainingRoom) {
+        alignRemainingRoom();
+      }
+
+      while (entry.getRemainingLength() > 0) {
+        remainingRoom -= entry.addToMap(current, remainingRoom);
+        if (remainingRoom == 0) {
+          partitions.add(current);
+          startPartition();
+        }
+      }
+    }
+
+    private void alignRemainingRoom() {
+      final int used = DATA_LIMIT - remainingRoom;
+      final int alignedUsed = (used + PARTITION_ALIGNMENT - 1) / PARTITION_ALIGNMENT * PARTITION_ALIGNMENT;
+      remainingRoom = Math.max(0, DATA_LIMIT - alignedUsed);
       if (remainingRoom == 0) {
-        recordSplitResult();
-        startSplitResult();
+        partitions.add(current);
+        startPartition();
       }
     }
   }
 
-  private void recordSplitResult() {
-    result.add(factory.apply(current, result.size()));
+  @Nonnull
+  private List<DataEntry> getSortedEntrySizes(Map<String, String> data) {
+    return data.entrySet().stream()
+          .map(e -> new DataEntry(e, isBinaryKey.test(e.getKey())))
+          .sorted()
+          .collect(Collectors.toList());
   }
 
   private void recordTargetInfo(T target, int size) {
@@ -96,34 +146,54 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
 
   static class DataEntry implements Comparable<DataEntry> {
     private final String key;
+    private final boolean binary;
     private String value;
 
     public DataEntry(Map.Entry<String, String> mapEntry) {
+      this(mapEntry, false);
+    }
+
+    DataEntry(Map.Entry<String, String> mapEntry, boolean binary) {
       key = mapEntry.getKey();
       value = mapEntry.getValue();
+      this.binary = binary;
     }
 
     /**
      * Adds to the specified map, as much of this entry as will fit, removing it from the string
-     * still to be added. Returns the number of characters added.
+     * still to be added. Returns the amount of the limit used: the number of characters added,
+     * or for a binary entry, the number of bytes which they encode.
      * @param map the map to update
-     * @param limit the maximum number of characters to add
+     * @param limit the maximum amount of data to add
      */
     int addToMap(Map<String, String> map, int limit) {
-      final int numCharsAdded = Math.min(limit, value.length());
+      final int numCharsAdded = Math.min(binary ? limit / 3 * 4 : limit, value.length());
+      if (numCharsAdded == 0) {
+        return limit;
+      }
+
       map.put(key, value.substring(0, numCharsAdded));
       value = value.substring(numCharsAdded);
 
-      return numCharsAdded;
+      return binary ? getDecodedSize(numCharsAdded) : numCharsAdded;
+    }
+
+    private int getDecodedSize(int numChars) {
+      return (numChars + 3) / 4 * 3;
     }
 
     private int getRemainingLength() {
       return value.length();
     }
 
+    private int getRemainingSize() {
+      return binary ? getDecodedSize(value.length()) : value.length();
+    }
+
     @Override
     public int compareTo(@Nonnull DataEntry o) {
-      return Integer.compare(getRemainingLength(), o.getRemainingLength());
+      final int result = Integer.compare(getRemainingSize(), o.getRemainingSize());
+      return result != 0 ? result : key.compareTo(o.key);
     }
   }
 
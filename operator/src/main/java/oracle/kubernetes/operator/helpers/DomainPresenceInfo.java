@@ -34,6 +34,7 @@ import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import oracle.kubernetes.weblogic.domain.model.ServerSpec;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -67,6 +68,9 @@ public class DomainPresenceInfo {
 
   private final List<String> validationWarnings = Collections.synchronizedList(new ArrayList<>());
   private EventItem lastEventItem;
+  private DomainStatus pendingStatus;
+  private OffsetDateTime pendingStatusTime;
+  private boolean pendingStatusWriterStarted;
 
   /**
    * Create presence for a domain.
@@ -262,6 +266,8 @@ public class DomainPresenceInfo {
     getSko(serverName).getPod().accumulateAndGet(event, this::getNewerPod);
   }
 
+  // A running server whose pod is no longer ready is in an unknown state until its state is read again;
+  // it is not recorded as starting, as it would be if it had no last known status.
   private void updateStatus(String serverName, V1Pod event) {
     getSko(serverName)
         .getLastKnownStatus()
@@ -276,7 +282,7 @@ public class DomainPresenceInfo {
               } else {
                 if (lastKnownStatus != null
                     && WebLogicConstants.RUNNING_STATE.equals(lastKnownStatus.getStatus())) {
-                  updatedStatus = null;
+                  updatedStatus = new LastKnownStatus(WebLogicConstants.UNKNOWN_STATE);
                 }
               }
               return updatedStatus;
@@ -590,6 +596,80 @@ public class DomainPresenceInfo {
     this.domain.set(domain);
   }
 
+  /**
+   * Returns a status which has been computed for the domain, but not yet written to it.
+   * Status changes made while a write is pending must be made to this status rather than to that of the domain.
+   *
+   * @return the pending status, or null if there is none
+   */
+  public synchronized DomainStatus getPendingStatus() {
+    return pendingStatus;
+  }
+
+  /**
+   * Returns the latest status computed for the domain: the pending status, if there is one, or else the status
+   * last read from or written to the domain. Changes to the status made outside of a status update step must be
+   * made to this status, so that they are not lost when a pending status is written.
+   *
+   * @return the status, or null if there is none
+   */
+  public synchronized DomainStatus getLatestStatus() {
+    return pendingStatus != null ? pendingStatus : Optional.ofNullable(getDomain()).map(Domain::getStatus).orElse(null);
+  }
+
+  /**
+   * Records a status to be written to the domain later.
+   *
+   * @param status the status to write
+   * @return true if no writer of the pending status is running, in which case the caller is responsible for
+   *     starting one
+   */
+  public synchronized boolean setPendingStatus(@Nonnull DomainStatus status) {
+    if (pendingStatus == null) {
+      pendingStatusTime = SystemClock.now();
+    }
+    pendingStatus = status;
+    boolean startWriter = !pendingStatusWriterStarted;
+    pendingStatusWriterStarted = true;
+    return startWriter;
+  }
+
+  /**
+   * Records that the writer of the pending status has finished or been cancelled.
+   *
+   * @return true if a status is still pending, in which case the caller is responsible for starting another writer
+   */
+  public synchronized boolean pendingStatusWriterStopped() {
+    pendingStatusWriterStarted = pendingStatus != null;
+    return pendingStatusWriterStarted;
+  }
+
+  /**
+   * Returns the time at which the pending status was first recorded.
+   *
+   * @return the time, or null if no status is pending
+   */
+  public synchronized OffsetDateTime getPendingStatusTime() {
+    return pendingStatus == null ? null : pendingStatusTime;
+  }
+
+  /**
+   * Discards any pending status, typically because it is about to be written.
+   */
+  public synchronized void clearPendingStatus() {
+    pendingStatus = null;
+    pendingStatusTime = null;
+  }
+
+  /**
+   * Discards any pending status and records that its writer has stopped, because the status can no longer be
+   * written.
+   */
+  public synchronized void abandonPendingStatus() {
+    clearPendingStatus();
+    pendingStatusWriterStarted = false;
+  }
+
   /**
    * Gets the Domain UID.
    *
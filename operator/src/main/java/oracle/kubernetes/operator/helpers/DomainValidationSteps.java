@@ -45,10 +45,23 @@ public class DomainValidationSteps {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String SECRETS = "secrets";
   private static final String CONFIGMAPS = "configmaps";
+  private static final String FROM_CACHE = "validationResourcesFromCache";
 
   public static Step createDomainValidationSteps(String namespace, Step next) {
-    return Step.chain(createListSecretsStep(namespace), createListConfigMapsStep(namespace),
-              new DomainValidationStep(next));
+    return new ReadValidationResourcesStep(namespace, new DomainValidationStep(namespace, next));
+  }
+
+  static Step createListValidationResourcesSteps(String namespace, Step next) {
+    return Step.chain(new ClearValidationResourcesStep(), createListSecretsStep(namespace),
+          createListConfigMapsStep(namespace), new RecordValidationResourcesStep(namespace, next));
+  }
+
+  /**
+   * Returns true if the packet holds the secrets and config maps read to validate the domain.
+   * @param packet the packet of a make-right
+   */
+  static boolean hasValidationResources(Packet packet) {
+    return packet.containsKey(SECRETS) && packet.containsKey(CONFIGMAPS);
   }
 
   static Step createAdditionalDomainValidationSteps(V1PodSpec podSpec) {
@@ -67,6 +80,60 @@ public class DomainValidationSteps {
     return new ValidateDomainTopologyStep(next);
   }
 
+  /**
+   * Supplies the secrets and config maps to validate against from the resource cache, when it holds a recent list
+   * for the namespace; otherwise lists them from Kubernetes.
+   */
+  static class ReadValidationResourcesStep extends Step {
+    private final String namespace;
+
+    ReadValidationResourcesStep(String namespace, Step next) {
+      super(next);
+      this.namespace = namespace;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ResourceCache cache = ResourceCache.getInstance();
+      if (cache.getSecrets().isSynced(namespace) && cache.getConfigMaps().isSynced(namespace)) {
+        packet.put(SECRETS, cache.getSecrets().list(namespace));
+        packet.put(CONFIGMAPS, cache.getConfigMaps().list(namespace));
+        packet.put(FROM_CACHE, Boolean.TRUE);
+        return doNext(packet);
+      } else {
+        return doNext(createListValidationResourcesSteps(namespace, getNext()), packet);
+      }
+    }
+  }
+
+  // The list response steps add to any resources already in the packet, so those from an earlier read are removed.
+  static class ClearValidationResourcesStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.remove(SECRETS);
+      packet.remove(CONFIGMAPS);
+      packet.remove(FROM_CACHE);
+      return doNext(packet);
+    }
+  }
+
+  static class RecordValidationResourcesStep extends Step {
+    private final String namespace;
+
+    RecordValidationResourcesStep(String namespace, Step next) {
+      super(next);
+      this.namespace = namespace;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ResourceCache.getInstance().getSecrets().replaceAll(namespace, ListSecretsResponseStep.getSecrets(packet));
+      ResourceCache.getInstance().getConfigMaps()
+            .replaceAll(namespace, ListConfigMapsResponseStep.getConfigMaps(packet));
+      return doNext(packet);
+    }
+  }
+
   static class ListSecretsResponseStep extends DefaultResponseStep<V1SecretList> {
 
     @Override
@@ -104,9 +171,11 @@ public class DomainValidationSteps {
   }
 
   static class DomainValidationStep extends Step {
+    private final String namespace;
 
-    DomainValidationStep(Step next) {
+    DomainValidationStep(String namespace, Step next) {
       super(next);
+      this.namespace = namespace;
     }
 
     @Override
@@ -119,6 +188,14 @@ public class DomainValidationSteps {
         return doNext(packet);
       }
 
+      // a cached list may be missing recently created resources, so confirm any failures against a fresh list
+      if (packet.remove(FROM_CACHE) != null) {
+        packet.remove(SECRETS);
+        packet.remove(CONFIGMAPS);
+        return doNext(createListValidationResourcesSteps(namespace, new DomainValidationStep(namespace, getNext())),
+              packet);
+      }
+
       LOGGER.severe(DOMAIN_VALIDATION_FAILED, domain.getDomainUid(), perLine(validationFailures));
       Step step = DomainStatusUpdater.createFailureRelatedSteps(BAD_DOMAIN, perLine(validationFailures), null);
       return doNext(step, packet);
@@ -17,6 +17,7 @@ import oracle.kubernetes.operator.Main;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -108,6 +109,16 @@ public final class HealthCheckHelper {
   private HealthCheckHelper() {
   }
 
+  /**
+   * Returns true if the operator is permitted to watch the specified resource in all namespaces.
+   *
+   * @param resource the resource to watch
+   * @return true if a cluster-wide watch is permitted
+   */
+  public static boolean isClusterWideWatchPermitted(Resource resource) {
+    return new AuthorizationProxy().check(Operation.watch, resource, null, Scope.cluster, null);
+  }
+
   /**
    * Access the self-subject rules review for the namespace. The namespace may be the operator's
    * namespace, a domain namespace, or both.
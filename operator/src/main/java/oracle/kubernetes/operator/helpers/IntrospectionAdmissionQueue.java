@@ -0,0 +1,316 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Limits the number of introspector jobs which may run at the same time, both across the operator and within
+ * each namespace, so that a change which affects many domains at once does not start all of their jobs together.
+ * A domain which may not yet run its job waits, without holding a thread, until a running job completes. Waiting
+ * domains are admitted in the order in which they arrived, except that domains which have not yet started any
+ * servers are admitted before those which are already running.
+ *
+ * <p>Each domain holds at most one admission. It is released when the job has been deleted, and also when the
+ * make-right operation for the domain completes, so that an operation which fails or is replaced cannot leave
+ * its admission held. An operation which is cancelled while waiting is discarded rather than admitted. The limits
+ * are set by the tuning parameters 'introspectorJobMaxConcurrent' and 'introspectorJobMaxConcurrentPerNamespace';
+ * a value of zero, the default, means that there is no limit.
+ */
+public class IntrospectionAdmissionQueue {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final String MAX_CONCURRENT_KEY = "introspectorJobMaxConcurrent";
+  static final String MAX_CONCURRENT_PER_NAMESPACE_KEY = "introspectorJobMaxConcurrentPerNamespace";
+
+  // not final so unit tests can replace it
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static IntrospectionAdmissionQueue instance = new IntrospectionAdmissionQueue();
+
+  private final Map<String, Admission> admissions = new HashMap<>();
+  private final List<Waiter> waiters = new ArrayList<>();
+
+  private final AtomicLong admittedCount = new AtomicLong();
+  private final AtomicLong totalWaitMillis = new AtomicLong();
+  private final AtomicLong completedCount = new AtomicLong();
+  private final AtomicLong totalRunMillis = new AtomicLong();
+
+  public static IntrospectionAdmissionQueue getInstance() {
+    return instance;
+  }
+
+  /**
+   * Creates a step which waits, if necessary, until the domain in the packet may run its introspector job.
+   * @param next the step to run once the domain has been admitted
+   */
+  static Step createAdmissionStep(Step next) {
+    return new AdmissionStep(next);
+  }
+
+  /**
+   * Creates a step which releases the admission held by the domain in the packet, allowing a waiting domain
+   * to run its introspector job.
+   * @param next the next step to run
+   */
+  static Step createReleaseStep(Step next) {
+    return new ReleaseStep(next);
+  }
+
+  private static int getLimit(String key) {
+    return TuningParameters.getInteger(key, 0);
+  }
+
+  private static String getKey(String namespace, String domainUid) {
+    return namespace + "/" + domainUid;
+  }
+
+  // A domain which has no server pods has never started, and is given priority over one which is running.
+  private static boolean hasPriority(DomainPresenceInfo info) {
+    return info.getServerPods().findAny().isEmpty();
+  }
+
+  /**
+   * Returns the number of introspector jobs which are currently admitted.
+   */
+  public synchronized int getRunningCount() {
+    return admissions.size();
+  }
+
+  /**
+   * Returns the number of domains currently waiting to run their introspector jobs.
+   */
+  public synchronized int getQueueDepth() {
+    return waiters.size();
+  }
+
+  /**
+   * Returns the total number of introspector jobs which have been admitted.
+   */
+  public long getAdmittedCount() {
+    return admittedCount.get();
+  }
+
+  /**
+   * Returns the total time in milliseconds that admitted domains waited before running their introspector jobs.
+   */
+  public long getTotalWaitMillis() {
+    return totalWaitMillis.get();
+  }
+
+  /**
+   * Returns the total number of admissions which have been released.
+   */
+  public long getCompletedCount() {
+    return completedCount.get();
+  }
+
+  /**
+   * Returns the total time in milliseconds for which released admissions were held, that is, the time spent
+   * running introspector jobs.
+   */
+  public long getTotalRunMillis() {
+    return totalRunMillis.get();
+  }
+
+  // Admits the domain at once if it already holds an admission, or if no domain is waiting and the limits allow it.
+  private synchronized boolean tryAdmit(DomainPresenceInfo info) {
+    final String key = getKey(info.getNamespace(), info.getDomainUid());
+    if (admissions.containsKey(key)) {
+      return true;
+    } else if (!waiters.isEmpty() || !hasCapacity(info.getNamespace())) {
+      return false;
+    }
+
+    admit(key, info.getNamespace(), SystemClock.now());
+    return true;
+  }
+
+  // Adds a waiter to the queue, replacing any left by an earlier operation on the same domain, then admits
+  // as many waiters as the limits allow.
+  private void enqueue(Waiter waiter) {
+    final List<Waiter> admitted;
+    synchronized (this) {
+      final int index = indexOf(waiter.key);
+      if (index >= 0) {
+        waiters.set(index, waiter.replacing(waiters.get(index)));
+      } else {
+        waiters.add(getInsertionIndex(waiter), waiter);
+      }
+      admitted = admitWaiters();
+    }
+    resume(admitted);
+  }
+
+  private int indexOf(String key) {
+    for (int i = 0; i < waiters.size(); i++) {
+      if (waiters.get(i).key.equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int getInsertionIndex(Waiter waiter) {
+    if (waiter.priority) {
+      for (int i = 0; i < waiters.size(); i++) {
+        if (!waiters.get(i).priority) {
+          return i;
+        }
+      }
+    }
+    return waiters.size();
+  }
+
+  /**
+   * Releases the admission held by the specified domain, if any, and discards any waiter left for it.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public void release(String namespace, String domainUid) {
+    final String key = getKey(namespace, domainUid);
+    final List<Waiter> admitted;
+    synchronized (this) {
+      Optional.ofNullable(admissions.remove(key)).ifPresent(this::recordRunTime);
+      waiters.removeIf(w -> w.key.equals(key));
+      admitted = admitWaiters();
+    }
+    resume(admitted);
+  }
+
+  // Fibers are resumed outside of the lock, as a resumed fiber may itself release its admission.
+  private void resume(List<Waiter> admitted) {
+    admitted.forEach(w -> w.fiber.resume(w.packet));
+  }
+
+  private void recordRunTime(Admission admission) {
+    completedCount.incrementAndGet();
+    totalRunMillis.addAndGet(getMillisSince(admission.admittedAt));
+  }
+
+  // Admits waiters in queue order, skipping those whose namespaces are at their limits. A waiter whose fiber
+  // has been cancelled would never run its job nor release an admission, and so is discarded instead.
+  private List<Waiter> admitWaiters() {
+    final List<Waiter> admitted = new ArrayList<>();
+    final Iterator<Waiter> iterator = waiters.iterator();
+    while (iterator.hasNext() && hasCapacity(null)) {
+      final Waiter waiter = iterator.next();
+      if (waiter.fiber.isCancelled()) {
+        iterator.remove();
+      } else if (hasCapacity(waiter.namespace)) {
+        iterator.remove();
+        admit(waiter.key, waiter.namespace, waiter.enqueuedAt);
+        admitted.add(waiter);
+      }
+    }
+    return admitted;
+  }
+
+  private void admit(String key, String namespace, OffsetDateTime requestedAt) {
+    admissions.put(key, new Admission(namespace));
+    admittedCount.incrementAndGet();
+    totalWaitMillis.addAndGet(getMillisSince(requestedAt));
+  }
+
+  private long getMillisSince(OffsetDateTime time) {
+    return Math.max(0, Duration.between(time, SystemClock.now()).toMillis());
+  }
+
+  // Returns true if another job may run in the specified namespace, or in the operator as a whole if null.
+  private boolean hasCapacity(String namespace) {
+    return isBelowLimit(admissions.size(), getLimit(MAX_CONCURRENT_KEY))
+          && (namespace == null
+              || isBelowLimit(getAdmissionCount(namespace), getLimit(MAX_CONCURRENT_PER_NAMESPACE_KEY)));
+  }
+
+  private boolean isBelowLimit(long count, int limit) {
+    return limit <= 0 || count < limit;
+  }
+
+  private long getAdmissionCount(String namespace) {
+    return admissions.values().stream().filter(a -> a.namespace.equals(namespace)).count();
+  }
+
+  private static class Admission {
+    private final String namespace;
+    private final OffsetDateTime admittedAt = SystemClock.now();
+
+    Admission(String namespace) {
+      this.namespace = namespace;
+    }
+  }
+
+  private static class Waiter {
+    private final String key;
+    private final String namespace;
+    private final boolean priority;
+    private final AsyncFiber fiber;
+    private final Packet packet;
+    private OffsetDateTime enqueuedAt = SystemClock.now();
+
+    Waiter(DomainPresenceInfo info, AsyncFiber fiber, Packet packet) {
+      this.key = getKey(info.getNamespace(), info.getDomainUid());
+      this.namespace = info.getNamespace();
+      this.priority = hasPriority(info);
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+
+    // A waiter which replaces one for the same domain keeps its place in the queue.
+    Waiter replacing(Waiter earlier) {
+      enqueuedAt = earlier.enqueuedAt;
+      return this;
+    }
+  }
+
+  private static class AdmissionStep extends Step {
+
+    AdmissionStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      if (getInstance().tryAdmit(info)) {
+        return doNext(packet);
+      }
+
+      LOGGER.info(MessageKeys.INTROSPECTION_QUEUED, info.getDomainUid(), getInstance().getRunningCount());
+      return doSuspend(fiber -> getInstance().enqueue(new Waiter(info, fiber, packet)));
+    }
+  }
+
+  private static class ReleaseStep extends Step {
+
+    ReleaseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      getInstance().release(info.getNamespace(), info.getDomainUid());
+      return doNext(packet);
+    }
+  }
+}
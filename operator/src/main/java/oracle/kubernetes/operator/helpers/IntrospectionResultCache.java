@@ -0,0 +1,663 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1DeleteOptions;
+import io.kubernetes.client.openapi.models.V1EnvFromSource;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1EnvVarSource;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1ProjectedVolumeSource;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeProjection;
+import oracle.kubernetes.operator.DomainSourceType;
+import oracle.kubernetes.operator.IntrospectorConfigMapConstants;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.IntrospectorJobEnvVars;
+import oracle.kubernetes.weblogic.domain.model.ServerEnvVars;
+
+import static oracle.kubernetes.operator.helpers.ConfigMapHelper.UPDATEDOMAINRESULT;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+
+/**
+ * A cache of the results of successful introspector runs, keyed by a fingerprint of the job's inputs: its pod spec
+ * with each image replaced by its digest, the domain's introspect version, and the contents of the secrets and
+ * config maps which the job may read. An introspection whose inputs match those of an earlier run may reuse its
+ * result rather than run the job again.
+ *
+ * <p>The values which the operator derives from the domain's identity, such as its UID and log home, are replaced
+ * by placeholders both in the inputs and in the recorded result, and are restored from the introspected domain when
+ * a result is reused. A domain may so reuse the result of another domain with the same configuration. A result whose
+ * WebLogic names contain one of those values cannot be restored that way, and is keyed by the values themselves.
+ * Domains whose home is on a persistent volume are never cached, as the volume's contents are not among the inputs.
+ *
+ * <p>Results are saved as config maps in the operator's namespace, and are loaded again when the operator starts.
+ * The cache is disabled unless the tuning parameter 'introspectionCacheMaxEntries' is positive.
+ */
+public class IntrospectionResultCache {
+
+  static final String CACHE_HIT = "Hit";
+  static final String CACHE_MISS = "Miss";
+  static final String CONFIG_MAP_NAME_PREFIX = "weblogic-introspection-cache-";
+  static final String FINGERPRINT_ANNOTATION = "weblogic.introspectionFingerprint";
+
+  private static final String MAX_ENTRIES_KEY = "introspectionCacheMaxEntries";
+  private static final String SECRET_PREFIX = "secret/";
+  private static final String CONFIG_MAP_PREFIX = "configMap/";
+  private static final String DIGEST_PREFIX = "sha256:";
+  private static final String DIGEST_SEPARATOR = "@";
+
+  // A config map may hold at most 1 MiB; larger results are kept in memory only
+  private static final int MAX_SAVED_SIZE = 1_000_000;
+
+  // The values which are restored in a reused result: the domain UID, and the homes which the operator derives from it
+  private static final List<String> RESTORED_VALUES
+        = List.of(ServerEnvVars.DOMAIN_UID, ServerEnvVars.LOG_HOME, ServerEnvVars.DOMAIN_HOME);
+
+  // not final so unit tests can replace it
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static IntrospectionResultCache instance = new IntrospectionResultCache();
+
+  private static final AtomicLong hitCount = new AtomicLong();
+  private static final AtomicLong missCount = new AtomicLong();
+
+  private final Map<String, Map<String, String>> results = new LinkedHashMap<>(16, 0.75f, true);
+
+  static IntrospectionResultCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns true if introspection results are to be cached.
+   */
+  static boolean isEnabled() {
+    return getMaxEntries() > 0;
+  }
+
+  private static int getMaxEntries() {
+    return TuningParameters.getInteger(MAX_ENTRIES_KEY, 0);
+  }
+
+  /**
+   * Returns the number of introspections which reused a cached result.
+   */
+  public static long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Returns the number of introspections which found no cached result, and so ran the introspector job.
+   */
+  public static long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Creates a step which loads the results saved in the operator's namespace into the cache.
+   * @param next the step to run after the results are loaded
+   */
+  public static Step createLoadStep(Step next) {
+    return new LoadResultsStep(next);
+  }
+
+  /**
+   * Returns the result cached for the specified inputs, restored for their domain, or null if there is none.
+   * @param inputs the inputs to the introspector job
+   * @param imageDigests the known digests of the job's images, keyed by image reference
+   */
+  synchronized Map<String, String> lookup(Inputs inputs, Map<String, String> imageDigests) {
+    final Map<String, String> result = Stream.of(true, false)
+          .map(portable -> inputs.getFingerprint(imageDigests, portable))
+          .filter(Objects::nonNull)
+          .map(results::get)
+          .filter(Objects::nonNull)
+          .findFirst()
+          .orElse(null);
+    (result == null ? missCount : hitCount).incrementAndGet();
+    return result == null ? null : inputs.restore(result);
+  }
+
+  /**
+   * Counts an introspection which could not have reused a cached result, and so did not look for one.
+   */
+  void recordMiss() {
+    missCount.incrementAndGet();
+  }
+
+  /**
+   * Returns true if no results are cached.
+   */
+  synchronized boolean isEmpty() {
+    return results.isEmpty();
+  }
+
+  /**
+   * Returns the number of cached results.
+   */
+  synchronized int size() {
+    return results.size();
+  }
+
+  /**
+   * Records the result of a successful introspection, and returns the steps which save it. A result which describes
+   * an invalid domain, or which reports an online update of a running domain, depends on more than the job's inputs
+   * and is not recorded; nor is one whose job images have no known digest.
+   * @param inputs the inputs to the introspector job
+   * @param imageDigests the digests of the job's images, keyed by image reference
+   * @param files the files read from the introspector job's log
+   * @param next the step to run after the result is saved
+   */
+  Step createRecordStep(Inputs inputs, Map<String, String> imageDigests, Map<String, String> files, Step next) {
+    final DomainTopology topology = getValidTopology(files);
+    final String fingerprint = Optional.ofNullable(topology)
+          .map(t -> inputs.getFingerprint(imageDigests, inputs.isPortable(t.getDomain())))
+          .orElse(null);
+    if (fingerprint == null) {
+      return next;
+    }
+
+    final Map<String, String> normalized = inputs.normalize(files);
+    return createSaveStep(fingerprint, normalized, createDeleteSteps(record(fingerprint, normalized), next));
+  }
+
+  private DomainTopology getValidTopology(Map<String, String> files) {
+    return Optional.ofNullable(files.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
+          .filter(t -> !files.containsKey(UPDATEDOMAINRESULT))
+          .map(DomainTopology::parseDomainTopologyYaml)
+          .filter(DomainTopology::getDomainValid)
+          .orElse(null);
+  }
+
+  // Adds the result to the cache, and returns the fingerprints of the results which it evicted
+  private synchronized List<String> record(String fingerprint, Map<String, String> files) {
+    results.put(fingerprint, Map.copyOf(files));
+    final List<String> evicted = new ArrayList<>();
+    final Iterator<String> leastRecentlyUsed = results.keySet().iterator();
+    while (results.size() > getMaxEntries() && leastRecentlyUsed.hasNext()) {
+      evicted.add(leastRecentlyUsed.next());
+      leastRecentlyUsed.remove();
+    }
+    evicted.remove(fingerprint);
+    return evicted;
+  }
+
+  private List<String> load(List<V1ConfigMap> configMaps) {
+    final List<String> evicted = new ArrayList<>();
+    for (V1ConfigMap configMap : configMaps) {
+      Optional.ofNullable(configMap.getMetadata())
+            .map(V1ObjectMeta::getAnnotations)
+            .map(annotations -> annotations.get(FINGERPRINT_ANNOTATION))
+            .filter(fingerprint -> configMap.getData() != null)
+            .ifPresent(fingerprint -> evicted.addAll(record(fingerprint, configMap.getData())));
+    }
+    return evicted;
+  }
+
+  static String getConfigMapName(String fingerprint) {
+    return CONFIG_MAP_NAME_PREFIX + fingerprint;
+  }
+
+  private Step createSaveStep(String fingerprint, Map<String, String> files, Step next) {
+    if (getSize(files) > MAX_SAVED_SIZE) {
+      return next;
+    }
+
+    return new CallBuilder()
+          .createConfigMapAsync(getOperatorNamespace(), createConfigMap(fingerprint, files),
+                new IgnoreFailureResponseStep<>(next));
+  }
+
+  private int getSize(Map<String, String> files) {
+    return files.entrySet().stream().mapToInt(e -> e.getKey().length() + e.getValue().length()).sum();
+  }
+
+  private V1ConfigMap createConfigMap(String fingerprint, Map<String, String> files) {
+    return new V1ConfigMap()
+          .metadata(new V1ObjectMeta()
+                .name(getConfigMapName(fingerprint))
+                .namespace(getOperatorNamespace())
+                .putLabelsItem(LabelConstants.OPERATORNAME_LABEL, getOperatorNamespace())
+                .putLabelsItem(LabelConstants.INTROSPECTION_CACHE_LABEL, "true")
+                .putAnnotationsItem(FINGERPRINT_ANNOTATION, fingerprint))
+          .data(new HashMap<>(files));
+  }
+
+  private static Step createDeleteSteps(List<String> fingerprints, Step next) {
+    Step steps = next;
+    for (String fingerprint : fingerprints) {
+      steps = new CallBuilder()
+            .deleteConfigMapAsync(getConfigMapName(fingerprint), getOperatorNamespace(), null,
+                  new V1DeleteOptions(), new IgnoreFailureResponseStep<>(steps));
+    }
+    return steps;
+  }
+
+  // Saving a result only lets a restarted operator reuse it, so a failure to save or delete one is not retried
+  private static class IgnoreFailureResponseStep<T> extends DefaultResponseStep<T> {
+
+    IgnoreFailureResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<T> callResponse) {
+      return doNext(packet);
+    }
+  }
+
+  private static class LoadResultsStep extends Step {
+
+    LoadResultsStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (!isEnabled()) {
+        return doNext(packet);
+      }
+
+      return doNext(new CallBuilder()
+            .withLabelSelectors(LabelConstants.INTROSPECTION_CACHE_LABEL + "=true")
+            .listConfigMapsAsync(getOperatorNamespace(), new LoadResultsResponseStep(getNext())), packet);
+    }
+  }
+
+  private static class LoadResultsResponseStep extends IgnoreFailureResponseStep<V1ConfigMapList> {
+
+    LoadResultsResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMapList> callResponse) {
+      final List<String> evicted = getInstance().load(
+            Optional.ofNullable(callResponse.getResult()).map(V1ConfigMapList::getItems).orElse(List.of()));
+      return doContinueListOrNext(callResponse, packet, createDeleteSteps(evicted, getNext()));
+    }
+  }
+
+  /**
+   * Returns the digests of the images which the specified pods run, keyed by the references in their specs.
+   * @param pods pods whose status reports the images of their containers
+   */
+  static Map<String, String> getImageDigests(Stream<V1Pod> pods) {
+    final Map<String, String> digests = new HashMap<>();
+    pods.filter(pod -> pod.getSpec() != null && pod.getStatus() != null)
+          .forEach(pod -> addImageDigests(digests, pod.getSpec(), pod.getStatus()));
+    return digests;
+  }
+
+  private static void addImageDigests(Map<String, String> digests, V1PodSpec spec, V1PodStatus status) {
+    final Map<String, String> imageIds = new HashMap<>();
+    Stream.concat(getList(status.getContainerStatuses()).stream(), getList(status.getInitContainerStatuses()).stream())
+          .filter(s -> s.getName() != null && s.getImageID() != null)
+          .forEach(s -> imageIds.put(s.getName(), s.getImageID()));
+
+    getContainers(spec)
+          .filter(c -> c.getImage() != null && imageIds.containsKey(c.getName()))
+          .forEach(c -> Optional.ofNullable(toDigest(imageIds.get(c.getName())))
+                .ifPresent(digest -> digests.put(c.getImage(), digest)));
+  }
+
+  // An image ID is reported as the digest, prefixed with the repository or a runtime-specific scheme
+  private static String toDigest(String imageId) {
+    final String digest = imageId.substring(
+          Math.max(imageId.lastIndexOf(DIGEST_SEPARATOR), imageId.lastIndexOf('/')) + 1);
+    return digest.startsWith(DIGEST_PREFIX) ? digest : null;
+  }
+
+  private static String getDigest(String image, Map<String, String> imageDigests) {
+    return image.contains(DIGEST_SEPARATOR)
+          ? image.substring(image.lastIndexOf(DIGEST_SEPARATOR) + 1)
+          : imageDigests.get(image);
+  }
+
+  /**
+   * Returns true if the digests of all the images run by the specified pod spec are known.
+   * @param podSpec the spec of an introspector job's pod
+   * @param imageDigests the known image digests, keyed by image reference
+   */
+  static boolean hasImageDigests(V1PodSpec podSpec, Map<String, String> imageDigests) {
+    return getContainers(podSpec)
+          .map(V1Container::getImage)
+          .filter(Objects::nonNull)
+          .allMatch(image -> getDigest(image, imageDigests) != null);
+  }
+
+  private static Stream<V1Container> getContainers(V1PodSpec podSpec) {
+    return Stream.concat(getList(podSpec.getContainers()).stream(), getList(podSpec.getInitContainers()).stream());
+  }
+
+  /**
+   * Returns true if the result of the specified domain's introspection may be cached.
+   * @param domain the domain to introspect
+   */
+  static boolean isCacheable(Domain domain) {
+    return domain.getDomainHomeSourceType() != DomainSourceType.PersistentVolume;
+  }
+
+  /**
+   * Collects the inputs to an introspector job, or returns null if its result may not be cached.
+   * @param domain the domain to introspect
+   * @param podSpec the spec of the job's pod
+   * @param secrets the secrets in the domain namespace
+   * @param configMaps the config maps in the domain namespace
+   */
+  static Inputs createInputs(
+        Domain domain, V1PodSpec podSpec, Collection<V1Secret> secrets, Collection<V1ConfigMap> configMaps) {
+    if (!isCacheable(domain)) {
+      return null;
+    }
+
+    final Map<String, Object> inputs = new HashMap<>();
+    inputs.put("introspectVersion", Optional.ofNullable(domain.getSpec()).map(DomainSpec::getIntrospectVersion)
+          .orElse(null));
+    inputs.put("containers", podSpec.getContainers());
+    inputs.put("initContainers", podSpec.getInitContainers());
+    inputs.put("volumes", podSpec.getVolumes());
+    inputs.put("contents", getContentHashes(domain.getDomainUid(), podSpec, secrets, configMaps));
+
+    final Map<String, String> env = getEnv(podSpec);
+    final Map<String, String> restoredValues = getRestoredValues(domain, env);
+    return new Inputs(CanonicalHash.toJsonTree(inputs).getAsJsonObject(), restoredValues,
+          getNormalizedValues(restoredValues, env));
+  }
+
+  private static Map<String, String> getEnv(V1PodSpec podSpec) {
+    final Map<String, String> env = new HashMap<>();
+    getList(podSpec.getContainers()).stream()
+          .flatMap(c -> getList(c.getEnv()).stream())
+          .filter(v -> v.getName() != null && v.getValue() != null && !v.getValue().isEmpty())
+          .forEach(v -> env.putIfAbsent(v.getName(), v.getValue()));
+    return env;
+  }
+
+  // The domain home of a domain in an image is set in the image, and so is not derived from the domain's identity
+  private static Map<String, String> getRestoredValues(Domain domain, Map<String, String> env) {
+    final Map<String, String> values = new TreeMap<>();
+    RESTORED_VALUES.stream()
+          .filter(name -> !name.equals(ServerEnvVars.DOMAIN_HOME)
+                || domain.getDomainHomeSourceType() == DomainSourceType.FromModel)
+          .filter(env::containsKey)
+          .forEach(name -> values.put(name, env.get(name)));
+    return values;
+  }
+
+  // The namespace appears in the inputs, but the result only holds it when Istio is enabled
+  private static Map<String, String> getNormalizedValues(Map<String, String> restoredValues, Map<String, String> env) {
+    final Map<String, String> values = new TreeMap<>(restoredValues);
+    if (!Boolean.parseBoolean(env.get(IntrospectorJobEnvVars.ISTIO_ENABLED))
+          && env.containsKey(IntrospectorJobEnvVars.NAMESPACE)) {
+      values.put(IntrospectorJobEnvVars.NAMESPACE, env.get(IntrospectorJobEnvVars.NAMESPACE));
+    }
+    return values;
+  }
+
+  // The introspector's own config maps are excluded: they hold the results of the previous introspection,
+  // and would otherwise change the fingerprint each time that a result is recorded.
+  private static Map<String, String> getContentHashes(
+        String domainUid, V1PodSpec podSpec, Collection<V1Secret> secrets, Collection<V1ConfigMap> configMaps) {
+    final Map<String, String> hashes = new TreeMap<>();
+    final Map<String, String> available = new HashMap<>();
+    secrets.forEach(s -> addContentHash(available, SECRET_PREFIX, s.getMetadata(), Arrays.asList(s.getData())));
+    configMaps.forEach(c -> addContentHash(available, CONFIG_MAP_PREFIX, c.getMetadata(),
+          Arrays.asList(c.getData(), c.getBinaryData())));
+
+    getReferencedResources(podSpec)
+          .filter(name -> !isIntrospectorConfigMap(domainUid, name))
+          .forEach(name -> hashes.put(name, available.getOrDefault(name, "")));
+    return hashes;
+  }
+
+  private static void addContentHash(
+        Map<String, String> hashes, String prefix, V1ObjectMeta metadata, List<?> contents) {
+    Optional.ofNullable(metadata)
+          .map(V1ObjectMeta::getName)
+          .ifPresent(name -> hashes.put(prefix + name, CanonicalHash.sha256Hex(contents)));
+  }
+
+  private static boolean isIntrospectorConfigMap(String domainUid, String name) {
+    return name.startsWith(
+          CONFIG_MAP_PREFIX + IntrospectorConfigMapConstants.getIntrospectorConfigMapNamePrefix(domainUid));
+  }
+
+  private static Stream<String> getReferencedResources(V1PodSpec podSpec) {
+    return Stream.concat(
+          getList(podSpec.getVolumes()).stream().flatMap(IntrospectionResultCache::getReferencedResources),
+          getContainers(podSpec).flatMap(IntrospectionResultCache::getReferencedResources));
+  }
+
+  private static Stream<String> getReferencedResources(V1Volume volume) {
+    return Stream.concat(
+          Stream.of(
+                Optional.ofNullable(volume.getSecret()).map(s -> SECRET_PREFIX + s.getSecretName()),
+                Optional.ofNullable(volume.getConfigMap()).map(c -> CONFIG_MAP_PREFIX + c.getName()))
+                .flatMap(Optional::stream),
+          Optional.ofNullable(volume.getProjected()).map(V1ProjectedVolumeSource::getSources).stream()
+                .flatMap(List::stream)
+                .flatMap(IntrospectionResultCache::getReferencedResources));
+  }
+
+  private static Stream<String> getReferencedResources(V1VolumeProjection projection) {
+    return Stream.of(
+          Optional.ofNullable(projection.getSecret()).map(s -> SECRET_PREFIX + s.getName()),
+          Optional.ofNullable(projection.getConfigMap()).map(c -> CONFIG_MAP_PREFIX + c.getName()))
+          .flatMap(Optional::stream);
+  }
+
+  private static Stream<String> getReferencedResources(V1Container container) {
+    return Stream.concat(
+          getList(container.getEnv()).stream()
+                .map(V1EnvVar::getValueFrom)
+                .filter(Objects::nonNull)
+                .flatMap(IntrospectionResultCache::getReferencedResources),
+          getList(container.getEnvFrom()).stream()
+                .flatMap(IntrospectionResultCache::getReferencedResources));
+  }
+
+  private static Stream<String> getReferencedResources(V1EnvVarSource source) {
+    return Stream.of(
+          Optional.ofNullable(source.getSecretKeyRef()).map(s -> SECRET_PREFIX + s.getName()),
+          Optional.ofNullable(source.getConfigMapKeyRef()).map(c -> CONFIG_MAP_PREFIX + c.getName()))
+          .flatMap(Optional::stream);
+  }
+
+  private static Stream<String> getReferencedResources(V1EnvFromSource source) {
+    return Stream.of(
+          Optional.ofNullable(source.getSecretRef()).map(s -> SECRET_PREFIX + s.getName()),
+          Optional.ofNullable(source.getConfigMapRef()).map(c -> CONFIG_MAP_PREFIX + c.getName()))
+          .flatMap(Optional::stream);
+  }
+
+  private static <T> List<T> getList(List<T> list) {
+    return Optional.ofNullable(list).orElse(List.of());
+  }
+
+  /**
+   * The inputs to an introspector job, with the values derived from its domain's identity. Fingerprints and recorded
+   * results replace each of those values with a placeholder, so that they may be shared by other domains.
+   */
+  static class Inputs {
+    // Matches a value only as a whole name or path, so that a UID of 'a' does not match inside 'admin'
+    private static final String VALUE_START = "(?<![A-Za-z0-9_-])";
+    private static final String VALUE_END = "(?![A-Za-z0-9_])";
+
+    private final JsonObject inputs;
+    private final Map<String, String> restoredValues;
+    private final UnaryOperator<String> normalizer;
+    private final UnaryOperator<String> restorer;
+
+    Inputs(JsonObject inputs, Map<String, String> restoredValues, Map<String, String> normalizedValues) {
+      this.inputs = inputs;
+      this.restoredValues = restoredValues;
+      this.normalizer = createReplacer(invert(normalizedValues), VALUE_START, VALUE_END);
+      this.restorer = createReplacer(toPlaceholders(restoredValues), "", "");
+    }
+
+    private static String toPlaceholder(String name) {
+      return "@@" + name + "@@";
+    }
+
+    // The first name in order supplies the placeholder for a value which several names share
+    private static Map<String, String> invert(Map<String, String> values) {
+      final Map<String, String> placeholders = new HashMap<>();
+      new TreeMap<>(values).forEach((name, value) -> placeholders.putIfAbsent(value, toPlaceholder(name)));
+      return placeholders;
+    }
+
+    private static Map<String, String> toPlaceholders(Map<String, String> values) {
+      final Map<String, String> replacements = new HashMap<>();
+      values.forEach((name, value) -> replacements.put(toPlaceholder(name), value));
+      return replacements;
+    }
+
+    private static UnaryOperator<String> createReplacer(Map<String, String> replacements, String start, String end) {
+      if (replacements.isEmpty()) {
+        return UnaryOperator.identity();
+      }
+
+      final Pattern pattern = Pattern.compile(replacements.keySet().stream()
+            .sorted(Comparator.comparing(String::length).reversed())
+            .map(Pattern::quote)
+            .collect(Collectors.joining("|", start + "(?:", ")" + end)));
+      return text -> pattern.matcher(text).replaceAll(m -> Matcher.quoteReplacement(replacements.get(m.group())));
+    }
+
+    /**
+     * Returns the fingerprint of these inputs, or null if the digest of one of their images is unknown.
+     * @param imageDigests the known image digests, keyed by image reference
+     * @param portable true if the fingerprint is to omit the values derived from the domain's identity
+     */
+    String getFingerprint(Map<String, String> imageDigests, boolean portable) {
+      final JsonObject fingerprintInputs = inputs.deepCopy();
+      if (!replaceImagesWithDigests(fingerprintInputs, imageDigests)) {
+        return null;
+      }
+
+      final JsonObject normalized = normalizeTree(fingerprintInputs).getAsJsonObject();
+      if (!portable) {
+        normalized.add("domainValues", CanonicalHash.toJsonTree(restoredValues));
+      }
+      return CanonicalHash.sha256Hex(normalized);
+    }
+
+    private boolean replaceImagesWithDigests(JsonObject inputs, Map<String, String> imageDigests) {
+      for (String key : List.of("containers", "initContainers")) {
+        final JsonElement containers = inputs.get(key);
+        if (containers != null && containers.isJsonArray()) {
+          for (JsonElement container : containers.getAsJsonArray()) {
+            final JsonElement image = container.getAsJsonObject().get("image");
+            final String digest = image == null ? "" : getDigest(image.getAsString(), imageDigests);
+            if (digest == null) {
+              return false;
+            } else if (image != null) {
+              container.getAsJsonObject().addProperty("image", digest);
+            }
+          }
+        }
+      }
+      return true;
+    }
+
+    // Object members are sorted again, as replacing a value in their names may change their order
+    private JsonElement normalizeTree(JsonElement element) {
+      if (element.isJsonObject()) {
+        final Map<String, JsonElement> members = new TreeMap<>();
+        element.getAsJsonObject().entrySet()
+              .forEach(e -> members.put(normalizer.apply(e.getKey()), normalizeTree(e.getValue())));
+        final JsonObject result = new JsonObject();
+        members.forEach(result::add);
+        return result;
+      } else if (element.isJsonArray()) {
+        final JsonArray result = new JsonArray();
+        element.getAsJsonArray().forEach(e -> result.add(normalizeTree(e)));
+        return result;
+      } else if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()) {
+        return new JsonPrimitive(normalizer.apply(element.getAsString()));
+      } else {
+        return element;
+      }
+    }
+
+    /**
+     * Returns true if a result may be shared with other domains: that is, if none of the names in its topology
+     * contain a value derived from its domain's identity, which restoring the result for another domain would change.
+     * @param domainConfig the topology of the introspected domain
+     */
+    boolean isPortable(WlsDomainConfig domainConfig) {
+      return getNames(domainConfig).filter(Objects::nonNull)
+            .noneMatch(name -> restoredValues.values().stream().anyMatch(name::contains));
+    }
+
+    private Stream<String> getNames(WlsDomainConfig domainConfig) {
+      return Stream.of(
+            Stream.of(domainConfig.getName(), domainConfig.getAdminServerName()),
+            getList(domainConfig.getServers()).stream().map(WlsServerConfig::getName),
+            getList(domainConfig.getServerTemplates()).stream().map(WlsServerConfig::getName),
+            domainConfig.getClusterConfigs().values().stream().flatMap(this::getNames))
+            .flatMap(s -> s);
+    }
+
+    private Stream<String> getNames(WlsClusterConfig clusterConfig) {
+      return Stream.concat(Stream.of(clusterConfig.getName()),
+            getList(clusterConfig.getServerConfigs()).stream().map(WlsServerConfig::getName));
+    }
+
+    Map<String, String> normalize(Map<String, String> files) {
+      return replaceValues(files, normalizer);
+    }
+
+    Map<String, String> restore(Map<String, String> files) {
+      return replaceValues(files, restorer);
+    }
+
+    private Map<String, String> replaceValues(Map<String, String> files, UnaryOperator<String> replacer) {
+      final Map<String, String> result = new HashMap<>();
+      files.forEach((name, contents) -> result.put(name, replacer.apply(contents)));
+      return result;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+import static oracle.kubernetes.operator.helpers.ConfigMapHelper.UPDATEDOMAINRESULT;
+
+/**
+ * Parses the log of the introspector job in a single pass. The log contains:
+ * <ul>
+ *   <li>log messages, each starting with a line which begins with '@[' and continuing until the next message
+ *   or file;</li>
+ *   <li>files, each starting with a line of the form '>>> path' and ending with a line '>>> EOF'.</li>
+ * </ul>
+ * Each message is passed to a handler as soon as it is complete, and each file is added to the result
+ * as soon as it is complete, so that only the section being read is held while parsing.
+ */
+class IntrospectorLogParser {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final String MESSAGE_START = "@[";
+  private static final String FILE_MARKER = ">>>";
+  private static final String FILE_END = "EOF";
+  private static final String UPDATE_RESULT_TOKEN = ">>>  updatedomainResult=";
+
+  private final String domainUid;
+  private final Consumer<String> messageHandler;
+  private final Map<String, String> files = new HashMap<>();
+  private StringBuilder message = new StringBuilder();
+
+  /**
+   * Creates a parser.
+   * @param domainUid the UID of the domain being introspected
+   * @param messageHandler a handler for the log messages found
+   */
+  IntrospectorLogParser(String domainUid, Consumer<String> messageHandler) {
+    this.domainUid = domainUid;
+    this.messageHandler = messageHandler;
+  }
+
+  /**
+   * Reads the introspector log and returns the files which it contains, keyed by file name.
+   * @param log a reader for the log
+   * @return a map of file names to contents
+   */
+  Map<String, String> parse(Reader log) {
+    try (BufferedReader reader = new BufferedReader(log)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        parseLine(reader, line);
+      }
+    } catch (IOException exc) {
+      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
+    }
+    completeMessage();
+
+    return files;
+  }
+
+  private void parseLine(BufferedReader reader, String line) throws IOException {
+    if (line.contains(UPDATE_RESULT_TOKEN)) {
+      files.put(UPDATEDOMAINRESULT, line.substring(line.indexOf(UPDATE_RESULT_TOKEN) + UPDATE_RESULT_TOKEN.length()));
+    }
+
+    if (line.startsWith(FILE_MARKER) && !line.endsWith(FILE_END)) {
+      completeMessage();
+      readFile(reader, extractFilename(line));
+    } else if (line.startsWith(MESSAGE_START)) {
+      completeMessage();
+      message.append(line.trim());
+    } else if (message.length() > 0) {
+      message.append(System.lineSeparator()).append(line.trim());
+    }
+  }
+
+  private void completeMessage() {
+    if (message.length() > 0) {
+      messageHandler.accept(message.toString());
+      message = new StringBuilder();
+    }
+  }
+
+  private void readFile(BufferedReader reader, String fileName) {
+    StringBuilder contents = new StringBuilder();
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith(FILE_MARKER) && line.endsWith(FILE_END)) {
+          files.put(fileName, contents.toString().trim());
+          return;
+        }
+        contents.append(line).append(System.lineSeparator());
+      }
+    } catch (IOException ioe) {
+      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUid, ioe);
+    }
+  }
+
+  private static String extractFilename(String line) {
+    return line.substring(line.lastIndexOf('/') + 1);
+  }
+}
@@ -3,12 +3,15 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.Reader;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
@@ -402,25 +405,109 @@ public class JobHelper {
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      boolean introspectionRequested = packet.containsKey(DOMAIN_INTROSPECT_REQUESTED);
       if (runIntrospector(packet, info)) {
         JobStepContext context = new DomainIntrospectorJobStepContext(packet);
+        V1PodSpec jobPodSpec = Objects.requireNonNull(context.getJobModel().getSpec()).getTemplate().getSpec();
 
         packet.putIfAbsent(START_TIME, OffsetDateTime.now());
 
-        return doNext(
-            Step.chain(
-                DomainValidationSteps.createAdditionalDomainValidationSteps(
-                    Objects.requireNonNull(context.getJobModel().getSpec()).getTemplate().getSpec()),
+        Step runJobSteps = Step.chain(
+                IntrospectionAdmissionQueue.createAdmissionStep(null),
                 createProgressingStartedEventStep(info, INSPECTING_DOMAIN_PROGRESS_REASON, true, null),
                 context.createNewJob(null),
                 readDomainIntrospectorPodLogStep(null),
                 deleteDomainIntrospectorJobStep(null),
-                ConfigMapHelper.createIntrospectorConfigMapStep(getNext())),
+                IntrospectionAdmissionQueue.createReleaseStep(null),
+                ConfigMapHelper.createIntrospectorConfigMapStep(getNext()));
+
+        return doNext(
+            Step.chain(
+                DomainValidationSteps.createAdditionalDomainValidationSteps(jobPodSpec),
+                createIntrospectionSteps(packet, info, jobPodSpec, !introspectionRequested, runJobSteps)),
               packet);
       }
 
       return doNext(packet);
     }
+
+    // The secrets and config maps are listed afresh only when a cached result might be reused. Otherwise, the inputs
+    // under which the job's result is recorded are collected from those read to validate the domain. They may be
+    // older than the job's inputs, which can only cause a later lookup to miss.
+    private Step createIntrospectionSteps(
+          Packet packet, DomainPresenceInfo info, V1PodSpec jobPodSpec, boolean reuseAllowed, Step runJobSteps) {
+      if (!IntrospectionResultCache.isEnabled() || !IntrospectionResultCache.isCacheable(info.getDomain())) {
+        return runJobSteps;
+      }
+
+      boolean mayReuse = reuseAllowed
+            && !IntrospectionResultCache.getInstance().isEmpty()
+            && IntrospectionResultCache.hasImageDigests(jobPodSpec, getServerImageDigests(info));
+      if (!mayReuse && DomainValidationSteps.hasValidationResources(packet)) {
+        return new IntrospectionCacheStep(jobPodSpec, reuseAllowed, false, runJobSteps, getNext());
+      }
+
+      return DomainValidationSteps.createListValidationResourcesSteps(info.getNamespace(),
+            new IntrospectionCacheStep(jobPodSpec, reuseAllowed, mayReuse, runJobSteps, getNext()));
+    }
+  }
+
+  // The server pods run the same images as the introspector job, and report the digests of those images
+  private static Map<String, String> getServerImageDigests(DomainPresenceInfo info) {
+    return IntrospectionResultCache.getImageDigests(info.getServerPods());
+  }
+
+  /**
+   * Looks for the cached result of an earlier introspection with the same inputs, and uses it in place of running
+   * the introspector job. A lookup is made only when the secrets and config maps in the namespace have just been
+   * listed, so that the fingerprint of the inputs reflects their current contents. An introspection which was
+   * explicitly requested always runs the job, but its result is still recorded.
+   */
+  private static class IntrospectionCacheStep extends Step {
+    private final V1PodSpec jobPodSpec;
+    private final boolean reuseAllowed;
+    private final boolean lookupAllowed;
+    private final Step runJobSteps;
+
+    IntrospectionCacheStep(
+          V1PodSpec jobPodSpec, boolean reuseAllowed, boolean lookupAllowed, Step runJobSteps, Step next) {
+      super(next);
+      this.jobPodSpec = jobPodSpec;
+      this.reuseAllowed = reuseAllowed;
+      this.lookupAllowed = lookupAllowed;
+      this.runJobSteps = runJobSteps;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      IntrospectionResultCache.Inputs inputs = IntrospectionResultCache.createInputs(info.getDomain(), jobPodSpec,
+            DomainValidationSteps.ListSecretsResponseStep.getSecrets(packet),
+            DomainValidationSteps.ListConfigMapsResponseStep.getConfigMaps(packet));
+      Map<String, String> cachedResult = lookup(inputs, info);
+
+      if (cachedResult != null) {
+        LOGGER.info(MessageKeys.INTROSPECTION_RESULT_REUSED, info.getDomainUid());
+        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, cachedResult);
+        MakeRightDomainOperation.recordInspection(packet);
+        return doNext(DomainStatusUpdater.createIntrospectionCacheResultStep(IntrospectionResultCache.CACHE_HIT,
+              ConfigMapHelper.createIntrospectorConfigMapStep(getNext())), packet);
+      }
+
+      packet.put(ProcessingConstants.INTROSPECTION_INPUTS, inputs);
+      return doNext(reuseAllowed
+            ? DomainStatusUpdater.createIntrospectionCacheResultStep(IntrospectionResultCache.CACHE_MISS, runJobSteps)
+            : runJobSteps, packet);
+    }
+
+    private Map<String, String> lookup(IntrospectionResultCache.Inputs inputs, DomainPresenceInfo info) {
+      if (lookupAllowed) {
+        return IntrospectionResultCache.getInstance().lookup(inputs, getServerImageDigests(info));
+      } else if (reuseAllowed) {
+        IntrospectionResultCache.getInstance().recordMiss();
+      }
+      return null;
+    }
   }
 
   private static class ReplaceOrCreateIntrospectorJobStep extends Step {
@@ -508,9 +595,8 @@ public class JobHelper {
 
   }
 
-  private static class ReadDomainIntrospectorPodLogResponseStep extends ResponseStep<String> {
+  private static class ReadDomainIntrospectorPodLogResponseStep extends ResponseStep<Reader> {
     public static final String INTROSPECTION_FAILED = "INTROSPECTION_FAILED";
-    private StringBuilder logMessage = new StringBuilder();
     private final List<String> severeStatuses = new ArrayList<>();
 
     ReadDomainIntrospectorPodLogResponseStep(Step nextStep) {
@@ -518,16 +604,18 @@ public class JobHelper {
     }
 
     @Override
-    public NextAction onSuccess(Packet packet, CallResponse<String> callResponse) {
-      String result = callResponse.getResult();
-      LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
-
+    public NextAction onSuccess(Packet packet, CallResponse<Reader> callResponse) {
+      Reader result = callResponse.getResult();
       if (result != null) {
-        convertJobLogsToOperatorLogs(result);
+        DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+        Map<String, String> files = parseJobLog(result, info);
+        if (LOGGER.isFineEnabled()) {
+          LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + files);
+        }
         if (!severeStatuses.isEmpty()) {
-          updateStatus(packet.getSpi(DomainPresenceInfo.class));
+          updateStatus(info);
         }
-        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
+        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, files);
         MakeRightDomainOperation.recordInspection(packet);
       }
 
@@ -568,7 +656,23 @@ public class JobHelper {
                 packet);
       }
 
-      return doNext(packet);
+      return doNext(createRecordIntrospectionResultStep(packet), packet);
+    }
+
+    // Saves the result of a clean run, so that a later introspection with the same inputs may reuse it.
+    // The job pod reports the digests of the images which produced the result.
+    @SuppressWarnings("unchecked")
+    private Step createRecordIntrospectionResultStep(Packet packet) {
+      IntrospectionResultCache.Inputs inputs
+            = (IntrospectionResultCache.Inputs) packet.remove(ProcessingConstants.INTROSPECTION_INPUTS);
+      Map<String, String> files = (Map<String, String>) packet.get(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
+      if (inputs == null || files == null || !severeStatuses.isEmpty()) {
+        return getNext();
+      }
+
+      V1Pod jobPod = (V1Pod) packet.get(ProcessingConstants.JOB_POD);
+      return IntrospectionResultCache.getInstance().createRecordStep(inputs,
+            IntrospectionResultCache.getImageDigests(Stream.ofNullable(jobPod)), files, getNext());
     }
 
     private OffsetDateTime getJobCreationTime(V1Job domainIntrospectorJob) {
@@ -580,29 +684,15 @@ public class JobHelper {
       return !JobWatcher.isComplete(domainIntrospectorJob);
     }
 
-    // Parse log messages out of a Job Log
-    //  - assumes each job log message starts with '@['
-    //  - assumes any lines that don't start with '@[' are part
-    //    of the previous log message
-    //  - ignores all lines in the log up to the first line that starts with '@['
-    private void convertJobLogsToOperatorLogs(String jobLogs) {
-      for (String line : jobLogs.split(EOL_PATTERN)) {
-        if (line.startsWith("@[")) {
-          logToOperator();
-          logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-        } else if (logMessage.length() > 0) {
-          logMessage.append(System.lineSeparator()).append(line.trim());
-        }
-      }
-      logToOperator();
+    // Reads the job log once as it streams in, logging its messages to the operator log
+    // and returning the files that it contains. The parser closes the log when done.
+    private Map<String, String> parseJobLog(Reader jobLog, DomainPresenceInfo info) {
+      return new IntrospectorLogParser(Optional.ofNullable(info).map(DomainPresenceInfo::getDomainUid).orElse(null),
+            this::logToOperator).parse(jobLog);
     }
 
-    private void logToOperator() {
-      if (logMessage.length() == 0) {
-        return;
-      }
-
-      String logMsg = logMessage.toString();
+    private void logToOperator(String message) {
+      String logMsg = INTROSPECTOR_LOG_PREFIX + message;
       switch (getLogLevel(logMsg)) {
         case "SEVERE":
           addSevereStatus(logMsg); // fall through
@@ -704,6 +794,7 @@ public class JobHelper {
       logIntrospectorFailure(packet, domainIntrospectorJob);
     }
     packet.remove(ProcessingConstants.JOB_POD_NAME);
+    packet.remove(ProcessingConstants.JOB_POD);
 
     LOGGER.fine(getJobDeletedMessageKey(), domainUid, namespace, jobName);
   }
@@ -724,8 +815,7 @@ public class JobHelper {
       String domainUid = info.getDomain().getDomainUid();
       String namespace = info.getNamespace();
       Integer currentIntrospectFailureRetryCount = Optional.of(info)
-          .map(DomainPresenceInfo::getDomain)
-          .map(Domain::getStatus)
+          .map(DomainPresenceInfo::getLatestStatus)
           .map(DomainStatus::getIntrospectJobFailureCount)
           .orElse(0);
 
@@ -764,10 +854,9 @@ public class JobHelper {
             .map(V1PodList::getItems)
             .orElseGet(Collections::emptyList)
             .stream()
-            .map(this::getName)
-            .filter(this::isJobPodName)
+            .filter(pod -> isJobPodName(getName(pod)))
             .findFirst()
-            .ifPresent(name -> recordJobPodName(packet, name));
+            .ifPresent(pod -> recordJobPod(packet, pod));
 
       return doContinueListOrNext(callResponse, packet);
     }
@@ -788,8 +877,9 @@ public class JobHelper {
       return pod.getMetadata().getName().startsWith(createJobName(domainUid));
     }
 
-    private void recordJobPodName(Packet packet, String podName) {
-      packet.put(ProcessingConstants.JOB_POD_NAME, podName);
+    private void recordJobPod(Packet packet, V1Pod pod) {
+      packet.put(ProcessingConstants.JOB_POD_NAME, getName(pod));
+      packet.put(ProcessingConstants.JOB_POD, pod);
     }
 
   }
@@ -539,14 +539,15 @@ public abstract class PodStepContext extends BasePodStepContext {
 
   private boolean mustPatchPod(V1Pod currentPod) {
     return KubernetesUtils.isMissingValues(getLabels(currentPod), getNonHashedPodLabels())
-        || KubernetesUtils.isMissingValues(getAnnotations(currentPod), getPodAnnotations());
+        || KubernetesUtils.isMissingValues(getAnnotations(currentPod), getPodAnnotations())
+        || !AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
   }
 
   private boolean canUseCurrentPod(V1Pod currentPod) {
 
     boolean useCurrent = hasCorrectPodHash(currentPod) && canUseNewDomainZip(currentPod);
 
-    if (!useCurrent) {
+    if (!useCurrent && LOGGER.isFinerEnabled()) {
       LOGGER.finer(
           MessageKeys.POD_DUMP,
           Yaml.dump(currentPod),
@@ -558,7 +559,7 @@ public abstract class PodStepContext extends BasePodStepContext {
 
   private boolean hasCorrectPodHash(V1Pod currentPod) {
     if (!isLegacyPod(currentPod)) {
-      return AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
+      return AnnotationHelper.hasMatchingHash(getPodModel(), currentPod, this::createPodRecipe);
     } else {
       return canAdjustHashToMatch(currentPod, AnnotationHelper.getHash(currentPod));
     }
@@ -569,15 +570,15 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   private boolean canAdjustHashToMatch(V1Pod currentPod, String requiredHash) {
-    return requiredHash.equals(adjustedHash(currentPod, this::addLegacyPrometheusAnnotationsFrom_3_0))
-          || requiredHash.equals(adjustedHash(currentPod, this::addLegacyPrometheusAnnotationsFrom_3_1));
+    return requiredHash.equals(adjustedHash(currentPod, requiredHash, this::addLegacyPrometheusAnnotationsFrom_3_0))
+          || requiredHash.equals(adjustedHash(currentPod, requiredHash, this::addLegacyPrometheusAnnotationsFrom_3_1));
   }
 
   private boolean hasLabel(V1Pod pod, String key) {
     return pod.getMetadata().getLabels().containsKey(key);
   }
 
-  private String adjustedHash(V1Pod currentPod, Consumer<V1Pod> prometheusAdjustment) {
+  private String adjustedHash(V1Pod currentPod, String requiredHash, Consumer<V1Pod> prometheusAdjustment) {
     V1Pod recipe = createPodRecipe();
     prometheusAdjustment.accept(recipe);
 
@@ -585,7 +586,7 @@ public abstract class PodStepContext extends BasePodStepContext {
       copyLabel(currentPod, recipe, MODEL_IN_IMAGE_DOMAINZIP_HASH);
     }
 
-    return AnnotationHelper.createHash(recipe);
+    return AnnotationHelper.createHashLike(requiredHash, recipe);
   }
 
   private void addLegacyPrometheusAnnotationsFrom_3_0(V1Pod pod) {
@@ -1154,8 +1155,7 @@ public abstract class PodStepContext extends BasePodStepContext {
       V1Pod currentPod = info.getServerPod(getServerName());
       // reset introspect failure job count - if any
       Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class))
-          .map(DomainPresenceInfo::getDomain)
-          .map(Domain::getStatus)
+          .map(DomainPresenceInfo::getLatestStatus)
           .ifPresent(DomainStatus::resetIntrospectJobFailureCount);
 
       if (currentPod == null) {
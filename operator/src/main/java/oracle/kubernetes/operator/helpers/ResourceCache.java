@@ -0,0 +1,396 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.math.BigInteger;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+
+/**
+ * A local, watch-fed copy of the Kubernetes resources that the operator manages. Each store is indexed
+ * by namespace, domainUID label and server-name label. A store is populated for a namespace by a list operation
+ * and kept current by the watcher for its resource type; readers should only use it for a namespace while
+ * {@link Store#isSynced(String)} is true, and fall back to a list call otherwise.
+ */
+public class ResourceCache {
+
+  private static final int DEFAULT_RESYNC_SECONDS = 600;
+
+  // not final so unit tests can replace it
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static ResourceCache instance = new ResourceCache();
+
+  private final Store<V1Pod> pods = new Store<>(V1Pod::getMetadata, true);
+  private final Store<V1Service> services = new Store<>(V1Service::getMetadata, true);
+  private final Store<V1beta1PodDisruptionBudget> podDisruptionBudgets
+        = new Store<>(V1beta1PodDisruptionBudget::getMetadata, true);
+  private final Store<Domain> domains = new Store<>(Domain::getMetadata, true);
+  private final Store<V1Secret> secrets
+        = new Store<>(V1Secret::getMetadata, false, s -> new V1Secret().metadata(s.getMetadata()));
+  private final Store<V1ConfigMap> configMaps
+        = new Store<>(V1ConfigMap::getMetadata, false, c -> new V1ConfigMap().metadata(c.getMetadata()));
+
+  public static ResourceCache getInstance() {
+    return instance;
+  }
+
+  public Store<V1Pod> getPods() {
+    return pods;
+  }
+
+  public Store<V1Service> getServices() {
+    return services;
+  }
+
+  public Store<V1beta1PodDisruptionBudget> getPodDisruptionBudgets() {
+    return podDisruptionBudgets;
+  }
+
+  public Store<Domain> getDomains() {
+    return domains;
+  }
+
+  /**
+   * Returns the metadata-only copies of the secrets last listed in a namespace. These are not watched, and are
+   * used only to check for the existence of secrets during domain validation.
+   */
+  public Store<V1Secret> getSecrets() {
+    return secrets;
+  }
+
+  /**
+   * Returns the metadata-only copies of the config maps last listed in a namespace. These are not watched, and are
+   * used only to check for the existence of config maps during domain validation.
+   */
+  public Store<V1ConfigMap> getConfigMaps() {
+    return configMaps;
+  }
+
+  /**
+   * Discards all cached resources for the specified namespace.
+   * @param namespace the namespace no longer being managed
+   */
+  public void removeNamespace(String namespace) {
+    pods.removeNamespace(namespace);
+    services.removeNamespace(namespace);
+    podDisruptionBudgets.removeNamespace(namespace);
+    domains.removeNamespace(namespace);
+    secrets.removeNamespace(namespace);
+    configMaps.removeNamespace(namespace);
+  }
+
+  static int getResyncSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getWatchTuning)
+          .map(t -> t.watchCacheResyncSeconds)
+          .orElse(DEFAULT_RESYNC_SECONDS);
+  }
+
+  /**
+   * The cached resources of a single type.
+   * @param <T> the type of resource
+   */
+  public static class Store<T> {
+    private final Map<String, NamespaceIndex<T>> namespaces = new ConcurrentHashMap<>();
+    private final Map<String, OffsetDateTime> listTimes = new ConcurrentHashMap<>();
+    private final Set<String> watchedNamespaces = ConcurrentHashMap.newKeySet();
+    private final Function<T, V1ObjectMeta> metadataFunction;
+    private final UnaryOperator<T> storedForm;
+    private final boolean requiresWatch;
+
+    Store(Function<T, V1ObjectMeta> metadataFunction, boolean requiresWatch) {
+      this(metadataFunction, requiresWatch, UnaryOperator.identity());
+    }
+
+    Store(Function<T, V1ObjectMeta> metadataFunction, boolean requiresWatch, UnaryOperator<T> storedForm) {
+      this.metadataFunction = metadataFunction;
+      this.requiresWatch = requiresWatch;
+      this.storedForm = storedForm;
+    }
+
+    /**
+     * Returns true if this store may be used in place of a list call for the specified namespace. That is the case
+     * when it has been populated by a list, and either its watcher is running or, for unwatched resources,
+     * the list is no older than the resync interval.
+     * @param namespace the namespace to check
+     */
+    public boolean isSynced(String namespace) {
+      return listTimes.containsKey(namespace) && (requiresWatch ? isWatched(namespace) : !isResyncDue(namespace));
+    }
+
+    /**
+     * Returns true if this store holds contents for the specified namespace from a previous list, even if they
+     * may since have become stale.
+     * @param namespace the namespace to check
+     */
+    public boolean isPopulated(String namespace) {
+      return namespaces.containsKey(namespace);
+    }
+
+    private boolean isWatched(String namespace) {
+      return watchedNamespaces.contains(namespace);
+    }
+
+    /**
+     * Returns true if the contents for the specified namespace should be refreshed by a list call,
+     * either because it was never listed or because the last list is older than the resync interval.
+     * @param namespace the namespace to check
+     */
+    public boolean isResyncDue(String namespace) {
+      return Optional.ofNullable(listTimes.get(namespace))
+            .map(t -> t.plusSeconds(getResyncSeconds()).isBefore(SystemClock.now()))
+            .orElse(true);
+    }
+
+    /**
+     * Replaces the contents of this store for a namespace with the result of a list call.
+     * @param namespace the namespace which was listed
+     * @param items the resources found
+     */
+    public void replaceAll(String namespace, Collection<T> items) {
+      replaceAll(namespace, items, null);
+    }
+
+    /**
+     * Replaces the contents of this store for a namespace with the result of a list call. Cached resources which
+     * watch events recorded after the list was made are kept: those newer than the listed versions and,
+     * if the resource version of the list is known, those created since.
+     * @param namespace the namespace which was listed
+     * @param items the resources found
+     * @param listResourceVersion the resource version of the list, or null if not known
+     */
+    public void replaceAll(String namespace, Collection<T> items, String listResourceVersion) {
+      final BigInteger listVersion = KubernetesUtils.getResourceVersion(listResourceVersion);
+      namespaces.compute(namespace, (ns, previous) -> createIndex(items, previous, listVersion));
+      listTimes.put(namespace, SystemClock.now());
+    }
+
+    private NamespaceIndex<T> createIndex(Collection<T> items, NamespaceIndex<T> previous, BigInteger listVersion) {
+      NamespaceIndex<T> index = new NamespaceIndex<>();
+      items.forEach(item -> index.put(getMetadata(item), storedForm.apply(item)));
+      Optional.ofNullable(previous).map(NamespaceIndex::list).orElse(Collections.emptyList())
+            .forEach(item -> index.putIfRecordedAfter(getMetadata(item), item, listVersion, metadataFunction));
+      return index;
+    }
+
+    /**
+     * Records a watch event for a resource in this store. Events for namespaces which have not been listed,
+     * and events older than the cached version of a resource, are ignored.
+     * @param type the watch event type
+     * @param item the resource reported by the event
+     */
+    public void update(String type, T item) {
+      V1ObjectMeta metadata = getMetadata(item);
+      if (metadata == null || metadata.getNamespace() == null || metadata.getName() == null) {
+        return;
+      }
+
+      // computed in the map so that an event cannot be recorded in an index which a list is replacing
+      namespaces.computeIfPresent(metadata.getNamespace(), (ns, index) -> recordEvent(index, type, metadata, item));
+    }
+
+    private NamespaceIndex<T> recordEvent(NamespaceIndex<T> index, String type, V1ObjectMeta metadata, T item) {
+      switch (type) {
+        case "ADDED":
+        case "MODIFIED":
+          index.putIfNewer(metadata, storedForm.apply(item), metadataFunction);
+          break;
+        case "DELETED":
+          index.remove(metadata);
+          break;
+        default:
+      }
+      return index;
+    }
+
+    /**
+     * Records whether the watcher for this store's resource type is running in the specified namespace.
+     * @param namespace the namespace watched
+     * @param watched true if the watcher is running
+     */
+    public void setWatched(String namespace, boolean watched) {
+      if (watched) {
+        watchedNamespaces.add(namespace);
+      } else {
+        watchedNamespaces.remove(namespace);
+      }
+    }
+
+    /**
+     * Marks the contents for a namespace as unreliable, so that readers fall back to list calls until
+     * the next list repopulates the store.
+     * @param namespace the namespace whose watch lost events
+     */
+    public void invalidate(String namespace) {
+      listTimes.remove(namespace);
+    }
+
+    void removeNamespace(String namespace) {
+      namespaces.remove(namespace);
+      listTimes.remove(namespace);
+      watchedNamespaces.remove(namespace);
+    }
+
+    /**
+     * Returns all cached resources in the specified namespace.
+     * @param namespace a namespace
+     */
+    @Nonnull
+    public List<T> list(String namespace) {
+      return Optional.ofNullable(namespaces.get(namespace)).map(NamespaceIndex::list).orElse(Collections.emptyList());
+    }
+
+    /**
+     * Returns the cached resources in the specified namespace labeled with the specified domain UID.
+     * @param namespace a namespace
+     * @param domainUid a domain UID
+     */
+    @Nonnull
+    public List<T> listForDomain(String namespace, String domainUid) {
+      return Optional.ofNullable(namespaces.get(namespace))
+            .map(i -> i.listForDomain(domainUid))
+            .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Returns the cached resources in the specified namespace labeled with the specified domain UID and server name.
+     * @param namespace a namespace
+     * @param domainUid a domain UID
+     * @param serverName a WebLogic server name
+     */
+    @Nonnull
+    public List<T> listForServer(String namespace, String domainUid, String serverName) {
+      return Optional.ofNullable(namespaces.get(namespace))
+            .map(i -> i.listForServer(domainUid, serverName))
+            .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Returns the cached resource with the specified name.
+     * @param namespace a namespace
+     * @param name the name of the resource
+     */
+    public Optional<T> get(String namespace, String name) {
+      return Optional.ofNullable(namespaces.get(namespace)).map(i -> i.get(name));
+    }
+
+    private V1ObjectMeta getMetadata(T item) {
+      return Optional.ofNullable(item).map(metadataFunction).orElse(null);
+    }
+  }
+
+  private static class NamespaceIndex<T> {
+    private final Map<String, T> byName = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byDomain = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byServer = new ConcurrentHashMap<>();
+
+    synchronized void put(V1ObjectMeta metadata, T item) {
+      if (metadata == null || metadata.getName() == null) {
+        return;
+      }
+
+      remove(metadata);
+      byName.put(metadata.getName(), item);
+      Optional.ofNullable(getDomainKey(metadata)).ifPresent(k -> addToIndex(byDomain, k, metadata.getName()));
+      Optional.ofNullable(getServerKey(metadata)).ifPresent(k -> addToIndex(byServer, k, metadata.getName()));
+    }
+
+    synchronized void putIfNewer(V1ObjectMeta metadata, T item, Function<T, V1ObjectMeta> metadataFunction) {
+      T cached = Optional.ofNullable(metadata).map(V1ObjectMeta::getName).map(byName::get).orElse(null);
+      if (cached == null || !isNewer(metadataFunction.apply(cached), metadata)) {
+        put(metadata, item);
+      }
+    }
+
+    synchronized void putIfRecordedAfter(
+          V1ObjectMeta metadata, T item, BigInteger listVersion, Function<T, V1ObjectMeta> metadataFunction) {
+      T listed = Optional.ofNullable(metadata).map(V1ObjectMeta::getName).map(byName::get).orElse(null);
+      if (listed != null ? isNewer(metadata, metadataFunction.apply(listed)) : isAfter(metadata, listVersion)) {
+        put(metadata, item);
+      }
+    }
+
+    private boolean isNewer(V1ObjectMeta first, V1ObjectMeta second) {
+      return KubernetesUtils.getResourceVersion(first).compareTo(KubernetesUtils.getResourceVersion(second)) > 0;
+    }
+
+    // An unknown list version is zero, in which case no resource missing from the list is kept.
+    private boolean isAfter(V1ObjectMeta metadata, BigInteger listVersion) {
+      return listVersion.signum() > 0 && KubernetesUtils.getResourceVersion(metadata).compareTo(listVersion) > 0;
+    }
+
+    synchronized void remove(V1ObjectMeta metadata) {
+      T removed = byName.remove(metadata.getName());
+      if (removed != null) {
+        byDomain.values().forEach(names -> names.remove(metadata.getName()));
+        byServer.values().forEach(names -> names.remove(metadata.getName()));
+      }
+    }
+
+    List<T> list() {
+      return new ArrayList<>(byName.values());
+    }
+
+    List<T> listForDomain(String domainUid) {
+      return select(byDomain.get(domainUid));
+    }
+
+    List<T> listForServer(String domainUid, String serverName) {
+      return select(byServer.get(domainUid + '/' + serverName));
+    }
+
+    T get(String name) {
+      return byName.get(name);
+    }
+
+    private List<T> select(Set<String> names) {
+      return Optional.ofNullable(names).orElse(Collections.emptySet()).stream()
+            .map(byName::get)
+            .filter(Objects::nonNull)
+            .collect(ArrayList::new, List::add, List::addAll);
+    }
+
+    private void addToIndex(Map<String, Set<String>> index, String key, String name) {
+      index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(name);
+    }
+
+    private String getDomainKey(V1ObjectMeta metadata) {
+      return getLabel(metadata, DOMAINUID_LABEL);
+    }
+
+    private String getServerKey(V1ObjectMeta metadata) {
+      return Optional.ofNullable(getLabel(metadata, SERVERNAME_LABEL))
+            .map(s -> getDomainKey(metadata) + '/' + s)
+            .orElse(null);
+    }
+
+    private String getLabel(V1ObjectMeta metadata, String label) {
+      return Optional.ofNullable(metadata.getLabels()).map(l -> l.get(label)).orElse(null);
+    }
+  }
+}
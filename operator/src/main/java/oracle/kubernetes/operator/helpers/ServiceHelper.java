@@ -10,9 +10,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
@@ -20,6 +22,8 @@ import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import io.kubernetes.client.openapi.models.V1Status;
+import jakarta.json.Json;
+import jakarta.json.JsonPatchBuilder;
 import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -164,8 +168,8 @@ public class ServiceHelper {
     return new ClusterStepContext(null, packet).createModel();
   }
 
-  private static boolean canUseCurrentService(V1Service model, V1Service current) {
-    return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current));
+  private static boolean canUseCurrentService(V1Service model, V1Service current, Supplier<Object> recipe) {
+    return AnnotationHelper.hasMatchingHash(model, current, recipe);
   }
 
   /**
@@ -553,9 +557,12 @@ public class ServiceHelper {
       V1Service service = getServiceFromRecord();
       if (service == null) {
         return createNewService(next);
-      } else if (canUseCurrentService(createModel(), service)) {
+      }
+
+      V1Service model = createModel();
+      if (canUseCurrentService(model, service, this::createRecipe)) {
         logServiceExists();
-        return next;
+        return hasSameHash(model, service) ? next : patchServiceHash(service, model, next);
       } else {
         removeServiceFromRecord();
         return deleteAndReplaceService(next);
@@ -564,6 +571,22 @@ public class ServiceHelper {
 
     protected abstract void logServiceExists();
 
+    private boolean hasSameHash(V1Service model, V1Service service) {
+      return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(service));
+    }
+
+    // A usable service whose hash differs from the model's was created by an earlier operator version. It is
+    // given the current hash, so that its recipe is hashed with the legacy function only once.
+    private Step patchServiceHash(V1Service service, V1Service model, Step next) {
+      JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+      KubernetesUtils.addPatches(patchBuilder, "/metadata/annotations/",
+          service.getMetadata().getAnnotations(),
+          Map.of(AnnotationHelper.SHA256_ANNOTATION, AnnotationHelper.getHash(model)));
+      return new CallBuilder()
+          .patchServiceAsync(createServiceName(), getNamespace(), getDomainUid(),
+              new V1Patch(patchBuilder.build().toString()), new PatchServiceResponse(next));
+    }
+
     private Step createNewService(Step next) {
       return createService(getServiceCreatedMessageKey(), next);
     }
@@ -676,6 +699,23 @@ public class ServiceHelper {
       }
     }
 
+    private class PatchServiceResponse extends ResponseStep<V1Service> {
+      PatchServiceResponse(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1Service> callResponse) {
+        return onFailure(getConflictStep(), packet, callResponse);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1Service> callResponse) {
+        Optional.ofNullable(callResponse.getResult()).ifPresent(ServiceStepContext.this::addServiceToRecord);
+        return doNext(packet);
+      }
+    }
+
     private class CreateResponse extends ResponseStep<V1Service> {
       private final String messageKey;
 
@@ -0,0 +1,265 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.ErrorManager;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * A console handler which formats records on the thread which logs them, but writes them to the console from a
+ * separate thread, so that the threads which run the operator's fibers do not wait for the console. Formatted
+ * records are held in a bounded buffer until they are written. If the buffer is full, records below the WARNING
+ * level are discarded and counted, while more severe records wait for space for a limited time, and are then
+ * written to the console by the thread which logs them.
+ *
+ * <p>The handler takes its level from the LogManager property 'java.util.logging.ConsoleHandler.level', as the
+ * console handler which it replaces did, unless a level is set for this class. The size of the buffer may be set
+ * with the property 'oracle.kubernetes.operator.logging.AsyncConsoleHandler.capacity'.
+ */
+public class AsyncConsoleHandler extends ConsoleHandler {
+
+  static final int DEFAULT_CAPACITY = 10_000;
+
+  private static final String CONSOLE_HANDLER = ConsoleHandler.class.getName();
+  // formatted records are never empty, so an empty string marks the end of the records to write
+  private static final String END_OF_RECORDS = "";
+  private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+  private static final long ENQUEUE_TIMEOUT_MILLIS = 1000;
+
+  private final BlockingQueue<String> records;
+  private final long enqueueTimeoutMillis;
+  private final Writer writer;
+  private final Thread writerThread;
+  private final AtomicLong enqueuedCount = new AtomicLong();
+  private final AtomicLong discardedCount = new AtomicLong();
+  private long writtenCount;
+  private volatile boolean closed;
+
+  /**
+   * Creates a handler which writes to System.err.
+   */
+  public AsyncConsoleHandler() {
+    this(System.err, getConfiguredCapacity());
+    Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+  }
+
+  AsyncConsoleHandler(OutputStream out, int capacity) {
+    this(out, capacity, ENQUEUE_TIMEOUT_MILLIS);
+  }
+
+  AsyncConsoleHandler(OutputStream out, int capacity, long enqueueTimeoutMillis) {
+    setLevel(getConfiguredLevel());
+    records = new ArrayBlockingQueue<>(capacity);
+    this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+    writer = new BufferedWriter(new OutputStreamWriter(out, getCharset()));
+    writerThread = new Thread(this::writeRecords, "operator-log-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  private static int getConfiguredCapacity() {
+    try {
+      return Optional.ofNullable(getProperty(AsyncConsoleHandler.class.getName() + ".capacity"))
+            .map(Integer::parseInt)
+            .filter(capacity -> capacity > 0)
+            .orElse(DEFAULT_CAPACITY);
+    } catch (NumberFormatException e) {
+      return DEFAULT_CAPACITY;
+    }
+  }
+
+  private static Level getConfiguredLevel() {
+    try {
+      return Optional.ofNullable(getProperty(AsyncConsoleHandler.class.getName() + ".level"))
+            .or(() -> Optional.ofNullable(getProperty(CONSOLE_HANDLER + ".level")))
+            .map(Level::parse)
+            .orElse(Level.INFO);
+    } catch (IllegalArgumentException e) {
+      return Level.INFO;
+    }
+  }
+
+  private static String getProperty(String name) {
+    return Optional.ofNullable(LogManager.getLogManager().getProperty(name)).map(String::trim).orElse(null);
+  }
+
+  private Charset getCharset() {
+    return Optional.ofNullable(getEncoding()).map(Charset::forName).orElse(Charset.defaultCharset());
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (closed || !isLoggable(record)) {
+      return;
+    }
+
+    final String text;
+    try {
+      text = getFormatter().format(record);
+    } catch (Exception e) {
+      reportError(null, e, ErrorManager.FORMAT_FAILURE);
+      return;
+    }
+    if (text.isEmpty()) {
+      return;
+    }
+
+    if (records.offer(text) || isSevere(record) && waitToEnqueue(text)) {
+      enqueuedCount.incrementAndGet();
+    } else if (isSevere(record)) {
+      writeDirectly(text);
+    } else {
+      discardedCount.incrementAndGet();
+    }
+  }
+
+  // Used when the writer thread cannot keep up, so that severe records are not lost and the thread which logs
+  // them does not wait indefinitely.
+  private void writeDirectly(String text) {
+    write(text);
+    flushWriter();
+  }
+
+  private boolean isSevere(LogRecord record) {
+    return record.getLevel().intValue() >= Level.WARNING.intValue();
+  }
+
+  private boolean waitToEnqueue(String text) {
+    try {
+      return records.offer(text, enqueueTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Returns the number of records which have been discarded because the buffer was full.
+   */
+  long getDiscardedCount() {
+    return discardedCount.get();
+  }
+
+  private void writeRecords() {
+    final List<String> batch = new ArrayList<>();
+    long discardsReported = 0;
+    try {
+      while (true) {
+        batch.add(records.take());
+        records.drainTo(batch);
+        final boolean endOfRecords = batch.remove(END_OF_RECORDS);
+
+        try {
+          for (String text : batch) {
+            write(text);
+          }
+          final long discards = discardedCount.get();
+          if (discards > discardsReported) {
+            final long newDiscards = discards - discardsReported;
+            discardsReported = discards;
+            write(getFormatter().format(createDiscardRecord(newDiscards)));
+          }
+        } catch (RuntimeException e) {
+          // the formatter may fail; the writer thread must keep running, or severe records would be lost
+          reportError(null, e, ErrorManager.GENERIC_FAILURE);
+        } finally {
+          flushWriter();
+          recordWritten(batch.size());
+          batch.clear();
+        }
+
+        if (endOfRecords) {
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private LogRecord createDiscardRecord(long count) {
+    final LogRecord record = new LogRecord(Level.WARNING, MessageKeys.LOG_MESSAGES_DISCARDED);
+    record.setResourceBundle(ResourceBundle.getBundle("Operator"));
+    record.setSourceClassName(getClass().getName());
+    record.setSourceMethodName("writeRecords");
+    record.setParameters(new Object[] {count});
+    return record;
+  }
+
+  private void write(String text) {
+    try {
+      writer.write(text);
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.WRITE_FAILURE);
+    }
+  }
+
+  private void flushWriter() {
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.FLUSH_FAILURE);
+    }
+  }
+
+  private synchronized void recordWritten(int count) {
+    writtenCount += count;
+    notifyAll();
+  }
+
+  /**
+   * Waits until the records published before this call have been written to the console.
+   */
+  @Override
+  public void flush() {
+    final long target = enqueuedCount.get();
+    final long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MILLIS;
+    synchronized (this) {
+      while (writtenCount < target && writerThread.isAlive() && System.currentTimeMillis() < deadline) {
+        try {
+          wait(100);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes any records which have been published, and stops the thread which writes them. Records published
+   * after this call are ignored. The console stream itself is not closed.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    waitToEnqueue(END_OF_RECORDS);
+    try {
+      writerThread.join(CLOSE_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
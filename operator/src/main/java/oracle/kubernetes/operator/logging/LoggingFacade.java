@@ -32,7 +32,7 @@ public class LoggingFacade {
       }
     }
 
-    ConsoleHandler handler = new ConsoleHandler();
+    ConsoleHandler handler = new AsyncConsoleHandler();
     handler.setFormatter(new LoggingFormatter());
     logger.addHandler(handler);
   }
@@ -3,29 +3,33 @@
 
 package oracle.kubernetes.operator.logging;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.kubernetes.client.openapi.ApiException;
-import io.kubernetes.client.openapi.JSON;
 import io.swagger.annotations.ApiModel;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 
-/** Custom log formatter to format log messages in JSON format. */
+/**
+ * Custom log formatter to format log messages in JSON format. Each record is written directly to a JSON generator
+ * which is reused by the thread doing the logging, so that formatting a record creates little garbage beyond the
+ * resulting string.
+ */
 public class LoggingFormatter extends Formatter {
   private static final Map<String, List<String>> PLACEHOLDER = new HashMap<>();
 
@@ -48,103 +52,149 @@ public class LoggingFormatter extends Formatter {
 
   private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
+  // a buffer which has grown beyond this size while formatting a large record is discarded, rather than kept
+  private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory().setRootValueSeparator(null);
+  private static final ThreadLocal<JsonBuffer> BUFFERS = new ThreadLocal<>();
+
+  // the toString() format for the model classes is inappropriate for our logs, so they are logged in JSON format
+  private static final ClassValue<Boolean> MODEL_CLASSES = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return type.getAnnotation(ApiModel.class) != null
+          || type.getName().startsWith("oracle.kubernetes.weblogic.domain.");
+    }
+  };
+
   @Override
   public String format(LogRecord record) {
-    String sourceClassName = "";
-    String sourceMethodName = "";
-    if (record.getSourceClassName() != null) {
-      sourceClassName = record.getSourceClassName();
-      if (record.getSourceMethodName() != null) {
-        sourceMethodName = record.getSourceMethodName();
+    JsonBuffer buffer = acquireBuffer();
+    try {
+      writeRecord(buffer.generator, record);
+      return buffer.getContents();
+    } catch (IOException e) {
+      buffer.discard();
+      return formatError(record, e);
+    } finally {
+      releaseBuffer(buffer);
+    }
+  }
+
+  // A thread which logs while formatting a record, for example from the toString() method of a parameter,
+  // may not reuse the buffer which it is already writing, and so is given a new one.
+  private JsonBuffer acquireBuffer() {
+    JsonBuffer buffer = BUFFERS.get();
+    if (buffer == null || buffer.inUse) {
+      buffer = new JsonBuffer();
+      if (BUFFERS.get() == null) {
+        BUFFERS.set(buffer);
       }
-    } else {
-      sourceClassName = record.getLoggerName();
     }
+    buffer.inUse = true;
+    return buffer;
+  }
+
+  private void releaseBuffer(JsonBuffer buffer) {
+    buffer.inUse = false;
+    if (buffer == BUFFERS.get() && (buffer.discarded || buffer.isOversized())) {
+      BUFFERS.remove();
+    }
+  }
 
-    // the toString() format for the model classes is inappropriate for our logs
-    // so, replace with the JSON serialization
-    JSON j = LoggingFactory.getJson();
-    if (j != null) {
-      Object[] parameters = record.getParameters();
-      if (parameters != null) {
-        for (int i = 0; i < parameters.length; i++) {
-          Object pi = parameters[i];
-          if (pi != null) {
-            if (pi.getClass().getAnnotation(ApiModel.class) != null
-                || pi.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain.")) {
-              // this is a model object
-              parameters[i] = j.serialize(pi);
-            }
-          }
+  private void writeRecord(JsonGenerator generator, LogRecord record) throws IOException {
+    Fiber fiber = Fiber.getCurrentIfSet();
+    Throwable thrown = record.getThrown();
+
+    generator.writeStartObject();
+    generator.writeStringField(TIMESTAMP, getTimestamp(record));
+    generator.writeNumberField(THREAD, Thread.currentThread().getId());
+    generator.writeStringField(FIBER, fiber != null ? fiber.toString() : "");
+    generator.writeStringField(DOMAIN_NAMESPACE, getNamespace(fiber));
+    generator.writeStringField(DOMAIN_UID, getDomainUid(fiber));
+    generator.writeStringField(LOG_LEVEL, record.getLevel().getLocalizedName());
+    generator.writeStringField(SOURCE_CLASS, getSourceClassName(record));
+    generator.writeStringField(SOURCE_METHOD, getSourceMethodName(record));
+    generator.writeNumberField(TIME_IN_MILLIS, record.getMillis());
+    generator.writeStringField(MESSAGE, Optional.ofNullable(formatMessageWithModels(record)).orElse(""));
+    generator.writeStringField(EXCEPTION, thrown != null ? getStackTrace(thrown) : "");
+    writeApiExceptionFields(generator, thrown instanceof ApiException ? (ApiException) thrown : null);
+    generator.writeEndObject();
+    generator.flush();
+  }
+
+  private String getTimestamp(LogRecord record) {
+    return DATE_FORMAT.format(OffsetDateTime.ofInstant(record.getInstant(), ZoneId.systemDefault()));
+  }
+
+  private String getSourceClassName(LogRecord record) {
+    return record.getSourceClassName() != null ? record.getSourceClassName() : record.getLoggerName();
+  }
+
+  private String getSourceMethodName(LogRecord record) {
+    return record.getSourceClassName() != null && record.getSourceMethodName() != null
+          ? record.getSourceMethodName() : "";
+  }
+
+  // Model parameters are serialized only if the message actually includes them, and then only once,
+  // no matter how many handlers format the record.
+  private String formatMessageWithModels(LogRecord record) {
+    Object[] parameters = record.getParameters();
+    if (parameters != null) {
+      for (int i = 0; i < parameters.length; i++) {
+        if (parameters[i] != null && MODEL_CLASSES.get(parameters[i].getClass())) {
+          parameters[i] = new ModelParameter(parameters[i]);
         }
       }
     }
+    return formatMessage(record);
+  }
 
-    final String message = formatMessage(record);
-    String code = "";
-    Map<String, List<String>> headers = PLACEHOLDER;
-    String body = "";
-    String throwable = "";
-    if (record.getThrown() != null) {
-      StringWriter sw = new StringWriter();
-      PrintWriter pw = new PrintWriter(sw);
-      pw.println();
-      record.getThrown().printStackTrace(pw);
-      pw.close();
-      throwable = sw.toString();
-      if (record.getThrown() instanceof ApiException) {
-        ApiException ae = (ApiException) record.getThrown();
-        code = String.valueOf(ae.getCode());
-        if (ae.getResponseHeaders() != null) {
-          headers = ae.getResponseHeaders();
-        }
-        String rb = ae.getResponseBody();
-        if (rb != null) {
-          body = rb;
+  private String getStackTrace(Throwable thrown) {
+    StringWriter sw = new StringWriter();
+    PrintWriter pw = new PrintWriter(sw);
+    pw.println();
+    thrown.printStackTrace(pw);
+    pw.close();
+    return sw.toString();
+  }
+
+  private void writeApiExceptionFields(JsonGenerator generator, ApiException exception) throws IOException {
+    generator.writeStringField(RESPONSE_CODE, exception != null ? String.valueOf(exception.getCode()) : "");
+    writeHeaders(generator, Optional.ofNullable(exception)
+          .map(ApiException::getResponseHeaders).orElse(PLACEHOLDER));
+    generator.writeStringField(RESPONSE_BODY, Optional.ofNullable(exception)
+          .map(ApiException::getResponseBody).orElse(""));
+  }
+
+  private void writeHeaders(JsonGenerator generator, Map<String, List<String>> headers) throws IOException {
+    generator.writeObjectFieldStart(RESPONSE_HEADERS);
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      generator.writeFieldName(String.valueOf(header.getKey()));
+      if (header.getValue() == null) {
+        generator.writeNull();
+      } else {
+        generator.writeStartArray();
+        for (String value : header.getValue()) {
+          generator.writeString(value);
         }
+        generator.writeEndArray();
       }
     }
-    String level = record.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
-    long rawTime = record.getMillis();
-    final String dateString = DATE_FORMAT.format(OffsetDateTime.ofInstant(record.getInstant(), ZoneId.systemDefault()));
-    long thread = Thread.currentThread().getId();
-    Fiber fiber = Fiber.getCurrentIfSet();
+    generator.writeEndObject();
+  }
 
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    map.put(FIBER, fiber != null ? fiber.toString() : "");
-    map.put(DOMAIN_NAMESPACE, getNamespace(fiber));
-    map.put(DOMAIN_UID, getDomainUid(fiber));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replaceAll("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replaceAll("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replaceAll("\n", "\\\n"));
-    String json = "";
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
-
-    } catch (JsonProcessingException e) {
-      String tmp =
-          "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
-              + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
-      return String.format(
-          tmp,
-          dateString,
-          level,
-          LoggingFormatter.class.getName(),
-          rawTime,
-          e.getLocalizedMessage());
-    }
-    return json + "\n";
+  private String formatError(LogRecord record, IOException e) {
+    String tmp =
+        "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
+            + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
+    return String.format(
+        tmp,
+        getTimestamp(record),
+        record.getLevel().getLocalizedName(),
+        LoggingFormatter.class.getName(),
+        record.getMillis(),
+        e.getLocalizedMessage());
   }
 
   /**
@@ -160,7 +210,7 @@ public class LoggingFormatter extends Formatter {
           .map(Fiber::getPacket)
           .map(this::getDomainPresenceInfo)
           .map(DomainPresenceInfo::getDomainUid)
-          .orElse(getDomainUidFromLoggingContext(fiber));
+          .orElseGet(() -> getDomainUidFromLoggingContext(fiber));
   }
 
   private String getDomainUidFromLoggingContext(Fiber fiber) {
@@ -168,7 +218,7 @@ public class LoggingFormatter extends Formatter {
         .map(Fiber::getPacket)
         .map(p -> p.getSpi(LoggingContext.class))
         .map(LoggingContext::domainUid)
-        .orElse(getDomainUidFromThreadContext());
+        .orElseGet(this::getDomainUidFromThreadContext);
   }
 
   private String getDomainUidFromThreadContext() {
@@ -192,7 +242,7 @@ public class LoggingFormatter extends Formatter {
           .map(Fiber::getPacket)
           .map(this::getDomainPresenceInfo)
           .map(DomainPresenceInfo::getNamespace)
-          .orElse(getNamespaceFromLoggingContext(fiber));
+          .orElseGet(() -> getNamespaceFromLoggingContext(fiber));
   }
 
   private String getNamespaceFromLoggingContext(Fiber fiber) {
@@ -204,4 +254,53 @@ public class LoggingFormatter extends Formatter {
           .orElse("");
   }
 
+  // A model parameter which is serialized to JSON when a message includes it.
+  private static class ModelParameter {
+    private final Object model;
+    private String json;
+
+    ModelParameter(Object model) {
+      this.model = model;
+    }
+
+    @Override
+    public synchronized String toString() {
+      if (json == null) {
+        json = LoggingFactory.getJson().serialize(model);
+      }
+      return json;
+    }
+  }
+
+  // A JSON generator together with the buffer to which it writes.
+  private static class JsonBuffer {
+    private final StringWriter writer = new StringWriter();
+    private final JsonGenerator generator;
+    private boolean inUse;
+    private boolean discarded;
+
+    JsonBuffer() {
+      try {
+        generator = JSON_FACTORY.createGenerator(writer);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    String getContents() {
+      writer.append('\n');
+      String contents = writer.toString();
+      writer.getBuffer().setLength(0);
+      return contents;
+    }
+
+    // after a failure, the generator may be part way through a record, and cannot be reused
+    void discard() {
+      discarded = true;
+    }
+
+    boolean isOversized() {
+      return writer.getBuffer().capacity() > MAX_RETAINED_BUFFER_SIZE;
+    }
+  }
 }
@@ -143,6 +143,17 @@ public class MessageKeys {
   public static final String EXECUTE_MAKE_RIGHT_DOMAIN = "WLSKO-0192";
   public static final String LOG_WAITING_COUNT = "WLSKO-0193";
   public static final String INTERNAL_IDENTITY_INITIALIZATION_FAILED = "WLSKO-0194";
+  public static final String CLUSTER_WIDE_WATCH_ENABLED = "WLSKO-0195";
+  public static final String CLUSTER_WIDE_WATCH_NOT_PERMITTED = "WLSKO-0196";
+  public static final String WATCH_RELISTED = "WLSKO-0197";
+  public static final String INTROSPECTION_RESULT_REUSED = "WLSKO-0198";
+  public static final String INTROSPECTION_QUEUED = "WLSKO-0199";
+  public static final String LOG_MESSAGES_DISCARDED = "WLSKO-0200";
+  public static final String NO_SUCH_CLUSTER = "WLSKO-0201";
+  public static final String SCALE_REQUEST_NOT_FOUND = "WLSKO-0202";
+  public static final String REST_VIRTUAL_THREADS_UNAVAILABLE = "WLSKO-0203";
+  public static final String REST_HTTP2_UNAVAILABLE = "WLSKO-0204";
+  public static final String ENGINE_VIRTUAL_THREADS_UNAVAILABLE = "WLSKO-0205";
 
 
   // domain status messages
@@ -0,0 +1,37 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A metric whose values are read from elsewhere in the operator each time that metrics are exported, for state
+ * that is already tracked, such as queue lengths and the counters kept by individual components. If it has
+ * labels, the supplier returns a value for each combination of label values, listed in the order of the label names.
+ */
+class CallbackMetric extends Metric {
+
+  private final String[] labelNames;
+  private final Supplier<Map<List<String>, ? extends Number>> values;
+
+  CallbackMetric(String name, String help, String type, String[] labelNames,
+                 Supplier<Map<List<String>, ? extends Number>> values) {
+    super(name, help, type);
+    this.labelNames = labelNames.clone();
+    this.values = values;
+  }
+
+  @Override
+  void writeSamples(StringBuilder sb) {
+    values.get().forEach((labelValues, value) -> writeSample(sb, getName(), labelNames,
+          labelValues.toArray(new String[0]), null, null, format(value)));
+  }
+
+  private String format(Number value) {
+    return value instanceof Double || value instanceof Float
+          ? formatDouble(value.doubleValue()) : Long.toString(value.longValue());
+  }
+}
@@ -0,0 +1,43 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count of events, which only increases.
+ */
+public class Counter extends LabelledMetric<Counter.Child> {
+
+  Counter(String name, String help, String... labelNames) {
+    super(name, help, "counter", labelNames);
+  }
+
+  @Override
+  Child newChild() {
+    return new Child();
+  }
+
+  @Override
+  void writeSamples(StringBuilder sb) {
+    forEachChild((values, child) ->
+          writeSample(sb, getName(), getLabelNames(), values, null, null, Long.toString(child.get())));
+  }
+
+  public static class Child {
+    private final LongAdder count = new LongAdder();
+
+    public void inc() {
+      count.increment();
+    }
+
+    public void inc(long amount) {
+      count.add(amount);
+    }
+
+    public long get() {
+      return count.sum();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A distribution of observed values, such as durations, counted in buckets with fixed upper bounds.
+ * Each observation increments a single bucket; the cumulative counts that Prometheus expects are computed
+ * only when the histogram is exported.
+ */
+public class Histogram extends LabelledMetric<Histogram.Child> {
+
+  private final double[] upperBounds;
+
+  Histogram(String name, String help, double[] upperBounds, String... labelNames) {
+    super(name, help, "histogram", labelNames);
+    this.upperBounds = upperBounds.clone();
+    Arrays.sort(this.upperBounds);
+  }
+
+  @Override
+  Child newChild() {
+    return new Child(upperBounds);
+  }
+
+  @Override
+  void writeSamples(StringBuilder sb) {
+    forEachChild((values, child) -> writeChild(sb, values, child));
+  }
+
+  private void writeChild(StringBuilder sb, String[] values, Child child) {
+    long cumulativeCount = 0;
+    for (int i = 0; i < upperBounds.length; i++) {
+      cumulativeCount += child.bucketCounts[i].sum();
+      writeSample(sb, getName() + "_bucket", getLabelNames(), values,
+            "le", formatDouble(upperBounds[i]), Long.toString(cumulativeCount));
+    }
+    cumulativeCount += child.bucketCounts[upperBounds.length].sum();
+    writeSample(sb, getName() + "_bucket", getLabelNames(), values, "le", "+Inf", Long.toString(cumulativeCount));
+    writeSample(sb, getName() + "_sum", getLabelNames(), values, null, null, formatDouble(child.sum.sum()));
+    writeSample(sb, getName() + "_count", getLabelNames(), values, null, null, Long.toString(child.count.sum()));
+  }
+
+  public static class Child {
+    private final double[] upperBounds;
+    private final LongAdder[] bucketCounts;
+    private final DoubleAdder sum = new DoubleAdder();
+    private final LongAdder count = new LongAdder();
+
+    Child(double[] upperBounds) {
+      this.upperBounds = upperBounds;
+      this.bucketCounts = new LongAdder[upperBounds.length + 1];
+      for (int i = 0; i < bucketCounts.length; i++) {
+        bucketCounts[i] = new LongAdder();
+      }
+    }
+
+    /**
+     * Records an observed value.
+     * @param value the value, in the histogram's base unit
+     */
+    public void observe(double value) {
+      int i = 0;
+      while (i < upperBounds.length && value > upperBounds[i]) {
+        i++;
+      }
+      bucketCounts[i].increment();
+      sum.add(value);
+      count.increment();
+    }
+
+    /**
+     * Records an observed duration in a histogram whose base unit is seconds.
+     * @param nanos the duration, in nanoseconds
+     */
+    public void observeNanos(long nanos) {
+      observe(nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public long getCount() {
+      return count.sum();
+    }
+
+    public double getSum() {
+      return sum.sum();
+    }
+  }
+}
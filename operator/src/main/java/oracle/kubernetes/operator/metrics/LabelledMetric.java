@@ -0,0 +1,153 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * A metric whose samples are divided by the values of a fixed set of labels. Each combination of label values
+ * has its own child, which holds the sample values. Children are found by walking a tree of maps, one level per
+ * label, so that looking up an existing child with the fixed-arity {@code labels} methods allocates nothing;
+ * callers on hot paths may nonetheless keep a child which they will use repeatedly. A null label value is
+ * treated as empty.
+ *
+ * @param <C> the type of the children
+ */
+public abstract class LabelledMetric<C> extends Metric {
+
+  private static final int MAX_FIXED_LABELS = 3;
+
+  private final String[] labelNames;
+  private final Node<C> root = new Node<>();
+
+  LabelledMetric(String name, String help, String type, String... labelNames) {
+    super(name, help, type);
+    if (labelNames.length > MAX_FIXED_LABELS) {
+      throw new IllegalArgumentException(name + " may have at most " + MAX_FIXED_LABELS + " labels");
+    }
+    this.labelNames = labelNames.clone();
+  }
+
+  String[] getLabelNames() {
+    return labelNames;
+  }
+
+  /**
+   * Returns the child for a metric which has no labels.
+   */
+  public C labels() {
+    checkArity(0);
+    return getChild(root, null, null, null);
+  }
+
+  /**
+   * Returns the child for the specified label value.
+   * @param v1 the value of the only label
+   */
+  public C labels(String v1) {
+    checkArity(1);
+    return getChild(next(root, v1), v1, null, null);
+  }
+
+  /**
+   * Returns the child for the specified label values.
+   * @param v1 the value of the first label
+   * @param v2 the value of the second label
+   */
+  public C labels(String v1, String v2) {
+    checkArity(2);
+    return getChild(next(next(root, v1), v2), v1, v2, null);
+  }
+
+  /**
+   * Returns the child for the specified label values.
+   * @param v1 the value of the first label
+   * @param v2 the value of the second label
+   * @param v3 the value of the third label
+   */
+  public C labels(String v1, String v2, String v3) {
+    checkArity(3);
+    return getChild(next(next(next(root, v1), v2), v3), v1, v2, v3);
+  }
+
+  private void checkArity(int numValues) {
+    if (numValues != labelNames.length) {
+      throw new IllegalArgumentException(
+            getName() + " expects " + labelNames.length + " label values, not " + numValues);
+    }
+  }
+
+  private static String toKey(String value) {
+    return value == null ? "" : value;
+  }
+
+  private static <C> Node<C> next(Node<C> node, String value) {
+    final String key = toKey(value);
+    final Node<C> result = node.children.get(key);
+    return result != null ? result : node.children.computeIfAbsent(key, k -> new Node<>());
+  }
+
+  private C getChild(Node<C> node, String v1, String v2, String v3) {
+    final C child = node.child;
+    return child != null ? child : createChild(node, new String[] {v1, v2, v3});
+  }
+
+  private synchronized C createChild(Node<C> node, String[] values) {
+    if (node.child == null) {
+      final String[] labelValues = Arrays.copyOf(values, labelNames.length);
+      for (int i = 0; i < labelValues.length; i++) {
+        labelValues[i] = labelValues[i] == null ? "" : labelValues[i];
+      }
+      node.labelValues = labelValues;
+      node.child = newChild();
+    }
+    return node.child;
+  }
+
+  abstract C newChild();
+
+  /**
+   * Removes the children whose leading label values are those specified, so that they are no longer exported.
+   * For example, a metric labelled by namespace and domain may drop all of the samples for a deleted domain.
+   * @param leadingValues the values of one or more of the first labels, in order
+   */
+  public void remove(String... leadingValues) {
+    if (leadingValues.length == 0 || leadingValues.length > labelNames.length) {
+      throw new IllegalArgumentException(
+            getName() + " expects from 1 to " + labelNames.length + " label values, not " + leadingValues.length);
+    }
+
+    Node<C> node = root;
+    for (int i = 0; i < leadingValues.length - 1 && node != null; i++) {
+      node = node.children.get(toKey(leadingValues[i]));
+    }
+    if (node != null) {
+      node.children.remove(toKey(leadingValues[leadingValues.length - 1]));
+    }
+  }
+
+  /**
+   * Passes each child, with its label values, to the specified consumer.
+   * @param consumer the consumer of the children
+   */
+  void forEachChild(BiConsumer<String[], C> consumer) {
+    forEachChild(root, consumer);
+  }
+
+  private void forEachChild(Node<C> node, BiConsumer<String[], C> consumer) {
+    if (node.child != null) {
+      consumer.accept(node.labelValues, node.child);
+    }
+    node.children.values().forEach(n -> forEachChild(n, consumer));
+  }
+
+  private static class Node<C> {
+    private final Map<String, Node<C>> children = new ConcurrentHashMap<>();
+    private volatile String[] labelValues;
+    private volatile C child;
+  }
+}
@@ -0,0 +1,84 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+/**
+ * A named metric, which can write its current samples in the Prometheus text exposition format.
+ */
+public abstract class Metric {
+
+  private final String name;
+  private final String help;
+  private final String type;
+
+  Metric(String name, String help, String type) {
+    this.name = name;
+    this.help = help;
+    this.type = type;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  // Writes the help and type comments, followed by the metric's samples.
+  void writeTo(StringBuilder sb) {
+    sb.append("# HELP ").append(name).append(' ').append(escapeHelp(help)).append('\n');
+    sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    writeSamples(sb);
+  }
+
+  abstract void writeSamples(StringBuilder sb);
+
+  /**
+   * Writes a single sample line.
+   * @param sb the builder to which the sample is written
+   * @param sampleName the name of the sample, which may extend the metric name with a suffix
+   * @param labelNames the names of the labels
+   * @param labelValues the values of the labels, in the same order as their names
+   * @param extraLabel the name of an additional label, or null if there is none
+   * @param extraValue the value of the additional label
+   * @param value the value of the sample
+   */
+  static void writeSample(StringBuilder sb, String sampleName, String[] labelNames, String[] labelValues,
+                          String extraLabel, String extraValue, String value) {
+    sb.append(sampleName);
+    if (labelNames.length > 0 || extraLabel != null) {
+      sb.append('{');
+      for (int i = 0; i < labelNames.length; i++) {
+        appendLabel(sb, i > 0, labelNames[i], labelValues[i]);
+      }
+      if (extraLabel != null) {
+        appendLabel(sb, labelNames.length > 0, extraLabel, extraValue);
+      }
+      sb.append('}');
+    }
+    sb.append(' ').append(value).append('\n');
+  }
+
+  private static void appendLabel(StringBuilder sb, boolean needsSeparator, String name, String value) {
+    if (needsSeparator) {
+      sb.append(',');
+    }
+    sb.append(name).append("=\"").append(escapeLabelValue(value)).append('"');
+  }
+
+  static String escapeLabelValue(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static String escapeHelp(String help) {
+    return help.replace("\\", "\\\\").replace("\n", "\\n");
+  }
+
+  static String formatDouble(double value) {
+    if (value == Double.POSITIVE_INFINITY) {
+      return "+Inf";
+    } else if (value == (long) value) {
+      return Long.toString((long) value);
+    } else {
+      return Double.toString(value);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The set of metrics which the operator exports. Metrics are created on first request and kept by name, so
+ * that a component asking again for a metric receives the one already registered.
+ */
+public class MetricsRegistry {
+
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final MetricsRegistry instance = new MetricsRegistry();
+
+  private static final String[] NO_LABELS = new String[0];
+
+  private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+  public static MetricsRegistry getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the counter with the specified name, creating it if necessary.
+   * @param name the name of the counter
+   * @param help a description of the counter
+   * @param labelNames the names of its labels, at most three
+   */
+  public Counter counter(String name, String help, String... labelNames) {
+    return getOrRegister(name, Counter.class, () -> new Counter(name, help, labelNames));
+  }
+
+  /**
+   * Registers a counter whose value is read from the specified supplier when metrics are exported.
+   * @param name the name of the counter
+   * @param help a description of the counter
+   * @param value a supplier of the counter's value
+   */
+  public void counter(String name, String help, Supplier<? extends Number> value) {
+    register(new CallbackMetric(name, help, "counter", NO_LABELS, () -> Map.of(List.of(), value.get())));
+  }
+
+  /**
+   * Registers a counter with a single label, whose values are read from the specified supplier when metrics are
+   * exported.
+   * @param name the name of the counter
+   * @param help a description of the counter
+   * @param labelName the name of the label
+   * @param values a supplier of the counter's values, keyed by label value
+   */
+  public void counter(String name, String help, String labelName, Supplier<Map<String, ? extends Number>> values) {
+    register(new CallbackMetric(name, help, "counter", new String[] {labelName}, () -> byLabelValue(values.get())));
+  }
+
+  /**
+   * Registers a counter with two labels, whose values are read from the specified supplier when metrics are
+   * exported.
+   * @param name the name of the counter
+   * @param help a description of the counter
+   * @param labelName1 the name of the first label
+   * @param labelName2 the name of the second label
+   * @param values a supplier of the counter's values, keyed by the values of the two labels, in order
+   */
+  public void counter(String name, String help, String labelName1, String labelName2,
+                      Supplier<Map<List<String>, ? extends Number>> values) {
+    register(new CallbackMetric(name, help, "counter", new String[] {labelName1, labelName2}, values));
+  }
+
+  /**
+   * Returns the histogram with the specified name, creating it if necessary.
+   * @param name the name of the histogram
+   * @param help a description of the histogram
+   * @param upperBounds the upper bounds of its buckets
+   * @param labelNames the names of its labels, at most three
+   */
+  public Histogram histogram(String name, String help, double[] upperBounds, String... labelNames) {
+    return getOrRegister(name, Histogram.class, () -> new Histogram(name, help, upperBounds, labelNames));
+  }
+
+  /**
+   * Registers a gauge whose value is read from the specified supplier when metrics are exported.
+   * @param name the name of the gauge
+   * @param help a description of the gauge
+   * @param value a supplier of the gauge's value
+   */
+  public void gauge(String name, String help, Supplier<? extends Number> value) {
+    register(new CallbackMetric(name, help, "gauge", NO_LABELS, () -> Map.of(List.of(), value.get())));
+  }
+
+  /**
+   * Registers a gauge with a single label, whose values are read from the specified supplier when metrics are
+   * exported.
+   * @param name the name of the gauge
+   * @param help a description of the gauge
+   * @param labelName the name of the label
+   * @param values a supplier of the gauge's values, keyed by label value
+   */
+  public void gauge(String name, String help, String labelName, Supplier<Map<String, ? extends Number>> values) {
+    register(new CallbackMetric(name, help, "gauge", new String[] {labelName}, () -> byLabelValue(values.get())));
+  }
+
+  private static Map<List<String>, ? extends Number> byLabelValue(Map<String, ? extends Number> values) {
+    return values.entrySet().stream().collect(Collectors.toMap(
+          e -> Collections.singletonList(e.getKey()), Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+  }
+
+  private <M extends Metric> M getOrRegister(String name, Class<M> metricClass, Supplier<M> constructor) {
+    final Metric metric = metrics.computeIfAbsent(name, n -> constructor.get());
+    if (!metricClass.isInstance(metric)) {
+      throw new IllegalArgumentException(name + " is already registered as a " + metric.getClass().getSimpleName());
+    }
+    return metricClass.cast(metric);
+  }
+
+  // A callback metric replaces any registered earlier with the same name, so that it reads from the current source.
+  private void register(Metric metric) {
+    metrics.put(metric.getName(), metric);
+  }
+
+  /**
+   * Returns the current values of all metrics, in the Prometheus text exposition format.
+   */
+  public String scrape() {
+    final StringBuilder sb = new StringBuilder();
+    metrics.values().forEach(m -> m.writeTo(sb));
+    return sb.toString();
+  }
+}
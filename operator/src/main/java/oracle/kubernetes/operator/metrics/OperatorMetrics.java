@@ -0,0 +1,194 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.DomainStatusUpdater;
+import oracle.kubernetes.operator.StatusPollingTier;
+import oracle.kubernetes.operator.calls.ApiServerCircuitBreaker;
+import oracle.kubernetes.operator.calls.AsyncRequestStep;
+import oracle.kubernetes.operator.calls.RequestRateLimiter;
+import oracle.kubernetes.operator.calls.RequestRateLimiter.RequestClass;
+import oracle.kubernetes.operator.calls.SingleFlightCallFactory;
+import oracle.kubernetes.operator.helpers.IntrospectionAdmissionQueue;
+import oracle.kubernetes.operator.helpers.IntrospectionResultCache;
+import oracle.kubernetes.operator.work.Engine;
+
+/**
+ * The metrics which describe the operator's internal processing. The instrumented metrics are created when this
+ * class is loaded, so that the code which updates them may hold them in constants; metrics which read state kept
+ * by other components are registered once the operator's engine has been created.
+ */
+public class OperatorMetrics {
+
+  static final String PREFIX = "weblogic_operator_";
+
+  private static final double[] API_CALL_BUCKETS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+  private static final double[] MAKE_RIGHT_BUCKETS = {0.1, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300, 600};
+
+  public static final String SUCCESS = "success";
+  public static final String FAILURE = "failure";
+  public static final String TIMEOUT = "timeout";
+  public static final String HIT = "hit";
+  public static final String MISS = "miss";
+
+  /** The time taken by calls to the Kubernetes API server, by call name, namespace and outcome. */
+  public static final Histogram API_CALL_DURATION = MetricsRegistry.getInstance().histogram(
+        PREFIX + "api_call_duration_seconds",
+        "Time from sending a request to the Kubernetes API server until receiving its response.",
+        API_CALL_BUCKETS, "call", "namespace", "outcome");
+
+  /** The events received by watches, by resource kind, namespace and event type. */
+  public static final Counter WATCH_EVENTS = MetricsRegistry.getInstance().counter(
+        PREFIX + "watch_events_total",
+        "Watch events received from the Kubernetes API server.",
+        "kind", "namespace", "type");
+
+  /** The watches which resumed from a list of their resources after their resource versions expired, by kind. */
+  public static final Counter WATCH_RELISTS = MetricsRegistry.getInstance().counter(
+        PREFIX + "watch_relists_total",
+        "Watches which resumed from a list of their resources, rather than replaying them all, "
+              + "after their resource versions expired.",
+        "kind");
+
+  /** The watch events not dispatched because they reported resources already seen, by resource kind. */
+  public static final Counter WATCH_EVENTS_SUPPRESSED = MetricsRegistry.getInstance().counter(
+        PREFIX + "watch_events_suppressed_total",
+        "Watch events which were not dispatched because they reported resources which had already been seen.",
+        "kind");
+
+  /** The time taken by make-right operations, by namespace, domain and outcome. */
+  public static final Histogram MAKE_RIGHT_DURATION = MetricsRegistry.getInstance().histogram(
+        PREFIX + "make_right_duration_seconds",
+        "Time taken by make-right operations, which bring the Kubernetes resources of a domain up to date.",
+        MAKE_RIGHT_BUCKETS, "namespace", "domain", "outcome");
+
+  /** The lookups of cached REST authentication and authorization results, by review type and result. */
+  public static final Counter REST_AUTH_CACHE_LOOKUPS = MetricsRegistry.getInstance().counter(
+        PREFIX + "rest_auth_cache_lookups_total",
+        "Lookups of cached token review and subject access review results for REST requests.",
+        "review", "result");
+
+  /** The time taken by the reviews which authenticate and authorize REST requests, by review type. */
+  public static final Histogram REST_AUTH_REVIEW_DURATION = MetricsRegistry.getInstance().histogram(
+        PREFIX + "rest_auth_review_duration_seconds",
+        "Time taken by the token reviews and subject access reviews which authenticate and authorize REST requests.",
+        API_CALL_BUCKETS, "review");
+
+  private OperatorMetrics() {
+  }
+
+  /**
+   * Registers the metrics which read the state of the operator's components.
+   * @param engine the engine which runs the operator's fibers
+   */
+  public static void registerComponentMetrics(Engine engine) {
+    final MetricsRegistry registry = MetricsRegistry.getInstance();
+    registry.gauge(PREFIX + "fiber_queue_depth",
+          "Fibers which are ready to run, but are waiting for a thread.",
+          engine::getQueuedFiberCount);
+    registry.gauge(PREFIX + "suspended_fibers",
+          "Domain fibers which are suspended, waiting for a response or an event.",
+          "namespace", DomainProcessorImpl::getSuspendedFiberCounts);
+    registry.counter(PREFIX + "make_right_requests_total",
+          "Requests to run make-right for a domain, including those which were coalesced with another request.",
+          "namespace", "domain", DomainProcessorImpl::getMakeRightRequestCounts);
+    registry.counter(PREFIX + "make_right_fibers_started_total",
+          "Make-right fibers actually started for a domain.",
+          "namespace", "domain", DomainProcessorImpl::getMakeRightFiberCounts);
+
+    registerApiRequestMetrics(registry);
+    registerIntrospectionMetrics(registry);
+    registerStatusMetrics(registry);
+  }
+
+  private static void registerApiRequestMetrics(MetricsRegistry registry) {
+    registry.counter(PREFIX + "api_requests_total",
+          "Requests to the Kubernetes API server, by rate limiting class.",
+          "class", () -> byRequestClass(RequestRateLimiter.getInstance()::getRequestCount));
+    registry.counter(PREFIX + "api_requests_delayed_total",
+          "Requests to the Kubernetes API server which were delayed by rate limiting.",
+          "class", () -> byRequestClass(RequestRateLimiter.getInstance()::getDelayedRequestCount));
+    registry.counter(PREFIX + "api_request_delay_seconds_total",
+          "Total time that requests to the Kubernetes API server were delayed by rate limiting.",
+          "class", () -> byRequestClass(c -> RequestRateLimiter.getInstance().getTotalWaitMillis(c))
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> toSeconds(e.getValue()))));
+    registry.gauge(PREFIX + "api_requests_waiting",
+          "Requests to the Kubernetes API server currently delayed by rate limiting.",
+          "class", () -> byRequestClass(c -> RequestRateLimiter.getInstance().getQueueDepth(c)));
+    registry.counter(PREFIX + "api_request_retries_total",
+          "Requests to the Kubernetes API server which were retried after a failure, by call name and verb.",
+          "call", "verb", AsyncRequestStep::getRetryCounts);
+    registry.counter(PREFIX + "api_request_retry_backoff_seconds_total",
+          "Total time that requests to the Kubernetes API server waited before being retried, by call name and verb.",
+          "call", "verb", () -> AsyncRequestStep.getBackoffMillis().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> toSeconds(e.getValue()))));
+    registry.counter(PREFIX + "api_circuit_breaker_opened_total",
+          "Times that requests to the Kubernetes API server were paused because the server was throttling them.",
+          () -> ApiServerCircuitBreaker.getInstance().getOpenCount());
+    registry.counter(PREFIX + "api_read_coalesced_total",
+          "Reads which were satisfied by an identical read already in progress.",
+          SingleFlightCallFactory::getHitCount);
+  }
+
+  private static Map<String, Long> byRequestClass(ToLongFunction<RequestClass> value) {
+    return Arrays.stream(RequestClass.values())
+          .collect(Collectors.toMap(c -> c.name().toLowerCase(Locale.ROOT), value::applyAsLong));
+  }
+
+  private static double toSeconds(long millis) {
+    return millis / (double) TimeUnit.SECONDS.toMillis(1);
+  }
+
+  private static void registerIntrospectionMetrics(MetricsRegistry registry) {
+    registry.counter(PREFIX + "introspection_cache_hits_total",
+          "Introspections which reused the cached result of an earlier introspection.",
+          IntrospectionResultCache::getHitCount);
+    registry.counter(PREFIX + "introspection_cache_misses_total",
+          "Introspections which found no cached result and ran the introspector job.",
+          IntrospectionResultCache::getMissCount);
+    registry.gauge(PREFIX + "introspector_jobs_running",
+          "Introspector jobs currently admitted to run.",
+          () -> IntrospectionAdmissionQueue.getInstance().getRunningCount());
+    registry.gauge(PREFIX + "introspector_jobs_waiting",
+          "Domains waiting for admission to run their introspector jobs.",
+          () -> IntrospectionAdmissionQueue.getInstance().getQueueDepth());
+    registry.counter(PREFIX + "introspector_jobs_admitted_total",
+          "Introspector jobs admitted to run.",
+          () -> IntrospectionAdmissionQueue.getInstance().getAdmittedCount());
+    registry.counter(PREFIX + "introspector_job_wait_seconds_total",
+          "Total time that domains waited for admission to run their introspector jobs.",
+          () -> toSeconds(IntrospectionAdmissionQueue.getInstance().getTotalWaitMillis()));
+    registry.counter(PREFIX + "introspector_jobs_completed_total",
+          "Introspector jobs which have completed and released their admissions.",
+          () -> IntrospectionAdmissionQueue.getInstance().getCompletedCount());
+    registry.counter(PREFIX + "introspector_job_run_seconds_total",
+          "Total time that completed introspector jobs held their admissions.",
+          () -> toSeconds(IntrospectionAdmissionQueue.getInstance().getTotalRunMillis()));
+  }
+
+  private static void registerStatusMetrics(MetricsRegistry registry) {
+    registry.counter(PREFIX + "server_status_polls_total",
+          "Reads of the state of WebLogic servers, by the polling tier which scheduled them.",
+          "tier", () -> Arrays.stream(StatusPollingTier.values())
+                .collect(Collectors.toMap(t -> t.name().toLowerCase(Locale.ROOT), StatusPollingTier::getPollCount)));
+    registry.counter(PREFIX + "domain_status_patches_total",
+          "Domain status updates sent as patches.",
+          DomainStatusUpdater::getStatusPatchCount);
+    registry.counter(PREFIX + "domain_status_replaces_total",
+          "Domain status updates sent as complete replacements.",
+          DomainStatusUpdater::getStatusReplaceCount);
+    registry.counter(PREFIX + "domain_status_sent_bytes_total",
+          "Total size of the domain status updates sent to the Kubernetes API server.",
+          DomainStatusUpdater::getStatusBytesSent);
+  }
+}
@@ -0,0 +1,5 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+/** Metrics which describe the operator's internal processing, exported in the Prometheus text format. */
+package oracle.kubernetes.operator.metrics;
@@ -0,0 +1,192 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Caches the results of the token reviews and subject access reviews which authenticate and authorize requests to
+ * the operator's REST API, so that a client which calls the API repeatedly, such as an autoscaler, does not cause
+ * several calls to the Kubernetes API server for each request. Token reviews are keyed by a hash of the token,
+ * so that tokens are not retained; access reviews by the user, groups and requested operation.
+ *
+ * <p>Results are kept for the number of seconds set by the tuning parameter 'restAuthCacheTtlSeconds', whose
+ * default of zero disables the cache. Failed authentications and denied operations are kept for the number of
+ * seconds set by 'restAuthCacheNegativeTtlSeconds', which defaults to zero, so that they are not kept. Each cache
+ * holds at most 'restAuthCacheMaxEntries' results, discarding the least recently used.
+ */
+class AuthReviewCache {
+
+  static final String TTL_KEY = "restAuthCacheTtlSeconds";
+  static final String NEGATIVE_TTL_KEY = "restAuthCacheNegativeTtlSeconds";
+  static final String MAX_ENTRIES_KEY = "restAuthCacheMaxEntries";
+  static final int DEFAULT_MAX_ENTRIES = 1000;
+
+  static final String TOKEN_REVIEW = "token";
+  static final String ACCESS_REVIEW = "access";
+
+  // not final so unit tests can replace it
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static AuthReviewCache instance = new AuthReviewCache();
+
+  private final ReviewResults<String, V1TokenReviewStatus> tokenReviews = new ReviewResults<>();
+  private final ReviewResults<List<Object>, Boolean> accessReviews = new ReviewResults<>();
+
+  static AuthReviewCache getInstance() {
+    return instance;
+  }
+
+  private static long getTtlMillis(boolean positive) {
+    return TimeUnit.SECONDS.toMillis(TuningParameters.getInteger(positive ? TTL_KEY : NEGATIVE_TTL_KEY, 0));
+  }
+
+  // The cache is disabled, and neither looked up nor counted, unless successful results may be kept.
+  private static boolean isEnabled() {
+    return getTtlMillis(true) > 0;
+  }
+
+  private static long now() {
+    return SystemClock.now().toInstant().toEpochMilli();
+  }
+
+  /**
+   * Returns the status of a token review of the specified token, performing the review only if no unexpired
+   * result is cached. A null status, which indicates that the review could not be made, is not cached.
+   * @param token the bearer token presented by the client
+   * @param review the function which performs the review
+   */
+  V1TokenReviewStatus getTokenReviewStatus(String token, Supplier<V1TokenReviewStatus> review) {
+    if (!isEnabled()) {
+      return timeReview(TOKEN_REVIEW, review);
+    }
+
+    final String key = hash(token);
+    final V1TokenReviewStatus cached = lookup(tokenReviews, TOKEN_REVIEW, key);
+    if (cached != null) {
+      return cached;
+    }
+
+    final V1TokenReviewStatus status = timeReview(TOKEN_REVIEW, review);
+    if (status != null) {
+      tokenReviews.put(key, status, isAuthenticated(status));
+    }
+    return status;
+  }
+
+  private boolean isAuthenticated(V1TokenReviewStatus status) {
+    return status.getError() == null && Boolean.TRUE.equals(status.getAuthenticated()) && status.getUser() != null;
+  }
+
+  /**
+   * Returns the result of a subject access review of the specified request, performing the review only if
+   * no unexpired result is cached.
+   * @param request the user, groups, operation, resource, resource name, scope and namespace being reviewed
+   * @param review the function which performs the review
+   */
+  boolean isAllowed(List<Object> request, BooleanSupplier review) {
+    if (!isEnabled()) {
+      return timeReview(ACCESS_REVIEW, review::getAsBoolean);
+    }
+
+    final Boolean cached = lookup(accessReviews, ACCESS_REVIEW, request);
+    if (cached != null) {
+      return cached;
+    }
+
+    final boolean allowed = timeReview(ACCESS_REVIEW, review::getAsBoolean);
+    accessReviews.put(request, allowed, allowed);
+    return allowed;
+  }
+
+  private <K, V> V lookup(ReviewResults<K, V> results, String reviewType, K key) {
+    final V value = results.get(key);
+    OperatorMetrics.REST_AUTH_CACHE_LOOKUPS
+          .labels(reviewType, value != null ? OperatorMetrics.HIT : OperatorMetrics.MISS).inc();
+    return value;
+  }
+
+  private <V> V timeReview(String reviewType, Supplier<V> review) {
+    final long startNanos = System.nanoTime();
+    try {
+      return review.get();
+    } finally {
+      OperatorMetrics.REST_AUTH_REVIEW_DURATION.labels(reviewType).observeNanos(System.nanoTime() - startNanos);
+    }
+  }
+
+  static String hash(String token) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return Base64.getEncoder().encodeToString(digest.digest(String.valueOf(token).getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  int getTokenReviewCount() {
+    return tokenReviews.size();
+  }
+
+  int getAccessReviewCount() {
+    return accessReviews.size();
+  }
+
+  // The unexpired results of one kind of review, in least recently used order.
+  private static class ReviewResults<K, V> {
+    private final Map<K, CachedResult<V>> results = new LinkedHashMap<>(16, 0.75f, true);
+
+    synchronized V get(K key) {
+      final CachedResult<V> result = results.get(key);
+      if (result == null) {
+        return null;
+      } else if (result.expiresAt <= now()) {
+        results.remove(key);
+        return null;
+      } else {
+        return result.value;
+      }
+    }
+
+    synchronized void put(K key, V value, boolean positive) {
+      final long ttlMillis = getTtlMillis(positive);
+      if (ttlMillis <= 0) {
+        return;
+      }
+
+      results.put(key, new CachedResult<>(value, now() + ttlMillis));
+      final int maxEntries = Math.max(1, TuningParameters.getInteger(MAX_ENTRIES_KEY, DEFAULT_MAX_ENTRIES));
+      while (results.size() > maxEntries) {
+        results.remove(results.keySet().iterator().next());
+      }
+    }
+
+    synchronized int size() {
+      return results.size();
+    }
+  }
+
+  private static class CachedResult<V> {
+    private final V value;
+    private final long expiresAt;
+
+    CachedResult(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,272 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.WebApplicationException;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
+/**
+ * Applies requests to change the replica counts of WebLogic clusters. Requests are queued per domain and applied
+ * by one task at a time for each domain, so that concurrent requests for a domain do not race to patch it.
+ * All requests which are waiting when the task runs are combined into a single patch, in which the latest request
+ * for each cluster determines its replica count. Requests made with different credentials are never combined,
+ * so that each change is made with the credentials of the client which asked for it.
+ *
+ * <p>The outcome of each request is retained, so that clients may look it up by its ID, until
+ * {@value #MAX_RETAINED_REQUESTS} later requests have been made. Once a request has been applied, it no longer
+ * refers to the function which patched the domain, so that retained requests do not keep clients' credentials.
+ */
+class ClusterScalingQueue {
+
+  static final int MAX_RETAINED_REQUESTS = 1000;
+  static final int MAX_SCALING_THREADS = 4;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  // not final so unit tests can replace it
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static ClusterScalingQueue instance = new ClusterScalingQueue(createExecutor());
+
+  private final Executor executor;
+  private final Map<String, DomainQueue> domainQueues = new HashMap<>();
+  private final Map<String, ScalingRequest> requests = Collections.synchronizedMap(new RetainedRequests());
+
+  ClusterScalingQueue(Executor executor) {
+    this.executor = executor;
+  }
+
+  static ClusterScalingQueue getInstance() {
+    return instance;
+  }
+
+  // Each domain is scaled by at most one task at a time, so a few threads suffice; tasks for further domains wait.
+  private static Executor createExecutor() {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_SCALING_THREADS, MAX_SCALING_THREADS,
+          1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "operator-cluster-scaling");
+            thread.setDaemon(true);
+            return thread;
+          });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Queues a request to change the replica counts of clusters in a domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param replicas the desired replica counts, by cluster name
+   * @param credentialKey identifies the credentials with which the change will be made
+   * @param patcher a function which patches the domain with the combined replica counts of one or more requests.
+   *                It reports failure by throwing a WebApplicationException.
+   * @return the queued request
+   */
+  ScalingRequest submit(String namespace, String domainUid, Map<String, Integer> replicas,
+                        String credentialKey, Consumer<Map<String, Integer>> patcher) {
+    final ScalingRequest request = new ScalingRequest(domainUid, replicas, credentialKey, patcher);
+    requests.put(request.getId(), request);
+    enqueue(namespace + "/" + domainUid, request);
+    return request;
+  }
+
+  /**
+   * Returns the request with the specified ID, if it is still retained.
+   * @param requestId the ID of a request returned by {@link #submit}
+   */
+  Optional<ScalingRequest> getRequest(String requestId) {
+    return Optional.ofNullable(requests.get(requestId));
+  }
+
+  // Domain queues are created and discarded while holding the lock of this object, which also guards their contents,
+  // so that a request is never added to a queue which has already been discarded.
+  private synchronized void enqueue(String key, ScalingRequest request) {
+    domainQueues.computeIfAbsent(key, DomainQueue::new).add(request);
+  }
+
+  synchronized int getDomainQueueCount() {
+    return domainQueues.size();
+  }
+
+  enum State {
+    PENDING("Pending"), SUCCEEDED("Succeeded"), FAILED("Failed");
+
+    private final String label;
+
+    State(String label) {
+      this.label = label;
+    }
+
+    @Override
+    public String toString() {
+      return label;
+    }
+  }
+
+  static class ScalingRequest {
+    private final String id = UUID.randomUUID().toString();
+    private final String domainUid;
+    private final Map<String, Integer> replicas;
+    private final String credentialKey;
+    private volatile Consumer<Map<String, Integer>> patcher;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile State state = State.PENDING;
+    private volatile String message;
+
+    ScalingRequest(String domainUid, Map<String, Integer> replicas,
+                   String credentialKey, Consumer<Map<String, Integer>> patcher) {
+      this.domainUid = domainUid;
+      this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+      this.credentialKey = credentialKey;
+      this.patcher = patcher;
+    }
+
+    String getId() {
+      return id;
+    }
+
+    String getDomainUid() {
+      return domainUid;
+    }
+
+    String getCredentialKey() {
+      return credentialKey;
+    }
+
+    Map<String, Integer> getReplicas() {
+      return replicas;
+    }
+
+    State getState() {
+      return state;
+    }
+
+    String getMessage() {
+      return message;
+    }
+
+    /**
+     * Returns a future which completes when the request has been applied, or completes exceptionally
+     * with the exception which prevented that.
+     */
+    CompletableFuture<Void> getCompletion() {
+      return completion;
+    }
+
+    Consumer<Map<String, Integer>> getPatcher() {
+      return patcher;
+    }
+
+    private void succeeded() {
+      patcher = null;
+      state = State.SUCCEEDED;
+      completion.complete(null);
+    }
+
+    private void failed(RuntimeException e) {
+      patcher = null;
+      message = getFailureMessage(e);
+      state = State.FAILED;
+      completion.completeExceptionally(e);
+    }
+
+    private String getFailureMessage(RuntimeException e) {
+      if (e instanceof WebApplicationException && ((WebApplicationException) e).getResponse().hasEntity()) {
+        return String.valueOf(((WebApplicationException) e).getResponse().getEntity());
+      }
+      return e.getMessage();
+    }
+  }
+
+  // The requests for a single domain which are waiting to be applied. The queue is discarded once it has been
+  // drained, so that the operator does not retain a queue for every domain which has ever been scaled.
+  private class DomainQueue {
+    private final String key;
+    private final List<ScalingRequest> pending = new ArrayList<>();
+    private boolean scheduled;
+
+    DomainQueue(String key) {
+      this.key = key;
+    }
+
+    void add(ScalingRequest request) {
+      pending.add(request);
+      if (!scheduled) {
+        scheduled = true;
+        executor.execute(this::applyPendingRequests);
+      }
+    }
+
+    private void applyPendingRequests() {
+      for (List<ScalingRequest> batch = takePendingRequests(); !batch.isEmpty(); batch = takePendingRequests()) {
+        for (List<ScalingRequest> group : groupByCredentials(batch)) {
+          apply(group);
+        }
+      }
+    }
+
+    private List<ScalingRequest> takePendingRequests() {
+      synchronized (ClusterScalingQueue.this) {
+        final List<ScalingRequest> batch = new ArrayList<>(pending);
+        pending.clear();
+        scheduled = !batch.isEmpty();
+        if (!scheduled) {
+          domainQueues.remove(key);
+        }
+        return batch;
+      }
+    }
+
+    // Divides the requests into runs of consecutive requests made with the same credentials,
+    // so that changes are still applied in the order in which they were requested.
+    private List<List<ScalingRequest>> groupByCredentials(List<ScalingRequest> batch) {
+      final List<List<ScalingRequest>> groups = new ArrayList<>();
+      List<ScalingRequest> group = null;
+      for (ScalingRequest request : batch) {
+        if (group == null || !Objects.equals(group.get(0).credentialKey, request.credentialKey)) {
+          group = new ArrayList<>();
+          groups.add(group);
+        }
+        group.add(request);
+      }
+      return groups;
+    }
+
+    private void apply(List<ScalingRequest> group) {
+      final Map<String, Integer> replicas = new LinkedHashMap<>();
+      group.forEach(request -> replicas.putAll(request.getReplicas()));
+
+      try {
+        group.get(group.size() - 1).patcher.accept(replicas);
+        group.forEach(ScalingRequest::succeeded);
+      } catch (RuntimeException e) {
+        LOGGER.fine("Scaling request for domain " + group.get(0).getDomainUid() + " failed: " + e);
+        group.forEach(request -> request.failed(e));
+      }
+    }
+  }
+
+  private static class RetainedRequests extends LinkedHashMap<String, ScalingRequest> {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, ScalingRequest> eldest) {
+      return size() > MAX_RETAINED_REQUESTS;
+    }
+  }
+}
@@ -3,12 +3,17 @@
 
 package oracle.kubernetes.operator.rest;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -16,7 +21,6 @@ import javax.annotation.Nonnull;
 
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
-import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
 import jakarta.json.Json;
@@ -25,6 +29,7 @@ import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Response.Status;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.Main;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
@@ -33,16 +38,20 @@ import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.rest.ClusterScalingQueue.ScalingRequest;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainActionType;
+import oracle.kubernetes.operator.rest.model.ScaleRequestModel;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.logging.MessageKeys.INVALID_DOMAIN_UID;
 
@@ -57,6 +66,8 @@ public class RestBackendImpl implements RestBackend {
   private static final String NEW_CLUSTER_REPLICAS =
       "{'clusterName':'%s','replicas':%d}".replaceAll("'", "\"");
   private static final String INITIAL_VERSION = "1";
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+  private static final int MAX_PATCH_ATTEMPTS = 3;
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // used by unit test
   private static TopologyRetriever INSTANCE =
@@ -74,6 +85,7 @@ public class RestBackendImpl implements RestBackend {
   private final Supplier<Collection<String>> domainNamespaces;
   private V1UserInfo userInfo;
   private final CallBuilder callBuilder;
+  private final String credentialKey;
 
   /**
    * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
@@ -89,9 +101,16 @@ public class RestBackendImpl implements RestBackend {
     userInfo = authenticate(accessToken);
     callBuilder = userInfo != null ? new CallBuilder() :
         new CallBuilder().withAuthentication(accessToken);
+    credentialKey = userInfo != null ? getUserKey(userInfo) : AuthReviewCache.hash(accessToken);
     LOGGER.exiting();
   }
 
+  // When the operator authorizes requests itself, scaling requests are made with its own credentials,
+  // but are still kept apart by user, so that each user sees only their own requests.
+  private static String getUserKey(V1UserInfo userInfo) {
+    return Optional.ofNullable(userInfo.getUsername()).orElse(Objects.toString(userInfo.getUid(), ""));
+  }
+
   private void authorize(String domainUid, Operation operation) {
     LOGGER.entering(domainUid, operation);
     if (!authenticateWithTokenReview()) {
@@ -99,25 +118,9 @@ public class RestBackendImpl implements RestBackend {
     }
     boolean authorized;
     if (domainUid == null) {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              null,
-              Scope.cluster,
-              null);
+      authorized = isAllowed(operation, null, Scope.cluster, null);
     } else {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              domainUid,
-              Scope.namespace,
-              getNamespace(domainUid));
+      authorized = isAllowed(operation, domainUid, Scope.namespace, getNamespace(domainUid));
     }
     if (authorized) {
       LOGGER.exiting();
@@ -129,8 +132,17 @@ public class RestBackendImpl implements RestBackend {
     throw e;
   }
 
+  private boolean isAllowed(Operation operation, String domainUid, Scope scope, String namespace) {
+    final List<Object> request = Arrays.asList(
+          userInfo.getUsername(), userInfo.getGroups(), operation, Resource.DOMAINS, domainUid, scope, namespace);
+    return AuthReviewCache.getInstance().isAllowed(request, () -> atz.check(
+          userInfo.getUsername(), userInfo.getGroups(), operation, Resource.DOMAINS, domainUid, scope, namespace));
+  }
+
   private String getNamespace(String domainUid) {
-    return getDomain(domainUid).map(Domain::getMetadata).map(V1ObjectMeta::getNamespace).orElse(null);
+    return findDomainPresenceInfo(domainUid).map(DomainPresenceInfo::getNamespace)
+          .or(() -> findListedDomain(domainUid).map(domain -> domain.getMetadata().getNamespace()))
+          .orElse(null);
   }
 
 
@@ -139,8 +151,8 @@ public class RestBackendImpl implements RestBackend {
     if (!authenticateWithTokenReview()) {
       return null;
     }
-    V1TokenReviewStatus status = atn.check(principal, accessToken,
-        Main.isDedicated() ? getOperatorNamespace() : null);
+    V1TokenReviewStatus status = AuthReviewCache.getInstance().getTokenReviewStatus(accessToken,
+        () -> atn.check(principal, accessToken, Main.isDedicated() ? getOperatorNamespace() : null));
     if (status == null) {
       throw new AssertionError(LOGGER.formatMessage(MessageKeys.NULL_TOKEN_REVIEW_STATUS));
     }
@@ -175,8 +187,16 @@ public class RestBackendImpl implements RestBackend {
     return getDomainStream().map(Domain::getDomainUid).collect(Collectors.toSet());
   }
 
+  // When the operator authorizes requests itself, domains are read from its in-memory view of them. Otherwise,
+  // they are listed with the caller's token, so that Kubernetes decides which domains the caller may see.
   private Stream<Domain> getDomainStream() {
-    return domainNamespaces.get().stream().map(this::getDomains).flatMap(Collection::stream);
+    if (authenticateWithTokenReview()) {
+      return domainNamespaces.get().stream()
+            .flatMap(DomainProcessorImpl::getDomainPresenceInfos)
+            .map(DomainPresenceInfo::getDomain);
+    } else {
+      return domainNamespaces.get().stream().map(this::getDomains).flatMap(Collection::stream);
+    }
   }
 
   private List<Domain> getDomains(String ns) {
@@ -220,7 +240,7 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private void markForIntrospection(Domain domain) {
-    updateVersionField(domain, domain.getIntrospectVersion(), "/spec/introspectVersion");
+    updateVersionField(domain, Domain::getIntrospectVersion, "/spec/introspectVersion");
   }
 
   private String nextVersion(String version) {
@@ -236,16 +256,17 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private void markDomainForRestart(Domain domain) {
-    updateVersionField(domain, domain.getRestartVersion(), "/spec/restartVersion");
+    updateVersionField(domain, Domain::getRestartVersion, "/spec/restartVersion");
   }
 
-  private void updateVersionField(Domain domain, String version, String fieldPath) {
-    JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
-    Optional.ofNullable(version).ifPresentOrElse(
-        v -> patchBuilder.replace(fieldPath, nextVersion(v)),
-        () -> patchBuilder.add(fieldPath, INITIAL_VERSION));
-
-    patchDomain(domain, patchBuilder);
+  private void updateVersionField(Domain domain, Function<Domain, String> getVersion, String fieldPath) {
+    updateDomain(domain, d -> {
+      JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+      Optional.ofNullable(getVersion.apply(d)).ifPresentOrElse(
+          v -> patchBuilder.test(fieldPath, v).replace(fieldPath, nextVersion(v)),
+          () -> patchBuilder.add(fieldPath, INITIAL_VERSION));
+      return Optional.of(patchBuilder);
+    });
   }
 
   private void forDomainDo(String domainUid, Consumer<Domain> consumer) {
@@ -260,12 +281,48 @@ public class RestBackendImpl implements RestBackend {
     throw createWebApplicationException(Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid);
   }
 
+  // The namespace of the domain is found from the operator's in-memory view. When the caller's token is used,
+  // the domain itself is then read with that token, so that Kubernetes decides whether the caller may see it;
+  // a domain which the operator has not yet processed is then found by listing the domains.
   private Optional<Domain> getDomain(String domainUid) {
     authorize(null, Operation.list);
-    
+
+    if (authenticateWithTokenReview()) {
+      return findDomainPresenceInfo(domainUid).map(DomainPresenceInfo::getDomain);
+    } else {
+      return findDomainPresenceInfo(domainUid).map(this::readDomain).or(() -> findListedDomain(domainUid));
+    }
+  }
+
+  private Optional<Domain> findListedDomain(String domainUid) {
+    if (authenticateWithTokenReview()) {
+      return Optional.empty();
+    }
     return getDomainStream().filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst();
   }
 
+  private Optional<DomainPresenceInfo> findDomainPresenceInfo(String domainUid) {
+    return domainNamespaces.get().stream()
+          .map(ns -> DomainProcessorImpl.findDomainPresenceInfo(ns, domainUid))
+          .flatMap(Optional::stream)
+          .findFirst();
+  }
+
+  private Domain readDomain(DomainPresenceInfo info) {
+    return readDomain(info.getDomain().getMetadata().getName(), info.getNamespace());
+  }
+
+  private Domain readDomain(String name, String namespace) {
+    try {
+      return callBuilder.readDomain(name, namespace);
+    } catch (ApiException e) {
+      if (e.getCode() == HTTP_NOT_FOUND) {
+        return null;
+      }
+      throw handleApiException(e);
+    }
+  }
+
   @Override
   public Set<String> getClusters(String domainUid) {
     LOGGER.entering(domainUid);
@@ -292,47 +349,145 @@ public class RestBackendImpl implements RestBackend {
   @Override
   public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
     LOGGER.entering(domainUid, cluster, managedServerCount);
+    awaitCompletion(submitScaling(domainUid, Map.of(cluster, managedServerCount)));
+    LOGGER.exiting();
+  }
+
+  @Override
+  public ScaleRequestModel requestClusterScaling(String domainUid, Map<String, Integer> managedServerCounts) {
+    LOGGER.entering(domainUid, managedServerCounts);
+    verifyDomain(domainUid);
+    managedServerCounts.keySet().forEach(cluster -> verifyCluster(domainUid, cluster));
+    ScaleRequestModel result = toScaleRequestModel(submitScaling(domainUid, managedServerCounts));
+    LOGGER.exiting(result);
+    return result;
+  }
 
+  @Override
+  public ScaleRequestModel getScaleRequest(String domainUid, String requestId) {
+    LOGGER.entering(domainUid, requestId);
+    authorize(domainUid, Operation.get);
+    ScaleRequestModel result = ClusterScalingQueue.getInstance().getRequest(requestId)
+          .filter(request -> request.getDomainUid().equals(domainUid))
+          .filter(request -> request.getCredentialKey().equals(credentialKey))
+          .map(this::toScaleRequestModel)
+          .orElseThrow(() -> createWebApplicationException(
+                Status.NOT_FOUND, MessageKeys.SCALE_REQUEST_NOT_FOUND, requestId));
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  private ScaleRequestModel toScaleRequestModel(ScalingRequest request) {
+    return new ScaleRequestModel(
+          request.getId(), request.getReplicas(), request.getState().toString(), request.getMessage());
+  }
+
+  // Validates the request on the calling thread, so that invalid requests are rejected immediately,
+  // then queues it to be combined with other requests for the same domain.
+  private ScalingRequest submitScaling(String domainUid, Map<String, Integer> managedServerCounts) {
+    managedServerCounts.values().forEach(this::verifyManagedServerCount);
+    authorize(domainUid, Operation.update);
+    String namespace = getNamespace(domainUid);
+    if (namespace == null) {
+      reportNotFound(domainUid);
+    }
+    managedServerCounts.forEach((cluster, count) -> verifyWlsConfiguredClusterCapacity(domainUid, cluster, count));
+
+    return ClusterScalingQueue.getInstance().submit(namespace, domainUid, managedServerCounts, credentialKey,
+          replicas -> forDomainDo(domainUid, d -> patchClusterReplicas(d, replicas)));
+  }
+
+  private void awaitCompletion(ScalingRequest request) {
+    try {
+      request.getCompletion().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private void verifyManagedServerCount(int managedServerCount) {
     if (managedServerCount < 0) {
       throw createWebApplicationException(
           Status.BAD_REQUEST, MessageKeys.INVALID_MANAGE_SERVER_COUNT, managedServerCount);
     }
+  }
 
-    authorize(domainUid, Operation.update);
-    forDomainDo(domainUid, d -> performScaling(d, cluster, managedServerCount));
-    LOGGER.exiting();
+  private void verifyCluster(String domainUid, String cluster) {
+    if (cluster == null || !getWlsConfiguredClusters(domainUid).containsKey(cluster)) {
+      throw createWebApplicationException(Status.BAD_REQUEST, MessageKeys.NO_SUCH_CLUSTER, cluster, domainUid);
+    }
   }
 
-  private void performScaling(Domain domain, String cluster, int managedServerCount) {
-    verifyWlsConfiguredClusterCapacity(domain, cluster, managedServerCount);
-    patchClusterReplicas(domain, cluster, managedServerCount);
+  // Replicas of clusters already in the spec are replaced before new cluster entries are added,
+  // since adding an entry changes the indices of those after it.
+  private void patchClusterReplicas(Domain domain, Map<String, Integer> replicas) {
+    updateDomain(domain, d -> createClusterReplicasPatch(d, replicas));
   }
 
-  private void patchClusterReplicas(Domain domain, String cluster, int replicas) {
-    if (replicas == domain.getReplicaCount(cluster)) {
-      return;
+  private Optional<JsonPatchBuilder> createClusterReplicasPatch(Domain domain, Map<String, Integer> replicas) {
+    Map<String, Integer> changes = new LinkedHashMap<>(replicas);
+    changes.entrySet().removeIf(e -> e.getValue() == domain.getReplicaCount(e.getKey()));
+    if (changes.isEmpty()) {
+      return Optional.empty();
     }
 
     JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
-    int index = getClusterIndex(domain, cluster);
-    if (index < 0) {
-      patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER_REPLICAS, cluster, replicas));
-    } else {
-      patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
+    changes.forEach((cluster, count) -> {
+      int index = getClusterIndex(domain, cluster);
+      if (index >= 0) {
+        patchBuilder.test("/spec/clusters/" + index + "/clusterName", cluster)
+            .replace("/spec/clusters/" + index + "/replicas", count);
+      }
+    });
+    changes.forEach((cluster, count) -> {
+      if (getClusterIndex(domain, cluster) < 0) {
+        patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER_REPLICAS, cluster, count));
+      }
+    });
+    return Optional.of(patchBuilder);
+  }
+
+  // The patch is computed from the domain as found by getDomain, which may be the operator's possibly stale
+  // in-memory view, and is guarded by the resource version of that domain. If the guard fails, or if the view
+  // shows that no change is needed, the domain is read again from Kubernetes and the patch recomputed from it.
+  private void updateDomain(Domain domain, Function<Domain, Optional<JsonPatchBuilder>> patchFactory) {
+    boolean isLiveDomain = !authenticateWithTokenReview();
+    for (int attempt = 1; ; attempt++) {
+      Optional<JsonPatchBuilder> patchBuilder = patchFactory.apply(domain);
+      if (patchBuilder.isEmpty() && isLiveDomain) {
+        return;
+      } else if (patchBuilder.isPresent()) {
+        try {
+          patchDomain(domain, patchBuilder.get());
+          return;
+        } catch (ApiException e) {
+          if (e.getCode() != HTTP_UNPROCESSABLE_ENTITY || attempt >= MAX_PATCH_ATTEMPTS) {
+            throw handleApiException(e);
+          }
+        }
+      }
+
+      domain = readLiveDomain(domain);
+      isLiveDomain = true;
     }
+  }
 
-    patchDomain(domain, patchBuilder);
+  private Domain readLiveDomain(Domain domain) {
+    return Optional.ofNullable(readDomain(domain.getMetadata().getName(), domain.getMetadata().getNamespace()))
+          .orElseThrow(() -> createWebApplicationException(
+                Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domain.getDomainUid()));
   }
 
-  private void patchDomain(Domain domain, JsonPatchBuilder patchBuilder) {
-    try {
-      callBuilder
-          .patchDomain(
-              domain.getDomainUid(), domain.getMetadata().getNamespace(),
-              new V1Patch(patchBuilder.build().toString()));
-    } catch (ApiException e) {
-      throw handleApiException(e);
-    }
+  private void patchDomain(Domain domain, JsonPatchBuilder patchBuilder) throws ApiException {
+    Optional.ofNullable(domain.getMetadata().getResourceVersion())
+          .ifPresent(version -> patchBuilder.test("/metadata/resourceVersion", version));
+    callBuilder
+        .patchDomain(
+            domain.getDomainUid(), domain.getMetadata().getNamespace(),
+            new V1Patch(patchBuilder.build().toString()));
   }
 
   private int getClusterIndex(Domain domain, String cluster) {
@@ -346,10 +501,10 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private void verifyWlsConfiguredClusterCapacity(
-      Domain domain, String cluster, int requestedSize) {
+      String domainUid, String cluster, int requestedSize) {
     // Query WebLogic Admin Server for current configured WebLogic Cluster size
     // and verify we have enough configured managed servers to auto-scale
-    WlsClusterConfig wlsClusterConfig = getWlsClusterConfig(domain.getDomainUid(), cluster);
+    WlsClusterConfig wlsClusterConfig = getWlsClusterConfig(domainUid, cluster);
 
     // Verify the current configured cluster size
     int maxClusterSize = wlsClusterConfig.getMaxClusterSize();
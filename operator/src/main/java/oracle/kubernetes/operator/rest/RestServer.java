@@ -10,8 +10,6 @@ import java.nio.file.Files;
 import java.security.SecureRandom;
 import java.util.Collection;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
 
@@ -20,13 +18,10 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.resource.VersionsResource;
 import oracle.kubernetes.operator.work.Container;
-import oracle.kubernetes.operator.work.ContainerResolver;
 import org.apache.commons.codec.binary.Base64;
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.glassfish.grizzly.http.server.NetworkListener;
-import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
 import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
-import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
 import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -47,7 +42,6 @@ import org.glassfish.jersey.server.filter.CsrfProtectionFilter;
  */
 public class RestServer {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static final int CORE_POOL_SIZE = 3;
   private static final String SSL_PROTOCOL = "TLSv1.2";
   private static final String[] SSL_PROTOCOLS = {
     SSL_PROTOCOL
@@ -284,6 +278,8 @@ public class RestServer {
 
   private HttpServer createHttpsServer(Container container, SSLContext ssl, String uri)
       throws Exception {
+    RestServerTuning tuning = new RestServerTuning(container);
+    tuning.configure(ssl);
     HttpServer h =
         GrizzlyHttpServerFactory.createHttpServer(
             URI.create(uri),
@@ -296,58 +292,9 @@ public class RestServer {
                 .setEnabledProtocols(SSL_PROTOCOLS),
             false);
 
-    // We discovered the default thread pool configuration was generating hundreds of
-    // threads.  Tune it down to something more modest.  Note: these are core
-    // pool sizes, so they can still grow if there is sufficient load.
     Collection<NetworkListener> nlc = h.getListeners();
     if (nlc != null) {
-      for (NetworkListener nl : nlc) {
-        TCPNIOTransport transport = nl.getTransport();
-        ThreadPoolConfig t = transport.getWorkerThreadPoolConfig();
-        if (t == null) {
-          t = ThreadPoolConfig.defaultConfig();
-          transport.setWorkerThreadPoolConfig(t);
-        }
-        t.setCorePoolSize(CORE_POOL_SIZE);
-        ThreadFactory x = t.getThreadFactory();
-        ThreadFactory tf = x != null ? x : Executors.defaultThreadFactory();
-        t.setThreadFactory(
-            (r) -> {
-              Thread n =
-                  tf.newThread(
-                      () -> {
-                        ContainerResolver.getDefault().enterContainer(container);
-                        r.run();
-                      });
-              if (!n.isDaemon()) {
-                n.setDaemon(true);
-              }
-              return n;
-            });
-
-        t = transport.getKernelThreadPoolConfig();
-        if (t == null) {
-          t = ThreadPoolConfig.defaultConfig();
-          transport.setKernelThreadPoolConfig(t);
-        }
-        t.setCorePoolSize(CORE_POOL_SIZE);
-        x = t.getThreadFactory();
-        ThreadFactory tf2 = x != null ? x : Executors.defaultThreadFactory();
-        t.setThreadFactory(
-            (r) -> {
-              Thread n =
-                  tf2.newThread(
-                      () -> {
-                        ContainerResolver.getDefault().enterContainer(container);
-                        r.run();
-                      });
-              if (!n.isDaemon()) {
-                n.setDaemon(true);
-              }
-              return n;
-            });
-        transport.setSelectorRunnersCount(CORE_POOL_SIZE);
-      }
+      nlc.forEach(tuning::configure);
     }
 
     h.start();
@@ -0,0 +1,181 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.operator.work.Engine;
+import org.glassfish.grizzly.http.KeepAlive;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.http2.AlpnSupport;
+import org.glassfish.grizzly.http2.Http2AddOn;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+
+/**
+ * Configures the transports of the operator's REST servers from the operator's tuning parameters.
+ *
+ * <ul>
+ *   <li>'restWorkerThreads' and 'restMaxWorkerThreads' size the pool of threads which process requests.
+ *       The core size defaults to 3; the maximum to the Grizzly default.
+ *   <li>'restVirtualThreadWorkers', if true, processes each request on a new virtual thread instead,
+ *       when the JVM supports them.
+ *   <li>'restSelectorThreads' sets the number of selector and kernel threads, which defaults to 3.
+ *   <li>'restKeepAliveTimeoutSeconds' and 'restKeepAliveMaxRequests' limit how long an idle connection is
+ *       kept open and how many requests it may carry.
+ *   <li>'restTlsSessionCacheSize' and 'restTlsSessionTimeoutSeconds' size the cache of TLS sessions which
+ *       clients may resume without a full handshake.
+ *   <li>'restHttp2Enabled', if true, offers HTTP/2 to clients which request it through ALPN.
+ * </ul>
+ *
+ * <p>Unset parameters leave the corresponding Grizzly or JDK defaults in place.
+ */
+class RestServerTuning {
+
+  static final String WORKER_THREADS_KEY = "restWorkerThreads";
+  static final String MAX_WORKER_THREADS_KEY = "restMaxWorkerThreads";
+  static final String VIRTUAL_THREAD_WORKERS_KEY = "restVirtualThreadWorkers";
+  static final String SELECTOR_THREADS_KEY = "restSelectorThreads";
+  static final String KEEP_ALIVE_TIMEOUT_KEY = "restKeepAliveTimeoutSeconds";
+  static final String KEEP_ALIVE_MAX_REQUESTS_KEY = "restKeepAliveMaxRequests";
+  static final String TLS_SESSION_CACHE_SIZE_KEY = "restTlsSessionCacheSize";
+  static final String TLS_SESSION_TIMEOUT_KEY = "restTlsSessionTimeoutSeconds";
+  static final String HTTP2_ENABLED_KEY = "restHttp2Enabled";
+  static final int DEFAULT_POOL_SIZE = 3;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String ALPN = "TLS ALPN support";
+
+  private final Container container;
+
+  RestServerTuning(Container container) {
+    this.container = container;
+  }
+
+  private static Optional<String> getParameter(String key) {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(t -> t.get(key)).map(String::trim);
+  }
+
+  // The JDK rejects negative session cache settings, which would prevent the REST server from starting.
+  private static Optional<Integer> getNonNegativeIntParameter(String key) {
+    return TuningParameters.getInteger(key).filter(value -> value >= 0);
+  }
+
+  private static boolean isEnabled(String key) {
+    return getParameter(key).map(Boolean::parseBoolean).orElse(false);
+  }
+
+  /**
+   * Configures the TLS session cache of the specified context.
+   * @param ssl the context used by a REST server
+   */
+  void configure(SSLContext ssl) {
+    SSLSessionContext sessionContext = ssl.getServerSessionContext();
+    getNonNegativeIntParameter(TLS_SESSION_CACHE_SIZE_KEY).ifPresent(sessionContext::setSessionCacheSize);
+    getNonNegativeIntParameter(TLS_SESSION_TIMEOUT_KEY).ifPresent(sessionContext::setSessionTimeout);
+  }
+
+  /**
+   * Configures the thread pools, keep-alive and protocols of the specified listener, which must not have started.
+   * @param listener a listener of a REST server
+   */
+  void configure(NetworkListener listener) {
+    TCPNIOTransport transport = listener.getTransport();
+    if (!isEnabled(VIRTUAL_THREAD_WORKERS_KEY) || !useVirtualThreadWorkers(transport)) {
+      configurePool(getWorkerThreadPoolConfig(transport),
+          TuningParameters.getInteger(WORKER_THREADS_KEY).orElse(DEFAULT_POOL_SIZE),
+          TuningParameters.getInteger(MAX_WORKER_THREADS_KEY).orElse(null));
+    }
+
+    int selectorThreads = TuningParameters.getInteger(SELECTOR_THREADS_KEY).orElse(DEFAULT_POOL_SIZE);
+    configurePool(getKernelThreadPoolConfig(transport), selectorThreads, null);
+    transport.setSelectorRunnersCount(selectorThreads);
+
+    KeepAlive keepAlive = listener.getKeepAlive();
+    TuningParameters.getInteger(KEEP_ALIVE_TIMEOUT_KEY).ifPresent(keepAlive::setIdleTimeoutInSeconds);
+    TuningParameters.getInteger(KEEP_ALIVE_MAX_REQUESTS_KEY).ifPresent(keepAlive::setMaxRequestsCount);
+
+    if (isEnabled(HTTP2_ENABLED_KEY)) {
+      registerHttp2AddOn(listener);
+    }
+  }
+
+  // A secure listener can only negotiate HTTP/2 if the JVM supports ALPN.
+  private void registerHttp2AddOn(NetworkListener listener) {
+    if (listener.isSecure() && !AlpnSupport.isEnabled()) {
+      LOGGER.warning(MessageKeys.REST_HTTP2_UNAVAILABLE, ALPN);
+    } else {
+      listener.registerAddOn(new Http2AddOn());
+    }
+  }
+
+  private ThreadPoolConfig getWorkerThreadPoolConfig(TCPNIOTransport transport) {
+    ThreadPoolConfig config = transport.getWorkerThreadPoolConfig();
+    if (config == null) {
+      config = ThreadPoolConfig.defaultConfig();
+      transport.setWorkerThreadPoolConfig(config);
+    }
+    return config;
+  }
+
+  private ThreadPoolConfig getKernelThreadPoolConfig(TCPNIOTransport transport) {
+    ThreadPoolConfig config = transport.getKernelThreadPoolConfig();
+    if (config == null) {
+      config = ThreadPoolConfig.defaultConfig();
+      transport.setKernelThreadPoolConfig(config);
+    }
+    return config;
+  }
+
+  // We discovered the default thread pool configuration was generating hundreds of
+  // threads, so the core pool sizes are kept modest. They can still grow if there is sufficient load.
+  private void configurePool(ThreadPoolConfig config, int corePoolSize, Integer maxPoolSize) {
+    config.setCorePoolSize(corePoolSize);
+    Optional.ofNullable(maxPoolSize).ifPresent(config::setMaxPoolSize);
+    if (config.getMaxPoolSize() < corePoolSize) {
+      config.setMaxPoolSize(corePoolSize);
+    }
+    config.setThreadFactory(inContainer(
+        Optional.ofNullable(config.getThreadFactory()).orElseGet(Executors::defaultThreadFactory), true));
+  }
+
+  private boolean useVirtualThreadWorkers(TCPNIOTransport transport) {
+    ExecutorService executor = Optional.ofNullable(Engine.createVirtualThreadFactory("rest-worker-"))
+        .map(factory -> Engine.createThreadPerTaskExecutor(inContainer(factory, false)))
+        .orElse(null);
+    if (executor == null) {
+      LOGGER.info(MessageKeys.REST_VIRTUAL_THREADS_UNAVAILABLE);
+      return false;
+    }
+
+    transport.setWorkerThreadPool(executor);
+    return true;
+  }
+
+  // Threads which process requests must run in the operator's container. Platform threads are made daemons
+  // so that they do not keep the operator running; virtual threads always are.
+  private ThreadFactory inContainer(ThreadFactory factory, boolean makeDaemon) {
+    return r -> {
+      Thread thread = factory.newThread(() -> {
+        ContainerResolver.getDefault().enterContainer(container);
+        r.run();
+      });
+      if (makeDaemon && !thread.isDaemon()) {
+        thread.setDaemon(true);
+      }
+      return thread;
+    };
+  }
+}
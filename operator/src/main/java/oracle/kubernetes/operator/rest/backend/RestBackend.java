@@ -3,9 +3,11 @@
 
 package oracle.kubernetes.operator.rest.backend;
 
+import java.util.Map;
 import java.util.Set;
 
 import oracle.kubernetes.operator.rest.model.DomainAction;
+import oracle.kubernetes.operator.rest.model.ScaleRequestModel;
 
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
@@ -72,4 +74,26 @@ public interface RestBackend {
    * @param managedServerCount - the desired number of WebLogic managed servers.
    */
   void scaleCluster(String domainUid, String cluster, int managedServerCount);
+
+  /**
+   * Requests that the number of managed servers in one or more WebLogic clusters be changed, and returns
+   * without waiting for the domain to be updated. Requests for the same domain which have not yet been
+   * applied are combined into a single update, in which the latest request for each cluster wins.
+   *
+   * @param domainUid - the unique identifier assigned to the Weblogic domain when it was registered
+   *     with the WebLogic operator.
+   * @param managedServerCounts - the desired number of WebLogic managed servers, by cluster name.
+   * @return a description of the request, including the identifier with which to get its progress.
+   */
+  ScaleRequestModel requestClusterScaling(String domainUid, Map<String, Integer> managedServerCounts);
+
+  /**
+   * Gets the progress of a request made by requestClusterScaling.
+   *
+   * @param domainUid - the unique identifier assigned to the Weblogic domain when it was registered
+   *     with the WebLogic operator.
+   * @param requestId - the identifier returned by requestClusterScaling.
+   * @return a description of the request.
+   */
+  ScaleRequestModel getScaleRequest(String domainUid, String requestId);
 }
@@ -11,8 +11,27 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class ScaleClusterParamsModel extends BaseModel {
 
+  private String clusterName;
   private int managedServerCount;
 
+  /**
+   * Get the name of the WebLogic cluster to scale. Only used when several clusters are scaled in one request.
+   *
+   * @return the name of the cluster.
+   */
+  public String getClusterName() {
+    return clusterName;
+  }
+
+  /**
+   * Set the name of the WebLogic cluster to scale.
+   *
+   * @param clusterName - the name of the cluster.
+   */
+  public void setClusterName(String clusterName) {
+    this.clusterName = clusterName;
+  }
+
   /**
    * Get the desired number of managed servers in the WebLogic cluster.
    *
@@ -33,6 +52,7 @@ public class ScaleClusterParamsModel extends BaseModel {
 
   @Override
   protected String propertiesToString() {
-    return "managedServerCount=" + getManagedServerCount(); // super has no properties
+    return "clusterName=" + getClusterName()
+        + ", managedServerCount=" + getManagedServerCount(); // super has no properties
   }
 }
@@ -0,0 +1,42 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * ScaleDomainParamsModel describes the input parameters to an operation which scales several WebLogic clusters
+ * in a domain.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ScaleDomainParamsModel extends BaseModel {
+
+  private List<ScaleClusterParamsModel> clusters = new ArrayList<>();
+
+  /**
+   * Get the clusters to scale, each with its desired number of managed servers.
+   *
+   * @return the clusters to scale.
+   */
+  public List<ScaleClusterParamsModel> getClusters() {
+    return clusters;
+  }
+
+  /**
+   * Set the clusters to scale.
+   *
+   * @param clusters - the clusters to scale, each with its desired number of managed servers.
+   */
+  public void setClusters(List<ScaleClusterParamsModel> clusters) {
+    this.clusters = clusters;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "clusters=" + getClusters(); // super has no properties
+  }
+}
@@ -0,0 +1,112 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import java.util.Map;
+
+/** ScaleRequestModel describes the progress of a request to scale WebLogic clusters. */
+public class ScaleRequestModel extends ItemModel {
+
+  private String id;
+  private Map<String, Integer> clusters;
+  private String state;
+  private String message;
+
+  /** Construct an empty ScaleRequestModel. */
+  public ScaleRequestModel() {
+  }
+
+  /**
+   * Construct a populated ScaleRequestModel.
+   *
+   * @param id - the request's identifier.
+   * @param clusters - the desired number of managed servers, by cluster name.
+   * @param state - the state of the request: Pending, Succeeded or Failed.
+   * @param message - the reason that the request failed, if it did.
+   */
+  public ScaleRequestModel(String id, Map<String, Integer> clusters, String state, String message) {
+    setId(id);
+    setClusters(clusters);
+    setState(state);
+    setMessage(message);
+  }
+
+  /**
+   * Get the request's identifier.
+   *
+   * @return the request's identifier.
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Set the request's identifier.
+   *
+   * @param id - the request's identifier.
+   */
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  /**
+   * Get the desired number of managed servers, by cluster name.
+   *
+   * @return the desired number of managed servers, by cluster name.
+   */
+  public Map<String, Integer> getClusters() {
+    return clusters;
+  }
+
+  /**
+   * Set the desired number of managed servers, by cluster name.
+   *
+   * @param clusters - the desired number of managed servers, by cluster name.
+   */
+  public void setClusters(Map<String, Integer> clusters) {
+    this.clusters = clusters;
+  }
+
+  /**
+   * Get the state of the request: Pending, Succeeded or Failed.
+   *
+   * @return the state of the request.
+   */
+  public String getState() {
+    return state;
+  }
+
+  /**
+   * Set the state of the request.
+   *
+   * @param state - the state of the request.
+   */
+  public void setState(String state) {
+    this.state = state;
+  }
+
+  /**
+   * Get the reason that the request failed.
+   *
+   * @return the reason that the request failed, or null if it has not failed.
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Set the reason that the request failed.
+   *
+   * @param message - the reason that the request failed.
+   */
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "id=" + getId() + ", clusters=" + getClusters() + ", state=" + getState()
+        + ", message=" + getMessage() + ", " + super.propertiesToString();
+  }
+}
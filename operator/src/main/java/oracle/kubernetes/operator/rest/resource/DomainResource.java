@@ -45,6 +45,7 @@ public class DomainResource extends BaseResource {
     DomainModel item = new DomainModel(getDomainUid());
     addSelfAndParentLinks(item);
     addLink(item, "clusters");
+    addActionLink(item, "scale");
     LOGGER.exiting(item);
     return item;
   }
@@ -73,6 +74,19 @@ public class DomainResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'scale' jaxrs child resource.
+   *
+   * @return the scale sub resource.
+   */
+  @Path("scale")
+  public ScaleDomainResource getScaleDomainResource() {
+    LOGGER.entering(href());
+    ScaleDomainResource result = new ScaleDomainResource(this, "scale");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   private String getDomainUid() {
     return getPathSegment();
   }
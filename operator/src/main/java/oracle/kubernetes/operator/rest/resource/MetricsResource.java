@@ -0,0 +1,40 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+
+/**
+ * MetricsResource is a jaxrs resource that implements the /metrics path. It returns the operator's internal
+ * metrics in the Prometheus text exposition format. Like the rest of the REST api, it requires a bearer token.
+ */
+@Path("metrics")
+public class MetricsResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /** Construct a MetricsResource. */
+  public MetricsResource() {
+    // nothing to do
+  }
+
+  /**
+   * Get the current values of the operator's metrics.
+   *
+   * @return the metrics, in the Prometheus text exposition format.
+   */
+  @GET
+  @Produces(MetricsRegistry.CONTENT_TYPE)
+  public String get() {
+    LOGGER.entering();
+    String result = MetricsRegistry.getInstance().scrape();
+    LOGGER.exiting();
+    return result;
+  }
+}
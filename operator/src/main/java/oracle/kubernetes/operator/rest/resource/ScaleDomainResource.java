@@ -0,0 +1,105 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleDomainParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleRequestModel;
+
+/**
+ * ScaleDomainResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/domains/{domainUID}/scale path. It can be used to scale up or down the number of
+ * managed servers in one or more WebLogic clusters of a domain without waiting for the domain to be updated,
+ * and to follow the progress of such a request at /operator/{version}/domains/{domainUID}/scale/{requestId}.
+ */
+public class ScaleDomainResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a ScaleDomainResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public ScaleDomainResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Request that WebLogic clusters be scaled up or down. The request is queued and applied to the domain
+   * together with any other pending requests for it; this method returns before that is done.
+   *
+   * @param params - a ScaleDomainParamsModel that specifies the clusters to scale, and the desired number of
+   *     managed servers in each.
+   * @return an accepted response, describing the request and linking to its status.
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response post(final ScaleDomainParamsModel params) {
+    LOGGER.entering(href(), params);
+    ScaleRequestModel item = getBackend().requestClusterScaling(getDomainUid(), getManagedServerCounts(params));
+    addRequestLinks(item);
+    LOGGER.exiting(item);
+    return Response.accepted(item).build();
+  }
+
+  /**
+   * Get the progress of a request to scale WebLogic clusters.
+   *
+   * @param requestId - the identifier of the request.
+   * @return a ScaleRequestModel describing the request.
+   */
+  @GET
+  @Path("{requestId}")
+  @Produces(MediaType.APPLICATION_JSON)
+  public ScaleRequestModel get(@PathParam("requestId") String requestId) {
+    LOGGER.entering(href(requestId));
+    ScaleRequestModel item = getBackend().getScaleRequest(getDomainUid(), requestId);
+    addRequestLinks(item);
+    LOGGER.exiting(item);
+    return item;
+  }
+
+  private void addRequestLinks(ScaleRequestModel item) {
+    item.addSelfAndParentLinks(href(item.getId()), getParent().href());
+    item.addLink("status", href(item.getId()));
+  }
+
+  // If a cluster is listed more than once, the last count given for it is used.
+  private Map<String, Integer> getManagedServerCounts(ScaleDomainParamsModel params) {
+    if (params == null || params.getClusters() == null || params.getClusters().isEmpty()) {
+      throw new WebApplicationException(Status.BAD_REQUEST);
+    }
+
+    Map<String, Integer> managedServerCounts = new LinkedHashMap<>();
+    for (ScaleClusterParamsModel cluster : params.getClusters()) {
+      String clusterName = Optional.ofNullable(cluster).map(ScaleClusterParamsModel::getClusterName)
+          .orElseThrow(() -> new WebApplicationException(Status.BAD_REQUEST));
+      managedServerCounts.put(clusterName, cluster.getManagedServerCount());
+    }
+    return managedServerCounts;
+  }
+
+  private String getDomainUid() {
+    return getParent().getPathSegment();
+  }
+}
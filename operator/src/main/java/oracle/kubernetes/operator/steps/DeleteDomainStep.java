@@ -7,12 +7,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -60,6 +63,11 @@ public class DeleteDomainStep extends Step {
   }
 
   private Step deleteServices() {
+    ResourceCache.Store<V1Service> services = ResourceCache.getInstance().getServices();
+    if (services.isSynced(namespace)) {
+      return new DeleteServiceListStep(services.listForDomain(namespace, domainUid), null);
+    }
+
     return new CallBuilder()
         .withLabelSelectors(forDomainUidSelector(domainUid), getCreatedByOperatorSelector())
         .listServiceAsync(
@@ -72,6 +80,11 @@ public class DeleteDomainStep extends Step {
   }
 
   private Step deletePodDisruptionBudgets() {
+    ResourceCache.Store<V1beta1PodDisruptionBudget> pdbs = ResourceCache.getInstance().getPodDisruptionBudgets();
+    if (pdbs.isSynced(namespace)) {
+      return new DeletePodDisruptionBudgetListStep(pdbs.listForDomain(namespace, domainUid), null);
+    }
+
     return new CallBuilder()
             .withLabelSelectors(forDomainUidSelector(domainUid), getCreatedByOperatorSelector())
             .listPodDisruptionBudgetAsync(
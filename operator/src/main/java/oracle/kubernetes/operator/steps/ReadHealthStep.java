@@ -27,6 +27,7 @@ import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.http.HttpResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -72,6 +73,18 @@ public class ReadHealthStep extends Step {
     return new ReadHealthStep(next);
   }
 
+  /**
+   * Creates asynchronous {@link Step} to read the state and health of all running servers in a domain with
+   * a single request to its admin server. Servers whose state and health are recorded by this step
+   * need not be read individually.
+   *
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadDomainHealthStep(Step next) {
+    return new ReadDomainHealthStep(next);
+  }
+
   private static String getRetrieveHealthSearchPath() {
     return "/management/weblogic/latest/serverRuntime/search";
   }
@@ -80,6 +93,15 @@ public class ReadHealthStep extends Step {
     return "{ fields: [ 'state', 'overallHealthState', 'activationTime' ], links: [] }";
   }
 
+  private static String getRetrieveDomainHealthSearchPath() {
+    return "/management/weblogic/latest/domainRuntime/search";
+  }
+
+  private static String getRetrieveDomainHealthSearchPayload() {
+    return "{ fields: [], links: [], children: { serverRuntimes: { "
+        + "fields: [ 'name', 'state', 'overallHealthState', 'activationTime' ], links: [] } } }";
+  }
+
   // overallHealthState, healthState
 
   @Override
@@ -100,20 +122,30 @@ public class ReadHealthStep extends Step {
   }
 
   static final class ReadHealthProcessing extends HttpRequestProcessing {
+    private final String serverName;
 
     ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod) {
+      this(packet, service, pod, (String) packet.get(ProcessingConstants.SERVER_NAME));
+    }
+
+    ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod, String serverName) {
       super(packet, service, pod);
+      this.serverName = serverName;
+    }
+
+    private HttpRequest createDomainRequest() {
+      return createRequest(getRetrieveDomainHealthSearchPath(), getRetrieveDomainHealthSearchPayload());
     }
 
     private HttpRequest createRequest() {
-      LOGGER.finer("Create REST request to service URL: " + getRequestUrl());
-      return createRequestBuilder(getRequestUrl())
-            .POST(HttpRequest.BodyPublishers.ofString(getRetrieveHealthSearchPayload()))
-            .build();
+      return createRequest(getRetrieveHealthSearchPath(), getRetrieveHealthSearchPayload());
     }
 
-    private String getRequestUrl() {
-      return getServiceUrl() + getRetrieveHealthSearchPath();
+    private HttpRequest createRequest(String path, String payload) {
+      LOGGER.finer("Create REST request to service URL: " + getServiceUrl() + path);
+      return createRequestBuilder(getServiceUrl() + path)
+            .POST(HttpRequest.BodyPublishers.ofString(payload))
+            .build();
     }
 
     protected PortDetails getPortDetails() {
@@ -156,18 +188,122 @@ public class ReadHealthStep extends Step {
     }
 
     private String getServerName() {
-      return (String) getPacket().get(ProcessingConstants.SERVER_NAME);
+      return serverName;
     }
 
     private WlsDomainConfig getWlsDomainConfig() {
-      DomainPresenceInfo info = getPacket().getSpi(DomainPresenceInfo.class);
-      WlsDomainConfig domainConfig =
-          (WlsDomainConfig) getPacket().get(ProcessingConstants.DOMAIN_TOPOLOGY);
-      if (domainConfig == null) {
-        Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
-        domainConfig = scan.getWlsDomainConfig();
+      return ReadHealthStep.getWlsDomainConfig(getPacket());
+    }
+  }
+
+  private static WlsDomainConfig getWlsDomainConfig(Packet packet) {
+    DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    WlsDomainConfig domainConfig =
+        (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    if (domainConfig == null) {
+      Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
+      domainConfig = Optional.ofNullable(scan).map(Scan::getWlsDomainConfig).orElse(null);
+    }
+    return domainConfig;
+  }
+
+  /**
+   * Step to read the state and health of all running servers from the admin server, if it is ready.
+   * Packet values used:
+   *  DOMAIN_TOPOLOGY                   the topology of the domain
+   */
+  static final class ReadDomainHealthStep extends Step {
+
+    ReadDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      String adminServerName = Optional.ofNullable(getWlsDomainConfig(packet))
+            .map(WlsDomainConfig::getAdminServerName)
+            .orElse(null);
+      V1Service service = Optional.ofNullable(adminServerName).map(info::getServerService).orElse(null);
+      V1Pod pod = Optional.ofNullable(adminServerName).map(info::getServerPod).orElse(null);
+
+      if (service == null || pod == null || !PodHelper.getReadyStatus(pod)) {
+        return doNext(packet);
+      } else {
+        return doNext(
+              Step.chain(
+                  SecretHelper.createAuthorizationSourceStep(),
+                  new ReadDomainHealthWithHttpStep(service, pod, adminServerName, getNext())),
+              packet);
       }
-      return domainConfig;
+    }
+  }
+
+  static final class ReadDomainHealthWithHttpStep extends Step {
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+    private final String adminServerName;
+
+    ReadDomainHealthWithHttpStep(@Nonnull V1Service service, V1Pod pod, String adminServerName, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+      this.adminServerName = adminServerName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod, adminServerName);
+      return doNext(createRequestStep(processing.createDomainRequest(), new RecordDomainHealthStep(getNext())), packet);
+    }
+  }
+
+  /**
+   * {@link Step} for processing the json result object containing the state and health of each running server,
+   * as reported by the admin server. A failure leaves all servers to be read individually.
+   * Packet values used:
+   *  SERVER_STATE_MAP                  a map of server names to state
+   *  SERVER_HEALTH_MAP                 a map of server names to health
+   *  REMAINING_SERVERS_HEALTH_TO_READ  a counter of the servers whose health needs to be read
+   *  (spi) HttpResponse.class          the response from the server
+   */
+  static final class RecordDomainHealthStep extends HttpResponseStep {
+
+    RecordDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, HttpResponse<String> response) {
+      try {
+        JsonNode serverRuntimes = new ObjectMapper().readTree(response.body()).path("serverRuntimes").path("items");
+        for (JsonNode serverRuntime : serverRuntimes) {
+          recordServerStateAndHealth(packet, serverRuntime);
+        }
+      } catch (Throwable t) {
+        LOGGER.fine(MessageKeys.EXCEPTION, t);
+      }
+      return doNext(packet);
+    }
+
+    private void recordServerStateAndHealth(Packet packet, JsonNode serverRuntime) {
+      String serverName = emptyToNull(serverRuntime.path("name").asText());
+      if (serverName != null && isServerPodPresent(packet, serverName)) {
+        Pair<String, ServerHealth> pair = RecordHealthStep.parseServerHealth(serverRuntime);
+        new RecordHealthStep.HealthResponseProcessing(packet, serverName)
+              .recordStateAndHealth(emptyToNull(pair.getLeft()), pair.getRight());
+        decrementIntegerInPacketAtomically(packet, REMAINING_SERVERS_HEALTH_TO_READ);
+      }
+    }
+
+    private boolean isServerPodPresent(Packet packet, String serverName) {
+      return packet.getSpi(DomainPresenceInfo.class).getServerPod(serverName) != null;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+      return doNext(packet);
     }
   }
 
@@ -244,6 +380,12 @@ public class ReadHealthStep extends Step {
         serverName = getServerName();
       }
 
+      HealthResponseProcessing(Packet packet, String serverName) {
+        this.packet = packet;
+        this.response = null;
+        this.serverName = serverName;
+      }
+
       private String getServerName() {
         return (String) getPacket().get(ProcessingConstants.SERVER_NAME);
       }
@@ -315,8 +457,10 @@ public class ReadHealthStep extends Step {
       }
 
       ObjectMapper mapper = new ObjectMapper();
-      JsonNode root = mapper.readTree(jsonResult);
+      return parseServerHealth(mapper.readTree(jsonResult));
+    }
 
+    private static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
       JsonNode healthState = null;
       JsonNode subsystemName = null;
       JsonNode symptoms = null;
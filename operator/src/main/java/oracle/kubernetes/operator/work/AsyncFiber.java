@@ -40,4 +40,18 @@ public interface AsyncFiber {
    * @return a new child fiber
    */
   Fiber createChildFiber();
+
+  /**
+   * Creates a Fiber which is not a child of this one, and so is not cancelled with it.
+   *
+   * @return a new fiber
+   */
+  Fiber createIndependentFiber();
+
+  /**
+   * Returns true if this fiber has been cancelled, in which case it will not be resumed.
+   *
+   * @return true if cancelled
+   */
+  boolean isCancelled();
 }
@@ -3,7 +3,12 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
@@ -11,12 +16,20 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
 
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
 /**
- * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
+ * Collection of {@link Fiber}s. Owns an {@link Executor} to run them, and a {@link ScheduledExecutorService}
+ * for delayed and periodic work. By default, these are the same thread pool.
  */
 public class Engine {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final int DEFAULT_THREAD_COUNT = 10;
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference<>();
+  private final AtomicReference<Executor> fiberExecutor = new AtomicReference<>();
+  private final AtomicInteger queuedFiberCount = new AtomicInteger();
 
   /**
    * Creates engine with the specified executor.
@@ -24,7 +37,18 @@ public class Engine {
    * @param threadPool Executor
    */
   public Engine(ScheduledExecutorService threadPool) {
-    this.threadPool.set(threadPool);
+    this(threadPool, threadPool);
+  }
+
+  /**
+   * Creates engine which runs fibers on one executor and schedules delayed work on another.
+   *
+   * @param scheduler executor for delayed and periodic operations
+   * @param fiberExecutor executor on which fibers run
+   */
+  public Engine(ScheduledExecutorService scheduler, Executor fiberExecutor) {
+    this.threadPool.set(scheduler);
+    this.fiberExecutor.set(fiberExecutor);
   }
 
   /**
@@ -43,12 +67,77 @@ public class Engine {
    * @return executor service
    */
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
+    return wrappedExecutorService(id, container, DEFAULT_THREAD_COUNT);
+  }
+
+  /**
+   * wrapped executor service with the specified number of threads.
+   * @param id id
+   * @param container container
+   * @param threadCount the number of threads in the pool
+   * @return executor service
+   */
+  public static ScheduledExecutorService wrappedExecutorService(String id, Container container, int threadCount) {
     ScheduledThreadPoolExecutor threadPool =
-        new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
+        new ScheduledThreadPoolExecutor(threadCount, new DaemonThreadFactory(id));
     threadPool.setRemoveOnCancelPolicy(true);
     return wrap(container, threadPool);
   }
 
+  /**
+   * Creates an executor which runs each task on a new virtual thread, so that steps which block do not tie up
+   * a pool thread. If the JVM does not support virtual threads, logs a warning and returns the same bounded pool
+   * of daemon platform threads which the engine uses by default.
+   * @param id id
+   * @param container container
+   * @return executor
+   */
+  public static Executor wrappedVirtualThreadExecutor(String id, Container container) {
+    ExecutorService executor = createVirtualThreadPerTaskExecutor(id);
+    if (executor == null) {
+      LOGGER.warning(MessageKeys.ENGINE_VIRTUAL_THREADS_UNAVAILABLE, DEFAULT_THREAD_COUNT);
+      return wrappedExecutorService(id, container);
+    }
+    return container != null ? ContainerResolver.getDefault().wrapExecutor(container, executor) : executor;
+  }
+
+  private static ExecutorService createVirtualThreadPerTaskExecutor(String id) {
+    return Optional.ofNullable(createVirtualThreadFactory("engine-" + id + "-virtual-"))
+          .map(Engine::createThreadPerTaskExecutor)
+          .orElse(null);
+  }
+
+  /**
+   * Creates a factory for virtual threads, named with the specified prefix and a sequence number.
+   * Virtual threads are only available in Java 21 and later, so must be created reflectively.
+   * @param prefix the prefix for the names of the threads
+   * @return the factory, or null if the JVM does not support virtual threads
+   */
+  public static ThreadFactory createVirtualThreadFactory(String prefix) {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      builder = virtualBuilderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Creates an executor which runs each task on a new thread from the specified factory.
+   * @param factory a thread factory, typically one returned by {@link #createVirtualThreadFactory(String)}
+   * @return the executor, or null if the JVM does not support virtual threads
+   */
+  public static ExecutorService createThreadPerTaskExecutor(ThreadFactory factory) {
+    try {
+      Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      return (ExecutorService) newExecutor.invoke(null, factory);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
@@ -62,8 +151,36 @@ public class Engine {
     return threadPool.get();
   }
 
+  /**
+   * Returns the executor on which fibers run.
+   *
+   * @return executor
+   */
+  public Executor getFiberExecutor() {
+    return fiberExecutor.get();
+  }
+
+  /**
+   * Returns the number of fibers which are ready to run, but are waiting for a thread.
+   *
+   * @return the fiber count
+   */
+  public int getQueuedFiberCount() {
+    return queuedFiberCount.get();
+  }
+
   void addRunnable(Fiber fiber) {
-    getExecutor().execute(fiber);
+    queuedFiberCount.incrementAndGet();
+    try {
+      getFiberExecutor().execute(fiber);
+    } catch (RejectedExecutionException e) {
+      queuedFiberCount.decrementAndGet();
+      throw e;
+    }
+  }
+
+  void onFiberDequeued() {
+    queuedFiberCount.decrementAndGet();
   }
 
   /**
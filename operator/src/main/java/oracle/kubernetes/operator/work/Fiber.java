@@ -242,6 +242,21 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
     }
   }
 
+  /**
+   * Creates a Fiber on the same engine as this one, but which is not cancelled with it.
+   *
+   * @return New fiber
+   */
+  @Override
+  public Fiber createIndependentFiber() {
+    return owner.createFiber();
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return status.get() == CANCELLED;
+  }
+
   /**
    * The most recently invoked step if the fiber is currently suspended.
    * @return Last invoked step for suspended fiber.
@@ -297,6 +312,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
    */
   @Override
   public void run() {
+    owner.onFiberDequeued();
     if (status.get() == NOT_COMPLETE) {
       clearThreadInterruptedStatus();
 
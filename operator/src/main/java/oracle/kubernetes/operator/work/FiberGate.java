@@ -5,10 +5,14 @@ package oracle.kubernetes.operator.work;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
@@ -18,10 +22,18 @@ import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
  * this class cancels the earlier arriving Fibers. For the operator, this makes sense as domain
  * presence Fibers that come later will always complete or correct work that may have been
  * in-flight.
+ *
+ * <p>When a coalescing window is set, requests made with {@link #startFiberCoalesced} do not cancel
+ * the running Fiber. Instead, they are merged into a single pending request, which starts once the running
+ * Fiber completes, or, if no Fiber is running, once the window has elapsed since the first such request.
  */
 public class FiberGate {
   private final Engine engine;
   private final ConcurrentMap<String, Fiber> gateMap = new ConcurrentHashMap<>();
+  private final Map<String, PendingFiber> pendingFibers = new HashMap<>();
+  private final ConcurrentMap<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, AtomicLong> startedCounts = new ConcurrentHashMap<>();
+  private long coalescingWindowMillis;
 
   private final Fiber placeholder;
 
@@ -47,6 +59,63 @@ public class FiberGate {
     return engine.getExecutor();
   }
 
+  /**
+   * Enables coalescing of requests made with {@link #startFiberCoalesced}.
+   * @param coalescingWindowMillis the time in milliseconds to collect requests before starting a Fiber when
+   *                               none is running. A value of zero or less disables coalescing.
+   * @return this gate
+   */
+  public FiberGate withCoalescingWindow(long coalescingWindowMillis) {
+    this.coalescingWindowMillis = coalescingWindowMillis;
+    return this;
+  }
+
+  private boolean isCoalescing() {
+    return coalescingWindowMillis > 0;
+  }
+
+  /**
+   * Returns the number of requests to start a Fiber with the specified key.
+   * @param key Key
+   */
+  public long getRequestCount(String key) {
+    return getCount(requestCounts, key);
+  }
+
+  /**
+   * Returns the number of Fibers actually started with the specified key.
+   * @param key Key
+   */
+  public long getStartedCount(String key) {
+    return getCount(startedCounts, key);
+  }
+
+  /**
+   * Returns the number of requests to start a Fiber, by key.
+   */
+  public Map<String, Long> getRequestCounts() {
+    return getCounts(requestCounts);
+  }
+
+  /**
+   * Returns the number of Fibers actually started, by key.
+   */
+  public Map<String, Long> getStartedCounts() {
+    return getCounts(startedCounts);
+  }
+
+  private Map<String, Long> getCounts(Map<String, AtomicLong> counts) {
+    return counts.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get()));
+  }
+
+  private long getCount(Map<String, AtomicLong> counts, String key) {
+    return Optional.ofNullable(counts.get(key)).map(AtomicLong::get).orElse(0L);
+  }
+
+  private void incrementCount(Map<String, AtomicLong> counts, String key) {
+    counts.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+  }
+
   /**
    * Starts Fiber that cancels any earlier running Fibers with the same key. Fiber map is not
    * updated if no Fiber is started.
@@ -61,6 +130,39 @@ public class FiberGate {
     return startFiberIfLastFiberMatches(key, null, strategy, packet, callback);
   }
 
+  /**
+   * Requests a Fiber that supersedes any earlier Fibers with the same key. If coalescing is disabled,
+   * starts the Fiber at once, cancelling any running Fiber. Otherwise, records the request as pending,
+   * replacing any request already pending for the key, and starts it once the running Fiber completes
+   * or the coalescing window has elapsed.
+   *
+   * @param key Key
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback
+   */
+  public synchronized void startFiberCoalesced(String key, Step strategy, Packet packet, CompletionCallback callback) {
+    if (!isCoalescing()) {
+      startFiber(key, strategy, packet, callback);
+      return;
+    }
+
+    incrementCount(requestCounts, key);
+    boolean alreadyPending = pendingFibers.put(key, new PendingFiber(strategy, packet, callback)) != null;
+    if (!alreadyPending && !gateMap.containsKey(key)) {
+      getExecutor().schedule(() -> startPendingFiber(key), coalescingWindowMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private synchronized void startPendingFiber(String key) {
+    if (gateMap.containsKey(key)) {
+      return;
+    }
+
+    Optional.ofNullable(pendingFibers.remove(key))
+          .ifPresent(pending -> doStartFiber(key, placeholder, pending.strategy, pending.packet, pending.callback));
+  }
+
   /**
    * Starts Fiber only if there is no running Fiber with the same key. Fiber map is not updated if
    * no Fiber is started.
@@ -88,6 +190,14 @@ public class FiberGate {
    */
   public synchronized Fiber startFiberIfLastFiberMatches(
       String key, Fiber old, Step strategy, Packet packet, CompletionCallback callback) {
+    incrementCount(requestCounts, key);
+    if (old == null) {
+      pendingFibers.remove(key);
+    }
+    return doStartFiber(key, old, strategy, packet, callback);
+  }
+
+  private Fiber doStartFiber(String key, Fiber old, Step strategy, Packet packet, CompletionCallback callback) {
     Fiber f = engine.createFiber();
     WaitForOldFiberStep wfofs;
     if (old != null) {
@@ -101,6 +211,7 @@ public class FiberGate {
     } else {
       old = gateMap.put(key, f);
     }
+    incrementCount(startedCounts, key);
     wfofs = new WaitForOldFiberStep(old, strategy);
     f.getComponents().put(ProcessingConstants.FIBER_COMPONENT_NAME, Component.createFor(wfofs));
     f.start(
@@ -111,17 +222,31 @@ public class FiberGate {
           public void onCompletion(Packet packet) {
             gateMap.remove(key, f);
             callback.onCompletion(packet);
+            startPendingFiber(key);
           }
 
           @Override
           public void onThrowable(Packet packet, Throwable throwable) {
             gateMap.remove(key, f);
             callback.onThrowable(packet, throwable);
+            startPendingFiber(key);
           }
         });
     return f;
   }
 
+  private static class PendingFiber {
+    private final Step strategy;
+    private final Packet packet;
+    private final CompletionCallback callback;
+
+    PendingFiber(Step strategy, Packet packet, CompletionCallback callback) {
+      this.strategy = strategy;
+      this.packet = packet;
+      this.callback = callback;
+    }
+  }
+
   private static class WaitForOldFiberStep extends Step {
     private final AtomicReference<Fiber> old;
     private final AtomicReference<WaitForOldFiberStep> current;
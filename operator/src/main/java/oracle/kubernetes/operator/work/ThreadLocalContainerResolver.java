@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -68,27 +69,22 @@ public class ThreadLocalContainerResolver extends ContainerResolver {
     containerThreadLocal.set(old);
   }
 
+  Executor wrapExecutor(final Container container, final Executor ex) {
+    if (ex == null) {
+      return null;
+    }
+
+    Function<Runnable, Runnable> wrap = createRunnableWrapper(container);
+    return r -> ex.execute(wrap.apply(r));
+  }
+
   ScheduledExecutorService wrapExecutor(
       final Container container, final ScheduledExecutorService ex) {
     if (ex == null) {
       return null;
     }
 
-    Function<Runnable, Runnable> wrap =
-        (x) -> () -> {
-          Container old = enterContainer(container);
-          try {
-            x.run();
-          } catch (RuntimeException | Error runtime) {
-            LOGGER.severe(MessageKeys.EXCEPTION, runtime);
-            throw runtime;
-          } catch (Throwable throwable) {
-            LOGGER.severe(MessageKeys.EXCEPTION, throwable);
-            throw new RuntimeException(throwable);
-          } finally {
-            exitContainer(old);
-          }
-        };
+    Function<Runnable, Runnable> wrap = createRunnableWrapper(container);
 
     Function<Callable<?>, Callable<?>> wrap2 =
         (x) -> () -> {
@@ -210,4 +206,21 @@ public class ThreadLocalContainerResolver extends ContainerResolver {
       }
     };
   }
+
+  private Function<Runnable, Runnable> createRunnableWrapper(final Container container) {
+    return (x) -> () -> {
+      Container old = enterContainer(container);
+      try {
+        x.run();
+      } catch (RuntimeException | Error runtime) {
+        LOGGER.severe(MessageKeys.EXCEPTION, runtime);
+        throw runtime;
+      } catch (Throwable throwable) {
+        LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+        throw new RuntimeException(throwable);
+      } finally {
+        exitContainer(old);
+      }
+    };
+  }
 }
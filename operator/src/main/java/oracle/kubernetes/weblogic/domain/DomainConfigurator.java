@@ -18,6 +18,7 @@ import io.kubernetes.client.openapi.models.V1SecurityContext;
 import io.kubernetes.client.openapi.models.V1Toleration;
 import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.OverrideDistributionStrategy;
+import oracle.kubernetes.operator.ServerStateReadStrategy;
 import oracle.kubernetes.weblogic.domain.model.AuxiliaryImage;
 import oracle.kubernetes.weblogic.domain.model.AuxiliaryImageVolume;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -64,6 +65,17 @@ public abstract class DomainConfigurator {
     return this;
   }
 
+  /**
+   * Specifies how the operator reads the state of servers whose pods are not ready.
+   *
+   * @param strategy the strategy to use
+   * @return this object
+   */
+  public DomainConfigurator withServerStateReadStrategy(ServerStateReadStrategy strategy) {
+    getDomainSpec().setServerStateReadStrategy(strategy);
+    return this;
+  }
+
   /**
    * Specifies whether the domain home is stored in the image.
    *
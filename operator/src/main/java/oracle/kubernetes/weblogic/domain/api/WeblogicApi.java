@@ -20,6 +20,7 @@ import okhttp3.Call;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 
+import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_ALL_NAMESPACES_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_SPECIFIC_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_STATUS_PATH;
@@ -81,6 +82,25 @@ public class WeblogicApi {
     }
   }
 
+  /**
+   * Read domain.
+   * @param name name
+   * @param namespace namespace
+   * @return domain
+   * @throws ApiException on failure
+   */
+  public Domain getNamespacedDomain(String name, String namespace) throws ApiException {
+    ApiResponse<Domain> localVarResp = this.getNamespacedDomainWithHttpInfo(name, namespace);
+    return localVarResp.getData();
+  }
+
+  protected ApiResponse<Domain> getNamespacedDomainWithHttpInfo(String name, String namespace)
+      throws ApiException {
+    Call localVarCall = this.getNamespacedDomainValidateBeforeCall(name, namespace, null);
+    Type localVarReturnType = (new TypeToken<Domain>() {}).getType();
+    return this.localVarApiClient.execute(localVarCall, localVarReturnType);
+  }
+
   /**
    * Asynchronously read domain.
    * @param name name
@@ -99,7 +119,7 @@ public class WeblogicApi {
 
   /**
    * Generate call to list domains.
-   * @param namespace namespace
+   * @param namespace namespace, or null to list domains in all namespaces
    * @param pretty pretty flag
    * @param cont continuation
    * @param fieldSelector field selector
@@ -125,8 +145,9 @@ public class WeblogicApi {
       ApiCallback callback)
       throws ApiException {
     final Object localVarPostBody = null;
-    final String localVarPath =
-        DOMAIN_PATH.replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace));
+    final String localVarPath = namespace == null
+        ? DOMAIN_ALL_NAMESPACES_PATH
+        : DOMAIN_PATH.replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace));
     final List<Pair> localVarQueryParams = new ArrayList<>();
     final List<Pair> localVarCollectionQueryParams = new ArrayList<>();
     if (pretty != null) {
@@ -617,4 +638,75 @@ public class WeblogicApi {
     this.localVarApiClient.executeAsync(localVarCall, localVarReturnType, callback);
     return localVarCall;
   }
+
+  protected Call patchNamespacedDomainStatusCall(
+      String name, String namespace, V1Patch body, ApiCallback callback) throws ApiException {
+    String localVarPath =
+        DOMAIN_STATUS_PATH
+            .replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace))
+            .replaceAll("\\{name\\}", this.localVarApiClient.escapeString(name));
+    List<Pair> localVarQueryParams = new ArrayList<>();
+    List<Pair> localVarCollectionQueryParams = new ArrayList<>();
+    Map<String, String> localVarHeaderParams = new HashMap<>();
+    Map<String, String> localVarCookieParams = new HashMap<>();
+    Map<String, Object> localVarFormParams = new HashMap<>();
+    String[] localVarAccepts = new String[] {"application/json"};
+    String localVarAccept = this.localVarApiClient.selectHeaderAccept(localVarAccepts);
+    if (localVarAccept != null) {
+      localVarHeaderParams.put("Accept", localVarAccept);
+    }
+
+    String[] localVarContentTypes =
+        new String[] {"application/json-patch+json", "application/merge-patch+json"};
+    String localVarContentType =
+        this.localVarApiClient.selectHeaderContentType(localVarContentTypes);
+    localVarHeaderParams.put("Content-Type", localVarContentType);
+    String[] localVarAuthNames = new String[] {"BearerToken"};
+    return this.localVarApiClient.buildCall(
+        localVarPath,
+        "PATCH",
+        localVarQueryParams,
+        localVarCollectionQueryParams,
+        body,
+        localVarHeaderParams,
+        localVarCookieParams,
+        localVarFormParams,
+        localVarAuthNames,
+        callback);
+  }
+
+  private Call patchNamespacedDomainStatusValidateBeforeCall(
+      String name, String namespace, V1Patch body, ApiCallback callback) throws ApiException {
+    if (namespace == null) {
+      throw new ApiException(
+          "Missing the required parameter 'namespace' when calling patchNamespacedDomainStatus(Async)");
+    } else if (name == null) {
+      throw new ApiException(
+          "Missing the required parameter 'name' when calling patchNamespacedDomainStatus(Async)");
+    } else if (body == null) {
+      throw new ApiException(
+          "Missing the required parameter 'body' when calling patchNamespacedDomainStatus(Async)");
+    } else {
+      return this.patchNamespacedDomainStatusCall(name, namespace, body, callback);
+    }
+  }
+
+  /**
+   * Asynchronously patch domain status.
+   * @param name name
+   * @param namespace namespace
+   * @param body patch
+   * @param callback callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call patchNamespacedDomainStatusAsync(
+      String name, String namespace, V1Patch body, ApiCallback<Domain> callback)
+      throws ApiException {
+    Call localVarCall =
+        this.patchNamespacedDomainStatusValidateBeforeCall(name, namespace, body, callback);
+    Type localVarReturnType = (new TypeToken<Domain>() {}).getType();
+    this.localVarApiClient.executeAsync(localVarCall, localVarReturnType, callback);
+    return localVarCall;
+  }
 }
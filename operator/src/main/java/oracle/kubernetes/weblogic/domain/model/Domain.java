@@ -34,6 +34,7 @@ import oracle.kubernetes.operator.MIINonDynamicChangesMethod;
 import oracle.kubernetes.operator.ModelInImageDomainType;
 import oracle.kubernetes.operator.OverrideDistributionStrategy;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.ServerStateReadStrategy;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.SecretType;
@@ -697,6 +698,14 @@ public class Domain implements KubernetesObject {
     return spec.getOverrideDistributionStrategy();
   }
 
+  /**
+   * Returns the strategy for reading the state of servers whose pods are not ready.
+   * @return the selected strategy
+   */
+  public ServerStateReadStrategy getServerStateReadStrategy() {
+    return spec.getServerStateReadStrategy();
+  }
+
   /**
    * Returns the strategy for applying changes to configuration overrides.
    * @return the selected strategy
@@ -26,6 +26,7 @@ import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.ModelInImageDomainType;
 import oracle.kubernetes.operator.OverrideDistributionStrategy;
 import oracle.kubernetes.operator.ServerStartPolicy;
+import oracle.kubernetes.operator.ServerStateReadStrategy;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.weblogic.domain.EffectiveConfigurationFactory;
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -155,6 +156,13 @@ public class DomainSpec extends BaseConfiguration {
   )
   private String livenessProbeCustomScript;
 
+  @Description("Determines how the operator reads the state of WebLogic Server instances whose pods are not ready. "
+      + "Legal values are EXEC, which means that the operator runs a script in the WebLogic Server container, "
+      + "and POD_STATUS, which means that the operator uses the pod status and the server state reported by "
+      + "the readiness probe, without running any command in the container. The state of servers whose pods "
+      + "are ready is read from the server itself in either case. Defaults to EXEC.")
+  private ServerStateReadStrategy serverStateReadStrategy;
+
   /**
    * The WebLogic Server image.
    *
@@ -499,6 +507,14 @@ public class DomainSpec extends BaseConfiguration {
     this.livenessProbeCustomScript = livenessProbeCustomScript;
   }
 
+  public ServerStateReadStrategy getServerStateReadStrategy() {
+    return Optional.ofNullable(serverStateReadStrategy).orElse(ServerStateReadStrategy.DEFAULT);
+  }
+
+  public void setServerStateReadStrategy(ServerStateReadStrategy serverStateReadStrategy) {
+    this.serverStateReadStrategy = serverStateReadStrategy;
+  }
+
   @Nullable
   @Override
   public String getServerStartPolicy() {
@@ -947,6 +963,7 @@ public class DomainSpec extends BaseConfiguration {
             .append("monitoringExporter", monitoringExporter)
             .append("replicas", replicas)
             .append("serverStartPolicy", serverStartPolicy)
+            .append("serverStateReadStrategy", serverStateReadStrategy)
             .append("webLogicCredentialsSecret", webLogicCredentialsSecret);
 
     return builder.toString();
@@ -980,6 +997,7 @@ public class DomainSpec extends BaseConfiguration {
             .append(monitoringExporter)
             .append(replicas)
             .append(serverStartPolicy)
+            .append(serverStateReadStrategy)
             .append(webLogicCredentialsSecret);
 
     return builder.toHashCode();
@@ -1005,6 +1023,7 @@ public class DomainSpec extends BaseConfiguration {
             .append(introspectVersion, rhs.introspectVersion)
             .append(configuration, rhs.configuration)
             .append(serverStartPolicy, rhs.serverStartPolicy)
+            .append(serverStateReadStrategy, rhs.serverStateReadStrategy)
             .append(webLogicCredentialsSecret, rhs.webLogicCredentialsSecret)
             .append(getImage(), rhs.getImage())
             .append(getImagePullPolicy(), rhs.getImagePullPolicy())
@@ -56,6 +56,11 @@ public class DomainStatus {
   @Range(minimum = 0)
   private Integer introspectJobFailureCount = 0;
 
+  @Description(
+      "Whether the most recent introspection of the domain reused a cached result ('Hit') or ran the introspector "
+          + "job ('Miss'). Set only when the Operator tuning parameter 'introspectionCacheMaxEntries' is positive.")
+  private String introspectionCacheResult;
+
   @Description("Status of WebLogic Servers in this domain.")
   @Valid
   // sorted list of ServerStatus
@@ -97,6 +102,7 @@ public class DomainStatus {
     startTime = that.startTime;
     replicas = that.replicas;
     introspectJobFailureCount = that.introspectJobFailureCount;
+    introspectionCacheResult = that.introspectionCacheResult;
   }
 
   /**
@@ -314,6 +320,25 @@ public class DomainStatus {
     return this;
   }
 
+  /**
+   * Whether the most recent introspection reused a cached result.
+   *
+   * @return 'Hit' if a cached result was reused, 'Miss' if the introspector job was run, or null if not known
+   */
+  public String getIntrospectionCacheResult() {
+    return introspectionCacheResult;
+  }
+
+  /**
+   * Records whether the most recent introspection reused a cached result.
+   * @param introspectionCacheResult 'Hit' if a cached result was reused, 'Miss' if the introspector job was run
+   * @return this
+   */
+  public DomainStatus withIntrospectionCacheResult(String introspectionCacheResult) {
+    this.introspectionCacheResult = introspectionCacheResult;
+    return this;
+  }
+
   /**
    * Status of WebLogic Servers in this domain.
    *
@@ -462,6 +487,7 @@ public class DomainStatus {
         .append("clusters", clusters)
         .append("startTime", startTime)
         .append("introspectJobFailureCount", introspectJobFailureCount)
+        .append("introspectionCacheResult", introspectionCacheResult)
         .toString();
   }
 
@@ -475,6 +501,7 @@ public class DomainStatus {
         .append(Domain.sortOrNull(conditions))
         .append(message)
         .append(introspectJobFailureCount)
+        .append(introspectionCacheResult)
         .toHashCode();
   }
 
@@ -495,6 +522,7 @@ public class DomainStatus {
         .append(Domain.sortOrNull(conditions), Domain.sortOrNull(rhs.conditions))
         .append(message, rhs.message)
         .append(introspectJobFailureCount, rhs.introspectJobFailureCount)
+        .append(introspectionCacheResult, rhs.introspectionCacheResult)
         .isEquals();
   }
 
@@ -503,6 +531,7 @@ public class DomainStatus {
         .withStringField("message", DomainStatus::getMessage)
         .withStringField("reason", DomainStatus::getReason)
         .withIntegerField("introspectJobFailureCount", DomainStatus::getIntrospectJobFailureCount)
+        .withStringField("introspectionCacheResult", DomainStatus::getIntrospectionCacheResult)
         .withIntegerField("replicas", DomainStatus::getReplicas)
         .withListField("conditions", DomainCondition.getObjectPatch(), DomainStatus::getConditions)
         .withListField("clusters", ClusterStatus.getObjectPatch(), DomainStatus::getClusters)
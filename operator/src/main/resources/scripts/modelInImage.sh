@@ -541,7 +541,7 @@ function createModelDomain() {
       trace "Using newly created domain"
     elif [ -f ${PRIMORDIAL_DOMAIN_ZIPPED} ] ; then
       trace "Using existing primordial domain"
-      cd / && base64 -d ${PRIMORDIAL_DOMAIN_ZIPPED} > ${LOCAL_PRIM_DOMAIN_ZIP} && tar -xzf ${LOCAL_PRIM_DOMAIN_ZIP}
+      cd / && decodeArchive ${PRIMORDIAL_DOMAIN_ZIPPED} ${LOCAL_PRIM_DOMAIN_ZIP} && tar -xzf ${LOCAL_PRIM_DOMAIN_ZIP}
       # create empty lib since we don't archive it in primordial zip and WDT will fail without it
       mkdir ${DOMAIN_HOME}/lib
       # Since the SerializedSystem ini is encrypted, restore it first
@@ -578,11 +578,24 @@ function restorePrimordialDomain() {
 function restoreEncodedTar() {
   cd / || return 1
   cat $(ls ${OPERATOR_ROOT}/introspector*/${1} | sort -t- -k3) > /tmp/domain.secure || return 1
-  base64 -d "/tmp/domain.secure" > /tmp/domain.tar.gz || return 1
+  decodeArchive "/tmp/domain.secure" /tmp/domain.tar.gz || return 1
 
   tar -xzf /tmp/domain.tar.gz || return 1
 }
 
+# Writes an archive read from the config maps as a gzip file. The operator stores archives as base 64 text,
+# or, when configured to store them as binary data, as the gzip content itself.
+# args:
+# $1 the archive read from the config maps
+# $2 the gzip file to create
+function decodeArchive() {
+  if [ "$(head -c 2 "${1}" | od -An -tx1 | tr -d ' \n')" = "1f8b" ]; then
+    cp "${1}" "${2}"
+  else
+    base64 -d "${1}" > "${2}"
+  fi
+}
+
 # This is before WDT compareModel implementation
 #
 function diff_model_v1() {
@@ -52,6 +52,7 @@ import oracle.kubernetes.operator.helpers.PodStepContext;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
@@ -99,6 +100,7 @@ import static oracle.kubernetes.weblogic.domain.model.ConfigurationConstants.STA
 import static oracle.kubernetes.weblogic.domain.model.ConfigurationConstants.START_NEVER;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
@@ -315,6 +317,22 @@ class DomainProcessorTest {
     assertThat(getRunningPDBs(), empty());
   }
 
+  @Test
+  void whenDomainShutDown_discardItsMakeRightDurationSamples() {
+    processor.createMakeRightOperation(new DomainPresenceInfo(domain)).withExplicitRecheck().execute();
+    assertThat(MetricsRegistry.getInstance().scrape(), containsString(getMakeRightDurationSeries()));
+
+    DomainPresenceInfo info = new DomainPresenceInfo(testSupport.<Domain>getResourceWithName(DOMAIN, UID));
+    processor.createMakeRightOperation(info).interrupt().forDeletion().withExplicitRecheck().execute();
+
+    assertThat(MetricsRegistry.getInstance().scrape(), not(containsString(getMakeRightDurationSeries())));
+  }
+
+  // Other series, such as the make-right request counts, may also carry the domain's labels
+  private String getMakeRightDurationSeries() {
+    return "make_right_duration_seconds_count{namespace=\"" + NS + "\",domain=\"" + UID + "\"";
+  }
+
   @Test
   void whenDomainScaledUp_podDisruptionBudgetMinAvailableUpdated()
           throws JsonProcessingException {
@@ -6,11 +6,15 @@ package oracle.kubernetes.operator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.ImmutableMap;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -18,9 +22,12 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
@@ -37,6 +44,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
 import static oracle.kubernetes.operator.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
@@ -57,6 +66,7 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Progre
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -64,6 +74,9 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class DomainStatusUpdaterTest {
   private static final String NAME = UID;
+  private static final String DOMAIN_STATUS = KubernetesTestSupport.DOMAIN + "Status";
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+  private static final int STATUS_WRITE_COALESCING_WINDOW_MILLIS = 1000;
   private final TerminalStep endStep = new TerminalStep();
   private final WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport("mydomain");
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
@@ -84,6 +97,8 @@ class DomainStatusUpdaterTest {
         .ignoringLoggedExceptions(ApiException.class));
     mementos.add(testSupport.install());
     mementos.add(ClientFactoryStub.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", createDomainsMap()));
 
     domain.setStatus(new DomainStatus());
 
@@ -95,6 +110,12 @@ class DomainStatusUpdaterTest {
     testSupport.addToPacket(SERVER_HEALTH_MAP, Collections.emptyMap());
   }
 
+  private Map<String, Map<String, DomainPresenceInfo>> createDomainsMap() {
+    final Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
+    domains.computeIfAbsent(NS, ns -> new ConcurrentHashMap<>()).put(UID, info);
+    return domains;
+  }
+
   private V1ObjectMeta createPodMetadata(String serverName) {
     return new V1ObjectMeta().namespace(NS).name(serverName).labels(ImmutableMap.of());
   }
@@ -799,6 +820,178 @@ class DomainStatusUpdaterTest {
     assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
   }
 
+  @Test
+  void whenDomainHasStatus_sendStatusChangesAsPatch() {
+    long patchCount = DomainStatusUpdater.getStatusPatchCount();
+    long replaceCount = DomainStatusUpdater.getStatusReplaceCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(DomainStatusUpdater.getStatusPatchCount() - patchCount, equalTo(1L));
+    assertThat(DomainStatusUpdater.getStatusReplaceCount() - replaceCount, equalTo(0L));
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  @Test
+  void whenDomainHasNoStatus_replaceStatus() {
+    domain.setStatus(null);
+    long replaceCount = DomainStatusUpdater.getStatusReplaceCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(DomainStatusUpdater.getStatusReplaceCount() - replaceCount, equalTo(1L));
+  }
+
+  @Test
+  void whenStatusPatchRejected_replaceStatus() {
+    testSupport.failOnResource(DOMAIN_STATUS, NAME, NS, HTTP_UNPROCESSABLE_ENTITY);
+    long replaceCount = DomainStatusUpdater.getStatusReplaceCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(DomainStatusUpdater.getStatusReplaceCount() - replaceCount, equalTo(1L));
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  @Test
+  void whenStatusPatchHasConflict_replaceStatus() {
+    testSupport.failOnResource(DOMAIN_STATUS, NAME, NS, HTTP_CONFLICT);
+    long replaceCount = DomainStatusUpdater.getStatusReplaceCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(DomainStatusUpdater.getStatusReplaceCount() - replaceCount, equalTo(1L));
+  }
+
+  @Test
+  void whenStatusUpdated_recordBytesSent() {
+    long bytesSent = DomainStatusUpdater.getStatusBytesSent();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(DomainStatusUpdater.getStatusBytesSent(), greaterThan(bytesSent));
+  }
+
+  @Test
+  void whenStatusWriteCoalescingWindowSet_deferStatusChange() {
+    defineStatusWriteCoalescingWindow();
+    long patchCount = DomainStatusUpdater.getStatusPatchCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(DomainStatusUpdater.getStatusPatchCount() - patchCount, equalTo(0L));
+    assertThat(getRecordedDomain(), not(hasCondition(Progressing)));
+  }
+
+  @Test
+  void whenStatusWriteCoalescingWindowSet_pendingStatusIsVisibleToLaterSteps() {
+    defineStatusWriteCoalescingWindow();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(new Domain().withStatus(info.getPendingStatus()),
+          hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  @Test
+  void whenStatusWriteCoalescingWindowExpires_writeAllPendingChangesOnce() {
+    defineStatusWriteCoalescingWindow();
+    long patchCount = DomainStatusUpdater.getStatusPatchCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("first", false, endStep));
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    testSupport.setTime(STATUS_WRITE_COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(DomainStatusUpdater.getStatusPatchCount() - patchCount, equalTo(1L));
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+    assertThat(info.getPendingStatus(), nullValue());
+  }
+
+  @Test
+  void whenFiberWhichDeferredStatusChangeIsCancelled_stillWritePendingStatus() {
+    defineStatusWriteCoalescingWindow();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, new SuspendingStep()));
+    testSupport.cancelFiber();
+    testSupport.setTime(STATUS_WRITE_COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  @Test
+  void afterPendingStatusWritten_laterDeferredChangeIsAlsoWritten() {
+    defineStatusWriteCoalescingWindow();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("first", false, endStep));
+    testSupport.setTime(STATUS_WRITE_COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    testSupport.setTime(2 * STATUS_WRITE_COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  @Test
+  void whenDomainDeletedBeforePendingStatusWritten_discardIt() {
+    defineStatusWriteCoalescingWindow();
+    long patchCount = DomainStatusUpdater.getStatusPatchCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    info.setDeleting(true);
+    testSupport.setTime(STATUS_WRITE_COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(DomainStatusUpdater.getStatusPatchCount() - patchCount, equalTo(0L));
+    assertThat(info.getPendingStatus(), nullValue());
+  }
+
+  @Test
+  void whenPendingStatusWriteFailsWithUnrecoverableError_doNotRetryIt() {
+    defineStatusWriteCoalescingWindow();
+    testSupport.failOnResource(DOMAIN_STATUS, NAME, NS, HTTP_FORBIDDEN);
+    long patchCount = DomainStatusUpdater.getStatusPatchCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    testSupport.setTime(3 * STATUS_WRITE_COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(DomainStatusUpdater.getStatusPatchCount() - patchCount, equalTo(1L));
+    assertThat(info.getPendingStatus(), nullValue());
+  }
+
+  @Test
+  void afterPendingStatusAbandoned_laterDeferredChangeIsWritten() {
+    defineStatusWriteCoalescingWindow();
+    info.setPendingStatus(new DomainStatus());
+    info.abandonPendingStatus();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    testSupport.setTime(STATUS_WRITE_COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  @Test
+  void whenStatusWriteCoalescingWindowSet_writeFailureImmediately() {
+    defineStatusWriteCoalescingWindow();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    testSupport.runSteps(DomainStatusUpdater.createFailureRelatedSteps("Test", "failure", endStep));
+
+    assertThat(getRecordedDomain(), hasCondition(Failed));
+    assertThat(info.getPendingStatus(), nullValue());
+  }
+
+  // Suspends the fiber which runs it indefinitely, as a make-right does while it waits for a response.
+  private static class SuspendingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+
+  private void defineStatusWriteCoalescingWindow() {
+    TuningParametersStub.setParameter(
+          "statusWriteCoalescingWindowMillis", Long.toString(STATUS_WRITE_COALESCING_WINDOW_MILLIS));
+  }
+
   @Test
   void
       whenDomainHasNoProgressingCondition_progressingStepUpdatesItWithProgressingTrueAndReason() {
@@ -398,4 +398,12 @@ class JobWatcherTest extends WatcherTestBase implements WatchListener<V1Job> {
     // Override as JobWatcher doesn't currently implement listener for callback
   }
 
+  public void bookmarkEvents_areNotSentToListeners() {
+    // Override as JobWatcher doesn't currently implement listener for callback
+  }
+
+  public void afterRestartWithoutResourceVersion_replayedEventsAreNotSentToListeners() {
+    // Override as JobWatcher doesn't currently implement listener for callback
+  }
+
 }
@@ -7,6 +7,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,9 +33,12 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +48,7 @@ import static com.meterware.simplestub.Stub.createStub;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -54,6 +59,7 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
+  private final ReadDomainHealthStepFactoryFake domainStepFactory = new ReadDomainHealthStepFactoryFake();
   private final FiberTestSupport testSupport = new FiberTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private final Domain domain =
@@ -65,8 +71,10 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "EXEC_FACTORY", execFactory));
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "STEP_FACTORY", stepFactory));
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "DOMAIN_HEALTH_STEP_FACTORY", domainStepFactory));
     mementos.add(TuningParametersStub.install());
     mementos.add(ClientFactoryStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
 
     testSupport.addDomainPresenceInfo(info);
   }
@@ -143,6 +151,7 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
   void whenPodNotReadyAndHasLastKnownState_recordInStateMap() {
     info.setServerPod("server1", createPod("server1"));
     info.updateLastKnownServerStatus("server1", "not ready yet");
+    SystemClockTestSupport.increment(StatusPollingTier.NORMAL.getIntervalSeconds());
 
     execFactory.defineResponse("server1", "still not ready yet");
 
@@ -153,6 +162,185 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(serverStates, hasEntry("server1", "still not ready yet"));
   }
 
+  @Test
+  void whenRunningServerStateReadRecently_reuseIt() {
+    defineRunningServer("server1");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "RUNNING"));
+  }
+
+  @Test
+  void whenRunningServerPollingIntervalPassed_readStateAgain() {
+    TuningParametersStub.setParameter("statusPollingNormalSeconds", "10");
+    defineRunningServer("server1");
+    SystemClockTestSupport.increment(10);
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", WebLogicConstants.UNKNOWN_STATE));
+  }
+
+  @Test
+  void whenServerStarting_recordPollInFastTier() {
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "STARTING");
+    long pollCount = StatusPollingTier.FAST.getPollCount();
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(StatusPollingTier.FAST.getPollCount() - pollCount, equalTo(1L));
+  }
+
+  @Test
+  void whenServerRecentlyStarted_isInNormalTier() {
+    defineRunningServer("server1");
+
+    assertThat(getPollingTier("server1"), equalTo(StatusPollingTier.NORMAL));
+  }
+
+  @Test
+  void whenRunningServerStateRemainsUnchanged_isInSlowTier() {
+    defineRunningServer("server1");
+    info.updateLastKnownServerStatus("server1", WebLogicConstants.RUNNING_STATE);
+    info.updateLastKnownServerStatus("server1", WebLogicConstants.RUNNING_STATE);
+
+    assertThat(getPollingTier("server1"), equalTo(StatusPollingTier.SLOW));
+  }
+
+  @Test
+  void whenPodStatusStrategySelectedAndRunningServerPodNotReady_isInFastTier() {
+    domain.getSpec().setServerStateReadStrategy(ServerStateReadStrategy.POD_STATUS);
+    defineRunningServer("server1");
+    info.getServerPod("server1").setStatus(new V1PodStatus());
+
+    assertThat(getPollingTier("server1"), equalTo(StatusPollingTier.FAST));
+  }
+
+  @Test
+  void whenExecStrategySelectedAndRunningServerPodNotReady_isInNormalTier() {
+    defineRunningServer("server1");
+    info.getServerPod("server1").setStatus(new V1PodStatus());
+
+    assertThat(getPollingTier("server1"), equalTo(StatusPollingTier.NORMAL));
+  }
+
+  @Test
+  void whenExecStrategySelectedAndStartingServerReadRecently_reuseItsState() {
+    info.setServerPod("server1", createPod("server1"));
+    info.updateLastKnownServerStatus("server1", WebLogicConstants.STARTING_STATE);
+    long execCount = ServerStatusReader.getExecCount();
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(ServerStatusReader.getExecCount() - execCount, equalTo(0L));
+  }
+
+  @Test
+  void whenNoServerPods_nextPollIsAtNormalInterval() {
+    TuningParametersStub.setParameter("statusPollingNormalSeconds", "10");
+
+    assertThat(ServerStatusReader.getSecondsUntilNextPoll(info), equalTo(10L));
+  }
+
+  @Test
+  void whenAnyServerStarting_nextPollIsAtFastInterval() {
+    TuningParametersStub.setParameter("statusPollingFastSeconds", "3");
+    TuningParametersStub.setParameter("statusPollingNormalSeconds", "10");
+    defineRunningServer("server1");
+    info.setServerPod("server2", createPod("server2"));
+
+    assertThat(ServerStatusReader.getSecondsUntilNextPoll(info), equalTo(3L));
+  }
+
+  @Test
+  void whenAllServersRunning_nextPollIsWhenFirstIntervalExpires() {
+    TuningParametersStub.setParameter("statusPollingNormalSeconds", "10");
+    defineRunningServer("server1");
+    SystemClockTestSupport.increment(4);
+    defineRunningServer("server2");
+
+    assertThat(ServerStatusReader.getSecondsUntilNextPoll(info), equalTo(6L));
+  }
+
+  @Test
+  void whenPodStatusStrategySelected_dontRunCommandInPod() {
+    domain.getSpec().setServerStateReadStrategy(ServerStateReadStrategy.POD_STATUS);
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "RUNNING");
+    long execCount = ServerStatusReader.getExecCount();
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(ServerStatusReader.getExecCount(), equalTo(execCount));
+    assertThat(getServerStates(packet), hasEntry("server1", WebLogicConstants.STARTING_STATE));
+  }
+
+  @Test
+  void whenPodStatusStrategySelectedAndReadinessProbeReportedState_useIt() {
+    domain.getSpec().setServerStateReadStrategy(ServerStateReadStrategy.POD_STATUS);
+    info.setServerPod("server1", createPod("server1"));
+    info.updateLastKnownServerStatus("server1", WebLogicConstants.ADMIN_STATE);
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", WebLogicConstants.ADMIN_STATE));
+  }
+
+  @Test
+  void whenPodStatusStrategySelectedAndRunningServerPodBecomesNotReady_reportUnknown() {
+    domain.getSpec().setServerStateReadStrategy(ServerStateReadStrategy.POD_STATUS);
+    V1Pod readyPod = createPod("server1");
+    readyPod.getMetadata().creationTimestamp(SystemClock.now());
+    setReadyStatus(readyPod);
+    info.setServerPodFromEvent("server1", readyPod);
+    info.setServerPodFromEvent("server1", createPod("server1").metadata(readyPod.getMetadata()));
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", WebLogicConstants.UNKNOWN_STATE));
+  }
+
+  @Test
+  void whenPodStatusStrategySelectedAndPodDeleting_reportShuttingDown() {
+    domain.getSpec().setServerStateReadStrategy(ServerStateReadStrategy.POD_STATUS);
+    info.setServerPod("server1", createPod("server1"));
+    info.getServerPod("server1").getMetadata().deletionTimestamp(SystemClock.now());
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", WebLogicConstants.SHUTTING_DOWN_STATE));
+  }
+
+  @Test
+  void whenExecStrategySelected_runCommandInPod() {
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "STARTING");
+    long execCount = ServerStatusReader.getExecCount();
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(ServerStatusReader.getExecCount() - execCount, equalTo(1L));
+  }
+
+  private void defineRunningServer(String serverName) {
+    info.setServerPod(serverName, createPod(serverName));
+    setReadyStatus(info.getServerPod(serverName));
+    info.updateLastKnownServerStatus(serverName, WebLogicConstants.RUNNING_STATE);
+  }
+
+  private StatusPollingTier getPollingTier(String serverName) {
+    return StatusPollingTier.forServer(info.getServerPod(serverName), info.getLastKnownServerStatus(serverName),
+          domain.getServerStateReadStrategy());
+  }
+
   private void setReadyStatus(V1Pod pod) {
     pod.setStatus(
         new V1PodStatus()
@@ -172,6 +360,77 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  void whenServersHavePods_readDomainHealthFirst() {
+    info.setServerPod("server1", createPod("server1"));
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(domainStepFactory.numInvocations, is(1));
+  }
+
+  @Test
+  void whenBatchedHealthReadsDisabled_dontReadDomainHealth() {
+    TuningParametersStub.setParameter("batchServerHealthReads", "false");
+    info.setServerPod("server1", createPod("server1"));
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(domainStepFactory.numInvocations, is(0));
+  }
+
+  @Test
+  void whenDomainHealthReportsServer_dontReadItIndividually() {
+    defineReadyServerPods("server1", "server2");
+    domainStepFactory.reportServers("server2");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, contains("server1"));
+  }
+
+  @Test
+  void whenDomainHealthReportsServer_recordItsState() {
+    defineReadyServerPods("server1", "server2");
+    domainStepFactory.reportServers("server2");
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server2", "RUNNING"));
+  }
+
+  private void defineReadyServerPods(String... serverNames) {
+    for (String serverName : serverNames) {
+      info.setServerPod(serverName, createPod(serverName));
+      setReadyStatus(info.getServerPod(serverName));
+    }
+  }
+
+  static class ReadDomainHealthStepFactoryFake implements Function<Step, Step> {
+    private final List<String> reportedServers = new ArrayList<>();
+    private int numInvocations;
+
+    void reportServers(String... serverNames) {
+      reportedServers.addAll(Arrays.asList(serverNames));
+    }
+
+    @Override
+    public Step apply(Step next) {
+      return new Step(next) {
+        @Override
+        @SuppressWarnings("unchecked")
+        public NextAction apply(Packet packet) {
+          numInvocations++;
+          for (String serverName : reportedServers) {
+            ((Map<String, String>) packet.get(SERVER_STATE_MAP)).put(serverName, "RUNNING");
+            ((Map<String, ServerHealth>) packet.get(SERVER_HEALTH_MAP)).put(serverName, new ServerHealth());
+          }
+          return doNext(packet);
+        }
+      };
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     final List<String> serverNames = new ArrayList<>();
 
@@ -4,19 +4,30 @@
 package oracle.kubernetes.operator;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.ResourceCache;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.watcher.WatchListener;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.deleteEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 /** This test class verifies the behavior of the ServiceWatcher. */
@@ -24,6 +35,15 @@ class ServiceWatcherTest extends WatcherTestBase implements WatchListener<V1Serv
 
   private static final BigInteger INITIAL_RESOURCE_VERSION = new BigInteger("987");
 
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+
+  @Override
+  @BeforeEach
+  public void setUp() throws Exception {
+    super.setUp();
+    addMemento(testSupport.install());
+  }
+
   @Override
   public void receivedResponse(Watch.Response<V1Service> response) {
     recordCallBack(response);
@@ -39,6 +59,81 @@ class ServiceWatcherTest extends WatcherTestBase implements WatchListener<V1Serv
             .and(hasEntry("labelSelector", asList(DOMAINUID_LABEL, CREATEDBYOPERATOR_LABEL))));
   }
 
+  @Test
+  void whenResourceVersionExpiredAndServicesCached_sendOnlyChangesToListeners() {
+    V1Service unchanged = createService("unchanged", "10");
+    V1Service modified = createService("modified", "15");
+    V1Service added = createService("added", "16");
+    V1Service removed = createService("removed", "12");
+    cacheServices(unchanged, createService("modified", "11"), removed);
+    testSupport.defineResources(unchanged, modified, added);
+    scheduleHttpGoneResponse();
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+
+    assertThat(getCallBacks(),
+          containsInAnyOrder(List.of(modifyEvent(modified), addEvent(added), deleteEvent(removed))));
+  }
+
+  @Test
+  void whenResourceVersionExpiredAndServicesCached_replaceCachedServices() {
+    V1Service added = createService("added", "16");
+    cacheServices(createService("removed", "12"));
+    testSupport.defineResources(added);
+    scheduleHttpGoneResponse();
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+
+    assertThat(getServiceStore().list(NAMESPACE), equalTo(List.of(added)));
+  }
+
+  @Test
+  void whenResourceVersionExpiredAndServicesCached_incrementRelistCount() {
+    cacheServices(createService("unchanged", "10"));
+    long initialCount = Watcher.getRelistCount();
+    scheduleHttpGoneResponse();
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+
+    assertThat(Watcher.getRelistCount(), equalTo(initialCount + 1));
+  }
+
+  @Test
+  void whenResourceVersionExpiredAndServicesCached_incrementRelistMetricForServices() {
+    cacheServices(createService("unchanged", "10"));
+    long initialCount = OperatorMetrics.WATCH_RELISTS.labels("Service").get();
+    scheduleHttpGoneResponse();
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+
+    assertThat(OperatorMetrics.WATCH_RELISTS.labels("Service").get(), equalTo(initialCount + 1));
+  }
+
+  @Test
+  void whenResourceVersionExpiredAndServicesCached_resumeWatchFromListedResourceVersion() {
+    cacheServices(createService("unchanged", "10"));
+    scheduleHttpGoneResponse();
+    scheduleAddResponse(createService("later", "20"));
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(1),
+          not(hasEntry("resourceVersion", NEXT_RESOURCE_VERSION.toString())));
+  }
+
+  private V1Service createService(String name, String resourceVersion) {
+    return new V1Service()
+          .metadata(new V1ObjectMeta().name(name).namespace(NAMESPACE).resourceVersion(resourceVersion));
+  }
+
+  private void cacheServices(V1Service... services) {
+    getServiceStore().replaceAll(NAMESPACE, List.of(services));
+  }
+
+  private ResourceCache.Store<V1Service> getServiceStore() {
+    return ResourceCache.getInstance().getServices();
+  }
+
   private String asList(String... selectors) {
     return String.join(",", selectors);
   }
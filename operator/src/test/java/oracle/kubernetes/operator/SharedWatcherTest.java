@@ -0,0 +1,276 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.Namespaces.SELECTION_STRATEGY_KEY;
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class SharedWatcherTest extends ThreadFactoryTestBase implements StubWatchFactory.AllWatchesClosedListener {
+
+  private static final String NS1 = "namespace1";
+  private static final String NS2 = "namespace2";
+  private static final String NS3 = "namespace3";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Runnable> watchRunnables = new ArrayList<>();
+  private final AtomicBoolean stopping = new AtomicBoolean(false);
+  private final WatchTuning tuning = new WatchTuning(30, 0, 5, 24, 600);
+  private final List<Watch.Response<V1Service>> ns1Events = new ArrayList<>();
+  private final List<Watch.Response<V1Service>> ns2Events = new ArrayList<>();
+  private final SharedWatcher<V1Service> sharedWatcher = new SharedWatcher<>(this, "100", tuning, stopping);
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(ClientFactoryStub.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(Watcher.class, "STARTER", (WatcherStarter) this::recordWatch));
+    StubWatchFactory.setListener(this);
+  }
+
+  private Thread recordWatch(ThreadFactory factory, Runnable watch) {
+    watchRunnables.add(watch);
+    return null;
+  }
+
+  @AfterEach
+  void tearDown() {
+    shutDownThreads();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Override
+  public void allWatchesClosed() {
+    stopping.set(true);
+  }
+
+  @Test
+  void whenFirstWatcherRegistered_startSharedWatch() {
+    ServiceWatcher.create(sharedWatcher.createRegistration(), NS1, "100", tuning, ns1Events::add, stopping);
+
+    assertThat(watchRunnables.size(), is(1));
+  }
+
+  @Test
+  void whenSecondWatcherRegistered_doNotStartAnotherWatch() {
+    ServiceWatcher.create(sharedWatcher.createRegistration(), NS1, "100", tuning, ns1Events::add, stopping);
+    ServiceWatcher.create(sharedWatcher.createRegistration(), NS2, "200", tuning, ns2Events::add, stopping);
+
+    assertThat(watchRunnables.size(), is(1));
+  }
+
+  @Test
+  void sharedWatch_requestsAllNamespacesWithWatcherSelectors() {
+    registerServiceWatchers();
+
+    runSharedWatch();
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("resourceVersion", "100"));
+    assertThat(StubWatchFactory.getRequestParameters().get(0).get("labelSelector"), notNullValue());
+  }
+
+  @Test
+  void receivedEvents_areSentToWatcherForTheirNamespace() {
+    registerServiceWatchers();
+    V1Service service1 = createService(NS1, "101");
+    V1Service service2 = createService(NS2, "102");
+    StubWatchFactory.addCallResponses(createAddResponse(service1), createAddResponse(service2));
+
+    runSharedWatch();
+
+    assertThat(ns1Events, contains(addEvent(service1)));
+    assertThat(ns2Events, contains(addEvent(service2)));
+  }
+
+  @Test
+  void receivedEventsForUnregisteredNamespace_areIgnored() {
+    registerServiceWatchers();
+    StubWatchFactory.addCallResponses(createAddResponse(createService(NS3, "101")));
+
+    runSharedWatch();
+
+    assertThat(ns1Events, empty());
+    assertThat(ns2Events, empty());
+  }
+
+  @Test
+  void afterWatcherRemoved_itsEventsAreIgnored() {
+    registerServiceWatchers();
+    sharedWatcher.removeDelegate(NS1);
+    StubWatchFactory.addCallResponses(createAddResponse(createService(NS1, "101")));
+
+    runSharedWatch();
+
+    assertThat(ns1Events, empty());
+  }
+
+  @Test
+  void whenWatcherRegisteredWhileWatchRunning_restartWatchFromItsListVersion() {
+    V1Service service2 = createService(NS2, "150");
+    V1Service service1 = createService(NS1, "160");
+    StubWatchFactory.addCallResponses(createAddResponse(service2), createAddResponse(service1));
+    StubWatchFactory.addCallResponses(createAddResponse(service2), createAddResponse(service1));
+    ServiceWatcher.create(sharedWatcher.createRegistration(), NS1, "100", tuning,
+          e -> registerSecondWatcherAfter(e, "120"), stopping);
+
+    runSharedWatch();
+
+    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "120"));
+    assertThat(ns2Events, contains(addEvent(service2)));
+    assertThat(ns1Events, contains(addEvent(service1)));
+  }
+
+  @Test
+  void whenWatcherRegisteredWhileWatchRunning_doNotDispatchEventsOlderThanItsList() {
+    V1Service service2 = createService(NS2, "110");
+    V1Service service1 = createService(NS1, "160");
+    StubWatchFactory.addCallResponses(createAddResponse(service1));
+    StubWatchFactory.addCallResponses(createAddResponse(service2), createAddResponse(service1));
+    ServiceWatcher.create(sharedWatcher.createRegistration(), NS1, "100", tuning,
+          e -> registerSecondWatcherAfter(e, "120"), stopping);
+
+    runSharedWatch();
+
+    assertThat(ns2Events, empty());
+  }
+
+  // Simulates a namespace which finishes its initial list, and so registers, after the shared watch has started.
+  private void registerSecondWatcherAfter(Watch.Response<V1Service> event, String listVersion) {
+    ns1Events.add(event);
+    if (sharedWatcher.getDelegate(NS2) == null) {
+      ServiceWatcher.create(sharedWatcher.createRegistration(), NS2, listVersion, tuning, ns2Events::add, stopping);
+    }
+  }
+
+  @Test
+  void whenClusterWideWatchesNotConfigured_createPerNamespaceWatchers() {
+    TuningParametersStub.setParameter(SELECTION_STRATEGY_KEY, "LabelSelector");
+    DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+
+    startPodWatcher(domainNamespaces, NS1);
+
+    assertThat(domainNamespaces.getPodWatcher(NS1), notNullValue());
+    assertThat(getSharedPodWatcher(domainNamespaces), nullValue());
+  }
+
+  @Test
+  void whenClusterWideWatchPermittedForLabelSelectorStrategy_registerWithSharedWatcher() {
+    TuningParametersStub.setParameter(SELECTION_STRATEGY_KEY, "LabelSelector");
+    DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+    domainNamespaces.configureClusterWideWatches(r -> true);
+
+    startPodWatcher(domainNamespaces, NS1);
+
+    assertThat(getSharedPodWatcher(domainNamespaces).getDelegate(NS1),
+          sameInstance(domainNamespaces.getPodWatcher(NS1)));
+  }
+
+  @Test
+  void whenClusterWideWatchNotPermitted_createPerNamespaceWatchers() {
+    TuningParametersStub.setParameter(SELECTION_STRATEGY_KEY, "RegExp");
+    DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+    domainNamespaces.configureClusterWideWatches(r -> r != Resource.PODS);
+
+    startPodWatcher(domainNamespaces, NS1);
+
+    assertThat(getSharedPodWatcher(domainNamespaces), nullValue());
+  }
+
+  @Test
+  void whenListStrategyUsed_createPerNamespaceWatchers() {
+    TuningParametersStub.setParameter(SELECTION_STRATEGY_KEY, "List");
+    DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+    domainNamespaces.configureClusterWideWatches(r -> true);
+
+    startPodWatcher(domainNamespaces, NS1);
+
+    assertThat(getSharedPodWatcher(domainNamespaces), nullValue());
+  }
+
+  @Test
+  void whenClusterWideWatchesDisabled_createPerNamespaceWatchers() {
+    TuningParametersStub.setParameter(SELECTION_STRATEGY_KEY, "LabelSelector");
+    TuningParametersStub.setParameter("clusterWideWatches", "false");
+    DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+    domainNamespaces.configureClusterWideWatches(r -> true);
+
+    startPodWatcher(domainNamespaces, NS1);
+
+    assertThat(getSharedPodWatcher(domainNamespaces), nullValue());
+  }
+
+  @Test
+  void whenNamespaceStopped_removeItsWatcherFromSharedWatcher() {
+    TuningParametersStub.setParameter(SELECTION_STRATEGY_KEY, "LabelSelector");
+    DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+    domainNamespaces.configureClusterWideWatches(r -> true);
+    startPodWatcher(domainNamespaces, NS1);
+
+    domainNamespaces.stopNamespace(NS1);
+
+    assertThat(getSharedPodWatcher(domainNamespaces).getDelegate(NS1), nullValue());
+  }
+
+  private void startPodWatcher(DomainNamespaces domainNamespaces, String namespace) {
+    domainNamespaces.isStopping(namespace);
+    domainNamespaces.new WatcherStartupProcessing(namespace, createStub(DomainProcessor.class))
+          .getPodListProcessing()
+          .accept(new V1PodList().metadata(new V1ListMeta().resourceVersion("100")));
+  }
+
+  private SharedWatcher<V1Pod> getSharedPodWatcher(DomainNamespaces domainNamespaces) {
+    return domainNamespaces.getPodWatcherControl().getSharedWatcher();
+  }
+
+  private void registerServiceWatchers() {
+    ServiceWatcher.create(sharedWatcher.createRegistration(), NS1, "100", tuning, ns1Events::add, stopping);
+    ServiceWatcher.create(sharedWatcher.createRegistration(), NS2, "100", tuning, ns2Events::add, stopping);
+  }
+
+  private void runSharedWatch() {
+    watchRunnables.get(0).run();
+  }
+
+  private V1Service createService(String namespace, String resourceVersion) {
+    return new V1Service().metadata(new V1ObjectMeta().name("service").namespace(namespace)
+          .resourceVersion(resourceVersion));
+  }
+
+  private Watch.Response<V1Service> createAddResponse(V1Service service) {
+    return WatchEvent.createAddedEvent(service).toWatchResponse();
+  }
+}
@@ -0,0 +1,129 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class StatusPollingWheelTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final StatusPollingWheel wheel = new StatusPollingWheel();
+  private final List<String> runs = new ArrayList<>();
+
+  private void register(String namespace, String domainUid, long delaySeconds) {
+    wheel.register(namespace, domainUid, () -> runs.add(domainUid), delaySeconds, TimeUnit.SECONDS);
+  }
+
+  private void advanceSeconds(long seconds) {
+    for (long i = 0; i < seconds * 1000 / StatusPollingWheel.TICK_MILLIS; i++) {
+      wheel.tick();
+    }
+  }
+
+  @Test
+  void registeredTask_doesNotRunBeforeDelay() {
+    register(NS1, "domain1", 5);
+
+    advanceSeconds(4);
+
+    assertThat(runs, empty());
+  }
+
+  @Test
+  void registeredTask_runsOnceAfterDelay() {
+    register(NS1, "domain1", 5);
+
+    advanceSeconds(20);
+
+    assertThat(runs, contains("domain1"));
+  }
+
+  @Test
+  void whenDelayLongerThanWheel_taskRunsAfterDelay() {
+    register(NS1, "domain1", 150);
+
+    advanceSeconds(149);
+    assertThat(runs, empty());
+
+    advanceSeconds(1);
+    assertThat(runs, contains("domain1"));
+  }
+
+  @Test
+  void rescheduledTask_runsAfterNewDelay() {
+    register(NS1, "domain1", 5);
+    advanceSeconds(5);
+
+    wheel.reschedule(NS1, "domain1", 3, TimeUnit.SECONDS);
+    advanceSeconds(3);
+
+    assertThat(runs, contains("domain1", "domain1"));
+  }
+
+  @Test
+  void whenTaskReschedulesItself_runPeriodically() {
+    wheel.register(NS1, "domain1", () -> {
+      runs.add("domain1");
+      wheel.reschedule(NS1, "domain1", 2, TimeUnit.SECONDS);
+    }, 2, TimeUnit.SECONDS);
+
+    advanceSeconds(10);
+
+    assertThat(runs.size(), equalTo(5));
+  }
+
+  @Test
+  void canceledTask_doesNotRun() {
+    register(NS1, "domain1", 5);
+
+    wheel.cancel(NS1, "domain1");
+    advanceSeconds(5);
+
+    assertThat(runs, empty());
+  }
+
+  @Test
+  void afterCancel_rescheduleDoesNothing() {
+    register(NS1, "domain1", 5);
+
+    wheel.cancel(NS1, "domain1");
+    wheel.reschedule(NS1, "domain1", 1, TimeUnit.SECONDS);
+    advanceSeconds(5);
+
+    assertThat(runs, empty());
+  }
+
+  @Test
+  void reregisteredTask_runsOnlyOnce() {
+    register(NS1, "domain1", 5);
+    register(NS1, "domain1", 3);
+
+    advanceSeconds(5);
+
+    assertThat(runs, contains("domain1"));
+  }
+
+  @Test
+  void whenNamespaceCanceled_onlyItsTasksAreRemoved() {
+    register(NS1, "domain1", 5);
+    register(NS2, "domain2", 5);
+
+    wheel.cancelNamespace(NS1);
+    advanceSeconds(5);
+
+    assertThat(runs, contains("domain2"));
+    assertThat(wheel.getNumRegistrations(), equalTo(1));
+  }
+}
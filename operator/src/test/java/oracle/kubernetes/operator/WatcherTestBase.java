@@ -36,15 +36,15 @@ import static org.hamcrest.Matchers.hasEntry;
 /** Tests behavior of the Watcher class. */
 @SuppressWarnings("SameParameterValue")
 public abstract class WatcherTestBase extends ThreadFactoryTestBase implements AllWatchesClosedListener {
-  private static final BigInteger NEXT_RESOURCE_VERSION = new BigInteger("214748364705");
+  static final BigInteger NEXT_RESOURCE_VERSION = new BigInteger("214748364705");
   private static final BigInteger INITIAL_RESOURCE_VERSION = new BigInteger("214748364700");
-  private static final String NAMESPACE = "testspace";
+  static final String NAMESPACE = "testspace";
 
   private final RuntimeException hasNextException = new RuntimeException(Watcher.HAS_NEXT_EXCEPTION_MESSAGE);
   private final List<Memento> mementos = new ArrayList<>();
   private final List<Watch.Response<?>> callBacks = new ArrayList<>();
   private final AtomicBoolean stopping = new AtomicBoolean(false);
-  final WatchTuning tuning = new WatchTuning(30, 0, 5, 24);
+  final WatchTuning tuning = new WatchTuning(30, 0, 5, 24, 600);
   private BigInteger resourceVersion = INITIAL_RESOURCE_VERSION;
 
   private V1ObjectMeta createMetaData() {
@@ -161,16 +161,47 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
 
     createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
 
-    assertThat(callBacks, contains(addEvent(object1), modifyEvent(object2)));
+    assertThat(callBacks, contains(List.of(addEvent(object1), modifyEvent(object2))));
+  }
+
+  @Test
+  void bookmarkEvents_areNotSentToListeners() {
+    Object object1 = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createBookmarkResponse(createObjectWithMetaData()), createAddResponse(object1));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, contains(addEvent(object1)));
+  }
+
+  @Test
+  void afterRestartWithoutResourceVersion_replayedEventsAreNotSentToListeners() {
+    Object object1 = createObjectWithMetaData();
+    Object object2 = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createAddResponse(object1), createErrorWithoutStatusResponse());
+    StubWatchFactory.addCallResponses(createAddResponse(object1), createAddResponse(object2));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, contains(List.of(addEvent(object1), addEvent(object2))));
+  }
+
+  @Test
+  void whenReplayedEventSuppressed_incrementSuppressedEventCount() {
+    Object object1 = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createAddResponse(object1), createAddResponse(object1));
+    long initialCount = Watcher.getSuppressedEventCount();
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(Watcher.getSuppressedEventCount(), equalTo(initialCount + 1));
   }
 
-  @SuppressWarnings({"rawtypes"})
   @Test
   void afterFirstSetOfEvents_nextRequestSendsLastResourceVersion() {
     Object object1 = createObjectWithMetaData();
     Object object2 = createObjectWithMetaData();
-    Watch.Response[] firstSet = {createAddResponse(object1), createModifyResponse(object2)};
-    StubWatchFactory.addCallResponses(firstSet);
+    StubWatchFactory.addCallResponses(createAddResponse(object1), createModifyResponse(object2));
     scheduleAddResponse(createObjectWithMetaData());
 
     createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
@@ -234,6 +265,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     assertThat(StubWatchFactory.getNumCloseCalls(), equalTo(2));
   }
 
+  void scheduleHttpGoneResponse() {
+    StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
+  }
+
   void scheduleAddResponse(Object object) {
     StubWatchFactory.addCallResponses(createAddResponse(object));
   }
@@ -252,6 +287,14 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return res;
   }
 
+  List<Watch.Response<?>> getCallBacks() {
+    return callBacks;
+  }
+
+  Watcher<?> createAndRunWatcher(BigInteger resourceVersion) {
+    return createAndRunWatcher(NAMESPACE, stopping, resourceVersion);
+  }
+
   private Watcher<?> createAndRunWatcher(String nameSpace, AtomicBoolean stopping, BigInteger resourceVersion) {
     Watcher<?> watcher = createWatcher(nameSpace, stopping, resourceVersion);
     watcher.waitForExit();
@@ -269,7 +312,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     }
 
     @Override
-    public Step createMakeDomainRightStep(WaitForReadyStep.Callback callback,
+    public Step createMakeDomainRightStep(WaitForReadyStep<?>.Callback callback,
                                                   DomainPresenceInfo info, Step next) {
       return next;
     }
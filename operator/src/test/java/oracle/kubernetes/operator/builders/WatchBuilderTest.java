@@ -100,6 +100,28 @@ class WatchBuilderTest {
     assertThat(domainWatch, contains(bookmarkEvent(domain)));
   }
 
+  @Test
+  void whenAllNamespacesRequested_podWatchUsesClusterPath() throws Exception {
+    new WatchBuilder().inAllNamespaces().createPodWatch(NAMESPACE);
+
+    assertThat(StubWatchFactory.getRequestPaths(), contains("/api/v1/pods"));
+  }
+
+  @Test
+  void whenAllNamespacesRequested_domainWatchUsesClusterPath() throws Exception {
+    new WatchBuilder().inAllNamespaces().createDomainWatch(NAMESPACE);
+
+    assertThat(StubWatchFactory.getRequestPaths(),
+          contains("/apis/weblogic.oracle/" + KubernetesConstants.DOMAIN_VERSION + "/domains"));
+  }
+
+  @Test
+  void whenAllNamespacesNotRequested_podWatchUsesNamespacePath() throws Exception {
+    new WatchBuilder().createPodWatch(NAMESPACE);
+
+    assertThat(StubWatchFactory.getRequestPaths(), contains("/api/v1/namespaces/" + NAMESPACE + "/pods"));
+  }
+
   private <T> Watch.Response<T> createAddResponse(T object) {
     return WatchEvent.createAddedEvent(object).toWatchResponse();
   }
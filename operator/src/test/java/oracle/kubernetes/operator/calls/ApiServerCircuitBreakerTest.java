@@ -0,0 +1,67 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.calls.ApiServerCircuitBreaker.THROTTLED_RESPONSES_TO_OPEN;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class ApiServerCircuitBreakerTest {
+
+  private long now;
+  private final ApiServerCircuitBreaker breaker = new ApiServerCircuitBreaker(() -> now);
+
+  @Test
+  void whenFewerThanThresholdThrottledResponses_breakerRemainsClosed() {
+    recordThrottledResponses(THROTTLED_RESPONSES_TO_OPEN - 1, 1000);
+
+    assertThat(breaker.isOpen(), is(false));
+    assertThat(breaker.getRemainingOpenNanos(), equalTo(0L));
+  }
+
+  @Test
+  void whenThresholdReached_breakerOpensForLongestRequestedDelay() {
+    breaker.recordThrottled(3000);
+    recordThrottledResponses(THROTTLED_RESPONSES_TO_OPEN - 1, 1000);
+
+    assertThat(breaker.isOpen(), is(true));
+    assertThat(breaker.getRemainingOpenNanos(), equalTo(TimeUnit.SECONDS.toNanos(3)));
+  }
+
+  @Test
+  void afterRequestedDelay_breakerCloses() {
+    recordThrottledResponses(THROTTLED_RESPONSES_TO_OPEN, 1000);
+
+    now += TimeUnit.SECONDS.toNanos(1);
+
+    assertThat(breaker.isOpen(), is(false));
+  }
+
+  @Test
+  void whenSuccessRecorded_resetThrottledCount() {
+    recordThrottledResponses(THROTTLED_RESPONSES_TO_OPEN - 1, 1000);
+    breaker.recordSuccess();
+    breaker.recordThrottled(1000);
+
+    assertThat(breaker.isOpen(), is(false));
+  }
+
+  @Test
+  void countTimesBreakerOpened() {
+    recordThrottledResponses(THROTTLED_RESPONSES_TO_OPEN + 2, 1000);
+
+    assertThat(breaker.getOpenCount(), equalTo(1L));
+  }
+
+  private void recordThrottledResponses(int count, long delayMillis) {
+    for (int i = 0; i < count; i++) {
+      breaker.recordThrottled(delayMillis);
+    }
+  }
+}
@@ -7,15 +7,18 @@ import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiCallback;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.ClientFactoryStub;
+import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
 import oracle.kubernetes.operator.builders.CallParams;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.ResponseStep;
@@ -32,8 +35,10 @@ import org.junit.jupiter.api.Test;
 import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONENT_NAME;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertTrue;
@@ -63,6 +68,7 @@ class AsyncRequestStepTest {
           null,
           null);
   private final List<Memento> mementos = new ArrayList<>();
+  private final ApiServerCircuitBreaker circuitBreaker = new ApiServerCircuitBreaker(System::nanoTime);
   private final DomainList smallList = generateDomainList(5);
   private final DomainList largeListPartOne
       = generateDomainList(50).withMetadata(new V1ListMeta()._continue(CONTINUE));
@@ -79,6 +85,7 @@ class AsyncRequestStepTest {
   public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(ClientFactoryStub.install());
+    mementos.add(StaticStubSupport.install(ApiServerCircuitBreaker.class, "instance", circuitBreaker));
 
     testSupport.runSteps(asyncRequestStep);
   }
@@ -146,6 +153,11 @@ class AsyncRequestStepTest {
         () -> callFactory.sendFailedCallback(new ApiException("test failure"), statusCode));
   }
 
+  private void sendFailedCallback(int statusCode, Map<String, List<String>> responseHeaders) {
+    testSupport.schedule(
+        () -> callFactory.sendFailedCallback(new ApiException("test failure"), statusCode, responseHeaders));
+  }
+
   @Test
   void afterFailedCallback_retrySentAfterDelay() {
     sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
@@ -193,6 +205,108 @@ class AsyncRequestStepTest {
     testSupport.verifyCompletionThrowable(FailureStatusSourceException.class);
   }
 
+  @Test
+  void whenFailedResponseHasRetryAfter_dontRetryBeforeRequestedTime() {
+    sendFailedCallback(429, Map.of("Retry-After", List.of("20")));
+    callFactory.clearRequest();
+
+    testSupport.setTime(19, TimeUnit.SECONDS);
+
+    assertThat(callFactory.invokedWith(requestParams), is(false));
+  }
+
+  @Test
+  void whenFailedResponseHasRetryAfter_retryAtRequestedTime() {
+    sendFailedCallback(429, Map.of("Retry-After", List.of("20")));
+    callFactory.clearRequest();
+
+    testSupport.setTime(21, TimeUnit.SECONDS);
+
+    assertThat(callFactory.invokedWith(requestParams), is(true));
+  }
+
+  @Test
+  void whenRequestRetried_recordRetryCountAndBackoffForVerb() {
+    long initialCount = AsyncRequestStep.getRetryCount("testcall");
+    long initialBackoff = AsyncRequestStep.getTotalBackoffMillis("testcall");
+
+    sendFailedCallback(429, Map.of("Retry-After", List.of("2")));
+
+    assertThat(AsyncRequestStep.getRetryCount("testcall"), equalTo(initialCount + 1));
+    assertThat(AsyncRequestStep.getTotalBackoffMillis("testcall") - initialBackoff, greaterThanOrEqualTo(2000L));
+  }
+
+  @Test
+  void whenRequestRetried_recordRetryCountByCallAndVerb() {
+    long initialCount = AsyncRequestStep.getRetryCounts().getOrDefault(List.of("testcall", "testcall"), 0L);
+
+    sendFailedCallback(429, Map.of("Retry-After", List.of("2")));
+
+    assertThat(AsyncRequestStep.getRetryCounts().get(List.of("testcall", "testcall")), equalTo(initialCount + 1));
+  }
+
+  @Test
+  void whenTooManyRequestsRejected_recordThrottledResponse() {
+    for (int i = 0; i < ApiServerCircuitBreaker.THROTTLED_RESPONSES_TO_OPEN; i++) {
+      sendFailedCallback(429, Map.of("Retry-After", List.of("2")));
+      testSupport.setTime(3 * (i + 1), TimeUnit.SECONDS);
+    }
+
+    assertThat(circuitBreaker.getOpenCount(), equalTo(1L));
+  }
+
+  @Test
+  void whenUnavailableWithoutPriorityAndFairnessHeaders_dontRecordThrottledResponse() {
+    for (int i = 0; i < ApiServerCircuitBreaker.THROTTLED_RESPONSES_TO_OPEN; i++) {
+      sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
+      testSupport.setTime(10 * (i + 1), TimeUnit.SECONDS);
+    }
+
+    assertThat(circuitBreaker.getOpenCount(), equalTo(0L));
+  }
+
+  @Test
+  void verbIsLeadingLowerCaseWordOfCall() {
+    assertThat(AsyncRequestStep.getVerb("replaceDomainStatus"), equalTo("replace"));
+  }
+
+  @Test
+  void whenRateLimitExceeded_delayRequest() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(RequestRateLimiter.class, "instance", createLimiterWithRate(1)));
+    FiberTestSupport limitedSupport = new FiberTestSupport();
+    CallFactoryStub limitedFactory = new CallFactoryStub();
+
+    limitedSupport.runSteps(createStep(limitedFactory));
+    limitedFactory.clearRequest();
+    limitedSupport.runSteps(createStep(limitedFactory));
+
+    assertThat(limitedFactory.invokedWith(requestParams), is(false));
+  }
+
+  @Test
+  void whenRateLimitExceeded_sendRequestWhenTokenAvailable() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(RequestRateLimiter.class, "instance", createLimiterWithRate(1)));
+    FiberTestSupport limitedSupport = new FiberTestSupport();
+    CallFactoryStub limitedFactory = new CallFactoryStub();
+
+    limitedSupport.runSteps(createStep(limitedFactory));
+    limitedFactory.clearRequest();
+    limitedSupport.runSteps(createStep(limitedFactory));
+    limitedSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(limitedFactory.invokedWith(requestParams), is(true));
+  }
+
+  private RequestRateLimiter createLimiterWithRate(int rateLimit) {
+    return new RequestRateLimiter(() -> 0L,
+        () -> new CallBuilderTuning(50, MAX_RETRY_COUNT, TIMEOUT_SECONDS, rateLimit, rateLimit, rateLimit, rateLimit));
+  }
+
+  private AsyncRequestStep<DomainList> createStep(CallFactoryStub factory) {
+    return new AsyncRequestStep<>(
+        new TestStep(), requestParams, factory, helper, TIMEOUT_SECONDS, MAX_RETRY_COUNT, null, null, null);
+  }
+
   // todo tests
   // can new request clear timeout action?
   // what is accessContinue?
@@ -234,7 +348,11 @@ class AsyncRequestStepTest {
     }
 
     void sendFailedCallback(ApiException exception, int statusCode) {
-      callback.onFailure(exception, statusCode, Collections.emptyMap());
+      sendFailedCallback(exception, statusCode, Collections.emptyMap());
+    }
+
+    void sendFailedCallback(ApiException exception, int statusCode, Map<String, List<String>> responseHeaders) {
+      callback.onFailure(exception, statusCode, responseHeaders);
     }
 
     @Override
@@ -0,0 +1,101 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.RequestClass.EVENT;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.RequestClass.READ;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.RequestClass.STATUS_WRITE;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.RequestClass.WRITE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class RequestRateLimiterTest {
+
+  private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private long now;
+  private CallBuilderTuning tuning = createTuning(2, 0);
+  private final RequestRateLimiter limiter = new RequestRateLimiter(() -> now, () -> tuning);
+
+  private static CallBuilderTuning createTuning(int statusWriteRateLimit, int readRateLimit) {
+    return new CallBuilderTuning(50, 5, 10, statusWriteRateLimit, 0, readRateLimit, 0);
+  }
+
+  @Test
+  void classifyCallsByName() {
+    assertThat(RequestRateLimiter.RequestClass.forCall("replaceDomainStatus"), equalTo(STATUS_WRITE));
+    assertThat(RequestRateLimiter.RequestClass.forCall("createEvent"), equalTo(EVENT));
+    assertThat(RequestRateLimiter.RequestClass.forCall("listEvent"), equalTo(READ));
+    assertThat(RequestRateLimiter.RequestClass.forCall("patchPod"), equalTo(WRITE));
+    assertThat(RequestRateLimiter.RequestClass.forCall("readConfigMap"), equalTo(READ));
+  }
+
+  @Test
+  void whenNoRateLimit_requestsAreNotDelayed() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(limiter.reserve(READ), equalTo(0L));
+    }
+  }
+
+  @Test
+  void whenWithinBurst_requestsAreNotDelayed() {
+    assertThat(limiter.reserve(STATUS_WRITE), equalTo(0L));
+    assertThat(limiter.reserve(STATUS_WRITE), equalTo(0L));
+  }
+
+  @Test
+  void whenBurstExceeded_delayRequestsUntilTokensDue() {
+    limiter.reserve(STATUS_WRITE);
+    limiter.reserve(STATUS_WRITE);
+
+    assertThat(limiter.reserve(STATUS_WRITE), equalTo(ONE_SECOND / 2));
+    assertThat(limiter.reserve(STATUS_WRITE), equalTo(ONE_SECOND));
+  }
+
+  @Test
+  void afterTimePasses_tokensAreRestored() {
+    limiter.reserve(STATUS_WRITE);
+    limiter.reserve(STATUS_WRITE);
+
+    now += ONE_SECOND / 2;
+
+    assertThat(limiter.reserve(STATUS_WRITE), equalTo(0L));
+  }
+
+  @Test
+  void requestClassesHaveSeparateBudgets() {
+    tuning = createTuning(1, 1);
+    limiter.reserve(READ);
+
+    assertThat(limiter.reserve(STATUS_WRITE), equalTo(0L));
+  }
+
+  @Test
+  void recordQueueDepthAndWaitTime() {
+    limiter.reserve(STATUS_WRITE);
+    limiter.reserve(STATUS_WRITE);
+    limiter.reserve(STATUS_WRITE);
+    limiter.reserve(STATUS_WRITE);
+
+    assertThat(limiter.getQueueDepth(STATUS_WRITE), equalTo(2));
+    assertThat(limiter.getDelayedRequestCount(STATUS_WRITE), equalTo(2L));
+    assertThat(limiter.getTotalWaitMillis(STATUS_WRITE), equalTo(1500L));
+  }
+
+  @Test
+  void whenDelayedRequestSent_decrementQueueDepth() {
+    limiter.reserve(STATUS_WRITE);
+    limiter.reserve(STATUS_WRITE);
+    limiter.reserve(STATUS_WRITE);
+
+    limiter.onDelayedRequestSent(STATUS_WRITE);
+
+    assertThat(limiter.getQueueDepth(STATUS_WRITE), equalTo(0));
+  }
+}
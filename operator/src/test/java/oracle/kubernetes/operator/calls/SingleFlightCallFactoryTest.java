@@ -0,0 +1,178 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class SingleFlightCallFactoryTest {
+
+  private static final String NS = "namespace";
+  private static final String NAME = "secret";
+
+  private final ApiClient client = new ApiClient();
+  private final List<ApiCallback<V1Secret>> issuedCalls = new ArrayList<>();
+  private final List<String> issuedConts = new ArrayList<>();
+  private int cancelCount;
+  private final CallFactory<V1Secret> factory = new SingleFlightCallFactory<>(this::issueCall);
+  private final long initialHitCount = SingleFlightCallFactory.getHitCount();
+  private final long initialMissCount = SingleFlightCallFactory.getMissCount();
+
+  private CancellableCall issueCall(RequestParams requestParams, ApiClient client, String cont,
+                                    ApiCallback<V1Secret> callback) {
+    issuedCalls.add(callback);
+    issuedConts.add(cont);
+    return () -> cancelCount++;
+  }
+
+  @AfterEach
+  void tearDown() {
+    issuedCalls.forEach(c -> c.onFailure(new ApiException(), 0, Collections.emptyMap()));
+  }
+
+  private RequestParams readSecretParams(String name) {
+    return new RequestParams("readSecret", NS, name, null, (String) null);
+  }
+
+  @Test
+  void concurrentIdenticalReads_issueOneCall() throws ApiException {
+    factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+    factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+
+    assertThat(issuedCalls, hasSize(1));
+  }
+
+  @Test
+  void readsOfDifferentResources_issueSeparateCalls() throws ApiException {
+    factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+    factory.generate(readSecretParams("other"), client, null, new RecordingCallback());
+
+    assertThat(issuedCalls, hasSize(2));
+  }
+
+  @Test
+  void readsWithContinuation_areNotShared() throws ApiException {
+    factory.generate(readSecretParams(NAME), client, "cont", new RecordingCallback());
+    factory.generate(readSecretParams(NAME), client, "cont", new RecordingCallback());
+
+    assertThat(issuedConts, equalTo(List.of("cont", "cont")));
+  }
+
+  @Test
+  void whenCallSucceeds_allSubscribersReceiveEqualButDistinctResults() throws ApiException {
+    RecordingCallback first = new RecordingCallback();
+    RecordingCallback second = new RecordingCallback();
+    factory.generate(readSecretParams(NAME), client, null, first);
+    factory.generate(readSecretParams(NAME), client, null, second);
+
+    completeCall(createSecret());
+
+    assertThat(second.result, equalTo(first.result));
+    assertThat(second.result, not(sameInstance(first.result)));
+  }
+
+  @Test
+  void whenCallFails_allSubscribersReceiveFailure() throws ApiException {
+    RecordingCallback first = new RecordingCallback();
+    RecordingCallback second = new RecordingCallback();
+    factory.generate(readSecretParams(NAME), client, null, first);
+    factory.generate(readSecretParams(NAME), client, null, second);
+
+    issuedCalls.remove(0).onFailure(new ApiException(), 500, Collections.emptyMap());
+
+    assertThat(first.statusCode, equalTo(500));
+    assertThat(second.statusCode, equalTo(500));
+  }
+
+  @Test
+  void afterCallCompletes_nextReadIssuesNewCall() throws ApiException {
+    factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+    completeCall(createSecret());
+
+    factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+
+    assertThat(issuedCalls, hasSize(1));
+  }
+
+  @Test
+  void whenOneSubscriberCancels_callIsNotCanceled() throws ApiException {
+    CancellableCall call = factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+    factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+
+    call.cancel();
+
+    assertThat(cancelCount, equalTo(0));
+  }
+
+  @Test
+  void whenAllSubscribersCancel_callIsCanceled() throws ApiException {
+    CancellableCall call1 = factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+    CancellableCall call2 = factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+
+    call1.cancel();
+    call2.cancel();
+
+    assertThat(cancelCount, equalTo(1));
+  }
+
+  @Test
+  void countHitsAndMisses() throws ApiException {
+    factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+    factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+    factory.generate(readSecretParams(NAME), client, null, new RecordingCallback());
+
+    assertThat(SingleFlightCallFactory.getMissCount() - initialMissCount, equalTo(1L));
+    assertThat(SingleFlightCallFactory.getHitCount() - initialHitCount, equalTo(2L));
+  }
+
+  private void completeCall(V1Secret result) {
+    issuedCalls.remove(0).onSuccess(result, 200, Collections.emptyMap());
+  }
+
+  private V1Secret createSecret() {
+    return new V1Secret().metadata(new V1ObjectMeta().namespace(NS).name(NAME)).putStringDataItem("key", "value");
+  }
+
+  private static class RecordingCallback implements ApiCallback<V1Secret> {
+    private V1Secret result;
+    private int statusCode;
+
+    @Override
+    public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+      this.statusCode = statusCode;
+    }
+
+    @Override
+    public void onSuccess(V1Secret result, int statusCode, Map<String, List<String>> responseHeaders) {
+      this.result = result;
+      this.statusCode = statusCode;
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+      // no-op
+    }
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+      // no-op
+    }
+  }
+}
@@ -0,0 +1,129 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+class AnnotationHelperTest {
+
+  @Test
+  void createdHash_hasVersionPrefix() {
+    assertThat(AnnotationHelper.createHash(createPod("image:1")), startsWith(CanonicalHash.VERSION_PREFIX));
+  }
+
+  @Test
+  void whenObjectsEqual_hashesAreEqual() {
+    assertThat(AnnotationHelper.createHash(createPod("image:1")),
+          equalTo(AnnotationHelper.createHash(createPod("image:1"))));
+  }
+
+  @Test
+  void whenObjectsDiffer_hashesDiffer() {
+    assertThat(AnnotationHelper.createHash(createPod("image:1")),
+          not(equalTo(AnnotationHelper.createHash(createPod("image:2")))));
+  }
+
+  @Test
+  void whenMapsPopulatedInDifferentOrder_hashesAreEqual() {
+    V1Pod pod1 = createPod("image:1");
+    V1Pod pod2 = createPod("image:1");
+    pod1.getMetadata().labels(createLabels("a", "b", "c"));
+    pod2.getMetadata().labels(createLabels("c", "b", "a"));
+
+    assertThat(AnnotationHelper.createHash(pod1), equalTo(AnnotationHelper.createHash(pod2)));
+  }
+
+  @Test
+  void whenMapHashed_hashIncludesAllEntries() {
+    assertThat(AnnotationHelper.createHash(createLabels("a", "b")),
+          not(equalTo(AnnotationHelper.createHash(createLabels("a", "c")))));
+  }
+
+  @Test
+  void whenCurrentResourceHasSameHashAsModel_hashesMatch() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createPod("image:1"));
+    V1Pod current = AnnotationHelper.withSha256Hash(createPod("image:1"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createPod("image:1")), is(true));
+  }
+
+  @Test
+  void whenCurrentResourceHasLegacyHashOfSameRecipe_hashesMatch() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createPod("image:1"));
+    V1Pod current = withLegacyHash(createPod("image:1"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createPod("image:1")), is(true));
+  }
+
+  @Test
+  void whenCurrentResourceHasLegacyHashOfDifferentRecipe_hashesDoNotMatch() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createPod("image:2"));
+    V1Pod current = withLegacyHash(createPod("image:1"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createPod("image:2")), is(false));
+  }
+
+  @Test
+  void whenCurrentResourceHasDifferentCanonicalHash_hashesDoNotMatch() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createPod("image:2"));
+    V1Pod current = AnnotationHelper.withSha256Hash(createPod("image:1"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createPod("image:2")), is(false));
+  }
+
+  @Test
+  void whenExistingHashIsLegacy_createHashLikeUsesLegacyFunction() {
+    V1Pod pod = createPod("image:1");
+
+    assertThat(AnnotationHelper.createHashLike(getLegacyHash(pod), pod), equalTo(getLegacyHash(pod)));
+  }
+
+  @Test
+  void whenExistingHashIsCanonical_createHashLikeUsesCanonicalFunction() {
+    V1Pod pod = createPod("image:1");
+
+    assertThat(AnnotationHelper.createHashLike(AnnotationHelper.createHash(pod), pod),
+          equalTo(AnnotationHelper.createHash(pod)));
+  }
+
+  private V1Pod createPod(String image) {
+    return new V1Pod()
+          .metadata(new V1ObjectMeta().name("pod").namespace("ns"))
+          .spec(new V1PodSpec().addContainersItem(new V1Container().name("weblogic-server").image(image)));
+  }
+
+  private Map<String, String> createLabels(String... keys) {
+    Map<String, String> labels = new LinkedHashMap<>();
+    for (String key : keys) {
+      labels.put(key, "value-" + key);
+    }
+    return labels;
+  }
+
+  private V1Pod withLegacyHash(V1Pod pod) {
+    String legacyHash = getLegacyHash(pod);
+    pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, legacyHash);
+    return pod;
+  }
+
+  private String getLegacyHash(Object object) {
+    return DigestUtils.sha256Hex(Yaml.dump(object));
+  }
+}
@@ -3,8 +3,10 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -98,6 +100,70 @@ class ConfigMapSplitterTest {
     assertThat(result.get(2).numTargets, equalTo(0));
   }
 
+  @Test
+  void whenBinaryDataSplit_eachPartDecodesSeparately() {
+    final byte[] bytes = createBytes(2500);
+    data.put("a", "aValue");
+    data.put("b", Base64.getEncoder().encodeToString(bytes));
+
+    final List<TestTarget> result = createBinarySplitter().split(data);
+
+    final ByteArrayOutputStream reassembled = new ByteArrayOutputStream();
+    result.stream().map(TestTarget::getB).map(Base64.getDecoder()::decode).forEach(reassembled::writeBytes);
+    assertThat(reassembled.toByteArray(), equalTo(bytes));
+  }
+
+  @Test
+  void whenBinaryDataSplit_limitAppliesToDecodedSize() {
+    data.put("a", "aValue");
+    data.put("b", Base64.getEncoder().encodeToString(createBytes(2500)));
+
+    assertThat(splitter.split(new HashMap<>(data)), Matchers.hasSize(4));
+    assertThat(createBinarySplitter().split(data), Matchers.hasSize(3));
+  }
+
+  @Test
+  void whenEntriesBeforeSplitEntryGrowSlightly_splitEntryPartsAreUnchanged() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(ConfigMapSplitter.class, "PARTITION_ALIGNMENT", 100));
+    data.put("a", "aValue");
+    data.put("b", LARGE_DATA_VALUE);
+    final List<String> originalParts = getValuesOfB(splitter.split(data));
+
+    data.put("a", "aLongerValue");
+    final List<String> newParts = getValuesOfB(new ConfigMapSplitter<>(TestTarget::new).split(data));
+
+    assertThat(newParts, equalTo(originalParts));
+  }
+
+  @Test
+  void whenAlignmentWouldRequireMoreTargets_packDataTightly() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(ConfigMapSplitter.class, "PARTITION_ALIGNMENT", 100));
+    data.put("a", "aValue");
+    data.put("b", "1234567890".repeat(199));
+
+    final List<TestTarget> result = splitter.split(data);
+
+    assertThat(result, Matchers.hasSize(2));
+    assertThat(result.get(0), isTarget(0, "a", "b"));
+    assertThat(result.get(0).getB().length(), equalTo(TEST_DATA_LIMIT - "aValue".length()));
+  }
+
+  private List<String> getValuesOfB(List<TestTarget> targets) {
+    return targets.stream().map(TestTarget::getB).collect(Collectors.toList());
+  }
+
+  private ConfigMapSplitter<TestTarget> createBinarySplitter() {
+    return new ConfigMapSplitter<>(TestTarget::new, "b"::equals);
+  }
+
+  private byte[] createBytes(int length) {
+    final byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) i;
+    }
+    return bytes;
+  }
+
   private static class TestTarget implements SplitterTarget {
     private final Map<String, String> data;
     private final int index;
@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -13,6 +14,7 @@ import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.custom.Quantity;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -22,9 +24,11 @@ import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretReference;
 import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
+import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.JobAwaiterStepFactory;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.calls.unprocessable.UnrecoverableErrorBuilderImpl;
@@ -32,7 +36,9 @@ import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -55,7 +61,9 @@ import static com.meterware.simplestub.Stub.createNiceStub;
 import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECT_REQUESTED;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.JOBWATCHER_COMPONENT_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_NAME;
@@ -79,9 +87,13 @@ import static oracle.kubernetes.weblogic.domain.model.AuxiliaryImage.AUXILIARY_I
 import static oracle.kubernetes.weblogic.domain.model.AuxiliaryImageVolume.DEFAULT_AUXILIARY_IMAGE_PATH;
 import static oracle.kubernetes.weblogic.domain.model.ConfigurationConstants.START_NEVER;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -96,6 +108,7 @@ class DomainIntrospectorJobTest {
   private static final String CREDENTIALS_SECRET_NAME = "webLogicCredentialsSecretName";
   private static final String WDT_MODEL_HOME = "/u01/wdt/my-models";
   private static final String LATEST_IMAGE = "image:latest";
+  private static final String PINNED_IMAGE = "image@sha256:0123456789abcdef";
   private static final String ADMIN_NAME = "admin";
   private static final int MAX_SERVERS = 2;
   private static final String MS_PREFIX = "managed-server";
@@ -549,6 +562,215 @@ class DomainIntrospectorJobTest {
     assertThat(logRecords, containsFine(getJobFailedDetailMessageKey()));
   }
 
+  @Test
+  void whenIntrospectionCacheEnabledAndInputsUnchanged_reuseResultWithoutJob() throws Exception {
+    defineIntrospectionResources();
+    enableIntrospectionCache();
+    runIntrospection();
+
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(false));
+    assertThat(getDomain().getStatus().getIntrospectionCacheResult(), equalTo(IntrospectionResultCache.CACHE_HIT));
+  }
+
+  @Test
+  void whenIntrospectionCacheEnabledAndResultReused_recordTopologyInPacket() throws Exception {
+    defineIntrospectionResources();
+    enableIntrospectionCache();
+    runIntrospection();
+
+    runIntrospection();
+
+    assertThat(testSupport.getPacket().get(DOMAIN_TOPOLOGY), notNullValue());
+  }
+
+  @Test
+  void whenIntrospectionCacheEnabledAndNoCachedResult_runJobAndReportMiss() throws Exception {
+    defineIntrospectionResources();
+    enableIntrospectionCache();
+
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(true));
+    assertThat(getDomain().getStatus().getIntrospectionCacheResult(), equalTo(IntrospectionResultCache.CACHE_MISS));
+  }
+
+  @Test
+  void whenIntrospectionCacheEnabledAndReferencedSecretChanged_runJobAgain() throws Exception {
+    defineIntrospectionResources();
+    enableIntrospectionCache();
+    runIntrospection();
+
+    getCredentialsSecret().putDataItem("password", "changed".getBytes(StandardCharsets.UTF_8));
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(true));
+  }
+
+  @Test
+  void whenIntrospectionCacheEnabledAndIntrospectVersionChanged_runJobAgain() throws Exception {
+    defineIntrospectionResources();
+    enableIntrospectionCache();
+    runIntrospection();
+
+    domain.getSpec().setIntrospectVersion("2");
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(true));
+  }
+
+  @Test
+  void whenIntrospectionCacheEnabledAndIntrospectionRequested_runJobAgain() throws Exception {
+    defineIntrospectionResources();
+    enableIntrospectionCache();
+    runIntrospection();
+
+    testSupport.addToPacket(DOMAIN_INTROSPECT_REQUESTED, "requested");
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(true));
+  }
+
+  @Test
+  void whenIntrospectionCacheHasNoResultForDomain_useValidationResourcesWithoutListingAgain() throws Exception {
+    defineIntrospectionResources();
+    enableIntrospectionCache();
+    List<V1Secret> validationSecrets = new ArrayList<>(List.of(getCredentialsSecret()));
+    testSupport.addToPacket("secrets", validationSecrets);
+    testSupport.addToPacket("configmaps", new ArrayList<V1ConfigMap>());
+
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(true));
+    assertThat(DomainValidationSteps.ListSecretsResponseStep.getSecrets(testSupport.getPacket()),
+          sameInstance(validationSecrets));
+  }
+
+  @Test
+  void whenIntrospectionCacheEnabledAndImageDigestUnknown_runJobAgain() throws Exception {
+    defineIntrospectionResources();
+    enableIntrospectionCache();
+    domain.getSpec().setImage(LATEST_IMAGE);
+    runIntrospection();
+
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(true));
+  }
+
+  @Test
+  void whenIntrospectionCacheEnabledAndDomainHomeOnPersistentVolume_runJobAgain() throws Exception {
+    defineIntrospectionResources();
+    enableIntrospectionCache();
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.PersistentVolume);
+    runIntrospection();
+
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(true));
+    assertThat(getDomain().getStatus().getIntrospectionCacheResult(), nullValue());
+  }
+
+  @Test
+  void whenIntrospectionCacheEnabledAndResultSaved_reuseItAfterRestart() throws Exception {
+    defineIntrospectionResources();
+    enableIntrospectionCache();
+    runIntrospection();
+
+    mementos.add(StaticStubSupport.install(IntrospectionResultCache.class, "instance", new IntrospectionResultCache()));
+    testSupport.runSteps(IntrospectionResultCache.createLoadStep(null));
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(false));
+  }
+
+  @Test
+  void whenIntrospectionCacheDisabled_alwaysRunJob() throws Exception {
+    defineIntrospectionResources();
+    runIntrospection();
+
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(true));
+    assertThat(getDomain().getStatus().getIntrospectionCacheResult(), nullValue());
+  }
+
+  @Test
+  void whenIntrospectorJobLimitReached_doNotCreateJob() throws Exception {
+    limitIntrospectorJobsToOne();
+    admitIntrospectionOfOtherDomain();
+
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(false));
+  }
+
+  @Test
+  void whenWaitingDomainAdmitted_createJob() throws Exception {
+    limitIntrospectorJobsToOne();
+    admitIntrospectionOfOtherDomain();
+    runIntrospection();
+
+    IntrospectionAdmissionQueue.getInstance().release(NS, "other");
+
+    assertThat(wasJobCreated(), is(true));
+  }
+
+  @Test
+  void afterIntrospectorJobDeleted_releaseAdmission() throws Exception {
+    defineIntrospectionResources();
+    limitIntrospectorJobsToOne();
+
+    runIntrospection();
+
+    assertThat(wasJobCreated(), is(true));
+    assertThat(IntrospectionAdmissionQueue.getInstance().getRunningCount(), equalTo(0));
+  }
+
+  private void limitIntrospectorJobsToOne() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(
+          IntrospectionAdmissionQueue.class, "instance", new IntrospectionAdmissionQueue()));
+    TuningParametersStub.setParameter(IntrospectionAdmissionQueue.MAX_CONCURRENT_KEY, "1");
+  }
+
+  private void admitIntrospectionOfOtherDomain() {
+    Packet packet = new Packet();
+    packet.getComponents().put(DOMAIN_COMPONENT_NAME, Component.createFor(new DomainPresenceInfo(NS, "other")));
+    testSupport.runSteps(packet, IntrospectionAdmissionQueue.createAdmissionStep(null));
+  }
+
+  private void defineIntrospectionResources() throws JsonProcessingException {
+    testSupport.defineResources(
+          new V1Secret().metadata(new V1ObjectMeta().name(CREDENTIALS_SECRET_NAME).namespace(NS).resourceVersion("1")));
+    IntrospectionTestUtils.defineResources(testSupport, createDomainConfig("cluster-1"));
+  }
+
+  // A domain home on a persistent volume is never cached, and an image must be identified by its digest
+  private void enableIntrospectionCache() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(IntrospectionResultCache.class, "instance", new IntrospectionResultCache()));
+    TuningParametersStub.setParameter("introspectionCacheMaxEntries", "5");
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    domain.getSpec().setImage(PINNED_IMAGE);
+  }
+
+  private void runIntrospection() {
+    testSupport.getPacket().remove(DOMAIN_TOPOLOGY);
+    logRecords.clear();
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+  }
+
+  private boolean wasJobCreated() {
+    final boolean jobCreated = logRecords.stream().anyMatch(r -> getJobCreatedMessageKey().equals(r.getMessage()));
+    logRecords.clear();
+    return jobCreated;
+  }
+
+  private V1Secret getCredentialsSecret() {
+    return testSupport.getResourceWithName(KubernetesTestSupport.SECRET, CREDENTIALS_SECRET_NAME);
+  }
+
   private Cluster getCluster(String clusterName) {
     return domain.getSpec().getClusters().stream()
           .filter(c -> clusterName.equals(c.getClusterName()))
@@ -10,6 +10,8 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
@@ -87,6 +89,32 @@ class DomainPresenceInfoTest {
     assertThat(info.getPodDisruptionBudget("cluster"), sameInstance(pdb));
   }
 
+  @Test
+  void whenNoStatusPending_latestStatusIsDomainStatus() {
+    DomainStatus written = new DomainStatus();
+    info.setDomain(new Domain().withStatus(written));
+
+    assertThat(info.getLatestStatus(), sameInstance(written));
+  }
+
+  @Test
+  void whenStatusPending_latestStatusIsPendingStatus() {
+    DomainStatus pending = new DomainStatus();
+    info.setDomain(new Domain().withStatus(new DomainStatus()));
+    info.setPendingStatus(pending);
+
+    assertThat(info.getLatestStatus(), sameInstance(pending));
+  }
+
+  @Test
+  void afterPendingStatusAbandoned_nextDeferredStatusStartsWriter() {
+    info.setPendingStatus(new DomainStatus());
+    info.abandonPendingStatus();
+
+    assertThat(info.getPendingStatus(), nullValue());
+    assertThat(info.setPendingStatus(new DomainStatus()), equalTo(true));
+  }
+
   @Test
   void afterValidationWarningsAdded_nextCallReturnsThem() {
     final String warning1 = "warning1";
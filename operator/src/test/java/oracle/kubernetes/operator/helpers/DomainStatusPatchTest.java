@@ -147,20 +147,22 @@ class DomainStatusPatchTest {
 
   @Test
   void whenOnlyNewStatusHasConditions_addNewConditions() {
+    DomainCondition available = new DomainCondition(DomainConditionType.Available)
+          .withReason("because").withMessage("hello").withStatus("true");
+    DomainCondition progressing = new DomainCondition(DomainConditionType.Progressing)
+          .withReason("ok now").withStatus("true");
     DomainStatus status1 = new DomainStatus();
-    DomainStatus status2 = new DomainStatus()
-          .addCondition(new DomainCondition(DomainConditionType.Available)
-                .withReason("because").withMessage("hello").withStatus("true"))
-          .addCondition(new DomainCondition(DomainConditionType.Progressing)
-                .withReason("ok now").withStatus("true"));
+    DomainStatus status2 = new DomainStatus().addCondition(available).addCondition(progressing);
 
     computePatch(status1, status2);
 
     assertThat(builder.getPatches(),
           hasItemsInOrder(
                 "ADD /status/conditions []",
-                "ADD /status/conditions/- {'message':'hello','reason':'because','status':'true','type':'Available'}",
-                "ADD /status/conditions/- {'reason':'ok now','status':'true','type':'Progressing'}"
+                "ADD /status/conditions/- {" + transitionTime(available)
+                      + "'message':'hello','reason':'because','status':'true','type':'Available'}",
+                "ADD /status/conditions/- {" + transitionTime(progressing)
+                      + "'reason':'ok now','status':'true','type':'Progressing'}"
                 ));
   }
 
@@ -185,17 +187,19 @@ class DomainStatusPatchTest {
                 .withReason("ok now").withMessage("hello").withStatus("true"))
           .addCondition(new DomainCondition(DomainConditionType.Progressing)
                 .withReason("because").withStatus("true"));
+    DomainCondition progressing = new DomainCondition(DomainConditionType.Progressing)
+          .withReason("trying").withMessage("Almost");
     DomainStatus status2 = new DomainStatus()
           .addCondition(new DomainCondition(DomainConditionType.Available)
                 .withReason("ok now").withMessage("hello").withStatus("true"))
-          .addCondition(new DomainCondition(DomainConditionType.Progressing)
-                .withReason("trying").withMessage("Almost"));
+          .addCondition(progressing);
 
     computePatch(status1, status2);
 
     assertThat(builder.getPatches(),
           hasItemsInOrder("REMOVE /status/conditions/1",
-                          "ADD /status/conditions/- {'message':'Almost','reason':'trying','type':'Progressing'}"));
+                          "ADD /status/conditions/- {" + transitionTime(progressing)
+                                + "'message':'Almost','reason':'trying','type':'Progressing'}"));
   }
 
   @Test
@@ -203,15 +207,16 @@ class DomainStatusPatchTest {
     DomainStatus status1 = new DomainStatus()
           .addCondition(new DomainCondition(DomainConditionType.Progressing)
                 .withReason("because").withMessage("Not There"));
-    DomainStatus status2 = new DomainStatus()
-          .addCondition(new DomainCondition(DomainConditionType.Progressing)
-                .withReason("trying").withMessage("Almost"));
+    DomainCondition progressing = new DomainCondition(DomainConditionType.Progressing)
+          .withReason("trying").withMessage("Almost");
+    DomainStatus status2 = new DomainStatus().addCondition(progressing);
 
     computePatch(status1, status2);
 
     assertThat(builder.getPatches(),
           hasItemsInOrder("REMOVE /status/conditions/0",
-                          "ADD /status/conditions/- {'message':'Almost','reason':'trying','type':'Progressing'}"));
+                          "ADD /status/conditions/- {" + transitionTime(progressing)
+                                + "'message':'Almost','reason':'trying','type':'Progressing'}"));
   }
 
   @Test
@@ -312,6 +317,11 @@ class DomainStatusPatchTest {
     assertThat(builder.getPatches(), hasItemsInOrder("REMOVE /status/servers/1", "REMOVE /status/servers/0"));
   }
 
+  private String transitionTime(DomainCondition condition) {
+    return "'lastTransitionTime':'" + DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(condition.getLastTransitionTime())
+          + "',";
+  }
+
   private OffsetDateTime now() {
     // Truncate to seconds because we intermittently see a different number of trailing decimals
     // that can cause the string comparison to fail
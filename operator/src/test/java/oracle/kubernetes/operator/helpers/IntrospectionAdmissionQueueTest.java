@@ -0,0 +1,279 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
+import static oracle.kubernetes.operator.helpers.IntrospectionAdmissionQueue.MAX_CONCURRENT_KEY;
+import static oracle.kubernetes.operator.helpers.IntrospectionAdmissionQueue.MAX_CONCURRENT_PER_NAMESPACE_KEY;
+import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTION_QUEUED;
+import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class IntrospectionAdmissionQueueTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final IntrospectionAdmissionQueue queue = new IntrospectionAdmissionQueue();
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<String> admittedDomains = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, INTROSPECTION_QUEUED));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(IntrospectionAdmissionQueue.class, "instance", queue));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void requestAdmission(String namespace, String domainUid) {
+    requestAdmission(new DomainPresenceInfo(namespace, domainUid));
+  }
+
+  private void requestAdmission(DomainPresenceInfo info) {
+    testSupport.runSteps(createPacket(info),
+          IntrospectionAdmissionQueue.createAdmissionStep(new RecordAdmissionStep()));
+  }
+
+  private Packet createPacket(DomainPresenceInfo info) {
+    Packet packet = new Packet();
+    packet.getComponents().put(DOMAIN_COMPONENT_NAME, Component.createFor(info));
+    return packet;
+  }
+
+  private DomainPresenceInfo createRunningDomain(String namespace, String domainUid) {
+    DomainPresenceInfo info = new DomainPresenceInfo(namespace, domainUid);
+    info.setServerPod("admin", new V1Pod().metadata(new V1ObjectMeta().name(domainUid + "-admin")));
+    return info;
+  }
+
+  private void setLimits(int maxConcurrent, int maxConcurrentPerNamespace) {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_KEY, Integer.toString(maxConcurrent));
+    TuningParametersStub.setParameter(MAX_CONCURRENT_PER_NAMESPACE_KEY, Integer.toString(maxConcurrentPerNamespace));
+  }
+
+  class RecordAdmissionStep extends Step {
+    RecordAdmissionStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      admittedDomains.add(packet.getSpi(DomainPresenceInfo.class).getDomainUid());
+      return doNext(packet);
+    }
+  }
+
+  @Test
+  void whenNoLimitsSet_admitAllDomains() {
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS1, "d2");
+    requestAdmission(NS2, "d3");
+
+    assertThat(admittedDomains, contains("d1", "d2", "d3"));
+    assertThat(queue.getRunningCount(), equalTo(3));
+  }
+
+  @Test
+  void whenOperatorLimitReached_domainWaits() {
+    setLimits(2, 0);
+
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS2, "d2");
+    requestAdmission(NS1, "d3");
+
+    assertThat(admittedDomains, contains("d1", "d2"));
+    assertThat(queue.getQueueDepth(), equalTo(1));
+    assertThat(logRecords, containsInfo(INTROSPECTION_QUEUED));
+  }
+
+  @Test
+  void whenAdmissionReleased_admitWaitingDomain() {
+    setLimits(2, 0);
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS2, "d2");
+    requestAdmission(NS1, "d3");
+    logRecords.clear();
+
+    queue.release(NS2, "d2");
+
+    assertThat(admittedDomains, contains("d1", "d2", "d3"));
+    assertThat(queue.getQueueDepth(), equalTo(0));
+  }
+
+  @Test
+  void whenReleaseStepRuns_admitWaitingDomain() {
+    setLimits(1, 0);
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS1, "d2");
+    logRecords.clear();
+
+    testSupport.runSteps(createPacket(new DomainPresenceInfo(NS1, "d1")),
+          IntrospectionAdmissionQueue.createReleaseStep(null));
+
+    assertThat(admittedDomains, contains("d1", "d2"));
+  }
+
+  @Test
+  void whenNamespaceLimitReached_admitDomainsFromOtherNamespaces() {
+    setLimits(0, 1);
+
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS1, "d2");
+    requestAdmission(NS2, "d3");
+    logRecords.clear();
+
+    assertThat(admittedDomains, contains("d1", "d3"));
+  }
+
+  @Test
+  void whenNamespaceLimitReached_laterWaitersFromOtherNamespacesAreNotBlocked() {
+    setLimits(2, 1);
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS1, "d2");
+    requestAdmission(NS2, "d3");
+    requestAdmission(NS2, "d4");
+    logRecords.clear();
+
+    queue.release(NS2, "d3");
+
+    assertThat(admittedDomains, contains("d1", "d3", "d4"));
+  }
+
+  @Test
+  void waitingDomainsAreAdmittedInArrivalOrder() {
+    setLimits(1, 0);
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS1, "d2");
+    requestAdmission(NS2, "d3");
+    logRecords.clear();
+
+    queue.release(NS1, "d1");
+
+    assertThat(admittedDomains, contains("d1", "d2"));
+  }
+
+  @Test
+  void whenWaitingFiberCancelled_admitNextWaiterInstead() {
+    setLimits(1, 0);
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS1, "d2");
+    testSupport.cancelFiber();
+    requestAdmission(NS1, "d3");
+    logRecords.clear();
+
+    queue.release(NS1, "d1");
+
+    assertThat(admittedDomains, contains("d1", "d3"));
+    assertThat(queue.getRunningCount(), equalTo(1));
+    assertThat(queue.getQueueDepth(), equalTo(0));
+  }
+
+  @Test
+  void domainsWhichHaveNeverStartedAreAdmittedFirst() {
+    setLimits(1, 0);
+    requestAdmission(NS1, "d1");
+    requestAdmission(createRunningDomain(NS1, "running"));
+    requestAdmission(NS1, "new");
+    logRecords.clear();
+
+    queue.release(NS1, "d1");
+
+    assertThat(admittedDomains, contains("d1", "new"));
+  }
+
+  @Test
+  void whenDomainAlreadyAdmitted_admitAgainWithoutWaiting() {
+    setLimits(1, 0);
+    requestAdmission(NS1, "d1");
+
+    requestAdmission(NS1, "d1");
+
+    assertThat(admittedDomains, contains("d1", "d1"));
+    assertThat(queue.getRunningCount(), equalTo(1));
+  }
+
+  @Test
+  void whenDomainRequestsAdmissionAgainWhileWaiting_keepOneWaiter() {
+    setLimits(1, 0);
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS1, "d2");
+    requestAdmission(NS1, "d3");
+    requestAdmission(NS1, "d2");
+    logRecords.clear();
+
+    queue.release(NS1, "d1");
+
+    assertThat(queue.getQueueDepth(), equalTo(1));
+    assertThat(admittedDomains, contains("d1", "d2"));
+  }
+
+  @Test
+  void whenWaitingDomainReleased_discardItsWaiter() {
+    setLimits(1, 0);
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS1, "d2");
+    logRecords.clear();
+
+    queue.release(NS1, "d2");
+
+    assertThat(queue.getQueueDepth(), equalTo(0));
+    assertThat(admittedDomains, contains("d1"));
+  }
+
+  @Test
+  void recordWaitAndRunTimes() {
+    setLimits(1, 0);
+    requestAdmission(NS1, "d1");
+    requestAdmission(NS1, "d2");
+    logRecords.clear();
+
+    SystemClockTestSupport.increment(30);
+    queue.release(NS1, "d1");
+    SystemClockTestSupport.increment(20);
+    queue.release(NS1, "d2");
+
+    assertThat(queue.getAdmittedCount(), equalTo(2L));
+    assertThat(queue.getTotalWaitMillis(), equalTo(30_000L));
+    assertThat(queue.getCompletedCount(), equalTo(2L));
+    assertThat(queue.getTotalRunMillis(), equalTo(50_000L));
+  }
+
+  @Test
+  void whenNothingHeld_releaseHasNoEffect() {
+    queue.release(NS1, "d1");
+
+    assertThat(queue.getCompletedCount(), equalTo(0L));
+    assertThat(admittedDomains, empty());
+  }
+}
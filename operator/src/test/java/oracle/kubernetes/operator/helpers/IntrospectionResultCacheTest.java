@@ -0,0 +1,383 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapVolumeSource;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
+import io.kubernetes.client.openapi.models.V1Volume;
+import oracle.kubernetes.operator.DomainSourceType;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.IntrospectorJobEnvVars;
+import oracle.kubernetes.weblogic.domain.model.ServerEnvVars;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.TOPOLOGY_YAML;
+import static oracle.kubernetes.operator.helpers.ConfigMapHelper.UPDATEDOMAINRESULT;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class IntrospectionResultCacheTest {
+
+  private static final String VALID_TOPOLOGY = "domainValid: true\ndomain:\n  name: base";
+  private static final String INVALID_TOPOLOGY = "domainValid: false\nvalidationErrors:\n- bad";
+  private static final String OTHER_UID = "other-domain";
+  private static final String CONFIG_MAP_NAME = "model-config";
+  private static final String CONFIG_FILE = "config.xml";
+  private static final String DIGEST = "sha256:0123456789abcdef";
+  private static final String PINNED_IMAGE = "image@" + DIGEST;
+  private static final String TAGGED_IMAGE = "image:1";
+
+  private final IntrospectionResultCache cache = new IntrospectionResultCache();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final Domain domain = createDomain(UID);
+  private final List<V1Secret> secrets = new ArrayList<>(List.of(createSecret(UID, "1"), createSecret(OTHER_UID, "1")));
+  private final List<V1ConfigMap> configMaps = new ArrayList<>(List.of(
+        createConfigMap(CONFIG_MAP_NAME, "1"),
+        createConfigMap(ConfigMapHelper.getIntrospectorConfigMapName(UID), "1")));
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(IntrospectionResultCache.class, "instance", cache));
+    TuningParametersStub.setParameter("introspectionCacheMaxEntries", "2");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Domain createDomain(String domainUid) {
+    return new Domain()
+          .withMetadata(new V1ObjectMeta().name(domainUid).namespace(NS))
+          .withSpec(new DomainSpec().withDomainUid(domainUid).withDomainHomeInImage(true));
+  }
+
+  private V1Secret createSecret(String domainUid, String password) {
+    return new V1Secret().metadata(new V1ObjectMeta().name(getSecretName(domainUid)))
+          .putDataItem("password", password.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String getSecretName(String domainUid) {
+    return domainUid + "-credentials";
+  }
+
+  private V1ConfigMap createConfigMap(String name, String contents) {
+    return new V1ConfigMap().metadata(new V1ObjectMeta().name(name)).putDataItem("model.yaml", contents);
+  }
+
+  private V1PodSpec createPodSpec(String domainUid, String image) {
+    return new V1PodSpec()
+          .addContainersItem(new V1Container().name("introspector").image(image)
+                .addEnvItem(new V1EnvVar().name(ServerEnvVars.DOMAIN_UID).value(domainUid))
+                .addEnvItem(new V1EnvVar().name(ServerEnvVars.LOG_HOME).value("/shared/logs/" + domainUid))
+                .addEnvItem(new V1EnvVar().name(IntrospectorJobEnvVars.NAMESPACE).value(NS)))
+          .addVolumesItem(new V1Volume().name("secret").secret(
+                new V1SecretVolumeSource().secretName(getSecretName(domainUid))))
+          .addVolumesItem(new V1Volume().name("model").configMap(new V1ConfigMapVolumeSource().name(CONFIG_MAP_NAME)))
+          .addVolumesItem(new V1Volume().name("mii").configMap(
+                new V1ConfigMapVolumeSource().name(ConfigMapHelper.getIntrospectorConfigMapName(domainUid))));
+  }
+
+  private IntrospectionResultCache.Inputs createInputs() {
+    return createInputs(domain, createPodSpec(UID, PINNED_IMAGE));
+  }
+
+  private IntrospectionResultCache.Inputs createInputs(Domain domain, V1PodSpec podSpec) {
+    return IntrospectionResultCache.createInputs(domain, podSpec, secrets, configMaps);
+  }
+
+  private Map<String, String> createResult(String topology) {
+    return Map.of(TOPOLOGY_YAML, topology, CONFIG_FILE, "<listen-address>" + UID + "-admin</listen-address>");
+  }
+
+  private void record(IntrospectionResultCache.Inputs inputs, Map<String, String> files) {
+    cache.createRecordStep(inputs, Map.of(), files, null);
+  }
+
+  private Map<String, String> lookup(IntrospectionResultCache.Inputs inputs) {
+    return cache.lookup(inputs, Map.of());
+  }
+
+  private List<V1ConfigMap> getSavedResults() {
+    return testSupport.<V1ConfigMap>getResources(CONFIG_MAP).stream()
+          .filter(c -> getOperatorNamespace().equals(c.getMetadata().getNamespace()))
+          .filter(c -> "true".equals(c.getMetadata().getLabels().get(LabelConstants.INTROSPECTION_CACHE_LABEL)))
+          .collect(Collectors.toList());
+  }
+
+  @Test
+  void whenTuningParameterNotSet_cacheIsDisabled() {
+    TuningParametersStub.setParameter("introspectionCacheMaxEntries", null);
+
+    assertThat(IntrospectionResultCache.isEnabled(), equalTo(false));
+  }
+
+  @Test
+  void afterResultRecorded_lookupReturnsIt() {
+    record(createInputs(), createResult(VALID_TOPOLOGY));
+
+    assertThat(lookup(createInputs()), equalTo(createResult(VALID_TOPOLOGY)));
+  }
+
+  @Test
+  void whenCachedResultModified_cacheIsUnchanged() {
+    record(createInputs(), createResult(VALID_TOPOLOGY));
+
+    lookup(createInputs()).put("extra", "value");
+
+    assertThat(lookup(createInputs()), not(hasEntry("extra", "value")));
+  }
+
+  @Test
+  void whenTopologyInvalid_doNotRecordResult() {
+    record(createInputs(), createResult(INVALID_TOPOLOGY));
+
+    assertThat(lookup(createInputs()), nullValue());
+  }
+
+  @Test
+  void whenResultReportsOnlineUpdate_doNotRecordResult() {
+    record(createInputs(), Map.of(TOPOLOGY_YAML, VALID_TOPOLOGY, UPDATEDOMAINRESULT, "0"));
+
+    assertThat(lookup(createInputs()), nullValue());
+  }
+
+  @Test
+  void whenMaximumExceeded_evictLeastRecentlyUsedResult() {
+    record(createInputsForVersion("a"), createResult(VALID_TOPOLOGY));
+    record(createInputsForVersion("b"), createResult(VALID_TOPOLOGY));
+    lookup(createInputsForVersion("a"));
+
+    record(createInputsForVersion("c"), createResult(VALID_TOPOLOGY));
+
+    assertThat(cache.size(), equalTo(2));
+    assertThat(lookup(createInputsForVersion("a")), notNullValue());
+    assertThat(lookup(createInputsForVersion("b")), nullValue());
+  }
+
+  private IntrospectionResultCache.Inputs createInputsForVersion(String introspectVersion) {
+    domain.getSpec().setIntrospectVersion(introspectVersion);
+    return createInputs();
+  }
+
+  @Test
+  void lookupsAreCounted() {
+    final long hits = IntrospectionResultCache.getHitCount();
+    final long misses = IntrospectionResultCache.getMissCount();
+    record(createInputsForVersion("a"), createResult(VALID_TOPOLOGY));
+
+    lookup(createInputsForVersion("a"));
+    lookup(createInputsForVersion("b"));
+
+    assertThat(IntrospectionResultCache.getHitCount() - hits, equalTo(1L));
+    assertThat(IntrospectionResultCache.getMissCount() - misses, equalTo(1L));
+  }
+
+  @Test
+  void whenDomainHomeOnPersistentVolume_resultIsNotCacheable() {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.PersistentVolume);
+
+    assertThat(createInputs(), nullValue());
+  }
+
+  @Test
+  void whenOtherDomainHasSameInputs_reuseResultWithItsValues() {
+    record(createInputs(), createResult(VALID_TOPOLOGY));
+
+    assertThat(lookup(createInputs(createDomain(OTHER_UID), createPodSpec(OTHER_UID, PINNED_IMAGE))),
+          hasEntry(CONFIG_FILE, "<listen-address>" + OTHER_UID + "-admin</listen-address>"));
+  }
+
+  @Test
+  void whenOtherDomainSecretDiffers_doNotReuseResult() {
+    record(createInputs(), createResult(VALID_TOPOLOGY));
+
+    secrets.set(1, createSecret(OTHER_UID, "2"));
+
+    assertThat(lookup(createInputs(createDomain(OTHER_UID), createPodSpec(OTHER_UID, PINNED_IMAGE))), nullValue());
+  }
+
+  @Test
+  void whenTopologyNamesContainDomainUid_reuseResultForSameDomainOnly() {
+    final String topology = "domainValid: true\ndomain:\n  name: " + UID;
+    record(createInputs(), createResult(topology));
+
+    assertThat(lookup(createInputs()), equalTo(createResult(topology)));
+    assertThat(lookup(createInputs(createDomain(OTHER_UID), createPodSpec(OTHER_UID, PINNED_IMAGE))), nullValue());
+  }
+
+  @Test
+  void whenImageDigestUnknown_doNotRecordResult() {
+    final IntrospectionResultCache.Inputs inputs = createInputs(domain, createPodSpec(UID, TAGGED_IMAGE));
+
+    record(inputs, createResult(VALID_TOPOLOGY));
+
+    assertThat(cache.isEmpty(), equalTo(true));
+  }
+
+  @Test
+  void whenImageDigestReportedByPod_useItForTaggedImage() {
+    final IntrospectionResultCache.Inputs inputs = createInputs(domain, createPodSpec(UID, TAGGED_IMAGE));
+    final Map<String, String> digests = IntrospectionResultCache.getImageDigests(Stream.of(createPod(DIGEST)));
+
+    cache.createRecordStep(inputs, digests, createResult(VALID_TOPOLOGY), null);
+
+    assertThat(cache.lookup(inputs, digests), notNullValue());
+  }
+
+  @Test
+  void whenTaggedImageDigestChanges_doNotReuseResult() {
+    final IntrospectionResultCache.Inputs inputs = createInputs(domain, createPodSpec(UID, TAGGED_IMAGE));
+    cache.createRecordStep(inputs, IntrospectionResultCache.getImageDigests(Stream.of(createPod(DIGEST))),
+          createResult(VALID_TOPOLOGY), null);
+
+    assertThat(cache.lookup(inputs, IntrospectionResultCache.getImageDigests(Stream.of(createPod("sha256:fedcba")))),
+          nullValue());
+  }
+
+  private V1Pod createPod(String digest) {
+    return new V1Pod()
+          .spec(new V1PodSpec().addContainersItem(new V1Container().name("weblogic-server").image(TAGGED_IMAGE)))
+          .status(new V1PodStatus().addContainerStatusesItem(
+                new V1ContainerStatus().name("weblogic-server").imageID("docker-pullable://image@" + digest)));
+  }
+
+  @Test
+  void whenTaggedImageDigestKnown_reportDigestsAvailable() {
+    final Map<String, String> digests = IntrospectionResultCache.getImageDigests(Stream.of(createPod(DIGEST)));
+
+    assertThat(IntrospectionResultCache.hasImageDigests(createPodSpec(UID, TAGGED_IMAGE), digests), equalTo(true));
+    assertThat(IntrospectionResultCache.hasImageDigests(createPodSpec(UID, "image:2"), digests), equalTo(false));
+  }
+
+  @Test
+  void whenReferencedSecretContentsChange_doNotReuseResult() {
+    record(createInputs(), createResult(VALID_TOPOLOGY));
+
+    secrets.set(0, createSecret(UID, "2"));
+
+    assertThat(lookup(createInputs()), nullValue());
+  }
+
+  @Test
+  void whenOnlyReferencedSecretResourceVersionChanges_reuseResult() {
+    record(createInputs(), createResult(VALID_TOPOLOGY));
+
+    secrets.get(0).getMetadata().setResourceVersion("2");
+
+    assertThat(lookup(createInputs()), notNullValue());
+  }
+
+  @Test
+  void whenReferencedConfigMapContentsChange_doNotReuseResult() {
+    record(createInputs(), createResult(VALID_TOPOLOGY));
+
+    configMaps.set(0, createConfigMap(CONFIG_MAP_NAME, "2"));
+
+    assertThat(lookup(createInputs()), nullValue());
+  }
+
+  @Test
+  void whenIntrospectorConfigMapChanges_reuseResult() {
+    record(createInputs(), createResult(VALID_TOPOLOGY));
+
+    configMaps.set(1, createConfigMap(ConfigMapHelper.getIntrospectorConfigMapName(UID), "2"));
+
+    assertThat(lookup(createInputs()), notNullValue());
+  }
+
+  @Test
+  void whenUnreferencedSecretAdded_reuseResult() {
+    record(createInputs(), createResult(VALID_TOPOLOGY));
+
+    secrets.add(new V1Secret().metadata(new V1ObjectMeta().name("other")));
+
+    assertThat(lookup(createInputs()), notNullValue());
+  }
+
+  @Test
+  void afterResultRecorded_saveItWithoutDomainValues() {
+    testSupport.runSteps(cache.createRecordStep(createInputs(), Map.of(), createResult(VALID_TOPOLOGY), null));
+
+    assertThat(getSavedResults(), hasSize(1));
+    assertThat(getSavedResults().get(0).getData(),
+          hasEntry(CONFIG_FILE, "<listen-address>@@DOMAIN_UID@@-admin</listen-address>"));
+  }
+
+  @Test
+  void whenResultEvicted_deleteSavedResult() {
+    for (String version : List.of("a", "b", "c")) {
+      testSupport.runSteps(
+            cache.createRecordStep(createInputsForVersion(version), Map.of(), createResult(VALID_TOPOLOGY), null));
+    }
+
+    assertThat(getSavedResults(), hasSize(2));
+  }
+
+  @Test
+  void afterSavedResultsLoaded_lookupReturnsThem() throws NoSuchFieldException {
+    testSupport.runSteps(cache.createRecordStep(createInputs(), Map.of(), createResult(VALID_TOPOLOGY), null));
+    final IntrospectionResultCache restartedCache = new IntrospectionResultCache();
+    mementos.add(StaticStubSupport.install(IntrospectionResultCache.class, "instance", restartedCache));
+
+    testSupport.runSteps(IntrospectionResultCache.createLoadStep(null));
+
+    assertThat(restartedCache.lookup(createInputs(), Map.of()), equalTo(createResult(VALID_TOPOLOGY)));
+  }
+
+  @Test
+  void whenCacheDisabled_doNotLoadSavedResults() throws NoSuchFieldException {
+    testSupport.runSteps(cache.createRecordStep(createInputs(), Map.of(), createResult(VALID_TOPOLOGY), null));
+    final IntrospectionResultCache restartedCache = new IntrospectionResultCache();
+    mementos.add(StaticStubSupport.install(IntrospectionResultCache.class, "instance", restartedCache));
+    TuningParametersStub.setParameter("introspectionCacheMaxEntries", null);
+
+    testSupport.runSteps(IntrospectionResultCache.createLoadStep(null));
+
+    assertThat(restartedCache.isEmpty(), equalTo(true));
+  }
+
+  @Test
+  void whenNoResultsSaved_cacheIsEmptyAfterLoad() {
+    testSupport.runSteps(IntrospectionResultCache.createLoadStep(null));
+
+    assertThat(getSavedResults(), empty());
+    assertThat(cache.isEmpty(), equalTo(true));
+  }
+}
@@ -3,15 +3,20 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -38,6 +43,7 @@ import org.junit.jupiter.api.Test;
 import static java.lang.System.lineSeparator;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_INPUTS_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_RESTART_VERSION;
@@ -51,6 +57,8 @@ import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.helpers.DomainStatusMatcher.hasStatus;
 import static oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory.forDomain;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
@@ -91,6 +99,7 @@ class IntrospectorConfigMapTest {
     mementos.add(testSupport.install());
     mementos.add(ScanCacheStub.install());
     mementos.add(StaticStubSupport.install(ConfigMapSplitter.class, "DATA_LIMIT", TEST_DATA_LIMIT));
+    mementos.add(TuningParametersStub.install());
 
     testSupport.defineResources(domain);
     testSupport.addDomainPresenceInfo(info);
@@ -119,7 +128,8 @@ class IntrospectorConfigMapTest {
     }
 
     void addToPacket() {
-      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, builder.toString());
+      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT,
+            new IntrospectorLogParser(UID, message -> { }).parse(new StringReader(builder.toString())));
     }
 
   }
@@ -344,6 +354,164 @@ class IntrospectorConfigMapTest {
     assertThat(getIntrospectionConfigMaps(), hasSize(NUM_MAPS_TO_CREATE));
   }
 
+  @Test
+  void whenBinaryArchivesEnabled_storeDomainZipAsBinaryData() {
+    TuningParametersStub.setParameter("introspectorConfigMapBinaryArchives", "true");
+    final byte[] archive = createArchive(100);
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAINZIP, Base64.getMimeEncoder().encodeToString(archive))
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), not(hasKey(DOMAINZIP)));
+    assertThat(getIntrospectionConfigMap().map(V1ConfigMap::getBinaryData).map(m -> m.get(DOMAINZIP)).orElse(null),
+          equalTo(archive));
+  }
+
+  @Test
+  void whenBinaryArchivesNotEnabled_storeDomainZipAsText() {
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAINZIP, Base64.getMimeEncoder().encodeToString(createArchive(100)))
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), hasKey(DOMAINZIP));
+    assertThat(getIntrospectionConfigMap().map(V1ConfigMap::getBinaryData).orElse(null), nullValue());
+  }
+
+  @Test
+  void whenLargeArchiveStoredAsText_createMoreMaps() {
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAINZIP, Base64.getMimeEncoder().encodeToString(createArchive(2400)))
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectionConfigMaps(), hasSize(4));
+  }
+
+  @Test
+  void whenLargeArchiveStoredAsBinary_createFewerMaps() {
+    TuningParametersStub.setParameter("introspectorConfigMapBinaryArchives", "true");
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAINZIP, Base64.getMimeEncoder().encodeToString(createArchive(2400)))
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectionConfigMaps(), hasSize(3));
+  }
+
+  @Test
+  void whenLargeArchiveStoredAsBinary_canReassembleArchive() {
+    TuningParametersStub.setParameter("introspectorConfigMapBinaryArchives", "true");
+    final byte[] archive = createArchive(2400);
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAINZIP, Base64.getMimeEncoder().encodeToString(archive))
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    final ByteArrayOutputStream reassembled = new ByteArrayOutputStream();
+    getIntrospectionConfigMaps().stream()
+          .sorted(Comparator.comparing(map -> map.getMetadata().getName()))
+          .map(V1ConfigMap::getBinaryData)
+          .filter(Objects::nonNull)
+          .map(binaryData -> binaryData.get(DOMAINZIP))
+          .filter(Objects::nonNull)
+          .forEach(reassembled::writeBytes);
+    assertThat(reassembled.toByteArray(), equalTo(archive));
+  }
+
+  @Test
+  void whenIntrospectionRerunsWithSameResults_doNotUpdateMaps() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(ConfigMapSplitter.class, "PARTITION_ALIGNMENT", 500));
+    runIntrospectionWithLargeData(TOPOLOGY_VALUE);
+    final List<String> updatedMaps = recordUpdatedIntrospectorMaps();
+
+    runIntrospectionWithLargeData(TOPOLOGY_VALUE);
+
+    assertThat(updatedMaps, empty());
+  }
+
+  @Test
+  void whenOnlyTopologyChanges_updateOnlyFirstMap() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(ConfigMapSplitter.class, "PARTITION_ALIGNMENT", 500));
+    runIntrospectionWithLargeData(TOPOLOGY_VALUE);
+    final List<String> updatedMaps = recordUpdatedIntrospectorMaps();
+
+    runIntrospectionWithLargeData(TOPOLOGY_VALUE + "\n# revised");
+
+    assertThat(updatedMaps, contains(getIntrospectorConfigMapName(0)));
+  }
+
+  @Test
+  void whenOnlyTopologyChanges_splitDataIsUnchanged() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(ConfigMapSplitter.class, "PARTITION_ALIGNMENT", 500));
+    runIntrospectionWithLargeData(TOPOLOGY_VALUE);
+
+    runIntrospectionWithLargeData(TOPOLOGY_VALUE + "\n# revised");
+
+    assertThat(getReassembledValue(LARGE_DATA_KEY), equalTo(LARGE_DATA_VALUE));
+    assertThat(getIntrospectorConfigMapData().get(TOPOLOGY_YAML), containsString("# revised"));
+  }
+
+  @Test
+  void whenEntryNoLongerInIntrospectionResult_removeFromMap() {
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, TOPOLOGY_VALUE)
+          .defineFile("Sit-Cfg-CFG--situational-config.xml", "<config/>")
+          .addToPacket();
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    new IntrospectResult()
+          .defineFile(TOPOLOGY_YAML, TOPOLOGY_VALUE + "\n# revised")
+          .addToPacket();
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), not(hasKey("Sit-Cfg-CFG--situational-config.xml")));
+  }
+
+  private void runIntrospectionWithLargeData(String topology) {
+    new IntrospectResult()
+          .defineFile(TOPOLOGY_YAML, topology)
+          .defineFile(LARGE_DATA_KEY, LARGE_DATA_VALUE)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+  }
+
+  private List<String> recordUpdatedIntrospectorMaps() {
+    final List<String> updatedMaps = new ArrayList<>();
+    testSupport.doOnUpdate(KubernetesTestSupport.CONFIG_MAP,
+          configMap -> updatedMaps.add(getConfigMapName((V1ConfigMap) configMap)));
+    return updatedMaps;
+  }
+
+  private String getReassembledValue(String key) {
+    return getIntrospectionConfigMaps().stream()
+          .sorted(Comparator.comparing(map -> map.getMetadata().getName()))
+          .map(V1ConfigMap::getData)
+          .map(data -> data.get(key))
+          .filter(Objects::nonNull)
+          .collect(Collectors.joining());
+  }
+
+  private byte[] createArchive(int length) {
+    final byte[] archive = new byte[length];
+    for (int i = 0; i < length; i++) {
+      archive[i] = (byte) (i * 31);
+    }
+    return archive;
+  }
+
   @Test
   void whenDomainHasRestartVersion_addToPacket() {
     configureDomain().withRestartVersion(RESTART_VERSION);
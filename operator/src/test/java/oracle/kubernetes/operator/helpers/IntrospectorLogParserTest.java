@@ -0,0 +1,109 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.ConfigMapHelper.UPDATEDOMAINRESULT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+
+class IntrospectorLogParserTest {
+
+  private static final String UID = "domain1";
+
+  private final List<String> messages = new ArrayList<>();
+  private final StringBuilder log = new StringBuilder();
+
+  private IntrospectorLogParserTest addLines(String... lines) {
+    for (String line : lines) {
+      log.append(line).append(System.lineSeparator());
+    }
+    return this;
+  }
+
+  private Map<String, String> parse() {
+    return new IntrospectorLogParser(UID, messages::add).parse(new StringReader(log.toString()));
+  }
+
+  @Test
+  void whenLogContainsFiles_returnThemByName() {
+    addLines(">>> /weblogic-operator/introspector/topology.yaml", "domain:", "  name: base", ">>> EOF");
+    addLines(">>> /weblogic-operator/introspector/secrets.md5", "abcd", ">>> EOF");
+
+    Map<String, String> files = parse();
+
+    assertThat(files, hasEntry("topology.yaml", "domain:" + System.lineSeparator() + "  name: base"));
+    assertThat(files, hasEntry("secrets.md5", "abcd"));
+  }
+
+  @Test
+  void whenFileNotTerminated_ignoreIt() {
+    addLines(">>> /weblogic-operator/introspector/topology.yaml", "domain:");
+
+    assertThat(parse(), anEmptyMap());
+  }
+
+  @Test
+  void whenLogContainsMessages_passEachToHandler() {
+    addLines("@[INFO] first", "@[WARNING] second");
+
+    parse();
+
+    assertThat(messages, contains("@[INFO] first", "@[WARNING] second"));
+  }
+
+  @Test
+  void whenMessageContinuesOnLaterLines_includeThemInMessage() {
+    addLines("@[INFO] first", "  more", "still more");
+
+    parse();
+
+    assertThat(messages, contains(String.join(System.lineSeparator(), "@[INFO] first", "more", "still more")));
+  }
+
+  @Test
+  void ignoreLinesBeforeFirstMessage() {
+    addLines("preamble", "@[INFO] first");
+
+    parse();
+
+    assertThat(messages, contains("@[INFO] first"));
+  }
+
+  @Test
+  void whenFileFollowsMessage_doNotIncludeFileContentsInMessage() {
+    addLines("@[INFO] first", ">>> /weblogic-operator/introspector/secrets.md5", "secret stuff", ">>> EOF");
+
+    Map<String, String> files = parse();
+
+    assertThat(messages, contains("@[INFO] first"));
+    assertThat(files, hasEntry("secrets.md5", "secret stuff"));
+  }
+
+  @Test
+  void whenLogContainsUpdateDomainResult_returnIt() {
+    addLines("@[INFO] first >>>  updatedomainResult=103");
+
+    assertThat(parse(), hasEntry(UPDATEDOMAINRESULT, "103"));
+  }
+
+  @Test
+  void whenLogHasNoUpdateDomainResult_doNotReturnOne() {
+    addLines("@[INFO] first");
+
+    assertThat(parse(), not(hasKey(UPDATEDOMAINRESULT)));
+    assertThat(messages.size(), equalTo(1));
+  }
+}
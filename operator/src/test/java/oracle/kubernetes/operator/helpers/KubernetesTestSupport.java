@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
@@ -120,10 +121,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
   private static final RequestParams REQUEST_PARAMS
       = new RequestParams("testcall", "junit", "testName", "body", (CallParams) null);
   public static final String DELETE_POD = "deletePod";
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
 
   private final Map<String, DataRepository<?>> repositories = new HashMap<>();
   private final Map<Class<?>, String> dataTypes = new HashMap<>();
   private Failure failure;
+
   private long resourceVersion;
   private int numCalls;
   private boolean addCreationTimestamp;
@@ -485,6 +488,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    patchStatus {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.patchResourceStatus(dataRepository);
+      }
+    },
     deleteCollection {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -558,16 +567,27 @@ public class KubernetesTestSupport extends FiberTestSupport {
   }
 
   private class KubernetesTestSupportMemento implements Memento {
+    private final Memento cacheMemento;
 
     public KubernetesTestSupportMemento() {
       CallBuilder.setStepFactory(new AsyncRequestStepFactoryImpl());
       CallBuilder.setCallDispatcher(new CallDispatcherImpl());
+      cacheMemento = installEmptyResourceCache();
+    }
+
+    private Memento installEmptyResourceCache() {
+      try {
+        return StaticStubSupport.install(ResourceCache.class, "instance", new ResourceCache());
+      } catch (NoSuchFieldException e) {
+        throw new IllegalStateException(e);
+      }
     }
 
     @Override
     public void revert() {
       CallBuilder.resetStepFactory();
       CallBuilder.resetCallDispatcher();
+      cacheMemento.revert();
     }
 
     @Override
@@ -877,14 +897,40 @@ public class KubernetesTestSupport extends FiberTestSupport {
       }
 
       JsonPatch patch = Json.createPatch(fromV1Patch(body));
-      JsonStructure result = patch.apply(toJsonStructure(data.get(name)));
+      JsonStructure result;
+      try {
+        result = patch.apply(toJsonStructure(data.get(name)));
+      } catch (JsonException e) {
+        throw new HttpErrorException(new ApiException(HTTP_UNPROCESSABLE_ENTITY, e.getMessage()));
+      }
       T resource = fromJsonStructure(result);
       Optional.ofNullable(data.get(name)).ifPresent(old -> optionallyCopyStatusSubresource(old, resource));
+      incrementResourceVersion(getMetadata(resource));
       data.put(name, resource);
       onUpdateActions.forEach(a -> a.accept(resource));
       return resource;
     }
 
+    // Applies the patch to the resource, but retains only the changes to its status. As with the API server,
+    // a patch which cannot be applied is rejected as an unprocessable entity.
+    public T patchResourceStatus(String name, String namespace, V1Patch body) {
+      if (!data.containsKey(name)) {
+        throw new NotFoundException(getResourceName(), name, namespace);
+      }
+
+      T current = data.get(name);
+      T patched;
+      try {
+        patched = fromJsonStructure(Json.createPatch(fromV1Patch(body)).apply(toJsonStructure(current)));
+      } catch (JsonException e) {
+        throw new HttpErrorException(new ApiException(HTTP_UNPROCESSABLE_ENTITY, e.getMessage()));
+      }
+      copyResourceStatus(patched, current);
+      incrementResourceVersion(getMetadata(current));
+      onUpdateActions.forEach(a -> a.accept(current));
+      return current;
+    }
+
     @SuppressWarnings("unchecked")
     T fromJsonStructure(JsonStructure jsonStructure) {
       return new JSON().deserialize(jsonStructure.toString(), resourceType);
@@ -1037,6 +1083,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    public T patchResourceStatus(String name, String namespace, V1Patch body) {
+      return inNamespace(namespace).patchResourceStatus(name, namespace, body);
+    }
+
     @Override
     List<T> getResources(String namespace, String fieldSelector, String... labelSelectors) {
       return inNamespace(namespace).getResources(fieldSelector, labelSelectors);
@@ -1164,12 +1215,18 @@ public class KubernetesTestSupport extends FiberTestSupport {
           requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
     }
 
+    private <T> T patchResourceStatus(DataRepository<T> dataRepository) {
+      return dataRepository.patchResourceStatus(
+          requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
+    }
+
     private <T> Object listResources(Integer limit, String cont, DataRepository<T> dataRepository) {
       return dataRepository.listResources(requestParams.namespace, limit, cont, fieldSelector, labelSelector);
     }
 
-    private <T> T readResource(DataRepository<T> dataRepository) {
-      return dataRepository.readResource(requestParams.name, requestParams.namespace);
+    private <T> Object readResource(DataRepository<T> dataRepository) {
+      T resource = dataRepository.readResource(requestParams.name, requestParams.namespace);
+      return PODLOG.equals(resourceType) ? new StringReader((String) resource) : resource;
     }
 
     public <T> V1Status deleteCollection(DataRepository<T> dataRepository) {
@@ -3,6 +3,9 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -532,13 +535,19 @@ class KubernetesTestSupportTest {
   }
 
   @Test
-  void whenDefined_readPodLog() {
-    TestResponseStep<String> endStep = new TestResponseStep<>();
+  void whenDefined_readPodLog() throws IOException {
+    TestResponseStep<Reader> endStep = new TestResponseStep<>();
     testSupport.definePodLog("name", "namespace", POD_LOG_CONTENTS);
 
     testSupport.runSteps(new CallBuilder().readPodLogAsync("name", "namespace", "", endStep));
 
-    assertThat(endStep.callResponse.getResult(), equalTo(POD_LOG_CONTENTS));
+    assertThat(readFully(endStep.callResponse.getResult()), equalTo(POD_LOG_CONTENTS));
+  }
+
+  private String readFully(Reader reader) throws IOException {
+    try (BufferedReader bufferedReader = new BufferedReader(reader)) {
+      return bufferedReader.lines().collect(Collectors.joining(System.lineSeparator()));
+    }
   }
 
   @Test
@@ -47,6 +47,7 @@ import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
 import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SUSPENDING_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
@@ -287,7 +288,7 @@ class PodPresenceTest {
   }
 
   @Test
-  void onModifyEventWithPodNotReadyAndOldStatusRunning_setLastKnownStatusNull() {
+  void onModifyEventWithPodNotReadyAndOldStatusRunning_setLastKnownStatusUnknown() {
     V1Pod eventPod = createServerPod();
     V1Pod currentPod = createServerPod();
     info.updateLastKnownServerStatus(SERVER, RUNNING_STATE);
@@ -296,7 +297,7 @@ class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getLastKnownServerStatus(SERVER), nullValue());
+    assertThat(info.getLastKnownServerStatus(SERVER).getStatus(), equalTo(UNKNOWN_STATE));
   }
 
   @Test
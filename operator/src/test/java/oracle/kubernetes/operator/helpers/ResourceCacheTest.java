@@ -0,0 +1,255 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Secret;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class ResourceCacheTest {
+
+  private static final String NS = "namespace";
+  private static final String UID1 = "domain1";
+  private static final String UID2 = "domain2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ResourceCache cache = new ResourceCache();
+  private final ResourceCache.Store<V1Pod> pods = cache.getPods();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenNamespaceNotListed_storeIsNotSynced() {
+    pods.setWatched(NS, true);
+
+    assertThat(pods.isSynced(NS), is(false));
+  }
+
+  @Test
+  void whenNamespaceListedButNotWatched_storeIsNotSynced() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "1")));
+
+    assertThat(pods.isSynced(NS), is(false));
+  }
+
+  @Test
+  void whenNamespaceListedAndWatched_storeIsSynced() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "1")));
+    pods.setWatched(NS, true);
+
+    assertThat(pods.isSynced(NS), is(true));
+  }
+
+  @Test
+  void whenInvalidated_storeIsNotSynced() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "1")));
+    pods.setWatched(NS, true);
+
+    pods.invalidate(NS);
+
+    assertThat(pods.isSynced(NS), is(false));
+  }
+
+  @Test
+  void afterResyncInterval_resyncIsDue() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "1")));
+
+    SystemClockTestSupport.increment(ResourceCache.getResyncSeconds() + 1);
+
+    assertThat(pods.isResyncDue(NS), is(true));
+  }
+
+  @Test
+  void beforeResyncInterval_resyncIsNotDue() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "1")));
+
+    SystemClockTestSupport.increment(ResourceCache.getResyncSeconds() - 1);
+
+    assertThat(pods.isResyncDue(NS), is(false));
+  }
+
+  @Test
+  void canSelectResourcesByDomainUid() {
+    pods.replaceAll(NS, Arrays.asList(
+          createPod(UID1, "ms1", "1"), createPod(UID1, "ms2", "2"), createPod(UID2, "ms1", "3")));
+
+    assertThat(getNames(pods.listForDomain(NS, UID1)), containsInAnyOrder(UID1 + "-ms1", UID1 + "-ms2"));
+  }
+
+  @Test
+  void canSelectResourcesByServerName() {
+    pods.replaceAll(NS, Arrays.asList(
+          createPod(UID1, "ms1", "1"), createPod(UID1, "ms2", "2"), createPod(UID2, "ms1", "3")));
+
+    assertThat(getNames(pods.listForServer(NS, UID2, "ms1")), contains(UID2 + "-ms1"));
+  }
+
+  @Test
+  void whenResourceAddedByWatch_addToIndexes() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "1")));
+
+    pods.update("ADDED", createPod(UID1, "ms2", "2"));
+
+    assertThat(getNames(pods.listForServer(NS, UID1, "ms2")), contains(UID1 + "-ms2"));
+  }
+
+  @Test
+  void whenResourceDeletedByWatch_removeFromIndexes() {
+    pods.replaceAll(NS, Arrays.asList(createPod(UID1, "ms1", "1"), createPod(UID1, "ms2", "2")));
+
+    pods.update("DELETED", createPod(UID1, "ms2", "3"));
+
+    assertThat(getNames(pods.listForDomain(NS, UID1)), contains(UID1 + "-ms1"));
+    assertThat(pods.listForServer(NS, UID1, "ms2"), empty());
+  }
+
+  @Test
+  void whenWatchEventIsOlderThanCachedResource_ignoreIt() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "5")));
+
+    pods.update("MODIFIED", createPod(UID1, "ms1", "4"));
+
+    assertThat(getResourceVersion(pods.get(NS, UID1 + "-ms1").orElse(null)), is("5"));
+  }
+
+  @Test
+  void whenWatchEventIsNewerThanCachedResource_replaceIt() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "5")));
+
+    pods.update("MODIFIED", createPod(UID1, "ms1", "6"));
+
+    assertThat(getResourceVersion(pods.get(NS, UID1 + "-ms1").orElse(null)), is("6"));
+  }
+
+  @Test
+  void whenListIsOlderThanCachedResource_keepCachedResource() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "5")));
+    pods.update("MODIFIED", createPod(UID1, "ms1", "7"));
+
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "6")), "6");
+
+    assertThat(getResourceVersion(pods.get(NS, UID1 + "-ms1").orElse(null)), is("7"));
+  }
+
+  @Test
+  void whenListIsNewerThanCachedResource_replaceIt() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "5")));
+
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "6")), "6");
+
+    assertThat(getResourceVersion(pods.get(NS, UID1 + "-ms1").orElse(null)), is("6"));
+  }
+
+  @Test
+  void whenResourceAddedAfterList_keepIt() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "5")));
+    pods.update("ADDED", createPod(UID1, "ms2", "8"));
+
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "5")), "6");
+
+    assertThat(getNames(pods.list(NS)), containsInAnyOrder(UID1 + "-ms1", UID1 + "-ms2"));
+  }
+
+  @Test
+  void whenResourceMissingFromNewerList_removeIt() {
+    pods.replaceAll(NS, Arrays.asList(createPod(UID1, "ms1", "5"), createPod(UID1, "ms2", "4")));
+
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "5")), "6");
+
+    assertThat(getNames(pods.list(NS)), contains(UID1 + "-ms1"));
+  }
+
+  @Test
+  void whenListVersionUnknown_removeResourcesMissingFromList() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "5")));
+    pods.update("ADDED", createPod(UID1, "ms2", "8"));
+
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "5")));
+
+    assertThat(getNames(pods.list(NS)), contains(UID1 + "-ms1"));
+  }
+
+  @Test
+  void whenWatchEventIsForUnlistedNamespace_ignoreIt() {
+    pods.update("ADDED", createPod(UID1, "ms1", "1"));
+
+    assertThat(pods.list(NS), empty());
+  }
+
+  @Test
+  void whenNamespaceRemoved_discardItsResources() {
+    pods.replaceAll(NS, List.of(createPod(UID1, "ms1", "1")));
+    pods.setWatched(NS, true);
+
+    cache.removeNamespace(NS);
+
+    assertThat(pods.list(NS), empty());
+    assertThat(pods.isSynced(NS), is(false));
+  }
+
+  @Test
+  void secretsAreStoredWithoutData() {
+    V1Secret secret = new V1Secret().metadata(new V1ObjectMeta().name("creds").namespace(NS))
+          .putDataItem("password", "secret".getBytes());
+
+    cache.getSecrets().replaceAll(NS, List.of(secret));
+
+    assertThat(cache.getSecrets().get(NS, "creds").map(V1Secret::getData).orElse(null), nullValue());
+  }
+
+  @Test
+  void unwatchedStoreIsSyncedUntilResyncDue() {
+    cache.getSecrets().replaceAll(NS, List.of(new V1Secret().metadata(new V1ObjectMeta().name("creds"))));
+
+    SystemClockTestSupport.increment(ResourceCache.getResyncSeconds() + 1);
+
+    assertThat(cache.getSecrets().isSynced(NS), is(false));
+  }
+
+  private V1Pod createPod(String domainUid, String serverName, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta()
+          .namespace(NS)
+          .name(domainUid + "-" + serverName)
+          .resourceVersion(resourceVersion)
+          .labels(Map.of(DOMAINUID_LABEL, domainUid, SERVERNAME_LABEL, serverName)));
+  }
+
+  private List<String> getNames(List<V1Pod> list) {
+    List<String> names = new ArrayList<>();
+    list.forEach(p -> names.add(p.getMetadata().getName()));
+    return names;
+  }
+
+  private String getResourceVersion(V1Pod pod) {
+    return pod == null ? null : pod.getMetadata().getResourceVersion();
+  }
+}
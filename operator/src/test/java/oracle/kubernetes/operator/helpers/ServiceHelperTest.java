@@ -16,6 +16,7 @@ import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1OwnerReference;
@@ -75,6 +76,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -103,6 +105,7 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     EXTERNAL_CHANNEL_SERVICE_EXISTS
   };
   private static final String OLD_LABEL = "oldLabel";
+  private static final String LEGACY_PREFIX = "legacy-";
   private static final String OLD_ANNOTATION = "annotation";
   private static final String NAP_1 = "nap1";
   private static final String NAP_2 = "Nap2";
@@ -523,6 +526,33 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     verifyServiceNotReplaced(this::changeListenPort);
   }
 
+  @Test
+  void whenServiceHasLegacyHashOfSameRecipe_patchCurrentHashOntoIt() throws NoSuchFieldException {
+    runServiceHelper();
+    logRecords.clear();
+    final String currentHash = AnnotationHelper.getHash(getCreatedService());
+    // added first, so that it is reverted before the unit test hash functions
+    mementos.add(0, StaticStubSupport.install(AnnotationHelper.class, "LEGACY_HASH_FUNCTION", new LegacyTestHash()));
+    V1Service legacyService = getCreatedService();
+    legacyService.getMetadata().putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, LEGACY_PREFIX + currentHash);
+    testFacade.recordService(domainPresenceInfo, legacyService);
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsFine(testFacade.getServiceExistsLogMessage()));
+    assertThat(getCreatedServices(), hasSize(1));
+    assertThat(AnnotationHelper.getHash(getCreatedService()), equalTo(currentHash));
+    assertThat(AnnotationHelper.getHash(testFacade.getRecordedService(domainPresenceInfo)), equalTo(currentHash));
+  }
+
+  // With the unit test hash installed, the legacy hash of a recipe is its current hash with this prefix.
+  static class LegacyTestHash extends UnitTestHash {
+    @Override
+    public String apply(Object object) {
+      return LEGACY_PREFIX + super.apply(object);
+    }
+  }
+
   private void verifyServiceNotReplaced(Consumer<V1Service> serviceMutator) {
     runServiceHelper();
     logRecords.clear();
@@ -87,7 +87,7 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public WatchTuning getWatchTuning() {
-    return new TuningParameters.WatchTuning(30, 0, 5, 1);
+    return new TuningParameters.WatchTuning(30, 0, 5, 1, 600);
   }
 
   @Override
@@ -9,8 +9,29 @@ import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 
 public class UnitTestHash implements Function<Object, String> {
+
+  /**
+   * Replaces both the current and legacy hash functions with a cheap hash based on the object's hashCode.
+   * @return a memento which restores the original hash functions
+   */
   public static Memento install() throws NoSuchFieldException {
-    return StaticStubSupport.install(AnnotationHelper.class, "HASH_FUNCTION", new UnitTestHash());
+    final Memento hashMemento
+          = StaticStubSupport.install(AnnotationHelper.class, "HASH_FUNCTION", new UnitTestHash());
+    final Memento legacyHashMemento
+          = StaticStubSupport.install(AnnotationHelper.class, "LEGACY_HASH_FUNCTION", new UnitTestHash());
+
+    return new Memento() {
+      @Override
+      public void revert() {
+        legacyHashMemento.revert();
+        hashMemento.revert();
+      }
+
+      @Override
+      public <T> T getOriginalValue() {
+        return hashMemento.getOriginalValue();
+      }
+    };
   }
 
   @Override
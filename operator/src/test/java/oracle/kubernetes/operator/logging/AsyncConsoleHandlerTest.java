@@ -0,0 +1,254 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+class AsyncConsoleHandlerTest {
+
+  private final BlockingOutputStream out = new BlockingOutputStream();
+  private AsyncConsoleHandler handler;
+
+  @AfterEach
+  void tearDown() {
+    out.release();
+    handler.close();
+  }
+
+  private void createHandler(int capacity) {
+    handler = new AsyncConsoleHandler(out, capacity);
+    handler.setFormatter(new MessageFormatter());
+  }
+
+  private String getOutput() {
+    handler.close();
+    return out.toString(Charset.defaultCharset());
+  }
+
+  @Test
+  void publishedRecordsAreWrittenInOrder() {
+    createHandler(10);
+
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    handler.publish(new LogRecord(Level.INFO, "second"));
+
+    assertThat(getOutput(), equalTo("first\nsecond\n"));
+  }
+
+  @Test
+  void afterFlush_publishedRecordsHaveBeenWritten() {
+    createHandler(10);
+    handler.publish(new LogRecord(Level.INFO, "first"));
+
+    handler.flush();
+
+    assertThat(out.toString(Charset.defaultCharset()), equalTo("first\n"));
+  }
+
+  @Test
+  void recordsBelowHandlerLevelAreIgnored() {
+    createHandler(10);
+    handler.setLevel(Level.INFO);
+
+    handler.publish(new LogRecord(Level.FINE, "fine"));
+
+    assertThat(getOutput(), equalTo(""));
+  }
+
+  @Test
+  void afterClose_recordsAreIgnored() {
+    createHandler(10);
+    handler.close();
+
+    handler.publish(new LogRecord(Level.INFO, "late"));
+
+    assertThat(getOutput(), equalTo(""));
+  }
+
+  @Test
+  void whenBufferFull_discardRecordsBelowWarningAndReportCount() throws InterruptedException {
+    createHandler(1);
+    out.block();
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    out.awaitWriteBlocked();
+
+    handler.publish(new LogRecord(Level.INFO, "second"));
+    handler.publish(new LogRecord(Level.INFO, "third"));
+    out.release();
+
+    assertThat(handler.getDiscardedCount(), equalTo(1L));
+    assertThat(getOutput(), equalTo("first\nsecond\n" + MessageKeys.LOG_MESSAGES_DISCARDED + "\n"));
+  }
+
+  @Test
+  void whenBufferFull_doNotDiscardWarnings() throws InterruptedException {
+    createHandler(1);
+    out.block();
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    out.awaitWriteBlocked();
+    handler.publish(new LogRecord(Level.INFO, "second"));
+
+    final Thread publisher = new Thread(() -> handler.publish(new LogRecord(Level.WARNING, "warning")));
+    publisher.start();
+    out.release();
+    publisher.join(TimeUnit.SECONDS.toMillis(5));
+
+    assertThat(getOutput(), containsString("warning"));
+    assertThat(handler.getDiscardedCount(), equalTo(0L));
+  }
+
+  @Test
+  void whenFormatterFailsOnWriterThread_continueWritingRecords() throws InterruptedException {
+    createHandler(1);
+    handler.setFormatter(new FailingDiscardReportFormatter());
+    handler.setErrorManager(new ErrorManager() {
+      @Override
+      public synchronized void error(String msg, Exception ex, int code) {
+        // expected
+      }
+    });
+    out.block();
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    out.awaitWriteBlocked();
+    handler.publish(new LogRecord(Level.INFO, "second"));
+    handler.publish(new LogRecord(Level.INFO, "third"));
+    out.release();
+    handler.flush();
+
+    handler.publish(new LogRecord(Level.INFO, "after"));
+
+    assertThat(getOutput(), equalTo("first\nsecond\nafter\n"));
+  }
+
+  @Test
+  void whenBufferStaysFull_writeWarningOnLoggingThread() throws InterruptedException {
+    final BlockingDiscardReportFormatter formatter = new BlockingDiscardReportFormatter();
+    handler = new AsyncConsoleHandler(out, 1, 10);
+    handler.setFormatter(formatter);
+    out.block();
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    out.awaitWriteBlocked();
+    handler.publish(new LogRecord(Level.INFO, "second"));
+    handler.publish(new LogRecord(Level.INFO, "discarded"));
+    out.release();
+    formatter.awaitFormatBlocked();
+    handler.publish(new LogRecord(Level.INFO, "third"));
+
+    final Thread publisher = new Thread(() -> handler.publish(new LogRecord(Level.WARNING, "warning")));
+    publisher.start();
+    publisher.join(TimeUnit.SECONDS.toMillis(5));
+
+    assertThat(out.toString(Charset.defaultCharset()), equalTo("first\nsecond\nwarning\n"));
+    formatter.release();
+  }
+
+  @Test
+  void whenFormatterReturnsEmptyString_writeNothing() {
+    createHandler(10);
+
+    handler.publish(new LogRecord(Level.INFO, ""));
+    handler.publish(new LogRecord(Level.INFO, "after"));
+
+    assertThat(getOutput(), equalTo("after\n"));
+  }
+
+  // Formats each record as its message, unlocalized, on a line of its own.
+  static class MessageFormatter extends Formatter {
+    @Override
+    public String format(LogRecord record) {
+      return record.getMessage().isEmpty() ? "" : record.getMessage() + "\n";
+    }
+  }
+
+  // Fails to format the report of discarded records, which is formatted on the writer thread.
+  static class FailingDiscardReportFormatter extends MessageFormatter {
+    @Override
+    public String format(LogRecord record) {
+      if (MessageKeys.LOG_MESSAGES_DISCARDED.equals(record.getMessage())) {
+        throw new IllegalStateException("formatter failure");
+      }
+      return super.format(record);
+    }
+  }
+
+  // Blocks the writer thread while it formats the report of discarded records, so that the buffer stays full.
+  static class BlockingDiscardReportFormatter extends MessageFormatter {
+    private final CountDownLatch formatBlocked = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    void awaitFormatBlocked() throws InterruptedException {
+      formatBlocked.await(5, TimeUnit.SECONDS);
+    }
+
+    void release() {
+      released.countDown();
+    }
+
+    @Override
+    public String format(LogRecord record) {
+      if (MessageKeys.LOG_MESSAGES_DISCARDED.equals(record.getMessage())) {
+        formatBlocked.countDown();
+        try {
+          released.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return super.format(record);
+    }
+  }
+
+  // An output stream which may be made to block the writer thread when it is flushed.
+  static class BlockingOutputStream extends OutputStream {
+    private final ByteArrayOutputStream contents = new ByteArrayOutputStream();
+    private final CountDownLatch writeBlocked = new CountDownLatch(1);
+    private volatile CountDownLatch released = new CountDownLatch(0);
+
+    void block() {
+      released = new CountDownLatch(1);
+    }
+
+    void release() {
+      released.countDown();
+    }
+
+    void awaitWriteBlocked() throws InterruptedException {
+      writeBlocked.await(5, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public synchronized void write(int b) {
+      contents.write(b);
+    }
+
+    @Override
+    public void flush() {
+      writeBlocked.countDown();
+      try {
+        released.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    synchronized String toString(Charset charset) {
+      return contents.toString(charset);
+    }
+  }
+}
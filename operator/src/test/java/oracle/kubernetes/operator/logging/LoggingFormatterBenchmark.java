@@ -0,0 +1,131 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+/**
+ * Compares the throughput and allocation of the operator's log formatter with those of a formatter which builds
+ * a map for each record and serializes it with a new object mapper, as the operator's formatter once did.
+ * This is not a unit test; run it with the test classpath, for example from an IDE:
+ *
+ * <pre>java oracle.kubernetes.operator.logging.LoggingFormatterBenchmark [records]</pre>
+ *
+ * <p>Each formatter first formats the same number of records to warm up, and is then measured.
+ */
+public class LoggingFormatterBenchmark {
+
+  private static final int DEFAULT_RECORDS = 200_000;
+
+  /**
+   * Runs the benchmark.
+   * @param args optionally, the number of records to format with each formatter
+   */
+  public static void main(String[] args) {
+    final int records = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RECORDS;
+    report("map-per-record", new MapPerRecordFormatter(), records);
+    report("streaming", new LoggingFormatter(), records);
+  }
+
+  private static void report(String name, Formatter formatter, int records) {
+    run(formatter, records);
+    final Result result = run(formatter, records);
+    System.out.printf("%-16s %,12.0f records/sec %,10d bytes/record%n",
+          name, result.getRecordsPerSecond(), result.getBytesPerRecord());
+  }
+
+  private static Result run(Formatter formatter, int records) {
+    final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final long threadId = Thread.currentThread().getId();
+    final long startBytes = threads.getThreadAllocatedBytes(threadId);
+    final long startNanos = System.nanoTime();
+    long length = 0;
+    for (int i = 0; i < records; i++) {
+      length += formatter.format(createRecord(i)).length();
+    }
+    final Result result = new Result(records, System.nanoTime() - startNanos,
+          threads.getThreadAllocatedBytes(threadId) - startBytes - records * createRecordAllocation(threads));
+    if (length == 0) {
+      throw new IllegalStateException("No records formatted");
+    }
+    return result;
+  }
+
+  // The bytes allocated to create a record are not part of the cost of formatting it.
+  private static long createRecordAllocation(ThreadMXBean threads) {
+    final long threadId = Thread.currentThread().getId();
+    final long startBytes = threads.getThreadAllocatedBytes(threadId);
+    createRecord(0);
+    return threads.getThreadAllocatedBytes(threadId) - startBytes;
+  }
+
+  // A record like those logged at FINE level while processing domains, including a model parameter which the
+  // message does not display.
+  private static LogRecord createRecord(int i) {
+    final LogRecord record = new LogRecord(Level.FINE, "Processing pod {0} of domain {1}\nwith \"status\" {2}");
+    record.setSourceClassName("oracle.kubernetes.operator.helpers.PodHelper");
+    record.setSourceMethodName("verifyPod");
+    record.setParameters(new Object[] {"pod-" + i, "domain1", "Ready", new V1ObjectMeta().name("pod-" + i)});
+    return record;
+  }
+
+  static class Result {
+    private final int records;
+    private final long nanos;
+    private final long bytes;
+
+    Result(int records, long nanos, long bytes) {
+      this.records = records;
+      this.nanos = nanos;
+      this.bytes = bytes;
+    }
+
+    double getRecordsPerSecond() {
+      return records * 1_000_000_000.0 / nanos;
+    }
+
+    long getBytesPerRecord() {
+      return Math.max(0, bytes / records);
+    }
+  }
+
+  // Formats records in the manner of the operator's original formatter.
+  static class MapPerRecordFormatter extends Formatter {
+
+    @Override
+    public String format(LogRecord record) {
+      final Object[] parameters = record.getParameters();
+      for (int i = 0; i < parameters.length; i++) {
+        if (parameters[i] instanceof V1ObjectMeta) {
+          parameters[i] = LoggingFactory.getJson().serialize(parameters[i]);
+        }
+      }
+
+      final Map<String, Object> map = new LinkedHashMap<>();
+      map.put("timestamp", record.getInstant().toString());
+      map.put("thread", Thread.currentThread().getId());
+      map.put("level", record.getLevel().getLocalizedName());
+      map.put("class", record.getSourceClassName());
+      map.put("method", record.getSourceMethodName());
+      map.put("timeInMillis", record.getMillis());
+      map.put("message", formatMessage(record).replaceAll("\n", "\\\n"));
+      map.put("exception", "".replaceAll("\n", "\\\n"));
+      try {
+        return new ObjectMapper().writeValueAsString(map) + "\n";
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -3,14 +3,22 @@
 
 package oracle.kubernetes.operator.logging;
 
+import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.swagger.annotations.ApiModel;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
@@ -22,6 +30,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class LoggingFormatterTest {
@@ -44,6 +53,11 @@ class LoggingFormatterTest {
     return mapper.readValue(formatter.format(logRecord), Map.class);
   }
 
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getFormattedRecord() throws JsonProcessingException {
+    return new ObjectMapper().readValue(formatter.format(logRecord), Map.class);
+  }
+
   @Test
   void extractLogLevel() throws JsonProcessingException {
     logRecord.setLevel(Level.FINER);
@@ -76,6 +90,87 @@ class LoggingFormatterTest {
     assertThat(getFormattedMessage(), allOf(hasEntry("code", "420"), hasEntry("body", "a response")));
   }
 
+  @Test
+  void whenThrowableIsApiException_extractHeaders() throws JsonProcessingException {
+    logRecord.setThrown(new ApiException(420, Map.of("Retry-After", List.of("5")), "a response"));
+
+    assertThat(getFormattedRecord().get("headers"), equalTo(Map.of("Retry-After", List.of("5"))));
+  }
+
+  @Test
+  void whenMessageContainsSpecialCharacters_escapeThem() throws JsonProcessingException {
+    logRecord.setMessage("line 1\n\"quoted\"\tand \\ backslash");
+
+    assertThat(getFormattedMessage().get("message"), equalTo("line 1\n\"quoted\"\tand \\ backslash"));
+  }
+
+  @Test
+  void formattedRecordIsSingleLine() {
+    logRecord.setMessage("line 1\nline 2");
+    logRecord.setThrown(new RuntimeException("in the test"));
+
+    final String formatted = formatter.format(logRecord);
+
+    assertThat(formatted.indexOf('\n'), equalTo(formatted.length() - 1));
+  }
+
+  @Test
+  void whenFormattedRepeatedly_eachResultContainsOneRecord() throws JsonProcessingException {
+    formatter.format(logRecord);
+    logRecord.setMessage("second");
+
+    assertThat(getFormattedMessage().get("message"), equalTo("second"));
+  }
+
+  @Test
+  void whenParameterIsModel_formatAsJson() throws JsonProcessingException {
+    logRecord.setMessage("Domain is {0}");
+    logRecord.setParameters(new Object[]{new V1ObjectMeta().name("domain1")});
+
+    assertThat(getFormattedMessage().get("message"), allOf(startsWith("Domain is {"), containsString("domain1")));
+  }
+
+  @Test
+  void whenMessageDoesNotIncludeModelParameter_doNotSerializeIt() {
+    final SerializationCountingModel model = new SerializationCountingModel();
+    logRecord.setMessage("No parameters");
+    logRecord.setParameters(new Object[]{model});
+
+    formatter.format(logRecord);
+
+    assertThat(model.serializations, equalTo(0));
+  }
+
+  @Test
+  void whenRecordFormattedTwice_serializeModelParameterOnce() {
+    final SerializationCountingModel model = new SerializationCountingModel();
+    logRecord.setMessage("Model is {0}");
+    logRecord.setParameters(new Object[]{model});
+
+    formatter.format(logRecord);
+    formatter.format(logRecord);
+
+    assertThat(model.serializations, equalTo(1));
+  }
+
+  @Test
+  void whenParameterLogsWhileRecordFormatted_formatBothRecords() throws JsonProcessingException {
+    final LogRecord nestedRecord = new LogRecord(Level.INFO, "nested");
+    final String[] nestedResult = new String[1];
+    final Object parameter = new Object() {
+      @Override
+      public String toString() {
+        nestedResult[0] = formatter.format(nestedRecord);
+        return "parameter";
+      }
+    };
+    logRecord.setMessage("Outer {0}");
+    logRecord.setParameters(new Object[]{parameter});
+
+    assertThat(getFormattedMessage().get("message"), equalTo("Outer parameter"));
+    assertThat(new ObjectMapper().readValue(nestedResult[0], Map.class).get("message"), equalTo("nested"));
+  }
+
   @Test
   void whenPacketLacksDomainPresence_domainUidIsEmpty() {
     assertThat(getFormattedMessageInFiber().get("domainUID"), equalTo(""));
@@ -200,4 +295,24 @@ class LoggingFormatterTest {
       }
     }
   }
+
+  @ApiModel
+  @JsonAdapter(SerializationCountingAdapter.class)
+  static class SerializationCountingModel {
+    private int serializations;
+  }
+
+  static class SerializationCountingAdapter extends TypeAdapter<SerializationCountingModel> {
+
+    @Override
+    public void write(JsonWriter out, SerializationCountingModel model) throws IOException {
+      model.serializations++;
+      out.value("model");
+    }
+
+    @Override
+    public SerializationCountingModel read(JsonReader in) {
+      throw new UnsupportedOperationException();
+    }
+  }
 }
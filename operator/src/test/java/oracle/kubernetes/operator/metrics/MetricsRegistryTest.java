@@ -0,0 +1,228 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetricsRegistryTest {
+
+  private static final double[] BUCKETS = {0.1, 1, 10};
+
+  private final MetricsRegistry registry = new MetricsRegistry();
+
+  @Test
+  void counterWithoutLabels_exportsTypeAndValue() {
+    Counter counter = registry.counter("events_total", "Events seen.");
+
+    counter.labels().inc();
+    counter.labels().inc(2);
+
+    assertThat(registry.scrape(), equalTo(
+          "# HELP events_total Events seen.\n"
+          + "# TYPE events_total counter\n"
+          + "events_total 3\n"));
+  }
+
+  @Test
+  void counterWithLabels_exportsValuePerLabelCombination() {
+    Counter counter = registry.counter("events_total", "Events seen.", "namespace", "type");
+
+    counter.labels("ns1", "ADDED").inc();
+    counter.labels("ns1", "ADDED").inc();
+    counter.labels("ns2", "DELETED").inc();
+
+    assertThat(registry.scrape(), containsString("events_total{namespace=\"ns1\",type=\"ADDED\"} 2\n"));
+    assertThat(registry.scrape(), containsString("events_total{namespace=\"ns2\",type=\"DELETED\"} 1\n"));
+  }
+
+  @Test
+  void whenSameLabelsRequested_returnSameChild() {
+    Counter counter = registry.counter("events_total", "Events seen.", "namespace", "domain", "type");
+
+    assertThat(counter.labels("ns1", "d1", "ADDED"), sameInstance(counter.labels("ns1", "d1", "ADDED")));
+  }
+
+  @Test
+  void whenLeadingLabelsRemoved_dropOnlyMatchingSeries() {
+    Counter counter = registry.counter("events_total", "Events seen.", "namespace", "domain", "type");
+    counter.labels("ns1", "d1", "ADDED").inc();
+    counter.labels("ns1", "d2", "ADDED").inc();
+
+    counter.remove("ns1", "d1");
+
+    assertThat(registry.scrape(), not(containsString("domain=\"d1\"")));
+    assertThat(registry.scrape(), containsString("events_total{namespace=\"ns1\",domain=\"d2\",type=\"ADDED\"} 1\n"));
+  }
+
+  @Test
+  void whenNamespaceLabelRemoved_dropAllItsSeries() {
+    Counter counter = registry.counter("events_total", "Events seen.", "namespace", "domain");
+    counter.labels("ns1", "d1").inc();
+    counter.labels("ns2", "d1").inc();
+
+    counter.remove("ns1");
+
+    assertThat(registry.scrape(), not(containsString("namespace=\"ns1\"")));
+    assertThat(registry.scrape(), containsString("events_total{namespace=\"ns2\",domain=\"d1\"} 1\n"));
+  }
+
+  @Test
+  void whenRemovingUnknownLabels_doNothing() {
+    Counter counter = registry.counter("events_total", "Events seen.", "namespace", "domain");
+    counter.labels("ns1", "d1").inc();
+
+    counter.remove("ns2", "d1");
+
+    assertThat(registry.scrape(), containsString("events_total{namespace=\"ns1\",domain=\"d1\"} 1\n"));
+  }
+
+  @Test
+  void whenRemovingTooManyLabels_throwException() {
+    Counter counter = registry.counter("events_total", "Events seen.", "namespace");
+
+    assertThrows(IllegalArgumentException.class, () -> counter.remove("ns1", "d1"));
+  }
+
+  @Test
+  void whenLabelValueIsNull_exportAsEmpty() {
+    registry.counter("events_total", "Events seen.", "namespace").labels(null).inc();
+
+    assertThat(registry.scrape(), containsString("events_total{namespace=\"\"} 1\n"));
+  }
+
+  @Test
+  void labelValuesAreEscaped() {
+    registry.counter("events_total", "Events seen.", "name").labels("a\"b\\c\nd").inc();
+
+    assertThat(registry.scrape(), containsString("events_total{name=\"a\\\"b\\\\c\\nd\"} 1\n"));
+  }
+
+  @Test
+  void whenWrongNumberOfLabelValues_throwException() {
+    Counter counter = registry.counter("events_total", "Events seen.", "namespace", "type");
+
+    assertThrows(IllegalArgumentException.class, () -> counter.labels("ns1"));
+  }
+
+  @Test
+  void whenMetricRequestedAgain_returnSameMetric() {
+    Counter counter = registry.counter("events_total", "Events seen.", "namespace");
+
+    assertThat(registry.counter("events_total", "Events seen.", "namespace"), sameInstance(counter));
+  }
+
+  @Test
+  void whenNameAlreadyUsedByAnotherType_throwException() {
+    registry.counter("events_total", "Events seen.");
+
+    assertThrows(IllegalArgumentException.class,
+          () -> registry.histogram("events_total", "Events seen.", BUCKETS));
+  }
+
+  @Test
+  void histogram_exportsCumulativeBucketsSumAndCount() {
+    Histogram histogram = registry.histogram("call_seconds", "Call durations.", BUCKETS, "call");
+
+    histogram.labels("read").observe(0.05);
+    histogram.labels("read").observe(0.5);
+    histogram.labels("read").observe(0.5);
+    histogram.labels("read").observe(20);
+
+    assertThat(registry.scrape(), equalTo(
+          "# HELP call_seconds Call durations.\n"
+          + "# TYPE call_seconds histogram\n"
+          + "call_seconds_bucket{call=\"read\",le=\"0.1\"} 1\n"
+          + "call_seconds_bucket{call=\"read\",le=\"1\"} 3\n"
+          + "call_seconds_bucket{call=\"read\",le=\"10\"} 3\n"
+          + "call_seconds_bucket{call=\"read\",le=\"+Inf\"} 4\n"
+          + "call_seconds_sum{call=\"read\"} 21.05\n"
+          + "call_seconds_count{call=\"read\"} 4\n"));
+  }
+
+  @Test
+  void whenValueEqualsUpperBound_countInThatBucket() {
+    Histogram histogram = registry.histogram("call_seconds", "Call durations.", BUCKETS);
+
+    histogram.labels().observe(1);
+
+    assertThat(registry.scrape(), containsString("call_seconds_bucket{le=\"0.1\"} 0\n"));
+    assertThat(registry.scrape(), containsString("call_seconds_bucket{le=\"1\"} 1\n"));
+  }
+
+  @Test
+  void histogramObservesNanosAsSeconds() {
+    Histogram.Child child = registry.histogram("call_seconds", "Call durations.", BUCKETS).labels();
+
+    child.observeNanos(TimeUnit.MILLISECONDS.toNanos(1500));
+
+    assertThat(child.getSum(), equalTo(1.5));
+    assertThat(child.getCount(), equalTo(1L));
+  }
+
+  @Test
+  void callbackGauge_exportsCurrentValue() {
+    final int[] depth = {3};
+    registry.gauge("queue_depth", "Queued items.", () -> depth[0]);
+
+    depth[0] = 5;
+
+    assertThat(registry.scrape(), containsString("# TYPE queue_depth gauge\nqueue_depth 5\n"));
+  }
+
+  @Test
+  void callbackGaugeWithLabel_exportsValuePerLabelValue() {
+    final Map<String, Integer> counts = new TreeMap<>(Map.of("ns1", 2, "ns2", 0));
+    registry.gauge("suspended", "Suspended fibers.", "namespace", () -> counts);
+
+    assertThat(registry.scrape(), containsString("suspended{namespace=\"ns1\"} 2\nsuspended{namespace=\"ns2\"} 0\n"));
+  }
+
+  @Test
+  void callbackCounterWithTwoLabels_exportsValuePerLabelValues() {
+    final Map<List<String>, Long> counts = new LinkedHashMap<>();
+    counts.put(List.of("ns1", "uid1"), 4L);
+    counts.put(List.of("ns1", "uid2"), 1L);
+    registry.counter("requests_total", "Requests.", "namespace", "domain", () -> counts);
+
+    assertThat(registry.scrape(), containsString("requests_total{namespace=\"ns1\",domain=\"uid1\"} 4\n"
+          + "requests_total{namespace=\"ns1\",domain=\"uid2\"} 1\n"));
+  }
+
+  @Test
+  void callbackCounterWithFractionalValue_exportsDouble() {
+    registry.counter("wait_seconds_total", "Time spent waiting.", () -> 2.5);
+
+    assertThat(registry.scrape(), containsString("wait_seconds_total 2.5\n"));
+  }
+
+  @Test
+  void whenCallbackMetricRegisteredAgain_useLatestSource() {
+    registry.gauge("queue_depth", "Queued items.", () -> 1);
+    registry.gauge("queue_depth", "Queued items.", () -> 7);
+
+    assertThat(registry.scrape(), containsString("queue_depth 7\n"));
+    assertThat(registry.scrape(), not(containsString("queue_depth 1\n")));
+  }
+
+  @Test
+  void metricsAreExportedInNameOrder() {
+    registry.gauge("b_metric", "Second.", () -> 1);
+    registry.gauge("a_metric", "First.", () -> 1);
+
+    assertThat(registry.scrape().indexOf("a_metric") < registry.scrape().indexOf("b_metric"), equalTo(true));
+  }
+}
@@ -0,0 +1,195 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.rest.AuthReviewCache.MAX_ENTRIES_KEY;
+import static oracle.kubernetes.operator.rest.AuthReviewCache.NEGATIVE_TTL_KEY;
+import static oracle.kubernetes.operator.rest.AuthReviewCache.TTL_KEY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class AuthReviewCacheTest {
+
+  private static final List<Object> REQUEST = List.of("user", List.of("group"), "list", "domains");
+  private static final List<Object> OTHER_REQUEST = List.of("user", List.of("group"), "update", "domains");
+
+  private final AuthReviewCache cache = new AuthReviewCache();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final V1TokenReviewStatus authenticated
+        = new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo().username("user"));
+  private final V1TokenReviewStatus notAuthenticated = new V1TokenReviewStatus().authenticated(false);
+  private int numReviews;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(TTL_KEY, "60");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1TokenReviewStatus reviewToken(String token, V1TokenReviewStatus status) {
+    return cache.getTokenReviewStatus(token, () -> {
+      numReviews++;
+      return status;
+    });
+  }
+
+  private boolean reviewAccess(List<Object> request, boolean allowed) {
+    return cache.isAllowed(request, () -> {
+      numReviews++;
+      return allowed;
+    });
+  }
+
+  @Test
+  void whenTtlNotSet_reviewEveryTime() {
+    TuningParametersStub.setParameter(TTL_KEY, null);
+
+    reviewToken("token", authenticated);
+    reviewToken("token", authenticated);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenTtlIsZero_doNotCountCacheLookups() {
+    TuningParametersStub.setParameter(TTL_KEY, "0");
+    final long misses = getLookupCount(OperatorMetrics.MISS);
+
+    reviewToken("token", authenticated);
+    reviewAccess(REQUEST, true);
+
+    assertThat(getLookupCount(OperatorMetrics.MISS), equalTo(misses));
+  }
+
+  private long getLookupCount(String result) {
+    return OperatorMetrics.REST_AUTH_CACHE_LOOKUPS.labels(AuthReviewCache.TOKEN_REVIEW, result).get()
+          + OperatorMetrics.REST_AUTH_CACHE_LOOKUPS.labels(AuthReviewCache.ACCESS_REVIEW, result).get();
+  }
+
+  @Test
+  void whenTokenReviewedRecently_returnCachedStatus() {
+    reviewToken("token", authenticated);
+
+    assertThat(reviewToken("token", notAuthenticated), sameInstance(authenticated));
+    assertThat(numReviews, equalTo(1));
+  }
+
+  @Test
+  void whenDifferentTokenPresented_reviewIt() {
+    reviewToken("token", authenticated);
+
+    reviewToken("other", authenticated);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenTtlExpired_reviewTokenAgain() {
+    reviewToken("token", authenticated);
+
+    SystemClockTestSupport.increment(61);
+    reviewToken("token", authenticated);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenTokenReviewCouldNotBeMade_doNotCacheResult() {
+    assertThat(reviewToken("token", null), nullValue());
+
+    reviewToken("token", authenticated);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenNegativeTtlNotSet_doNotCacheFailedAuthentication() {
+    reviewToken("token", notAuthenticated);
+    reviewToken("token", notAuthenticated);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenNegativeTtlSet_cacheFailedAuthenticationUntilItExpires() {
+    TuningParametersStub.setParameter(NEGATIVE_TTL_KEY, "5");
+    reviewToken("token", notAuthenticated);
+    reviewToken("token", notAuthenticated);
+
+    SystemClockTestSupport.increment(6);
+    reviewToken("token", authenticated);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenAccessReviewedRecently_returnCachedResult() {
+    reviewAccess(REQUEST, true);
+
+    assertThat(reviewAccess(REQUEST, false), equalTo(true));
+    assertThat(numReviews, equalTo(1));
+  }
+
+  @Test
+  void whenDifferentOperationRequested_reviewIt() {
+    reviewAccess(REQUEST, true);
+
+    reviewAccess(OTHER_REQUEST, true);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenNegativeTtlNotSet_doNotCacheDeniedAccess() {
+    reviewAccess(REQUEST, false);
+
+    assertThat(reviewAccess(REQUEST, true), equalTo(true));
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenNegativeTtlSet_cacheDeniedAccess() {
+    TuningParametersStub.setParameter(NEGATIVE_TTL_KEY, "5");
+    reviewAccess(REQUEST, false);
+
+    assertThat(reviewAccess(REQUEST, true), equalTo(false));
+  }
+
+  @Test
+  void whenMaximumExceeded_discardLeastRecentlyUsedResult() {
+    TuningParametersStub.setParameter(MAX_ENTRIES_KEY, "2");
+    reviewToken("a", authenticated);
+    reviewToken("b", authenticated);
+    reviewToken("a", authenticated);
+
+    reviewToken("c", authenticated);
+    numReviews = 0;
+    reviewToken("a", authenticated);
+    reviewToken("b", authenticated);
+
+    assertThat(cache.getTokenReviewCount(), equalTo(2));
+    assertThat(numReviews, equalTo(1));
+  }
+}
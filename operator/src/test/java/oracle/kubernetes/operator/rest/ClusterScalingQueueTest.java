@@ -0,0 +1,140 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import oracle.kubernetes.operator.rest.ClusterScalingQueue.ScalingRequest;
+import oracle.kubernetes.operator.rest.ClusterScalingQueue.State;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ClusterScalingQueueTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+
+  private final List<Runnable> tasks = new ArrayList<>();
+  private final ClusterScalingQueue queue = new ClusterScalingQueue(tasks::add);
+  private final List<String> patches = new ArrayList<>();
+
+  private Consumer<Map<String, Integer>> recordPatch(String credentials) {
+    return replicas -> patches.add(credentials + ":" + replicas);
+  }
+
+  private void runTasks() {
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+  }
+
+  @Test
+  void whileTaskPending_laterRequestsForDomainDoNotScheduleAnotherTask() {
+    queue.submit(NS, UID, Map.of("cluster1", 1), "", recordPatch("a"));
+    queue.submit(NS, UID, Map.of("cluster2", 1), "", recordPatch("a"));
+
+    assertThat(tasks.size(), equalTo(1));
+  }
+
+  @Test
+  void requestsForDifferentDomainsAreAppliedSeparately() {
+    queue.submit(NS, UID, Map.of("cluster1", 1), "", recordPatch("a"));
+    queue.submit(NS, "domain2", Map.of("cluster1", 2), "", recordPatch("a"));
+    runTasks();
+
+    assertThat(patches, contains("a:{cluster1=1}", "a:{cluster1=2}"));
+  }
+
+  @Test
+  void pendingRequestsWithSameCredentials_areCombinedWithLatestCountWinning() {
+    queue.submit(NS, UID, Map.of("cluster1", 1), "", recordPatch("a"));
+    queue.submit(NS, UID, Map.of("cluster2", 5), "", recordPatch("a"));
+    queue.submit(NS, UID, Map.of("cluster1", 3), "", recordPatch("a"));
+    runTasks();
+
+    assertThat(patches, contains("a:{cluster1=3, cluster2=5}"));
+  }
+
+  @Test
+  void pendingRequestsWithDifferentCredentials_areAppliedInOrderWithTheirOwnCredentials() {
+    queue.submit(NS, UID, Map.of("cluster1", 1), "x", recordPatch("a"));
+    queue.submit(NS, UID, Map.of("cluster1", 2), "y", recordPatch("b"));
+    runTasks();
+
+    assertThat(patches, contains("a:{cluster1=1}", "b:{cluster1=2}"));
+  }
+
+  @Test
+  void afterDomainRequestsApplied_discardItsQueue() {
+    queue.submit(NS, UID, Map.of("cluster1", 1), "", recordPatch("a"));
+    queue.submit(NS, "domain2", Map.of("cluster1", 2), "", recordPatch("a"));
+    runTasks();
+
+    assertThat(queue.getDomainQueueCount(), equalTo(0));
+  }
+
+  @Test
+  void afterDomainQueueDiscarded_laterRequestIsApplied() {
+    queue.submit(NS, UID, Map.of("cluster1", 1), "", recordPatch("a"));
+    runTasks();
+
+    queue.submit(NS, UID, Map.of("cluster1", 2), "", recordPatch("a"));
+    runTasks();
+
+    assertThat(patches, contains("a:{cluster1=1}", "a:{cluster1=2}"));
+  }
+
+  @Test
+  void afterRequestApplied_itSucceeds() {
+    ScalingRequest request = queue.submit(NS, UID, Map.of("cluster1", 1), "", recordPatch("a"));
+    runTasks();
+
+    assertThat(request.getState(), equalTo(State.SUCCEEDED));
+    assertThat(queue.getRequest(request.getId()).orElse(null), sameInstance(request));
+  }
+
+  @Test
+  void afterRequestsApplied_discardTheirPatchers() {
+    ScalingRequest succeeded = queue.submit(NS, UID, Map.of("cluster1", 1), "", recordPatch("a"));
+    ScalingRequest failed = queue.submit(NS, "domain2", Map.of("cluster1", 1), "", replicas -> {
+      throw new IllegalStateException("conflict");
+    });
+    runTasks();
+
+    assertThat(succeeded.getPatcher(), nullValue());
+    assertThat(failed.getPatcher(), nullValue());
+  }
+
+  @Test
+  void whenPatchFails_combinedRequestsFailWithItsMessage() {
+    Consumer<Map<String, Integer>> failingPatch = replicas -> {
+      throw new IllegalStateException("conflict");
+    };
+    ScalingRequest first = queue.submit(NS, UID, Map.of("cluster1", 1), "", failingPatch);
+    ScalingRequest second = queue.submit(NS, UID, Map.of("cluster1", 2), "", failingPatch);
+    runTasks();
+
+    assertThat(first.getState(), equalTo(State.FAILED));
+    assertThat(second.getMessage(), equalTo("conflict"));
+    assertThat(first.getCompletion().isCompletedExceptionally(), equalTo(true));
+  }
+
+  @Test
+  void whenMoreRequestsMadeThanRetained_discardOldest() {
+    ScalingRequest first = queue.submit(NS, UID, Map.of("cluster1", 1), "", recordPatch("a"));
+    for (int i = 0; i < ClusterScalingQueue.MAX_RETAINED_REQUESTS; i++) {
+      queue.submit(NS, UID, Map.of("cluster1", 1), "", recordPatch("a"));
+    }
+
+    assertThat(queue.getRequest(first.getId()).isPresent(), equalTo(false));
+  }
+}
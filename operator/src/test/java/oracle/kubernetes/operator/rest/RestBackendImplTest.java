@@ -7,7 +7,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -23,8 +25,10 @@ import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
 import jakarta.ws.rs.WebApplicationException;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.rest.RestBackendImpl.TopologyRetriever;
@@ -44,11 +48,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -60,6 +66,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class RestBackendImplTest {
 
   private static final int REPLICA_LIMIT = 4;
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
   private static final String NS = "namespace1";
   private static final String DOMAIN1 = "domain";
   private static final String DOMAIN2 = "domain2";
@@ -74,10 +81,16 @@ class RestBackendImplTest {
   private final Domain domain1 = createDomain(NS, DOMAIN1);
   private final Domain domain2 = createDomain(NS, DOMAIN2);
   private final Collection<String> namespaces = new ArrayList<>(Collections.singletonList(NS));
+  private final Map<String, Map<String, DomainPresenceInfo>> presenceInfoMap = new ConcurrentHashMap<>();
   private Domain updatedDomain;
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain1);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private int numTokenReviews;
+  private int numDomainUpdates;
+  private final List<Runnable> deferredScalingTasks = new ArrayList<>();
+  private boolean deferScaling;
+  private int numAccessReviews;
 
   private static V1Namespace createNamespace(String name) {
     return new V1Namespace().metadata(new V1ObjectMeta().name(name));
@@ -97,26 +110,64 @@ class RestBackendImplTest {
     mementos.add(TuningParametersStub.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "INSTANCE", new TopologyRetrieverStub()));
+    mementos.add(StaticStubSupport.install(AuthReviewCache.class, "instance", new AuthReviewCache()));
+    mementos.add(StaticStubSupport.install(ClusterScalingQueue.class, "instance",
+          new ClusterScalingQueue(this::runScalingTask)));
 
-    testSupport.defineResources(namespace, domain1, domain2);
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", presenceInfoMap));
+
+    defineDomains(domain1, domain2);
+    testSupport.defineResources(namespace);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
     testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> allow((V1SubjectAccessReview) s));
-    testSupport.doOnUpdate(DOMAIN, d -> updatedDomain = (Domain) d);
+    testSupport.doOnUpdate(DOMAIN, this::recordUpdate);
     domain1ConfigSupport.addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5", "ms6");
+    domain1ConfigSupport.addWlsCluster("cluster2", "ms7", "ms8", "ms9");
     restBackend = new RestBackendImpl("", "", this::getDomainNamespaces);
 
     setupScanCache();
   }
 
+  // Defines the domains both in Kubernetes and in the operator's in-memory view of them.
+  private void defineDomains(Domain... domains) {
+    for (Domain domain : domains) {
+      testSupport.defineResources(domain);
+      presenceInfoMap.computeIfAbsent(domain.getMetadata().getNamespace(), ns -> new ConcurrentHashMap<>())
+            .put(domain.getDomainUid(), new DomainPresenceInfo(domain));
+    }
+  }
+
+  private void recordUpdate(Object domain) {
+    numDomainUpdates++;
+    updatedDomain = (Domain) domain;
+  }
+
+  private void runScalingTask(Runnable task) {
+    if (deferScaling) {
+      deferredScalingTasks.add(task);
+    } else {
+      task.run();
+    }
+  }
+
+  private void runDeferredScalingTasks() {
+    deferScaling = false;
+    new ArrayList<>(deferredScalingTasks).forEach(Runnable::run);
+    deferredScalingTasks.clear();
+  }
+
   Collection<String> getDomainNamespaces() {
     return namespaces;
   }
 
   private void authenticate(V1TokenReview tokenReview) {
-    tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo()));
+    numTokenReviews++;
+    tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true)
+          .user(new V1UserInfo().username(tokenReview.getSpec().getToken())));
   }
 
   private void allow(V1SubjectAccessReview subjectAccessReview) {
+    numAccessReviews++;
     subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(true));
   }
 
@@ -138,7 +189,7 @@ class RestBackendImplTest {
   private void createNamespaceWithDomains(String ns, String... domainNames) {
     testSupport.defineResources(createNamespace(ns));
     for (String domainName : domainNames) {
-      testSupport.defineResources(createDomain(ns, domainName));
+      defineDomains(createDomain(ns, domainName));
     }
   }
 
@@ -149,6 +200,47 @@ class RestBackendImplTest {
     assertThat(restBackend.isDomainUid(DOMAIN2), is(true));
   }
 
+  @Test
+  void whenUsingTokenReview_retrieveDomainIdsWithoutReadingDomains() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    restBackend = new RestBackendImpl("", "", this::getDomainNamespaces);
+    testSupport.failOnResource(DOMAIN, null, NS, HTTP_INTERNAL_ERROR);
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenUsingTokenReview_retrieveClustersWithoutReadingDomain() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    restBackend = new RestBackendImpl("", "", this::getDomainNamespaces);
+    testSupport.failOnResource(DOMAIN, null, NS, HTTP_INTERNAL_ERROR);
+
+    assertThat(restBackend.getClusters(DOMAIN1), containsInAnyOrder("cluster1", "cluster2"));
+  }
+
+  @Test
+  void whenUsingAccessToken_readDomainWithCallerToken() {
+    testSupport.failOnResource(DOMAIN, DOMAIN1, NS, HTTP_INTERNAL_ERROR);
+
+    assertThrows(WebApplicationException.class, () -> restBackend.getClusters(DOMAIN1));
+  }
+
+  @Test
+  void whenUsingTokenReview_rejectUidOfDomainNotKnownToOperator() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    restBackend = new RestBackendImpl("", "", this::getDomainNamespaces);
+    testSupport.defineResources(createDomain(NS, DOMAIN3));
+
+    assertThat(restBackend.isDomainUid(DOMAIN3), is(false));
+  }
+
+  @Test
+  void whenUsingAccessToken_acceptUidOfDomainNotYetKnownToOperator() {
+    testSupport.defineResources(createDomain(NS, DOMAIN3));
+
+    assertThat(restBackend.isDomainUid(DOMAIN3), is(true));
+  }
+
   @Test
   void rejectUnknownUid() {
     assertThat(restBackend.isDomainUid("no_such_uid"), is(false));
@@ -308,6 +400,60 @@ class RestBackendImplTest {
     assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
   }
 
+  @Test
+  void whenUsingTokenReview_scaleClusterUpdatesSetting() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    restBackend = new RestBackendImpl("", "", this::getDomainNamespaces);
+    configureCluster("cluster1").withReplicas(1);
+
+    restBackend.scaleCluster(DOMAIN1, "cluster1", 5);
+
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+  }
+
+  @Test
+  void whenUsingTokenReview_andInMemoryDomainAlreadyShowsRequestedReplicas_patchFromLiveDomain() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    restBackend = new RestBackendImpl("", "", this::getDomainNamespaces);
+    configureCluster("cluster1").withReplicas(1);
+    Domain inMemoryDomain = createDomain(NS, DOMAIN1);
+    DomainConfiguratorFactory.forDomain(inMemoryDomain).configureCluster("cluster1").withReplicas(5);
+    defineInMemoryDomain(inMemoryDomain);
+
+    restBackend.scaleCluster(DOMAIN1, "cluster1", 5);
+
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+  }
+
+  // Replaces the operator's in-memory view of the domain with one that differs from the domain in Kubernetes.
+  private void defineInMemoryDomain(Domain domain) {
+    presenceInfoMap.get(NS).put(domain.getDomainUid(), new DomainPresenceInfo(domain));
+  }
+
+  @Test
+  void whenUsingTokenReview_andInMemoryDomainIsStale_retryPatchFromLiveDomainWithoutAddingDuplicateCluster() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    restBackend = new RestBackendImpl("", "", this::getDomainNamespaces);
+    configureCluster("cluster1").withReplicas(3);
+    domain1.getMetadata().setResourceVersion("2");
+    Domain inMemoryDomain = createDomain(NS, DOMAIN1);
+    inMemoryDomain.getMetadata().setResourceVersion("1");
+    defineInMemoryDomain(inMemoryDomain);
+
+    restBackend.scaleCluster(DOMAIN1, "cluster1", 5);
+
+    assertThat(getUpdatedDomain().getSpec().getClusters(), hasSize(1));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+  }
+
+  @Test
+  void whenDomainRepeatedlyChangesDuringPatch_giveUpAfterLimitedAttempts() {
+    testSupport.failOnResource(DOMAIN, DOMAIN1, NS, HTTP_UNPROCESSABLE_ENTITY);
+    configureCluster("cluster1").withReplicas(1);
+
+    assertThrows(WebApplicationException.class, () -> restBackend.scaleCluster(DOMAIN1, "cluster1", 5));
+  }
+
   @Test
   void whenNoPerClusterReplicaSettingAndDefaultMatchesRequest_doNothing() {
     configureDomain().withDefaultReplicaCount(REPLICA_LIMIT);
@@ -327,6 +473,97 @@ class RestBackendImplTest {
               () -> restBackend.scaleCluster(DOMAIN2, "cluster1", 3));
   }
 
+  @Test
+  void whenScaleRequestsArePending_combineThemIntoOnePatch() {
+    configureCluster("cluster1").withReplicas(1);
+    deferScaling = true;
+
+    restBackend.requestClusterScaling(DOMAIN1, Map.of("cluster1", 2));
+    restBackend.requestClusterScaling(DOMAIN1, Map.of("cluster1", 3));
+    runDeferredScalingTasks();
+
+    assertThat(numDomainUpdates, equalTo(1));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(3));
+  }
+
+  @Test
+  void whenScaleRequestNamesSeveralClusters_scaleThemInOnePatch() {
+    configureCluster("cluster1").withReplicas(1);
+    configureCluster("cluster2").withReplicas(1);
+
+    restBackend.requestClusterScaling(DOMAIN1, Map.of("cluster1", 4, "cluster2", 2));
+
+    assertThat(numDomainUpdates, equalTo(1));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(4));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster2"), equalTo(2));
+  }
+
+  @Test
+  void whenScaleRequestNotYetApplied_reportItPending() {
+    configureCluster("cluster1").withReplicas(1);
+    deferScaling = true;
+
+    String id = restBackend.requestClusterScaling(DOMAIN1, Map.of("cluster1", 2)).getId();
+
+    assertThat(restBackend.getScaleRequest(DOMAIN1, id).getState(), equalTo("Pending"));
+  }
+
+  @Test
+  void afterScaleRequestApplied_reportItSucceeded() {
+    configureCluster("cluster1").withReplicas(1);
+
+    String id = restBackend.requestClusterScaling(DOMAIN1, Map.of("cluster1", 2)).getId();
+
+    assertThat(restBackend.getScaleRequest(DOMAIN1, id).getState(), equalTo("Succeeded"));
+  }
+
+  @Test
+  void whenScaleRequestCannotBeApplied_reportItFailed() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    restBackend = new RestBackendImpl("", "", this::getDomainNamespaces);
+    configureCluster("cluster1").withReplicas(1);
+    testSupport.failOnResource(DOMAIN, DOMAIN1, NS, HTTP_CONFLICT);
+
+    String id = restBackend.requestClusterScaling(DOMAIN1, Map.of("cluster1", 2)).getId();
+
+    assertThat(restBackend.getScaleRequest(DOMAIN1, id).getState(), equalTo("Failed"));
+  }
+
+  @Test
+  void whenUsingTokenReview_reportScaleRequestToUserWhoMadeIt() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    configureCluster("cluster1").withReplicas(1);
+
+    String id = new RestBackendImpl("", "user1", this::getDomainNamespaces)
+          .requestClusterScaling(DOMAIN1, Map.of("cluster1", 2)).getId();
+
+    assertThat(new RestBackendImpl("", "user1", this::getDomainNamespaces).getScaleRequest(DOMAIN1, id).getState(),
+          equalTo("Succeeded"));
+  }
+
+  @Test
+  void whenUsingTokenReview_dontReportScaleRequestToOtherUsers() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    configureCluster("cluster1").withReplicas(1);
+
+    String id = new RestBackendImpl("", "user1", this::getDomainNamespaces)
+          .requestClusterScaling(DOMAIN1, Map.of("cluster1", 2)).getId();
+
+    RestBackend otherUserBackend = new RestBackendImpl("", "user2", this::getDomainNamespaces);
+    assertThrows(WebApplicationException.class, () -> otherUserBackend.getScaleRequest(DOMAIN1, id));
+  }
+
+  @Test
+  void whenScaleRequestNamesUnknownCluster_throwException() {
+    assertThrows(WebApplicationException.class,
+              () -> restBackend.requestClusterScaling(DOMAIN1, Map.of("cluster3", 2)));
+  }
+
+  @Test
+  void whenScaleRequestIdUnknown_throwException() {
+    assertThrows(WebApplicationException.class, () -> restBackend.getScaleRequest(DOMAIN1, "no-such-request"));
+  }
+
   @Test
   void verify_getWlsDomainConfig_returnsWlsDomainConfig() {
     WlsDomainConfig wlsDomainConfig = ((RestBackendImpl) restBackend).getWlsDomainConfig(DOMAIN1);
@@ -383,6 +620,30 @@ class RestBackendImplTest {
     assertThat(authorizationProxyStub.atzCheck, is(true));
   }
 
+  @Test
+  void whenAuthCacheEnabled_reuseReviewsForLaterRequests() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    TuningParameters.getInstance().put("restAuthCacheTtlSeconds", "60");
+    new RestBackendImpl("", "1234", this::getDomainNamespaces).getDomainUids();
+    numTokenReviews = numAccessReviews = 0;
+
+    new RestBackendImpl("", "1234", this::getDomainNamespaces).getDomainUids();
+
+    assertThat(numTokenReviews, equalTo(0));
+    assertThat(numAccessReviews, equalTo(0));
+  }
+
+  @Test
+  void whenAuthCacheDisabled_reviewEachRequest() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    numTokenReviews = 0;
+
+    new RestBackendImpl("", "1234", this::getDomainNamespaces);
+    new RestBackendImpl("", "1234", this::getDomainNamespaces);
+
+    assertThat(numTokenReviews, equalTo(2));
+  }
+
   @Test
   void whenUsingAccessToken_configureApiClient() {
     RestBackendImpl restBackend = new RestBackendImpl("", "1234", this::getDomainNamespaces);
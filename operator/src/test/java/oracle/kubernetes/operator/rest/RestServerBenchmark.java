@@ -0,0 +1,322 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.DomainAction;
+import oracle.kubernetes.operator.rest.model.ScaleRequestModel;
+import oracle.kubernetes.operator.utils.SelfSignedCertUtils;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.utils.TestUtils;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+
+import static com.meterware.simplestub.Stub.createNiceStub;
+
+/**
+ * Measures the latency of the operator's REST server for the domain-list, cluster scale and domain scale endpoints.
+ * The server runs locally with a self-signed certificate and a backend which does not call Kubernetes,
+ * so that the results reflect the cost of the transport, TLS and JAX-RS layers.
+ * This is not a unit test; run it with the test classpath, for example from an IDE:
+ *
+ * <pre>java [-Dhttp2=true] [-DrestWorkerThreads=8 ...] oracle.kubernetes.operator.rest.RestServerBenchmark
+ *     [requests] [concurrency]</pre>
+ *
+ * <p>System properties whose names start with 'rest' are applied as operator tuning parameters, so that
+ * the effect of each REST server setting may be compared. Setting 'http2' makes the client ask for HTTP/2.
+ * Each endpoint first receives the same number of requests to warm up, and is then measured.
+ */
+public class RestServerBenchmark {
+
+  private static final int DEFAULT_REQUESTS = 5_000;
+  private static final int DEFAULT_CONCURRENCY = 16;
+  private static final String ACCESS_TOKEN = "benchmark-token";
+  private static final String DOMAINS_PATH = "/operator/latest/domains";
+  private static final String SCALE_PATH = DOMAINS_PATH + "/domain1/clusters/cluster1/scale";
+  private static final String DOMAIN_SCALE_PATH = DOMAINS_PATH + "/domain1/scale";
+  private static final String DOMAIN_SCALE_PARAMS =
+        ("{'clusters': [{'clusterName': 'cluster1', 'managedServerCount': 2},"
+        + " {'clusterName': 'cluster2', 'managedServerCount': 2}]}").replace('\'', '"');
+
+  /**
+   * Runs the benchmark.
+   * @param args optionally, the number of requests to send to each endpoint, and the number of concurrent clients
+   * @throws Exception if the server cannot be started
+   */
+  public static void main(String[] args) throws Exception {
+    final int requests = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_REQUESTS;
+    final int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CONCURRENCY;
+
+    final List<Memento> mementos = new ArrayList<>();
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    System.getProperties().stringPropertyNames().stream()
+          .filter(name -> name.startsWith("rest"))
+          .forEach(name -> TuningParametersStub.setParameter(name, System.getProperty(name)));
+
+    final BenchmarkRestConfig config = createConfig();
+    RestServer.create(config);
+    RestServer.getInstance().start(new Container());
+    try {
+      final RestServerBenchmark benchmark = new RestServerBenchmark(config.getInternalHttpsPort(), concurrency);
+      benchmark.report("domain list", benchmark.get(DOMAINS_PATH), requests);
+      benchmark.report("cluster scale", benchmark.post(SCALE_PATH, "{\"managedServerCount\": 2}"), requests);
+      benchmark.report("domain scale", benchmark.post(DOMAIN_SCALE_PATH, DOMAIN_SCALE_PARAMS), requests);
+    } finally {
+      RestServer.getInstance().stop();
+      RestServer.destroy();
+      mementos.forEach(Memento::revert);
+    }
+  }
+
+  private final HttpClient client;
+  private final URI baseUri;
+  private final int concurrency;
+
+  private RestServerBenchmark(int port, int concurrency) throws Exception {
+    System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+    this.baseUri = URI.create("https://localhost:" + port);
+    this.concurrency = concurrency;
+    this.client = HttpClient.newBuilder()
+          .sslContext(createTrustAllContext())
+          .version(Boolean.getBoolean("http2") ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+          .build();
+  }
+
+  private static BenchmarkRestConfig createConfig() throws Exception {
+    final KeyPair keyPair = SelfSignedCertUtils.createKeyPair();
+    final X509Certificate certificate =
+          SelfSignedCertUtils.generateCertificate(keyPair, "SHA256withRSA", "localhost", 1);
+    final BenchmarkRestConfig config = createNiceStub(BenchmarkRestConfig.class);
+    config.certificateData = toBase64Pem(certificate);
+    config.keyData = toBase64Pem(keyPair.getPrivate());
+    config.port = findFreePort();
+    return config;
+  }
+
+  private static String toBase64Pem(Object object) throws IOException {
+    final StringWriter writer = new StringWriter();
+    try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+      pemWriter.writeObject(object);
+    }
+    return Base64.getEncoder().encodeToString(writer.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static int findFreePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  // The server's certificate is self-signed, so the client must accept it without verification.
+  private static SSLContext createTrustAllContext() throws Exception {
+    final X509TrustManager trustAll = new X509TrustManager() {
+      @Override
+      public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        // accept all clients
+      }
+
+      @Override
+      public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        // accept the self-signed certificate
+      }
+
+      @Override
+      public X509Certificate[] getAcceptedIssuers() {
+        return new X509Certificate[0];
+      }
+    };
+    final SSLContext context = SSLContext.getInstance("TLSv1.2");
+    context.init(null, new TrustManager[] {trustAll}, new SecureRandom());
+    return context;
+  }
+
+  private HttpRequest get(String path) {
+    return createRequest(path).GET().build();
+  }
+
+  private HttpRequest post(String path, String body) {
+    return createRequest(path)
+          .header("X-Requested-By", "RestServerBenchmark")
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(body))
+          .build();
+  }
+
+  private HttpRequest.Builder createRequest(String path) {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+          .header("Authorization", "Bearer " + ACCESS_TOKEN)
+          .header("Accept", "application/json");
+  }
+
+  private void report(String name, HttpRequest request, int requests) throws Exception {
+    run(request, requests);
+    final Result result = run(request, requests);
+    System.out.printf("%-14s %,10.0f requests/sec  p50 %7.2f ms  p99 %7.2f ms  errors %d%n",
+          name, result.getRequestsPerSecond(), result.getPercentileMillis(50), result.getPercentileMillis(99),
+          result.errors);
+  }
+
+  private Result run(HttpRequest request, int requests) throws Exception {
+    final ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+    final AtomicInteger remaining = new AtomicInteger(requests);
+    final AtomicInteger errors = new AtomicInteger();
+    final long[] latencies = new long[requests];
+    final long startNanos = System.nanoTime();
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < concurrency; i++) {
+        futures.add(clients.submit(() -> sendRequests(request, remaining, latencies, errors)));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      clients.shutdown();
+    }
+    return new Result(latencies, System.nanoTime() - startNanos, errors.get());
+  }
+
+  private Void sendRequests(HttpRequest request, AtomicInteger remaining, long[] latencies, AtomicInteger errors)
+        throws IOException, InterruptedException {
+    for (int index = remaining.decrementAndGet(); index >= 0; index = remaining.decrementAndGet()) {
+      final long startNanos = System.nanoTime();
+      final HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+      latencies[index] = System.nanoTime() - startNanos;
+      if (response.statusCode() >= 300) {
+        errors.incrementAndGet();
+      }
+    }
+    return null;
+  }
+
+  static class Result {
+    private final long[] latencies;
+    private final long nanos;
+    private final int errors;
+
+    Result(long[] latencies, long nanos, int errors) {
+      this.latencies = latencies.clone();
+      this.nanos = nanos;
+      this.errors = errors;
+      Arrays.sort(this.latencies);
+    }
+
+    double getRequestsPerSecond() {
+      return latencies.length * 1_000_000_000.0 / nanos;
+    }
+
+    double getPercentileMillis(int percentile) {
+      final int index = Math.min(latencies.length - 1, (int) Math.ceil(percentile / 100.0 * latencies.length) - 1);
+      return latencies[Math.max(0, index)] / 1_000_000.0;
+    }
+  }
+
+  abstract static class BenchmarkRestConfig implements RestConfig {
+    private final RestBackend backend = createNiceStub(BenchmarkRestBackend.class);
+    private String certificateData;
+    private String keyData;
+    private int port;
+
+    @Override
+    public String getHost() {
+      return "localhost";
+    }
+
+    @Override
+    public int getInternalHttpsPort() {
+      return port;
+    }
+
+    @Override
+    public String getOperatorInternalCertificateData() {
+      return certificateData;
+    }
+
+    @Override
+    public String getOperatorInternalKeyData() {
+      return keyData;
+    }
+
+    @Override
+    public RestBackend getBackend(String accessToken) {
+      return backend;
+    }
+  }
+
+  // A backend holding ten domains, each with two clusters, which records scaling requests in memory.
+  abstract static class BenchmarkRestBackend implements RestBackend {
+    private static final Set<String> DOMAIN_UIDS = IntStream.rangeClosed(1, 10)
+          .mapToObj(i -> "domain" + i).collect(Collectors.toUnmodifiableSet());
+    private static final Set<String> CLUSTERS = Set.of("cluster1", "cluster2");
+
+    private final Map<String, Integer> replicas = new ConcurrentHashMap<>();
+
+    @Override
+    public Set<String> getDomainUids() {
+      return DOMAIN_UIDS;
+    }
+
+    @Override
+    public boolean isDomainUid(String domainUid) {
+      return DOMAIN_UIDS.contains(domainUid);
+    }
+
+    @Override
+    public void performDomainAction(String domainUid, DomainAction params) {
+      // not measured
+    }
+
+    @Override
+    public Set<String> getClusters(String domainUid) {
+      return CLUSTERS;
+    }
+
+    @Override
+    public boolean isCluster(String domainUid, String cluster) {
+      return CLUSTERS.contains(cluster);
+    }
+
+    @Override
+    public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+      replicas.put(domainUid + "/" + cluster, managedServerCount);
+    }
+
+    @Override
+    public ScaleRequestModel requestClusterScaling(String domainUid, Map<String, Integer> managedServerCounts) {
+      managedServerCounts.forEach((cluster, count) -> scaleCluster(domainUid, cluster, count));
+      return new ScaleRequestModel(domainUid, Collections.unmodifiableMap(managedServerCounts), "Succeeded", null);
+    }
+  }
+}
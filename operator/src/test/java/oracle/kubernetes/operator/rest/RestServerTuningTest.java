@@ -0,0 +1,160 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.net.ssl.SSLContext;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.utils.TestUtils;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.http2.Http2AddOn;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.rest.RestServerTuning.DEFAULT_POOL_SIZE;
+import static oracle.kubernetes.operator.rest.RestServerTuning.HTTP2_ENABLED_KEY;
+import static oracle.kubernetes.operator.rest.RestServerTuning.KEEP_ALIVE_MAX_REQUESTS_KEY;
+import static oracle.kubernetes.operator.rest.RestServerTuning.KEEP_ALIVE_TIMEOUT_KEY;
+import static oracle.kubernetes.operator.rest.RestServerTuning.MAX_WORKER_THREADS_KEY;
+import static oracle.kubernetes.operator.rest.RestServerTuning.SELECTOR_THREADS_KEY;
+import static oracle.kubernetes.operator.rest.RestServerTuning.TLS_SESSION_CACHE_SIZE_KEY;
+import static oracle.kubernetes.operator.rest.RestServerTuning.TLS_SESSION_TIMEOUT_KEY;
+import static oracle.kubernetes.operator.rest.RestServerTuning.WORKER_THREADS_KEY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+class RestServerTuningTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final NetworkListener listener = new NetworkListener("test", "localhost", 0);
+  private final RestServerTuning tuning = new RestServerTuning(new Container());
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private ThreadPoolConfig getWorkerPool() {
+    return listener.getTransport().getWorkerThreadPoolConfig();
+  }
+
+  @Test
+  void whenNotTuned_useDefaultPoolSizes() {
+    tuning.configure(listener);
+
+    assertThat(getWorkerPool().getCorePoolSize(), equalTo(DEFAULT_POOL_SIZE));
+    assertThat(listener.getTransport().getKernelThreadPoolConfig().getCorePoolSize(), equalTo(DEFAULT_POOL_SIZE));
+    assertThat(listener.getTransport().getSelectorRunnersCount(), equalTo(DEFAULT_POOL_SIZE));
+  }
+
+  @Test
+  void whenWorkerThreadsTuned_sizeWorkerPool() {
+    TuningParametersStub.setParameter(WORKER_THREADS_KEY, "8");
+    TuningParametersStub.setParameter(MAX_WORKER_THREADS_KEY, "16");
+
+    tuning.configure(listener);
+
+    assertThat(getWorkerPool().getCorePoolSize(), equalTo(8));
+    assertThat(getWorkerPool().getMaxPoolSize(), equalTo(16));
+  }
+
+  @Test
+  void whenMaxWorkerThreadsLessThanCore_raiseMaximumToCore() {
+    TuningParametersStub.setParameter(WORKER_THREADS_KEY, "8");
+    TuningParametersStub.setParameter(MAX_WORKER_THREADS_KEY, "4");
+
+    tuning.configure(listener);
+
+    assertThat(getWorkerPool().getMaxPoolSize(), equalTo(8));
+  }
+
+  @Test
+  void whenSelectorThreadsTuned_setSelectorRunnersAndKernelPool() {
+    TuningParametersStub.setParameter(SELECTOR_THREADS_KEY, "2");
+
+    tuning.configure(listener);
+
+    assertThat(listener.getTransport().getSelectorRunnersCount(), equalTo(2));
+    assertThat(listener.getTransport().getKernelThreadPoolConfig().getCorePoolSize(), equalTo(2));
+  }
+
+  @Test
+  void whenParameterNotNumeric_useDefault() {
+    TuningParametersStub.setParameter(WORKER_THREADS_KEY, "many");
+
+    tuning.configure(listener);
+
+    assertThat(getWorkerPool().getCorePoolSize(), equalTo(DEFAULT_POOL_SIZE));
+  }
+
+  @Test
+  void whenKeepAliveTuned_configureListener() {
+    TuningParametersStub.setParameter(KEEP_ALIVE_TIMEOUT_KEY, "5");
+    TuningParametersStub.setParameter(KEEP_ALIVE_MAX_REQUESTS_KEY, "100");
+
+    tuning.configure(listener);
+
+    assertThat(listener.getKeepAlive().getIdleTimeoutInSeconds(), equalTo(5));
+    assertThat(listener.getKeepAlive().getMaxRequestsCount(), equalTo(100));
+  }
+
+  @Test
+  void whenHttp2NotEnabled_doNotRegisterAddOn() {
+    tuning.configure(listener);
+
+    assertThat(listener.getAddOns(), emptyArray());
+  }
+
+  @Test
+  void whenHttp2Enabled_registerHttp2AddOn() {
+    TuningParametersStub.setParameter(HTTP2_ENABLED_KEY, "true");
+
+    tuning.configure(listener);
+
+    assertThat(listener.getAddOns(), arrayContaining(instanceOf(Http2AddOn.class)));
+  }
+
+  @Test
+  void whenTlsSessionCacheTuned_configureSessionContext() throws Exception {
+    TuningParametersStub.setParameter(TLS_SESSION_CACHE_SIZE_KEY, "500");
+    TuningParametersStub.setParameter(TLS_SESSION_TIMEOUT_KEY, "600");
+    SSLContext ssl = SSLContext.getInstance("TLSv1.2");
+    ssl.init(null, null, null);
+
+    tuning.configure(ssl);
+
+    assertThat(ssl.getServerSessionContext().getSessionCacheSize(), equalTo(500));
+    assertThat(ssl.getServerSessionContext().getSessionTimeout(), equalTo(600));
+  }
+
+  @Test
+  void whenTlsSessionCacheSettingsNegative_ignoreThem() throws Exception {
+    TuningParametersStub.setParameter(TLS_SESSION_CACHE_SIZE_KEY, "-1");
+    TuningParametersStub.setParameter(TLS_SESSION_TIMEOUT_KEY, "-5");
+    SSLContext ssl = SSLContext.getInstance("TLSv1.2");
+    ssl.init(null, null, null);
+    int defaultCacheSize = ssl.getServerSessionContext().getSessionCacheSize();
+    int defaultTimeout = ssl.getServerSessionContext().getSessionTimeout();
+
+    tuning.configure(ssl);
+
+    assertThat(ssl.getServerSessionContext().getSessionCacheSize(), equalTo(defaultCacheSize));
+    assertThat(ssl.getServerSessionContext().getSessionTimeout(), equalTo(defaultTimeout));
+  }
+}
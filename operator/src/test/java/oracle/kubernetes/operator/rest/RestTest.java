@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -16,6 +17,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import com.meterware.simplestub.Memento;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
@@ -23,8 +25,11 @@ import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleDomainParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleRequestModel;
 import oracle.kubernetes.utils.TestUtils;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
@@ -38,11 +43,15 @@ import org.junit.jupiter.api.Test;
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static com.meterware.simplestub.Stub.createStrictStub;
+import static java.net.HttpURLConnection.HTTP_ACCEPTED;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.rest.RestTest.JsonArrayMatcher.withValues;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -59,6 +68,7 @@ class RestTest extends JerseyTest {
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
   private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/clusters";
+  private static final String METRICS_HREF = "/metrics";
   private static final String ACCESS_TOKEN = "dummy token";
 
   private final List<Memento> mementos = new ArrayList<>();
@@ -118,7 +128,7 @@ class RestTest extends JerseyTest {
 
   @Test
   void operatorEndPoint_returnsVersion() {
-    Map result = getJsonResponse(OPERATOR_HREF);
+    Map<String, Object> result = getJsonResponse(OPERATOR_HREF);
 
     assertThat(result, hasJsonPath("$.items[0].version", equalTo("v1")));
     assertThat(result, hasJsonPath("$.items[0].latest", equalTo(true)));
@@ -126,8 +136,30 @@ class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.items[0].links[?(@.rel=='self')].href", withValues(V1_HREF)));
   }
 
-  private Map getJsonResponse(String href) {
-    return new Gson().fromJson(createRequest(href).get(String.class), Map.class);
+  @Test
+  void metricsEndPoint_returnsPrometheusText() {
+    OperatorMetrics.WATCH_EVENTS.labels("Domain", "ns1", "ADDED").inc();
+
+    Response response = createRequest(METRICS_HREF).get();
+
+    assertThat(response.getMediaType().toString(), startsWith("text/plain"));
+    assertThat(response.readEntity(String.class),
+          containsString("weblogic_operator_watch_events_total{kind=\"Domain\",namespace=\"ns1\",type=\"ADDED\"}"));
+  }
+
+  @Test
+  void whenNoAuthenticationHeader_rejectMetricsRequest() {
+    excludeAuthorizationHeader();
+
+    assertThat(createRequest(METRICS_HREF).get().getStatus(), equalTo(HTTP_UNAUTHORIZED));
+  }
+
+  private Map<String, Object> getJsonResponse(String href) {
+    return fromJson(createRequest(href).get(String.class));
+  }
+
+  private Map<String, Object> fromJson(String json) {
+    return new Gson().fromJson(json, new TypeToken<Map<String, Object>>() {}.getType());
   }
 
   private Invocation.Builder createRequest(String href) {
@@ -143,7 +175,7 @@ class RestTest extends JerseyTest {
 
   @Test
   void v1EndPoint_returnsVersionAndLinks() {
-    Map result = getJsonResponse(V1_HREF);
+    Map<String, Object> result = getJsonResponse(V1_HREF);
 
     assertThat(result, hasJsonPath("$.version", equalTo("v1")));
     assertThat(result, hasJsonPath("$.latest", equalTo(true)));
@@ -154,7 +186,7 @@ class RestTest extends JerseyTest {
 
   @Test
   void latestVersionEndPoint_returnsVersionAndLinks() {
-    Map result = getJsonResponse(LATEST_HREF);
+    Map<String, Object> result = getJsonResponse(LATEST_HREF);
 
     assertThat(result, hasJsonPath("$.version", equalTo("v1")));
     assertThat(result, hasJsonPath("$.latest", equalTo(true)));
@@ -169,7 +201,7 @@ class RestTest extends JerseyTest {
 
   @Test
   void swaggerEndPoint_returnsSwaggerFile() {
-    Map result = getJsonResponse(SWAGGER_HREF);
+    Map<String, Object> result = getJsonResponse(SWAGGER_HREF);
 
     assertThat(result, hasJsonPath("$.swagger", equalTo("2.0")));
     assertThat(result, hasJsonPath("$.info.version", equalTo("v1")));
@@ -180,7 +212,7 @@ class RestTest extends JerseyTest {
   void domainsEndPoint_returnsListOfDomainsAndLinks() {
     defineDomains("uid1", "uid2");
 
-    Map result = getJsonResponse(DOMAINS_HREF);
+    Map<String, Object> result = getJsonResponse(DOMAINS_HREF);
 
     assertThat(result, hasJsonPath("$.links[?(@.rel=='self')].href", withValues(DOMAINS_HREF)));
     assertThat(result, hasJsonPath("$.links[?(@.rel=='parent')].href", withValues(LATEST_HREF)));
@@ -197,7 +229,7 @@ class RestTest extends JerseyTest {
   void existingDomainEndPoint_returnsDomainsUidAndClusterLink() {
     defineDomains("uid1", "uid2");
 
-    Map result = getJsonResponse(DOMAINS_HREF + "/uid1");
+    Map<String, Object> result = getJsonResponse(DOMAINS_HREF + "/uid1");
 
     assertThat(result, hasJsonPath("$.domainUID", equalTo("uid1")));
     assertThat(
@@ -219,7 +251,7 @@ class RestTest extends JerseyTest {
   void clustersEndPoint_returnsListOfClustersAndLinks() {
     defineClusters("uid1", "cluster1", "cluster2");
 
-    Map result = getJsonResponse(DOMAIN1_CLUSTERS_HREF);
+    Map<String, Object> result = getJsonResponse(DOMAIN1_CLUSTERS_HREF);
 
     assertThat(
         result, hasJsonPath("$.links[?(@.rel=='self')].href", withValues(DOMAIN1_CLUSTERS_HREF)));
@@ -241,7 +273,7 @@ class RestTest extends JerseyTest {
   void existingClusterEndPoint_returnsClusterNameAndScalingLink() {
     defineClusters("uid1", "cluster1", "cluster2");
 
-    Map result = getJsonResponse(DOMAIN1_CLUSTERS_HREF + "/cluster1");
+    Map<String, Object> result = getJsonResponse(DOMAIN1_CLUSTERS_HREF + "/cluster1");
 
     assertThat(result, hasJsonPath("$.cluster", equalTo("cluster1")));
     assertThat(
@@ -283,6 +315,45 @@ class RestTest extends JerseyTest {
     assertThat(sendScaleRequest("cluster1", 3).getStatus(), equalTo(HTTP_NOT_FOUND));
   }
 
+  @Test
+  void scaleSeveralClusters_acceptRequestAndScaleClusters() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    Response response = sendDomainScaleRequest(createScaleClusterParams("cluster1", 3),
+          createScaleClusterParams("cluster2", 2));
+
+    assertThat(response.getStatus(), equalTo(HTTP_ACCEPTED));
+    assertThat(restBackend.getNumManagedServers("uid1", "cluster1"), equalTo(3));
+    assertThat(restBackend.getNumManagedServers("uid1", "cluster2"), equalTo(2));
+  }
+
+  @Test
+  void afterScaleRequestAccepted_statusLinkDescribesRequest() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    Map<String, Object> accepted
+          = fromJson(sendDomainScaleRequest(createScaleClusterParams("cluster1", 3)).readEntity(String.class));
+    Map<String, Object> result = getJsonResponse(DOMAIN1_HREF + "/scale/" + accepted.get("id"));
+
+    assertThat(accepted, hasJsonPath("$.links[?(@.rel=='status')].href",
+          withValues(DOMAIN1_HREF + "/scale/" + accepted.get("id"))));
+    assertThat(result, hasJsonPath("$.state", equalTo("Succeeded")));
+    assertThat(result, hasJsonPath("$.clusters.cluster1", equalTo(3.0)));
+  }
+
+  @Test
+  void whenDomainScaleRequestOmitsClusterName_rejectIt() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    assertThat(sendDomainScaleRequest(createScaleClusterParams(3)).getStatus(), equalTo(HTTP_BAD_REQUEST));
+  }
+
+  private Response sendDomainScaleRequest(ScaleClusterParamsModel... clusters) {
+    ScaleDomainParamsModel params = new ScaleDomainParamsModel();
+    params.setClusters(Arrays.asList(clusters));
+    return createRequest(DOMAIN1_HREF + "/scale").post(Entity.entity(params, MediaType.APPLICATION_JSON));
+  }
+
   @Test
   void whenRequestedByHeaderMissing_scalingIsRejected() {
     excludeRequestedByHeader();
@@ -330,6 +401,12 @@ class RestTest extends JerseyTest {
     return params;
   }
 
+  private ScaleClusterParamsModel createScaleClusterParams(String clusterName, int count) {
+    ScaleClusterParamsModel params = createScaleClusterParams(count);
+    params.setClusterName(clusterName);
+    return params;
+  }
+
   @SuppressWarnings("unused")
   static class JsonArrayMatcher extends TypeSafeDiagnosingMatcher<List<Object>> {
     private final Object[] expectedContents;
@@ -383,6 +460,7 @@ class RestTest extends JerseyTest {
 
   abstract static class RestBackendStub implements RestBackend {
     private final Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private final Map<String, ScaleRequestModel> scaleRequests = new HashMap<>();
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -423,6 +501,19 @@ class RestTest extends JerseyTest {
       getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
     }
 
+    @Override
+    public ScaleRequestModel requestClusterScaling(String domainUid, Map<String, Integer> managedServerCounts) {
+      managedServerCounts.forEach((cluster, count) -> scaleCluster(domainUid, cluster, count));
+      String id = "request" + (scaleRequests.size() + 1);
+      scaleRequests.put(id, new ScaleRequestModel(id, new LinkedHashMap<>(managedServerCounts), "Succeeded", null));
+      return new ScaleRequestModel(id, managedServerCounts, "Pending", null);
+    }
+
+    @Override
+    public ScaleRequestModel getScaleRequest(String domainUid, String requestId) {
+      return scaleRequests.get(requestId);
+    }
+
     Stream<ClusterState> getClusterStateStream(String domainUid, String cluster) {
       return domainClusters.get(domainUid).stream().filter(cs -> cs.hasClusterName(cluster));
     }
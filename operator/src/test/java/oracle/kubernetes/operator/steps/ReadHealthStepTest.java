@@ -17,6 +17,9 @@ import java.util.logging.LogRecord;
 import com.meterware.httpunit.Base64;
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
@@ -69,6 +72,25 @@ class ReadHealthStepTest {
           + "    \"state\": \"RUNNING\",\n"
           + "    \"activationTime\": 1556759105378\n"
           + "}";
+  static final String DOMAIN_HEALTH_RESPONSE =
+      "{\n"
+          + "    \"serverRuntimes\": {\n"
+          + "        \"items\": [\n"
+          + "            {\n"
+          + "                \"name\": \"admin-server\",\n"
+          + "                \"state\": \"RUNNING\",\n"
+          + "                \"overallHealthState\": { \"state\": \"ok\", \"symptoms\": [] },\n"
+          + "                \"activationTime\": 1556759105378\n"
+          + "            },\n"
+          + "            {\n"
+          + "                \"name\": \"managed-server1\",\n"
+          + "                \"state\": \"ADMIN\",\n"
+          + "                \"overallHealthState\": { \"state\": \"ok\", \"symptoms\": [] },\n"
+          + "                \"activationTime\": 1556759105378\n"
+          + "            }\n"
+          + "        ]\n"
+          + "    }\n"
+          + "}";
   // The log messages to be checked during this test
   private static final String[] LOG_KEYS = {
       WLS_HEALTH_READ_FAILED, WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT
@@ -175,12 +197,92 @@ class ReadHealthStepTest {
   }
 
   private HttpRequest createExpectedRequest(String url) {
+    return createExpectedRequest(url, "/management/weblogic/latest/serverRuntime/search");
+  }
+
+  private HttpRequest createExpectedRequest(String url, String path) {
     return HttpRequest.newBuilder()
-        .uri(URI.create(url + "/management/weblogic/latest/serverRuntime/search"))
+        .uri(URI.create(url + path))
         .POST(HttpRequest.BodyPublishers.noBody())
         .build();
   }
 
+  @Test
+  void whenAdminServerReady_readDomainHealthRecordsStateOfEachServer() {
+    defineReadyAdminServer();
+    info.setServerPod(MANAGED_SERVER1, createReadyPod(MANAGED_SERVER1));
+    testSupport.addToPacket(REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(2));
+    defineDomainHealthResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerStateMap(packet).get(ADMIN_NAME), is("RUNNING"));
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("ADMIN"));
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(), equalTo("ok"));
+    assertThat(getRemainingServersToRead(packet), equalTo(0));
+  }
+
+  @Test
+  void whenDomainHealthReportsServerWithoutPod_dontRecordIt() {
+    defineReadyAdminServer();
+    defineDomainHealthResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerStateMap(packet).containsKey(MANAGED_SERVER1), is(false));
+    assertThat(getRemainingServersToRead(packet), equalTo(0));
+  }
+
+  @Test
+  void whenReadDomainHealthFails_dontRecordAnyServer() {
+    defineReadyAdminServer();
+    defineDomainHealthResponse(500, "");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerHealthMap(packet).isEmpty(), is(true));
+    assertThat(getRemainingServersToRead(packet), equalTo(1));
+  }
+
+  @Test
+  void whenAdminServerNotReady_dontReadDomainHealth() {
+    info.setServerService(ADMIN_NAME, service);
+    info.setServerPod(ADMIN_NAME, new V1Pod().metadata(new V1ObjectMeta().name(ADMIN_NAME)));
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerHealthMap(packet).isEmpty(), is(true));
+    assertThat(httpSupport.getHandledRequests().isEmpty(), is(true));
+  }
+
+  @Test
+  void whenAdminServerHasServiceButNoPod_dontReadDomainHealth() {
+    info.setServerService(ADMIN_NAME, service);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerHealthMap(packet).isEmpty(), is(true));
+    assertThat(httpSupport.getHandledRequests().isEmpty(), is(true));
+  }
+
+  private void defineReadyAdminServer() {
+    info.setServerService(ADMIN_NAME, service);
+    info.setServerPod(ADMIN_NAME, createReadyPod(ADMIN_NAME));
+  }
+
+  private V1Pod createReadyPod(String serverName) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name(serverName))
+        .status(new V1PodStatus().phase("Running")
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True")));
+  }
+
+  private void defineDomainHealthResponse(int status, String body) {
+    httpSupport.defineResponse(
+        createExpectedRequest("http://127.0.0.1:3456", "/management/weblogic/latest/domainRuntime/search"),
+        createStub(HttpResponseStub.class, status, body));
+  }
+
 
   @Test
   void whenReadConfiguredManagedServerHealth_decrementRemainingServers() {
@@ -0,0 +1,86 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares fiber throughput in the platform and virtual thread modes when every fiber runs a step
+ * which blocks its thread, as happens with synchronous Kubernetes and WebLogic REST calls.
+ * Run with: java -cp (test classpath) oracle.kubernetes.operator.work.EngineBenchmark [fibers] [blockMillis]
+ */
+public class EngineBenchmark {
+
+  private static final int DEFAULT_FIBER_COUNT = 1000;
+  private static final int DEFAULT_BLOCK_MILLIS = 100;
+
+  /**
+   * Runs the benchmark.
+   * @param args optional fiber count and blocking time in milliseconds
+   * @throws InterruptedException if interrupted while waiting for the fibers to complete
+   */
+  public static void main(String[] args) throws InterruptedException {
+    int fiberCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FIBER_COUNT;
+    int blockMillis = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BLOCK_MILLIS;
+
+    ScheduledExecutorService platformPool = Engine.wrappedExecutorService("platform", null);
+    report("platform", run(new Engine(platformPool), fiberCount, blockMillis), fiberCount);
+    platformPool.shutdownNow();
+
+    ScheduledExecutorService scheduler = Engine.wrappedExecutorService("scheduler", null, 2);
+    report("virtual", run(new Engine(scheduler, Engine.wrappedVirtualThreadExecutor("virtual", null)),
+          fiberCount, blockMillis), fiberCount);
+    scheduler.shutdownNow();
+  }
+
+  private static long run(Engine engine, int fiberCount, int blockMillis) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(fiberCount);
+    long start = System.nanoTime();
+    for (int i = 0; i < fiberCount; i++) {
+      Step steps = Step.chain(new BlockingStep(blockMillis), new CountDownStep(latch));
+      engine.createFiber().start(steps, new Packet(), null);
+    }
+    latch.await(10, TimeUnit.MINUTES);
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  private static void report(String mode, long elapsedMillis, int fiberCount) {
+    System.out.printf("%-8s %6d fibers in %6d ms (%.1f fibers/s)%n",
+          mode, fiberCount, elapsedMillis, fiberCount * 1000.0 / Math.max(1, elapsedMillis));
+  }
+
+  private static class BlockingStep extends Step {
+    private final int blockMillis;
+
+    BlockingStep(int blockMillis) {
+      this.blockMillis = blockMillis;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      try {
+        Thread.sleep(blockMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return doNext(packet);
+    }
+  }
+
+  private static class CountDownStep extends Step {
+    private final CountDownLatch latch;
+
+    CountDownStep(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      latch.countDown();
+      return doEnd(packet);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.logging.MessageKeys.ENGINE_VIRTUAL_THREADS_UNAVAILABLE;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class EngineTest {
+
+  private final List<Runnable> fiberTasks = new ArrayList<>();
+  private final Executor recordingExecutor = fiberTasks::add;
+  private final ScheduledExecutorService scheduler = Engine.wrappedExecutorService("test", null, 1);
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleControl;
+
+  @BeforeEach
+  void setUp() {
+    consoleControl = TestUtils.silenceOperatorLogger()
+          .collectLogMessages(logRecords, ENGINE_VIRTUAL_THREADS_UNAVAILABLE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    consoleControl.revert();
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  void whenCreatedWithSingleExecutor_useItForFibers() {
+    Engine engine = new Engine(scheduler);
+
+    assertThat(engine.getFiberExecutor(), sameInstance(scheduler));
+  }
+
+  @Test
+  void whenCreatedWithSeparateFiberExecutor_scheduleDelayedWorkOnScheduler() {
+    Engine engine = new Engine(scheduler, recordingExecutor);
+
+    assertThat(engine.getExecutor(), sameInstance(scheduler));
+  }
+
+  @Test
+  void whenCreatedWithSeparateFiberExecutor_dispatchFibersOnIt() {
+    Engine engine = new Engine(scheduler, recordingExecutor);
+
+    engine.createFiber().start(new TerminalStep(), new Packet(), null);
+
+    assertThat(fiberTasks, hasSize(1));
+  }
+
+  @Test
+  void whenFiberExecutorRejectsFiber_dontCountItAsQueued() {
+    Engine engine = new Engine(scheduler, task -> {
+      throw new RejectedExecutionException("shut down");
+    });
+
+    assertThrows(RejectedExecutionException.class,
+          () -> engine.createFiber().start(new TerminalStep(), new Packet(), null));
+
+    assertThat(engine.getQueuedFiberCount(), is(0));
+  }
+
+  @Test
+  void virtualThreadExecutor_runsFibersToCompletion() throws InterruptedException {
+    consoleControl.ignoreMessage(ENGINE_VIRTUAL_THREADS_UNAVAILABLE);
+    Engine engine = new Engine(scheduler, Engine.wrappedVirtualThreadExecutor("test", null));
+    CountDownLatch latch = new CountDownLatch(1);
+
+    engine.createFiber().start(new CountDownStep(latch), new Packet(), null);
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  void whenVirtualThreadsUnavailable_warnAndRunFibersOnBoundedPool() {
+    assumeTrue(Engine.createVirtualThreadFactory("test") == null);
+
+    Executor executor = Engine.wrappedVirtualThreadExecutor("test", null);
+
+    assertThat(executor, instanceOf(ScheduledThreadPoolExecutor.class));
+    assertThat(logRecords, containsWarning(ENGINE_VIRTUAL_THREADS_UNAVAILABLE));
+    ((ScheduledThreadPoolExecutor) executor).shutdownNow();
+  }
+
+  private static class CountDownStep extends Step {
+    private final CountDownLatch latch;
+
+    CountDownStep(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      latch.countDown();
+      return doEnd(packet);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class FiberGateTest {
+
+  private static final String KEY = "domain1";
+  private static final long WINDOW_MILLIS = 500;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final FiberGate gate = testSupport.createFiberGate();
+  private final List<String> runSteps = new ArrayList<>();
+  private final List<AsyncFiber> suspendedFibers = new ArrayList<>();
+
+  @Test
+  void whenCoalescingDisabled_coalescedRequestStartsFiberAtOnce() {
+    gate.startFiberCoalesced(KEY, new RecordingStep("first"), new Packet(), new NullCompletionCallback());
+
+    assertThat(runSteps, contains("first"));
+  }
+
+  @Test
+  void whenCoalescingEnabled_requestWaitsForWindow() {
+    gate.withCoalescingWindow(WINDOW_MILLIS);
+
+    gate.startFiberCoalesced(KEY, new RecordingStep("first"), new Packet(), new NullCompletionCallback());
+
+    assertThat(runSteps, empty());
+  }
+
+  @Test
+  void whenCoalescingEnabled_requestsWithinWindowRunOnce() {
+    gate.withCoalescingWindow(WINDOW_MILLIS);
+
+    gate.startFiberCoalesced(KEY, new RecordingStep("first"), new Packet(), new NullCompletionCallback());
+    gate.startFiberCoalesced(KEY, new RecordingStep("second"), new Packet(), new NullCompletionCallback());
+    testSupport.setTime((int) WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(runSteps, contains("second"));
+  }
+
+  @Test
+  void whenCoalescingEnabled_requestDuringRunningFiberDoesNotCancelIt() {
+    gate.withCoalescingWindow(WINDOW_MILLIS);
+    gate.startFiber(KEY, new SuspendingStep("running"), new Packet(), new NullCompletionCallback());
+
+    gate.startFiberCoalesced(KEY, new RecordingStep("second"), new Packet(), new NullCompletionCallback());
+    testSupport.setTime((int) WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(runSteps, contains("running"));
+  }
+
+  @Test
+  void whenRunningFiberCompletes_runOnePendingRequest() {
+    gate.withCoalescingWindow(WINDOW_MILLIS);
+    gate.startFiber(KEY, new SuspendingStep("running"), new Packet(), new NullCompletionCallback());
+    gate.startFiberCoalesced(KEY, new RecordingStep("second"), new Packet(), new NullCompletionCallback());
+    gate.startFiberCoalesced(KEY, new RecordingStep("third"), new Packet(), new NullCompletionCallback());
+
+    resumeSuspendedFibers();
+
+    assertThat(runSteps, contains("running", "third"));
+  }
+
+  @Test
+  void whenInterruptingRequestArrives_discardPendingRequest() {
+    gate.withCoalescingWindow(WINDOW_MILLIS);
+    gate.startFiberCoalesced(KEY, new RecordingStep("pending"), new Packet(), new NullCompletionCallback());
+
+    gate.startFiber(KEY, new RecordingStep("interrupt"), new Packet(), new NullCompletionCallback());
+    testSupport.setTime((int) WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(runSteps, contains("interrupt"));
+  }
+
+  @Test
+  void countRequestsAndStartedFibers() {
+    gate.withCoalescingWindow(WINDOW_MILLIS);
+    gate.startFiberCoalesced(KEY, new RecordingStep("first"), new Packet(), new NullCompletionCallback());
+    gate.startFiberCoalesced(KEY, new RecordingStep("second"), new Packet(), new NullCompletionCallback());
+    gate.startFiberCoalesced(KEY, new RecordingStep("third"), new Packet(), new NullCompletionCallback());
+    testSupport.setTime((int) WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(gate.getRequestCount(KEY), equalTo(3L));
+    assertThat(gate.getStartedCount(KEY), equalTo(1L));
+    assertThat(gate.getRequestCounts(), equalTo(Map.of(KEY, 3L)));
+    assertThat(gate.getStartedCounts(), equalTo(Map.of(KEY, 1L)));
+  }
+
+  private void resumeSuspendedFibers() {
+    List<AsyncFiber> fibers = new ArrayList<>(suspendedFibers);
+    suspendedFibers.clear();
+    fibers.forEach(fiber -> fiber.resume(new Packet()));
+  }
+
+  class RecordingStep extends Step {
+    private final String name;
+
+    RecordingStep(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      runSteps.add(name);
+      return doNext(packet);
+    }
+  }
+
+  class SuspendingStep extends RecordingStep {
+
+    SuspendingStep(String name) {
+      super(name);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      super.apply(packet);
+      return doSuspend(suspendedFibers::add);
+    }
+  }
+
+  static class NullCompletionCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no-op
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      // no-op
+    }
+  }
+}
@@ -115,6 +115,13 @@ public class FiberTestSupport {
     schedule.setTime(time, unit);
   }
 
+  /**
+   * Cancels the fiber most recently started by #runSteps, along with its children.
+   */
+  public void cancelFiber() {
+    fiber.cancelAndExitCallback(false, () -> { });
+  }
+
   /** Returns an unmodifiable map of the components in the test packet. */
   public Map<String, Component> getPacketComponents() {
     return Collections.unmodifiableMap(packet.getComponents());
@@ -21,6 +21,7 @@ import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
 import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.OverrideDistributionStrategy;
+import oracle.kubernetes.operator.ServerStateReadStrategy;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.BeforeEach;
@@ -1679,4 +1680,25 @@ class DomainV2Test extends DomainTestBase {
 
     assertThat(domain.getOverrideDistributionStrategy(), equalTo(OverrideDistributionStrategy.ON_RESTART));
   }
+
+  @Test
+  void whenNoServerStateReadStrategySpecified_defaultToExec() throws IOException {
+    Domain domain = readDomain(DOMAIN_V2_SAMPLE_YAML_2);
+
+    assertThat(domain.getServerStateReadStrategy(), equalTo(ServerStateReadStrategy.EXEC));
+  }
+
+  @Test
+  void whenServerStateReadStrategySpecified_readIt() throws IOException {
+    Domain domain = readDomain(DOMAIN_V2_SAMPLE_YAML_4);
+
+    assertThat(domain.getServerStateReadStrategy(), equalTo(ServerStateReadStrategy.POD_STATUS));
+  }
+
+  @Test
+  void whenServerStateReadStrategyConfigured_returnIt() {
+    configureDomain(domain).withServerStateReadStrategy(ServerStateReadStrategy.POD_STATUS);
+
+    assertThat(domain.getServerStateReadStrategy(), equalTo(ServerStateReadStrategy.POD_STATUS));
+  }
 }
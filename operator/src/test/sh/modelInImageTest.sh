@@ -79,6 +79,17 @@ testOnRestoreDomainConfig_base64DecodeZip() {
   assertEquals "/tmp/domain.secure" $actual
 }
 
+testOnRestoreDomainConfig_whenZipIsBinary_copyWithoutDecoding() {
+  DISALLOW="BASE64"
+  printf '\037\213binary' > $INTROSPECTOR_MAP/domainzip.secure
+
+  restoreDomainConfig
+
+  assertEquals "should have restored binary zip" '0' "$?"
+  cmp -s $INTROSPECTOR_MAP/domainzip.secure /tmp/domain.tar.gz
+  assertEquals "should have copied binary zip" '0' "$?"
+}
+
 testOnRestoreDomainConfig_unTarDomain() {
   restoreDomainConfig
 